@@ -3,8 +3,11 @@ package com.loenan.insurancepolicy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication(exclude = LiquibaseAutoConfiguration.class)
+// An R2DBC connection factory bean would disable the data source auto-configuration of the blocking stack:
+// the reactive stack builds its own one (see ReactivePersistenceConfiguration)
+@SpringBootApplication(exclude = {LiquibaseAutoConfiguration.class, R2dbcAutoConfiguration.class})
 public class InsurancePolicyApplication {
 
     public static void main(String[] args) throws ClassNotFoundException {
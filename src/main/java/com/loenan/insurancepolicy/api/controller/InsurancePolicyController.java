@@ -1,107 +1,415 @@
 package com.loenan.insurancepolicy.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loenan.insurancepolicy.api.converter.BinaryMediaTypes;
+import com.loenan.insurancepolicy.api.converter.ContentCodings;
+import com.loenan.insurancepolicy.api.converter.InsurancePolicyListStreamWriter;
 import com.loenan.insurancepolicy.api.mapper.InsurancePolicyApiMapper;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyCursorCodec;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyETagGenerator;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyFieldsCodec;
+import com.loenan.insurancepolicy.api.model.BatchEditInsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.BulkUpdateResultDto;
 import com.loenan.insurancepolicy.api.model.EditInsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyBatchItemResultDto;
 import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyNameDto;
+import com.loenan.insurancepolicy.api.model.UpdateInsurancePoliciesStatusDto;
 import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePoliciesAction;
 import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePoliciesAction;
 import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.UpdateInsurancePoliciesStatusAction;
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
 import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePoliciesVersionQuery;
 import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyVersionQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.StreamAllInsurancePoliciesQuery;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
 import com.loenan.insurancepolicy.domain.contract.port.primary.InsurancePolicyPort;
+import com.loenan.insurancepolicy.infrastructure.cache.InsurancePolicyResponseCache;
+import com.loenan.insurancepolicy.infrastructure.cache.InsurancePolicyResponseCache.CachedResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1/insurance-policies")
 @Tag(name = "Insurance policy API")
 public class InsurancePolicyController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String GZIP_ENCODING = "gzip";
+
     private final InsurancePolicyPort insurancePolicyPort;
     private final InsurancePolicyApiMapper mapper;
+    private final InsurancePolicyCursorCodec cursorCodec;
+    private final InsurancePolicyETagGenerator eTagGenerator;
+    private final InsurancePolicyFieldsCodec fieldsCodec;
+    private final InsurancePolicyResponseCache responseCache;
+    private final InsurancePolicyListStreamWriter listStreamWriter;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public InsurancePolicyController(InsurancePolicyPort insurancePolicyPort, InsurancePolicyApiMapper mapper) {
+    public InsurancePolicyController(
+        InsurancePolicyPort insurancePolicyPort,
+        InsurancePolicyApiMapper mapper,
+        InsurancePolicyCursorCodec cursorCodec,
+        InsurancePolicyETagGenerator eTagGenerator,
+        InsurancePolicyFieldsCodec fieldsCodec,
+        InsurancePolicyResponseCache responseCache,
+        InsurancePolicyListStreamWriter listStreamWriter,
+        ObjectMapper objectMapper
+    ) {
         this.insurancePolicyPort = insurancePolicyPort;
         this.mapper = mapper;
+        this.cursorCodec = cursorCodec;
+        this.eTagGenerator = eTagGenerator;
+        this.fieldsCodec = fieldsCodec;
+        this.responseCache = responseCache;
+        this.listStreamWriter = listStreamWriter;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping()
-    @Operation(summary = "Get all the insurance policies")
+    @Operation(summary = "Get the insurance policies matching the filters, ordered by name unless another sort is requested",
+        description = "Without cursor nor limit, all the matching policies are returned; without filter, sort nor fields, "
+            + "they are written while they are read from the database. Otherwise a single page is returned, "
+            + "and the cursor of the next page is provided in the " + NEXT_CURSOR_HEADER + " header. "
+            + "The cursor of a page is only valid with the same filters and sort. "
+            + "The ETag changes whenever a policy is created or updated. "
+            + "With the fields parameter, only the requested fields are read and returned.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "The list of all insurance policies found",
-            content = @Content(array = @ArraySchema(schema = @Schema(implementation = InsurancePolicyDto.class)), mediaType = MediaType.APPLICATION_JSON_VALUE))
+        @ApiResponse(responseCode = "200", description = "The list of the insurance policies found",
+            headers = {
+                @Header(name = NEXT_CURSOR_HEADER, description = "Cursor of the next page, absent on the last page"),
+                @Header(name = HttpHeaders.ETAG, description = "Version of the list")
+            },
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = InsurancePolicyDto.class)), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "304", description = "The list has not changed since the version provided in the If-None-Match header"),
+        @ApiResponse(responseCode = "400", description = "The cursor, the limit, the fields, the filters or the sort are not valid",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
     })
-    public List<InsurancePolicyDto> getAllInsurancePolicies() {
-        return insurancePolicyPort.getAllInsurancePolicies(new GetAllInsurancePoliciesQuery()).stream()
-            .map(mapper::toDto)
-            .toList();
+    public ResponseEntity<List<InsurancePolicyDto>> getAllInsurancePolicies(
+        @Parameter(description = "Opaque cursor returned by the previous page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Maximum number of policies in the page")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Comma separated list of the fields to return (all the fields by default)", example = "id,name")
+        @RequestParam(required = false) String fields,
+        @Parameter(description = "Status of the policies")
+        @RequestParam(required = false) InsurancePolicyStatus status,
+        @Parameter(description = "Minimum start date of cover (inclusive)", example = "2024-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+        @Parameter(description = "Maximum start date of cover (exclusive)", example = "2025-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateBefore,
+        @Parameter(description = "Minimum end date of cover (inclusive)", example = "2024-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDateFrom,
+        @Parameter(description = "Maximum end date of cover (exclusive)", example = "2025-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDateBefore,
+        @Parameter(description = "Date covered by the policies (start and end dates included)", example = "2024-06-30")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate activeOn,
+        @Parameter(description = "Prefix of the name of the policies", example = "My policy")
+        @RequestParam(required = false) String namePrefix,
+        @Parameter(description = "Sort field (name, startDate or lastUpdate), prefixed with '-' for a descending order", example = "-startDate")
+        @RequestParam(required = false) String sort,
+        WebRequest request,
+        HttpServletResponse servletResponse
+    ) throws IOException {
+        Set<InsurancePolicyField> requestedFields = fieldsCodec.decode(fields);
+        InsurancePolicySort requestedSort = fieldsCodec.decodeSort(sort);
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(
+            cursorCodec.decode(cursor, requestedSort != null ? requestedSort : InsurancePolicySort.DEFAULT),
+            limit,
+            requestedFields,
+            new InsurancePolicyFilter(status, startDateFrom, startDateBefore, endDateFrom, endDateBefore, namePrefix, activeOn),
+            requestedSort
+        );
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        MediaType format = BinaryMediaTypes.negotiate(accept);
+        // the cheap version lookup avoids loading, mapping and serializing an unchanged list
+        String eTag = eTagGenerator.generate(
+            insurancePolicyPort.getInsurancePoliciesVersion(new GetInsurancePoliciesVersionQuery()), query, format);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (!query.isPaged() && !query.isProjection() && query.isUnfilteredDefaultOrder()
+            && (format != null || isJsonAccepted(accept))) {
+            writeAllInsurancePolicies(format != null ? format : MediaType.APPLICATION_JSON, servletResponse);
+            return null;
+        }
+        List<InsurancePolicy> insurancePolicies = insurancePolicyPort.getAllInsurancePolicies(query);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (query.isPaged() && !insurancePolicies.isEmpty() && insurancePolicies.size() >= query.pageSize()) {
+            response.header(NEXT_CURSOR_HEADER, cursorCodec.encode(insurancePolicies.getLast(), query.sort()));
+        }
+        // mapped while they are written to the response stream
+        return response.body(mapper.toDtos(insurancePolicies, requestedFields));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Suggest the names of the insurance policies starting with a prefix",
+        description = "The prefix is matched ignoring the case, against an in-memory index of the names. "
+            + "The names are ordered alphabetically, ignoring the case.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "The names starting with the prefix",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = InsurancePolicyNameDto.class)), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "400", description = "The prefix is missing, or a parameter is not valid",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+    })
+    public List<InsurancePolicyNameDto> autocompleteInsurancePolicyNames(
+        @Parameter(description = "Prefix of the names, ignoring the case", example = "my pol")
+        @RequestParam(required = false) String prefix,
+        @Parameter(description = "Maximum number of names (10 by default)")
+        @RequestParam(required = false) Integer limit
+    ) {
+        return mapper.toNameDtos(insurancePolicyPort.autocompleteInsurancePolicyNames(
+            new AutocompleteInsurancePolicyNamesQuery(prefix, limit)));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get an insurance policy by its ID")
+    @Operation(summary = "Get an insurance policy by its ID",
+        description = "The ETag changes whenever the policy is updated. "
+            + "With the fields parameter, only the requested fields are read and returned. "
+            + "The full JSON representation is served from a cache of the serialized policies, "
+            + "compressed with gzip when the client accepts it.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "The insurance policy found",
+            headers = @Header(name = HttpHeaders.ETAG, description = "Version of the insurance policy"),
             content = @Content(schema = @Schema(implementation = InsurancePolicyDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "304", description = "The insurance policy has not changed since the version provided in the If-None-Match header"),
         @ApiResponse(responseCode = "404", description = "The insurance policy is not found",
             content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
     })
     public InsurancePolicyDto getInsurancePolicyById(
-        @PathVariable Integer id
-    ) {
-        InsurancePolicy insurancePolicy = insurancePolicyPort.getInsurancePolicyById(new GetInsurancePolicyByIdQuery(id));
-        return mapper.toDto(insurancePolicy);
+        @PathVariable Integer id,
+        @Parameter(description = "Comma separated list of the fields to return (all the fields by default)", example = "id,name")
+        @RequestParam(required = false) String fields,
+        WebRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        Set<InsurancePolicyField> requestedFields = fieldsCodec.decode(fields);
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        MediaType format = BinaryMediaTypes.negotiate(accept);
+        // the full JSON representation, by far the most requested one, is served from the serialized responses
+        boolean cached = requestedFields == null && format == null && isJsonAccepted(accept);
+        boolean gzip = cached && ContentCodings.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // the version lookup does not load the policy, which is only loaded when it has changed
+        InsurancePolicyVersion version = insurancePolicyPort.getInsurancePolicyVersion(new GetInsurancePolicyVersionQuery(id));
+        String eTag = eTagGenerator.generate(version, requestedFields, format);
+        if (cached) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            eTag = gzip ? eTagGenerator.toGzipTag(eTag) : eTag;
+        }
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (cached) {
+            writeCachedResponse(id, version, gzip, response);
+            return null;
+        }
+        InsurancePolicy insurancePolicy = insurancePolicyPort.getInsurancePolicyById(new GetInsurancePolicyByIdQuery(id, requestedFields));
+        return mapper.toDto(insurancePolicy, requestedFields);
     }
 
     @PostMapping()
-    @Operation(summary = "Create an insurance policy")
+    @Operation(summary = "Create an insurance policy",
+        description = "With an " + IDEMPOTENCY_KEY_HEADER + " header, the policy is only created once for the key: "
+            + "a retry with the same key and payload gets the policy created the first time, "
+            + "and a retry sent while the first request is running waits for its outcome. The keys are kept for a day by default.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "The insurance policy is created",
+        @ApiResponse(responseCode = "200", description = "The insurance policy is created, or was created by a previous request with the same key",
             content = @Content(schema = @Schema(implementation = InsurancePolicyDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
-        @ApiResponse(responseCode = "400", description = "The payload is not valid",
+        @ApiResponse(responseCode = "400", description = "The payload or the idempotency key is not valid",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "422", description = "The idempotency key has already been used with another payload",
             content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
     })
     public InsurancePolicyDto createInsurancePolicy(
+        @Parameter(description = "Unique key of the creation, sent again with its retries", example = "5f0c3a9e-8b7d-4d2a-9a4e-2f1c6b8d7e90")
+        @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
         @RequestBody EditInsurancePolicyDto insurancePolicyDto
     ) {
-        CreateInsurancePolicyAction action = mapper.toCreateAction(insurancePolicyDto);
-        InsurancePolicy createdInsurancePolicy = insurancePolicyPort.createInsurancePolicy(action);
-        return mapper.toDto(createdInsurancePolicy);
+        CreateInsurancePolicyAction action = mapper.toCreateAction(idempotencyKey, insurancePolicyDto);
+        return mapper.toDto(insurancePolicyPort.createInsurancePolicy(action));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create a batch of insurance policies",
+        description = "The valid policies are all created in a single transaction. "
+            + "The result of each policy is returned at the same position as in the payload, "
+            + "either with the created policy or with its validation errors.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "The result of each policy of the batch",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = InsurancePolicyBatchItemResultDto.class)), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "400", description = "The batch is empty or too large",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+    })
+    public List<InsurancePolicyBatchItemResultDto> createInsurancePolicies(
+        @RequestBody List<EditInsurancePolicyDto> insurancePolicyDtos
+    ) {
+        CreateInsurancePoliciesAction action = new CreateInsurancePoliciesAction(insurancePolicyDtos.stream()
+            .map(mapper::toCreateAction)
+            .toList());
+        List<InsurancePolicyBatchItemResult> results = insurancePolicyPort.createInsurancePolicies(action);
+        return results.stream()
+            .map(mapper::toDto)
+            .toList();
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Edit an insurance policy")
+    @Operation(summary = "Edit an insurance policy",
+        description = "With an If-Match header, the policy is only edited if it is still at the version of the given ETag, "
+            + "so that the edition does not overwrite a concurrent one. The ETag of the edited version is returned.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "The insurance policy is updated",
+            headers = @Header(name = HttpHeaders.ETAG, description = "Version of the edited insurance policy"),
             content = @Content(schema = @Schema(implementation = InsurancePolicyDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
         @ApiResponse(responseCode = "400", description = "The payload is not valid",
             content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
         @ApiResponse(responseCode = "404", description = "The insurance policy is not found",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "412", description = "The insurance policy is no longer at the version provided in the If-Match header",
             content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
     })
-    public InsurancePolicyDto editInsurancePolicy(
+    public ResponseEntity<InsurancePolicyDto> editInsurancePolicy(
         @PathVariable Integer id,
+        @Parameter(description = "ETag of the version of the policy the edition is based on")
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
         @RequestBody EditInsurancePolicyDto insurancePolicyDto
     ) {
-        EditInsurancePolicyAction action = mapper.toEditAction(id, insurancePolicyDto);
+        EditInsurancePolicyAction action = mapper.toEditAction(id, eTagGenerator.toRequiredVersion(id, ifMatch), insurancePolicyDto);
         InsurancePolicy editedInsurancePolicy = insurancePolicyPort.editInsurancePolicy(action);
-        return mapper.toDto(editedInsurancePolicy);
+        return ResponseEntity.ok()
+            .eTag(eTagGenerator.generate(editedInsurancePolicy, BinaryMediaTypes.negotiate(accept)))
+            .body(mapper.toDto(editedInsurancePolicy));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Edit a batch of insurance policies",
+        description = "The edited policies are loaded and saved in a few round trips, in a single transaction. "
+            + "The result of each policy is returned at the same position as in the payload, "
+            + "either with the edited policy or with its errors (including an unknown id, or a version which is not "
+            + "the current one). A policy updated by a concurrent request before the batch is saved fails the whole batch.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "The result of each policy of the batch",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = InsurancePolicyBatchItemResultDto.class)), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "400", description = "The batch is empty or too large",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "409", description = "A policy of the batch has been updated by a concurrent request",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+    })
+    public List<InsurancePolicyBatchItemResultDto> editInsurancePolicies(
+        @RequestBody List<BatchEditInsurancePolicyDto> insurancePolicyDtos
+    ) {
+        EditInsurancePoliciesAction action = new EditInsurancePoliciesAction(insurancePolicyDtos.stream()
+            .map(mapper::toEditAction)
+            .toList());
+        List<InsurancePolicyBatchItemResult> results = insurancePolicyPort.editInsurancePolicies(action);
+        return results.stream()
+            .map(mapper::toDto)
+            .toList();
+    }
+
+    @PostMapping("/status-update")
+    @Operation(summary = "Set the status of all the insurance policies matching a filter",
+        description = "The policies are updated with set-based statements, in chunks committed one after the other. "
+            + "All the updated policies get the same last update date.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "The number of updated policies",
+            content = @Content(schema = @Schema(implementation = BulkUpdateResultDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE)),
+        @ApiResponse(responseCode = "400", description = "The filter or the new status is not valid",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+    })
+    public BulkUpdateResultDto updateInsurancePoliciesStatus(
+        @RequestBody UpdateInsurancePoliciesStatusDto updateStatusDto
+    ) {
+        UpdateInsurancePoliciesStatusAction action = mapper.toUpdateStatusAction(updateStatusDto);
+        return new BulkUpdateResultDto(insurancePolicyPort.updateInsurancePoliciesStatus(action));
+    }
+
+    /**
+     * Write the cached bytes of the policy as they are, or cache them when the policy has changed since they were written.
+     */
+    private void writeCachedResponse(Integer id, InsurancePolicyVersion version, boolean gzip, HttpServletResponse response)
+        throws IOException {
+        CachedResponse cachedResponse = responseCache.get(id, version.version());
+        if (cachedResponse == null) {
+            InsurancePolicy insurancePolicy = insurancePolicyPort.getInsurancePolicyById(new GetInsurancePolicyByIdQuery(id, null));
+            // keyed by the version of the loaded policy, which may be more recent than the looked up one
+            cachedResponse = responseCache.put(id, insurancePolicy.version(), objectMapper.writeValueAsBytes(mapper.toDto(insurancePolicy)));
+        }
+        byte[] body = gzip ? cachedResponse.gzipBody() : cachedResponse.body();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Write all the policies while they are read through the database cursor, instead of loading them upfront:
+     * only one batch of rows is held in memory, whatever the size of the table.
+     */
+    private void writeAllInsurancePolicies(MediaType format, HttpServletResponse response) throws IOException {
+        response.setContentType(format.toString());
+        listStreamWriter.write(format, response.getOutputStream(), dtoConsumer ->
+            insurancePolicyPort.streamAllInsurancePolicies(new StreamAllInsurancePoliciesQuery(
+                insurancePolicy -> dtoConsumer.accept(mapper.toDto(insurancePolicy)))));
+    }
+
+    private static boolean isJsonAccepted(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                .anyMatch(acceptedType -> acceptedType.isCompatibleWith(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
     }
 }
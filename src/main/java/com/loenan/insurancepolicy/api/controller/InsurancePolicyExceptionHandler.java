@@ -3,16 +3,24 @@ package com.loenan.insurancepolicy.api.controller;
 import com.loenan.insurancepolicy.api.mapper.InsurancePolicyApiMapper;
 import com.loenan.insurancepolicy.api.model.FieldErrorDto;
 import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyConflictException;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
 import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
 import com.loenan.insurancepolicy.domain.contract.model.error.ErrorType;
 import com.loenan.insurancepolicy.domain.contract.model.error.HasFieldErrors;
+import org.springframework.beans.TypeMismatchException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
 
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +28,8 @@ import java.util.List;
 @ControllerAdvice
 public class InsurancePolicyExceptionHandler {
 
+    public static final String INVALID_PARAMETER_ERROR_MESSAGE = "The value '%s' is not valid for the parameter %s";
+
     private final InsurancePolicyApiMapper mapper;
 
     @Autowired
@@ -35,6 +45,17 @@ public class InsurancePolicyExceptionHandler {
         );
     }
 
+    /**
+     * A policy updated by a concurrent transaction between its load and the save of its edition.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDto> onOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return new ResponseEntity<>(
+            new ErrorDto(InsurancePolicyConflictException.KEY, ex.getMessage(), Collections.emptyList()),
+            HttpStatus.CONFLICT
+        );
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorDto> onHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
         return new ResponseEntity<>(
@@ -43,6 +64,52 @@ public class InsurancePolicyExceptionHandler {
         );
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorDto> onMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        List<FieldErrorDto> fieldErrors = List.of(
+            new FieldErrorDto(ex.getName(), INVALID_PARAMETER_ERROR_MESSAGE.formatted(ex.getValue(), ex.getName())));
+        return new ResponseEntity<>(
+            new ErrorDto(InvalidInputException.KEY, ex.getMessage(), fieldErrors),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * The reactive stack reports both the unreadable payloads and the invalid parameters with this exception.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorDto> onServerWebInputException(ServerWebInputException ex) {
+        if (ex.getCause() instanceof TypeMismatchException typeMismatch && ex.getMethodParameter() != null) {
+            String name = ex.getMethodParameter().getParameterName();
+            List<FieldErrorDto> fieldErrors = List.of(
+                new FieldErrorDto(name, INVALID_PARAMETER_ERROR_MESSAGE.formatted(typeMismatch.getValue(), name)));
+            return new ResponseEntity<>(
+                new ErrorDto(InvalidInputException.KEY, ex.getMessage(), fieldErrors),
+                HttpStatus.BAD_REQUEST
+            );
+        }
+        return new ResponseEntity<>(
+            new ErrorDto("invalid_format", ex.getMessage(), Collections.emptyList()),
+            HttpStatus.BAD_REQUEST
+        );
+    }
+
+    /**
+     * No body, as the error can not be written in any of the accepted media types.
+     */
+    @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+    public ResponseEntity<Void> onHttpMediaTypeNotAcceptableException(HttpMediaTypeNotAcceptableException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ErrorDto> onHttpMediaTypeNotSupportedException(HttpMediaTypeNotSupportedException ex) {
+        return new ResponseEntity<>(
+            new ErrorDto("unsupported_media_type", ex.getMessage(), Collections.emptyList()),
+            HttpStatus.UNSUPPORTED_MEDIA_TYPE
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDto> onGeneralException(Exception ex) {
         return new ResponseEntity<>(
@@ -55,6 +122,9 @@ public class InsurancePolicyExceptionHandler {
         return switch (errorType) {
             case INVALID_DATA -> HttpStatus.BAD_REQUEST;
             case NOT_FOUND_DATA -> HttpStatus.NOT_FOUND;
+            case OUTDATED_DATA -> HttpStatus.PRECONDITION_FAILED;
+            case CONFLICTING_DATA -> HttpStatus.CONFLICT;
+            case MISMATCHING_DATA -> HttpStatus.UNPROCESSABLE_ENTITY;
         };
     }
 
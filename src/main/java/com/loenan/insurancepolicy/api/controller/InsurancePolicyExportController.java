@@ -0,0 +1,133 @@
+package com.loenan.insurancepolicy.api.controller;
+
+import com.loenan.insurancepolicy.api.converter.ContentCodings;
+import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.domain.contract.command.query.ExportInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.ExportLayout;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyExport;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.primary.InsurancePolicyPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/insurance-policies/export")
+@Tag(name = "Insurance policy API")
+public class InsurancePolicyExportController {
+
+    public static final String FORMAT_PARAMETER = "format";
+    public static final String LAYOUT_PARAMETER = "layout";
+    public static final String INVALID_FORMAT_ERROR_MESSAGE = "The export format can only be one of: CSV, NDJSON";
+    public static final String INVALID_LAYOUT_ERROR_MESSAGE = "The export layout can only be one of: MERGED, PARTITIONED";
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_ZIP = MediaType.parseMediaType("application/zip");
+
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InsurancePolicyPort insurancePolicyPort;
+
+    @Autowired
+    public InsurancePolicyExportController(InsurancePolicyPort insurancePolicyPort) {
+        this.insurancePolicyPort = insurancePolicyPort;
+    }
+
+    @GetMapping()
+    @Operation(summary = "Export all the insurance policies, ordered by id",
+        description = "The rows are streamed from the database as they are read. "
+            + "With a parallelism greater than 1, the id ranges are read in parallel from a single consistent snapshot, "
+            + "and either merged in id order or returned as one file per range in a ZIP archive. "
+            + "A merged response is compressed with gzip when the client accepts it.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "The exported insurance policies",
+            content = {@Content(mediaType = "text/csv"), @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+                @Content(mediaType = "application/zip")}),
+        @ApiResponse(responseCode = "400", description = "The export format, layout or parallelism is not valid",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+    })
+    public ResponseEntity<StreamingResponseBody> exportInsurancePolicies(
+        @Parameter(description = "Format of the export", schema = @Schema(allowableValues = {"CSV", "NDJSON"}))
+        @RequestParam(name = FORMAT_PARAMETER, defaultValue = "CSV") String format,
+        @Parameter(description = "Layout of the export", schema = @Schema(allowableValues = {"MERGED", "PARTITIONED"}))
+        @RequestParam(name = LAYOUT_PARAMETER, defaultValue = "MERGED") String layout,
+        @Parameter(description = "Number of id ranges read in parallel (defaults to the configured parallelism)")
+        @RequestParam(required = false) Integer parallelism,
+        @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ExportFormat exportFormat = toEnum(ExportFormat.class, format, FORMAT_PARAMETER, INVALID_FORMAT_ERROR_MESSAGE);
+        ExportLayout exportLayout = toEnum(ExportLayout.class, layout, LAYOUT_PARAMETER, INVALID_LAYOUT_ERROR_MESSAGE);
+        boolean partitioned = exportLayout == ExportLayout.PARTITIONED;
+        boolean gzip = !partitioned && ContentCodings.acceptsGzip(acceptEncoding);
+        // validated before the response is started, so that an invalid export gets an error response
+        InsurancePolicyExport export = insurancePolicyPort.exportInsurancePolicies(
+            new ExportInsurancePoliciesQuery(exportFormat, exportLayout, parallelism));
+
+        StreamingResponseBody body = output -> {
+            OutputStream exportOutput = gzip
+                ? new GZIPOutputStream(output, BUFFER_SIZE)
+                : new BufferedOutputStream(output, BUFFER_SIZE);
+            export.writeTo(exportOutput);
+            if (exportOutput instanceof GZIPOutputStream gzipOutput) {
+                gzipOutput.finish();
+            }
+            exportOutput.flush();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(partitioned ? APPLICATION_ZIP : getMediaType(exportFormat))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("insurance-policies." + (partitioned ? "zip" : exportFormat.name().toLowerCase()))
+                .build().toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+        return response.body(body);
+    }
+
+    private static <T extends Enum<T>> T toEnum(
+        Class<T> enumType,
+        String value,
+        String parameterName,
+        String errorMessage
+    ) throws InvalidInputException {
+        T enumValue = EnumUtils.getEnumIgnoreCase(enumType, value);
+        if (enumValue == null) {
+            throw new InvalidInputException(List.of(new FieldError(parameterName, errorMessage)));
+        }
+        return enumValue;
+    }
+
+    private static MediaType getMediaType(ExportFormat format) {
+        return switch (format) {
+            case CSV -> TEXT_CSV;
+            case NDJSON -> MediaType.APPLICATION_NDJSON;
+        };
+    }
+}
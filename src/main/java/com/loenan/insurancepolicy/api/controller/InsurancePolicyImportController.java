@@ -0,0 +1,107 @@
+package com.loenan.insurancepolicy.api.controller;
+
+import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.domain.contract.command.action.ImportInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.port.primary.InsurancePolicyPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/insurance-policies/import")
+@Tag(name = "Insurance policy API")
+public class InsurancePolicyImportController {
+
+    public static final String IMPORTED_COUNT_HEADER = "X-Imported-Count";
+    public static final String REJECTED_COUNT_HEADER = "X-Rejected-Count";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyImportController.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InsurancePolicyPort insurancePolicyPort;
+
+    @Autowired
+    public InsurancePolicyImportController(InsurancePolicyPort insurancePolicyPort) {
+        this.insurancePolicyPort = insurancePolicyPort;
+    }
+
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    @Operation(summary = "Import insurance policies from a CSV file",
+        description = "The CSV file has a header line, and the columns name, status, startDate (yyyy-MM-dd), endDate (yyyy-MM-dd). "
+            + "The valid records are all created, the rejected ones are returned as a CSV error report, "
+            + "with their record number (header excluded) and their errors.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "The error report of the import (empty apart from its header if all the records are imported)",
+            headers = {
+                @Header(name = IMPORTED_COUNT_HEADER, description = "Number of imported insurance policies"),
+                @Header(name = REJECTED_COUNT_HEADER, description = "Number of rejected records")
+            },
+            content = @Content(mediaType = TEXT_CSV_VALUE)),
+        @ApiResponse(responseCode = "400", description = "The CSV file is not readable (malformed CSV, wrong number of columns, invalid encoding)",
+            content = @Content(schema = @Schema(implementation = ErrorDto.class), mediaType = MediaType.APPLICATION_JSON_VALUE))
+    })
+    public ResponseEntity<StreamingResponseBody> importInsurancePolicies(InputStream input) throws IOException {
+        // the error report is spooled to a file, as the import must be complete before the response is started
+        Path errorReport = Files.createTempFile("insurance-policies-import-errors-", ".csv");
+        InsurancePolicyImportResult result;
+        try (OutputStream errorReportOutput = new BufferedOutputStream(Files.newOutputStream(errorReport), BUFFER_SIZE)) {
+            result = insurancePolicyPort.importInsurancePolicies(
+                new ImportInsurancePoliciesAction(new BufferedInputStream(input, BUFFER_SIZE), errorReportOutput));
+        } catch (RuntimeException | IOException e) {
+            deleteFile(errorReport);
+            throw e;
+        }
+
+        StreamingResponseBody body = output -> {
+            try {
+                Files.copy(errorReport, output);
+            } finally {
+                deleteFile(errorReport);
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("insurance-policies-import-errors.csv")
+                .build().toString())
+            .header(IMPORTED_COUNT_HEADER, String.valueOf(result.importedCount()))
+            .header(REJECTED_COUNT_HEADER, String.valueOf(result.rejectedCount()))
+            .body(body);
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete the temporary error report {}", file, e);
+        }
+    }
+}
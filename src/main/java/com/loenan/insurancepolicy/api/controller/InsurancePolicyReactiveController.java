@@ -0,0 +1,156 @@
+package com.loenan.insurancepolicy.api.controller;
+
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyApiMapper;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyCursorCodec;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyETagGenerator;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyFieldsCodec;
+import com.loenan.insurancepolicy.api.model.EditInsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyNameDto;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.primary.ReactiveInsurancePolicyPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static com.loenan.insurancepolicy.api.controller.InsurancePolicyController.NEXT_CURSOR_HEADER;
+
+/**
+ * WebFlux version of {@link InsurancePolicyController}, served with the reactive profile.
+ * It serves the same contract for the reads, the autocompletion, the creations and the edits (with their If-Match
+ * preconditions), without the ETags of the reads; the batch, bulk, import and export endpoints are only served by the blocking stack.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/v1/insurance-policies")
+public class InsurancePolicyReactiveController {
+
+    private final ReactiveInsurancePolicyPort insurancePolicyPort;
+    private final InsurancePolicyApiMapper mapper;
+    private final InsurancePolicyCursorCodec cursorCodec;
+    private final InsurancePolicyFieldsCodec fieldsCodec;
+    private final InsurancePolicyETagGenerator eTagGenerator;
+
+    @Autowired
+    public InsurancePolicyReactiveController(
+        ReactiveInsurancePolicyPort insurancePolicyPort,
+        InsurancePolicyApiMapper mapper,
+        InsurancePolicyCursorCodec cursorCodec,
+        InsurancePolicyFieldsCodec fieldsCodec,
+        InsurancePolicyETagGenerator eTagGenerator
+    ) {
+        this.insurancePolicyPort = insurancePolicyPort;
+        this.mapper = mapper;
+        this.cursorCodec = cursorCodec;
+        this.fieldsCodec = fieldsCodec;
+        this.eTagGenerator = eTagGenerator;
+    }
+
+    /**
+     * Without cursor nor limit, the policies are streamed as a JSON array while they are read from the database,
+     * at the pace of the client. A page is collected first, as the cursor of the next page is sent in a header.
+     */
+    @GetMapping()
+    public Mono<ResponseEntity<Flux<InsurancePolicyDto>>> getAllInsurancePolicies(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) InsurancePolicyStatus status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateBefore,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDateFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDateBefore,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate activeOn,
+        @RequestParam(required = false) String namePrefix,
+        @RequestParam(required = false) String sort
+    ) {
+        Set<InsurancePolicyField> requestedFields = fieldsCodec.decode(fields);
+        InsurancePolicySort requestedSort = fieldsCodec.decodeSort(sort);
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(
+            cursorCodec.decode(cursor, requestedSort != null ? requestedSort : InsurancePolicySort.DEFAULT),
+            limit,
+            requestedFields,
+            new InsurancePolicyFilter(status, startDateFrom, startDateBefore, endDateFrom, endDateBefore, namePrefix, activeOn),
+            requestedSort
+        );
+        Flux<InsurancePolicy> insurancePolicies = insurancePolicyPort.getAllInsurancePolicies(query);
+        if (!query.isPaged()) {
+            return Mono.just(ResponseEntity.ok()
+                .body(insurancePolicies.map(insurancePolicy -> mapper.toDto(insurancePolicy, requestedFields))));
+        }
+        return insurancePolicies.collectList().map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (!page.isEmpty() && page.size() >= query.pageSize()) {
+                response.header(NEXT_CURSOR_HEADER, cursorCodec.encode(page.getLast(), query.sort()));
+            }
+            return response.body(Flux.fromIterable(page)
+                .map(insurancePolicy -> mapper.toDto(insurancePolicy, requestedFields)));
+        });
+    }
+
+    @GetMapping("/autocomplete")
+    public Mono<List<InsurancePolicyNameDto>> autocompleteInsurancePolicyNames(
+        @RequestParam(required = false) String prefix,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return insurancePolicyPort.autocompleteInsurancePolicyNames(new AutocompleteInsurancePolicyNamesQuery(prefix, limit))
+            .collectList()
+            .map(mapper::toNameDtos);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<InsurancePolicyDto> getInsurancePolicyById(
+        @PathVariable Integer id,
+        @RequestParam(required = false) String fields
+    ) {
+        Set<InsurancePolicyField> requestedFields = fieldsCodec.decode(fields);
+        return insurancePolicyPort.getInsurancePolicyById(new GetInsurancePolicyByIdQuery(id, requestedFields))
+            .map(insurancePolicy -> mapper.toDto(insurancePolicy, requestedFields));
+    }
+
+    @PostMapping()
+    public Mono<InsurancePolicyDto> createInsurancePolicy(
+        @RequestBody EditInsurancePolicyDto insurancePolicyDto
+    ) {
+        return insurancePolicyPort.createInsurancePolicy(mapper.toCreateAction(insurancePolicyDto))
+            .map(mapper::toDto);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<InsurancePolicyDto>> editInsurancePolicy(
+        @PathVariable Integer id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody EditInsurancePolicyDto insurancePolicyDto
+    ) {
+        EditInsurancePolicyAction action = mapper.toEditAction(id, eTagGenerator.toRequiredVersion(id, ifMatch), insurancePolicyDto);
+        return insurancePolicyPort.editInsurancePolicy(action)
+            .map(editedInsurancePolicy -> ResponseEntity.ok()
+                .eTag(eTagGenerator.generate(editedInsurancePolicy, null))
+                .body(mapper.toDto(editedInsurancePolicy)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Negotiates the binary formats of {@link BinaryMediaTypes} for the requests and the responses, besides JSON.
+ * The binary mappers are built like the JSON one, so the payloads hold the same values (dates as ISO-8601 strings).
+ * <p>
+ * The CBOR and Smile converters replace the default ones, after the JSON converter; the Protobuf converter is only
+ * appended to the converters of Spring MVC, so that JSON stays the format of the requests accepting any media type.
+ * As the representation of a policy depends on the Accept header, the responses of the reads vary by it.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+public class BinaryFormatConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider;
+
+    @Autowired
+    public BinaryFormatConfiguration(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilderProvider) {
+        this.objectMapperBuilderProvider = objectMapperBuilderProvider;
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(
+            objectMapperBuilderProvider.getObject().factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(
+            objectMapperBuilderProvider.getObject().factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public InsurancePolicyListStreamWriter insurancePolicyListStreamWriter(
+        ObjectMapper objectMapper,
+        MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+        MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter
+    ) {
+        ObjectMapper protobufMapper = objectMapperBuilderProvider.getObject().factory(new ProtobufFactory()).build();
+        return new InsurancePolicyListStreamWriter(Map.of(
+            MediaType.APPLICATION_JSON, objectMapper.writer(),
+            BinaryMediaTypes.CBOR, cborHttpMessageConverter.getObjectMapper().writer(),
+            BinaryMediaTypes.SMILE, smileHttpMessageConverter.getObjectMapper().writer(),
+            BinaryMediaTypes.PROTOBUF, protobufMapper.writer(InsurancePolicyProtobufHttpMessageConverter.loadListSchema())
+        ));
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new InsurancePolicyProtobufHttpMessageConverter(
+            objectMapperBuilderProvider.getObject().factory(new ProtobufFactory()).build()));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (HttpMethod.GET.matches(request.getMethod())) {
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                }
+                return true;
+            }
+        }).addPathPatterns("/v1/insurance-policies/**");
+    }
+}
@@ -0,0 +1,57 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The compact binary formats of the API payloads, served besides JSON to the clients which request them.
+ */
+public final class BinaryMediaTypes {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public static final List<MediaType> ALL = List.of(CBOR, SMILE, PROTOBUF);
+
+    private BinaryMediaTypes() {
+    }
+
+    /**
+     * Find the binary format which the response will be written in, before the content negotiation.
+     * As in the negotiation, the media types of the Accept header are taken by specificity, then in their order
+     * (not by quality), and the first one compatible with JSON or a binary format decides it, JSON winning the wildcards.
+     *
+     * @param accept The Accept header of the request, possibly null
+     * @return The binary format of the response, or null for JSON
+     */
+    @Nullable
+    public static MediaType negotiate(@Nullable String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            for (MediaType binaryType : ALL) {
+                if (acceptedType.equalsTypeAndSubtype(binaryType)) {
+                    return binaryType;
+                }
+            }
+            if (acceptedType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Locale;
+
+/**
+ * The content codings of the API responses, negotiated from the Accept-Encoding header of the requests.
+ */
+public final class ContentCodings {
+
+    private static final String GZIP = "gzip";
+
+    private static final String LEGACY_GZIP = "x-gzip";
+    private static final String ANY_CODING = "*";
+    private static final String QUALITY_PARAMETER = "q";
+
+    private ContentCodings() {
+    }
+
+    /**
+     * Whether the response may be compressed with gzip: gzip is listed with a quality above 0, or it is not listed
+     * and the wildcard is, with a quality above 0. A coding without a quality has the quality 1, and a coding with
+     * an invalid quality is ignored.
+     *
+     * @param acceptEncoding The Accept-Encoding header of the request, possibly null
+     */
+    public static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String codingWithParameters : acceptEncoding.split(",")) {
+            String[] parts = codingWithParameters.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(GZIP) || coding.equals(LEGACY_GZIP)) {
+                gzipQuality = max(gzipQuality, quality(parts));
+            } else if (coding.equals(ANY_CODING)) {
+                anyQuality = max(anyQuality, quality(parts));
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * @return The quality of a coding, or 0 when it is invalid
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String[] parameter = parts[i].split("=", 2);
+            if (parameter.length == 2 && parameter[0].trim().equalsIgnoreCase(QUALITY_PARAMETER)) {
+                try {
+                    double quality = Double.parseDouble(parameter[1].trim());
+                    return quality >= 0 && quality <= 1 ? quality : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static Double max(Double current, double quality) {
+        return current != null ? Math.max(current, quality) : quality;
+    }
+}
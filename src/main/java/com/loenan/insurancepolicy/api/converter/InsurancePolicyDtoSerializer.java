@@ -0,0 +1,93 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the insurance policies without the reflection of the generic record serializer:
+ * <ul>
+ *     <li>the field names and the statuses are pre-encoded, so their quoted and escaped bytes are copied as they are,</li>
+ *     <li>the ISO renderings of the dates are cached, as the policies share a few thousand distinct dates,</li>
+ *     <li>the null fields are skipped, as the {@link com.fasterxml.jackson.annotation.JsonInclude} of the record.</li>
+ * </ul>
+ * The renderings are the ones of the application mapper (dates written as ISO strings, not as timestamps).
+ */
+public class InsurancePolicyDtoSerializer extends StdSerializer<InsurancePolicyDto> {
+
+    // about 27 years of days: beyond it, the dates are still written, but formatted each time
+    private static final int DATE_CACHE_MAX_SIZE = 10_000;
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString START_DATE = new SerializedString("startDate");
+    private static final SerializedString END_DATE = new SerializedString("endDate");
+    private static final SerializedString CREATION = new SerializedString("creation");
+    private static final SerializedString LAST_UPDATE = new SerializedString("lastUpdate");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private static final SerializedString[] STATUSES = Arrays.stream(InsurancePolicyStatus.values())
+        .map(status -> new SerializedString(status.name()))
+        .toArray(SerializedString[]::new);
+
+    private static final Map<LocalDate, SerializedString> DATES = new ConcurrentHashMap<>();
+
+    public InsurancePolicyDtoSerializer() {
+        super(InsurancePolicyDto.class);
+    }
+
+    @Override
+    public void serialize(InsurancePolicyDto dto, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(dto);
+        if (dto.id() != null) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(dto.id());
+        }
+        if (dto.name() != null) {
+            generator.writeFieldName(NAME);
+            generator.writeString(dto.name());
+        }
+        if (dto.status() != null) {
+            generator.writeFieldName(STATUS);
+            generator.writeString(STATUSES[dto.status().ordinal()]);
+        }
+        writeDate(generator, START_DATE, dto.startDate());
+        writeDate(generator, END_DATE, dto.endDate());
+        writeDate(generator, CREATION, dto.creation());
+        writeDate(generator, LAST_UPDATE, dto.lastUpdate());
+        if (dto.version() != null) {
+            generator.writeFieldName(VERSION);
+            generator.writeNumber(dto.version());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeDate(JsonGenerator generator, SerializableString fieldName, LocalDate date) throws IOException {
+        if (date != null) {
+            generator.writeFieldName(fieldName);
+            generator.writeString(toSerializedString(date));
+        }
+    }
+
+    private static SerializableString toSerializedString(LocalDate date) {
+        SerializedString serializedDate = DATES.get(date);
+        if (serializedDate == null) {
+            serializedDate = new SerializedString(date.toString());
+            if (DATES.size() < DATE_CACHE_MAX_SIZE) {
+                DATES.putIfAbsent(date, serializedDate);
+            }
+        }
+        return serializedDate;
+    }
+}
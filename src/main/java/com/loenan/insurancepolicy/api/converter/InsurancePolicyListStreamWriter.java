@@ -0,0 +1,65 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a list of insurance policies to a response stream as each of them is produced, in JSON or in one of the
+ * {@link BinaryMediaTypes}, with the same representation as the message converters.
+ * Neither the policies nor their DTOs are retained, so the memory used does not depend on the size of the list.
+ */
+public class InsurancePolicyListStreamWriter {
+
+    private final Map<MediaType, ObjectWriter> writers;
+
+    /**
+     * @param writers The writers of each media type; the Protobuf one with the schema of the {@code InsurancePolicyList} message
+     */
+    public InsurancePolicyListStreamWriter(Map<MediaType, ObjectWriter> writers) {
+        // the output is flushed once, at the end of the list
+        this.writers = writers.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                entry -> entry.getValue().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)));
+    }
+
+    /**
+     * @param mediaType The media type of the response, JSON or one of the {@link BinaryMediaTypes}
+     * @param source    Produces the policies, passing each of them to the given consumer
+     */
+    public void write(MediaType mediaType, OutputStream output, Consumer<Consumer<InsurancePolicyDto>> source)
+        throws IOException {
+        ObjectWriter writer = writers.get(mediaType);
+        // the list is the field of a message in Protobuf, as the root of a payload is always a message
+        boolean protobuf = BinaryMediaTypes.PROTOBUF.equals(mediaType);
+        try (JsonGenerator generator = writer.createGenerator(output)) {
+            if (protobuf) {
+                generator.writeStartObject();
+                generator.writeFieldName("insurancePolicies");
+            }
+            generator.writeStartArray();
+            source.accept(insurancePolicy -> {
+                try {
+                    writer.writeValue(generator, insurancePolicy);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            if (protobuf) {
+                generator.writeEndObject();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
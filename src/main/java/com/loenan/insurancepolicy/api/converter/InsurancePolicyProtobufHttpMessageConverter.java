@@ -0,0 +1,130 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.loenan.insurancepolicy.api.model.EditInsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the insurance policy payloads in the Protobuf format, with the message types of
+ * {@code proto/insurance_policy.proto}. The DTOs are mapped to the messages by Jackson, field by field,
+ * so they need no generated classes; the lists of policies are wrapped in an {@code InsurancePolicyList} message,
+ * as the root of a Protobuf payload is always a message.
+ * Only the types of the schema are supported: the other payloads can not be negotiated in this format.
+ */
+public class InsurancePolicyProtobufHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final String SCHEMA_LOCATION = "proto/insurance_policy.proto";
+
+    private static final String LIST_MESSAGE_TYPE = "InsurancePolicyList";
+
+    private final Map<Class<?>, ProtobufSchema> schemas;
+
+    /**
+     * @param objectMapper A mapper built on a {@link com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory}
+     */
+    public InsurancePolicyProtobufHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, BinaryMediaTypes.PROTOBUF);
+        NativeProtobufSchema schema = loadSchema();
+        this.schemas = Map.of(
+            InsurancePolicyDto.class, schema.forType("InsurancePolicy"),
+            InsurancePolicyList.class, schema.forType(LIST_MESSAGE_TYPE),
+            EditInsurancePolicyDto.class, schema.forType("EditInsurancePolicy"),
+            ErrorDto.class, schema.forType("Error")
+        );
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return schemas.containsKey(clazz) && super.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return findSchema(getJavaType(type, contextClass)) != null && super.canRead(type, contextClass, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return schemas.containsKey(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (type == null) {
+            return canWrite(clazz, mediaType);
+        }
+        return findSchema(getJavaType(type, null)) != null && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+        throws IOException, HttpMessageNotWritableException {
+        if (object instanceof List<?> insurancePolicies) {
+            super.writeInternal(new InsurancePolicyList(insurancePolicies), InsurancePolicyList.class, outputMessage);
+        } else {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+
+    @Override
+    protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+        return reader.with(findSchema(javaType));
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable JavaType javaType, @Nullable MediaType contentType) {
+        return writer.with(findSchema(javaType));
+    }
+
+    @Nullable
+    private ProtobufSchema findSchema(@Nullable JavaType javaType) {
+        if (javaType == null) {
+            return null;
+        }
+        if (javaType.isCollectionLikeType() && javaType.getContentType().hasRawClass(InsurancePolicyDto.class)) {
+            return schemas.get(InsurancePolicyList.class);
+        }
+        return schemas.get(javaType.getRawClass());
+    }
+
+    /**
+     * @return The schema of the {@code InsurancePolicyList} message, for the lists written without this converter
+     */
+    static ProtobufSchema loadListSchema() {
+        return loadSchema().forType(LIST_MESSAGE_TYPE);
+    }
+
+    private static NativeProtobufSchema loadSchema() {
+        try (InputStream inputStream = new ClassPathResource(SCHEMA_LOCATION).getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(inputStream, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load the Protobuf schema " + SCHEMA_LOCATION, e);
+        }
+    }
+
+    /**
+     * The {@code InsurancePolicyList} message.
+     */
+    record InsurancePolicyList(List<?> insurancePolicies) {
+    }
+}
@@ -1,24 +1,103 @@
 package com.loenan.insurancepolicy.api.mapper;
 
+import com.loenan.insurancepolicy.api.model.BatchEditInsurancePolicyDto;
 import com.loenan.insurancepolicy.api.model.EditInsurancePolicyDto;
 import com.loenan.insurancepolicy.api.model.FieldErrorDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyBatchItemResultDto;
 import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyNameDto;
+import com.loenan.insurancepolicy.api.model.UpdateInsurancePoliciesStatusDto;
 import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
 import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.UpdateInsurancePoliciesStatusAction;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
 import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Set;
 
 @Mapper
 public interface InsurancePolicyApiMapper {
 
+    @Mapping(target = "idempotencyKey", ignore = true)
     CreateInsurancePolicyAction toCreateAction(EditInsurancePolicyDto dto);
 
-    EditInsurancePolicyAction toEditAction(Integer id, EditInsurancePolicyDto dto);
+    /**
+     * @param idempotencyKey The key of the creation, from the Idempotency-Key header (null to create it at each call)
+     */
+    CreateInsurancePolicyAction toCreateAction(String idempotencyKey, EditInsurancePolicyDto dto);
+
+    /**
+     * @param version The version the policy must still have, from the If-Match header (null for any version)
+     */
+    EditInsurancePolicyAction toEditAction(Integer id, Integer version, EditInsurancePolicyDto dto);
+
+    EditInsurancePolicyAction toEditAction(BatchEditInsurancePolicyDto dto);
+
+    UpdateInsurancePoliciesStatusAction toUpdateStatusAction(UpdateInsurancePoliciesStatusDto dto);
 
     InsurancePolicyDto toDto(InsurancePolicy insurancePolicy);
 
+    /**
+     * Only the requested fields are set, the others are null and not serialized.
+     *
+     * @param fields The requested fields (null for all the fields)
+     */
+    default InsurancePolicyDto toDto(InsurancePolicy insurancePolicy, Set<InsurancePolicyField> fields) {
+        InsurancePolicyDto dto = toDto(insurancePolicy);
+        if (fields == null || dto == null) {
+            return dto;
+        }
+        return new InsurancePolicyDto(
+            fields.contains(InsurancePolicyField.ID) ? dto.id() : null,
+            fields.contains(InsurancePolicyField.NAME) ? dto.name() : null,
+            fields.contains(InsurancePolicyField.STATUS) ? dto.status() : null,
+            fields.contains(InsurancePolicyField.START_DATE) ? dto.startDate() : null,
+            fields.contains(InsurancePolicyField.END_DATE) ? dto.endDate() : null,
+            fields.contains(InsurancePolicyField.CREATION) ? dto.creation() : null,
+            fields.contains(InsurancePolicyField.LAST_UPDATE) ? dto.lastUpdate() : null,
+            fields.contains(InsurancePolicyField.VERSION) ? dto.version() : null
+        );
+    }
+
+    /**
+     * The returned list maps each policy when it is read, instead of mapping them all upfront:
+     * a serialized list writes each policy as soon as it is mapped, and never retains all the DTOs.
+     *
+     * @param fields The requested fields (null for all the fields)
+     */
+    default List<InsurancePolicyDto> toDtos(List<InsurancePolicy> insurancePolicies, Set<InsurancePolicyField> fields) {
+        return new AbstractList<>() {
+            @Override
+            public InsurancePolicyDto get(int index) {
+                return toDto(insurancePolicies.get(index), fields);
+            }
+
+            @Override
+            public int size() {
+                return insurancePolicies.size();
+            }
+        };
+    }
+
+    InsurancePolicyBatchItemResultDto toDto(InsurancePolicyBatchItemResult result);
+
+    /**
+     * Replaces the default conversion of MapStruct, which goes through an {@code XMLGregorianCalendar}.
+     */
+    default LocalDate toLocalDate(ZonedDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+
+    List<InsurancePolicyNameDto> toNameDtos(List<InsurancePolicyName> names);
+
     List<FieldErrorDto> toDtos(List<FieldError> fieldErrors);
 }
@@ -0,0 +1,76 @@
+package com.loenan.insurancepolicy.api.mapper;
+
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes the pagination cursor as an opaque string for the API clients.
+ * The cursor is made of the id of the last policy of a page and of the value of its sort field,
+ * so it is only decoded with the sort of the page it comes from.
+ */
+@Component
+public class InsurancePolicyCursorCodec {
+
+    public static final String INVALID_CURSOR_ERROR_MESSAGE = "The provided cursor is not valid";
+
+    private static final char SEPARATOR = ':';
+
+    public String encode(InsurancePolicy insurancePolicy, InsurancePolicySort sort) {
+        String sortValue = switch (sort.field()) {
+            case START_DATE -> insurancePolicy.startDate().toString();
+            case LAST_UPDATE -> insurancePolicy.lastUpdate().toInstant().toString();
+            default -> insurancePolicy.name();
+        };
+        String rawCursor = insurancePolicy.id() + String.valueOf(SEPARATOR) + sortValue;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(rawCursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param sort The sort of the requested page
+     */
+    public InsurancePolicyCursor decode(String cursor, InsurancePolicySort sort) throws InvalidInputException {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String rawCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = rawCursor.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw invalidCursor();
+            }
+            Integer id = Integer.valueOf(rawCursor.substring(0, separatorIndex));
+            String sortValue = rawCursor.substring(separatorIndex + 1);
+            return switch (sort.field()) {
+                case NAME -> new InsurancePolicyCursor(sortValue, id);
+                case START_DATE -> new InsurancePolicyCursor(null, id, LocalDate.parse(sortValue), null);
+                case LAST_UPDATE -> new InsurancePolicyCursor(null, id, null,
+                    ZonedDateTime.ofInstant(Instant.parse(sortValue), ZoneOffset.UTC));
+                // an unsupported sort is reported by the validation of the query
+                default -> new InsurancePolicyCursor(null, id, null, null);
+            };
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static InvalidInputException invalidCursor() {
+        return new InvalidInputException(List.of(
+            new FieldError(InsurancePolicyFields.CURSOR, INVALID_CURSOR_ERROR_MESSAGE)
+        ));
+    }
+}
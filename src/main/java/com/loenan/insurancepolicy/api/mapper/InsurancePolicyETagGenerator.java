@@ -0,0 +1,162 @@
+package com.loenan.insurancepolicy.api.mapper;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Builds the strong entity tags of the insurance policy resources from their versions, and reads them back
+ * from the If-Match headers of the editions.
+ * <p>
+ * The tag of a policy is made of its id and its version number, so it is the same whether it is built from the saved
+ * policy or from its stored version. The tag of a list is made of the version number of all the policies and of a digest of the query.
+ * The representations restricted to a sparse fieldset, and the ones in a binary format,
+ * have their own tags.
+ */
+@Component
+public class InsurancePolicyETagGenerator {
+
+    private static final String ANY_TAG = "*";
+
+    /**
+     * The number of bytes of the query digest in a list tag: 64 bits.
+     */
+    static final int QUERY_DIGEST_LENGTH = 8;
+
+    /**
+     * @param format The binary format of the representation (null for JSON)
+     */
+    public String generate(InsurancePolicy insurancePolicy, MediaType format) {
+        return generate(insurancePolicy.id(), insurancePolicy.version(), null, format);
+    }
+
+    /**
+     * @param fields The requested fields (null for all the fields)
+     * @param format The binary format of the representation (null for JSON)
+     */
+    public String generate(InsurancePolicyVersion version, Set<InsurancePolicyField> fields, MediaType format) {
+        return generate(version.id(), version.version(), fields, format);
+    }
+
+    /**
+     * The version of the policy required by an If-Match header. Any tag of a representation of the policy designates
+     * the version it was built from, whatever its fields, format or encoding; the first one is used.
+     * The weak tags are ignored, as If-Match uses the strong comparison.
+     *
+     * @return The required version, or null when any version is accepted (no header, or "*")
+     * @throws InsurancePolicyVersionMismatchException When no tag designates a version of the policy,
+     *     so that the precondition can never be met
+     */
+    public Integer toRequiredVersion(Integer id, String ifMatch) throws InsurancePolicyVersionMismatchException {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY_TAG)) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String trimmedTag = tag.trim();
+            if (trimmedTag.startsWith(prefix) && trimmedTag.length() > prefix.length() && trimmedTag.endsWith("\"")) {
+                String version = StringUtils.substringBefore(trimmedTag.substring(prefix.length(), trimmedTag.length() - 1), '-');
+                try {
+                    return Integer.valueOf(version);
+                } catch (NumberFormatException e) {
+                    // not a tag of this application, the other tags may still be
+                }
+            }
+        }
+        throw new InsurancePolicyVersionMismatchException(id);
+    }
+
+    /**
+     * The tag of the representation encoded with gzip: a strong tag identifies the bytes sent, so it differs from
+     * the tag of the identity encoding.
+     */
+    public String toGzipTag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * The tag of a list also depends on the query, as all the pages, filters and sorts share the same version.
+     * The query is identified by the first {@link #QUERY_DIGEST_LENGTH} bytes of the SHA-256 digest of its canonical
+     * encoding, the same in any instance, so that two queries practically never share a tag.
+     */
+    public String generate(InsurancePoliciesVersion version, GetAllInsurancePoliciesQuery query, MediaType format) {
+        StringBuilder tag = new StringBuilder("\"list-").append(version.version());
+        appendFields(tag, query.fields());
+        tag.append("-q").append(toQueryDigest(query));
+        appendFormat(tag, format);
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Each value is prefixed with the length of its text, and a null value is written "~", so that two different
+     * queries never have the same encoding, whatever the characters of their name criteria.
+     * The fields are not part of it, as they are already in the tag.
+     */
+    static String toQueryDigest(GetAllInsurancePoliciesQuery query) {
+        InsurancePolicyCursor after = query.after();
+        InsurancePolicyFilter filter = query.filter();
+        InsurancePolicySort sort = query.sort();
+        StringBuilder encoding = new StringBuilder();
+        appendValues(encoding, after != null, after != null ? after.name() : null, after != null ? after.id() : null,
+            after != null ? after.startDate() : null, after != null ? after.lastUpdate() : null, query.limit());
+        appendValues(encoding, filter.status(), filter.startDateFrom(), filter.startDateBefore(),
+            filter.endDateFrom(), filter.endDateBefore(), filter.namePrefix(), filter.activeOn());
+        appendValues(encoding, sort.field(), sort.descending());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(encoding.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, QUERY_DIGEST_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is supported by every Java platform", e);
+        }
+    }
+
+    private static void appendValues(StringBuilder encoding, Object... values) {
+        for (Object value : values) {
+            if (value == null) {
+                encoding.append('~');
+            } else {
+                String text = value.toString();
+                encoding.append(text.length()).append(':').append(text);
+            }
+        }
+    }
+
+    private static String generate(Integer id, Integer version, Set<InsurancePolicyField> fields, MediaType format) {
+        StringBuilder tag = new StringBuilder("\"").append(id).append('-').append(version);
+        appendFields(tag, fields);
+        appendFormat(tag, format);
+        return tag.append('"').toString();
+    }
+
+    private static void appendFields(StringBuilder tag, Set<InsurancePolicyField> fields) {
+        if (fields != null) {
+            int mask = 0;
+            for (InsurancePolicyField field : fields) {
+                mask |= 1 << field.ordinal();
+            }
+            tag.append("-f").append(Integer.toHexString(mask));
+        }
+    }
+
+    private static void appendFormat(StringBuilder tag, MediaType format) {
+        if (format != null) {
+            tag.append('-').append(format.getSubtype());
+        }
+    }
+}
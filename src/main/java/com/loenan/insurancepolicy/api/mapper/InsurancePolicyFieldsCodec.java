@@ -0,0 +1,68 @@
+package com.loenan.insurancepolicy.api.mapper;
+
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decodes the field names requested by the API clients: the sparse fieldset, as a comma separated list of field names,
+ * and the sort field, prefixed with '-' for a descending order.
+ */
+@Component
+public class InsurancePolicyFieldsCodec {
+
+    public static final String INVALID_FIELD_ERROR_MESSAGE = "Unknown field '%s', valid values: %s";
+
+    private static final String DESCENDING_PREFIX = "-";
+
+    private static final String VALID_FIELD_NAMES = Arrays.stream(InsurancePolicyField.values())
+        .map(InsurancePolicyField::fieldName)
+        .collect(Collectors.joining(", "));
+
+    /**
+     * @return The requested fields, or null when no field list is provided (all the fields are requested)
+     */
+    public Set<InsurancePolicyField> decode(String fields) throws InvalidInputException {
+        if (fields == null) {
+            return null;
+        }
+        Set<InsurancePolicyField> decodedFields = EnumSet.noneOf(InsurancePolicyField.class);
+        for (String fieldName : fields.split(",")) {
+            String trimmedFieldName = fieldName.trim();
+            if (!trimmedFieldName.isEmpty()) {
+                decodedFields.add(InsurancePolicyField.fromFieldName(trimmedFieldName)
+                    .orElseThrow(() -> invalidField(InsurancePolicyFields.FIELDS, trimmedFieldName)));
+            }
+        }
+        return decodedFields;
+    }
+
+    /**
+     * @return The requested sort, or null when no sort is provided (default sort)
+     */
+    public InsurancePolicySort decodeSort(String sort) throws InvalidInputException {
+        if (sort == null) {
+            return null;
+        }
+        boolean descending = sort.startsWith(DESCENDING_PREFIX);
+        String fieldName = descending ? sort.substring(DESCENDING_PREFIX.length()) : sort;
+        return InsurancePolicyField.fromFieldName(fieldName)
+            .map(field -> new InsurancePolicySort(field, descending))
+            .orElseThrow(() -> invalidField(InsurancePolicyFields.SORT, fieldName));
+    }
+
+    private static InvalidInputException invalidField(String parameterName, String fieldName) {
+        return new InvalidInputException(List.of(
+            new FieldError(parameterName, INVALID_FIELD_ERROR_MESSAGE.formatted(fieldName, VALID_FIELD_NAMES))
+        ));
+    }
+}
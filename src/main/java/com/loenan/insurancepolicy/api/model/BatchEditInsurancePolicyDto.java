@@ -0,0 +1,22 @@
+package com.loenan.insurancepolicy.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(title = "Insurance policy edition payload, within a batch")
+public record BatchEditInsurancePolicyDto(
+    @Schema(title = "Identifier of the edited policy", example = "1234")
+    Integer id,
+    @Schema(title = "Name of the policy", example = "My policy name")
+    String name,
+    @Schema(title = "Status of the policy", allowableValues = {"ACTIVE", "INACTIVE"}, example = "ACTIVE")
+    String status,
+    @Schema(title = "Start date of cover", example = "2024-01-01")
+    LocalDate startDate,
+    @Schema(title = "End date of cover", example = "2024-12-31")
+    LocalDate endDate,
+    @Schema(title = "Version the policy must still have to be edited (any version when absent)", example = "3")
+    Integer version
+) {
+}
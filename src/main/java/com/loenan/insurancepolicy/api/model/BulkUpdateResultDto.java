@@ -0,0 +1,10 @@
+package com.loenan.insurancepolicy.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(title = "Result of a bulk update")
+public record BulkUpdateResultDto(
+    @Schema(title = "Number of updated policies", example = "1234")
+    long updatedCount
+) {
+}
@@ -0,0 +1,16 @@
+package com.loenan.insurancepolicy.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(title = "Result of an item of a batch")
+public record InsurancePolicyBatchItemResultDto(
+    @Schema(title = "Position of the item in the batch", example = "0")
+    int index,
+    @Schema(title = "The saved insurance policy, absent when the item is not valid")
+    InsurancePolicyDto insurancePolicy,
+    @Schema(title = "Validation errors of the item, empty when the item is saved")
+    List<FieldErrorDto> fieldErrors
+) {
+}
@@ -1,11 +1,20 @@
 package com.loenan.insurancepolicy.api.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.loenan.insurancepolicy.api.converter.InsurancePolicyDtoSerializer;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
 
+/**
+ * The fields which are not requested by a sparse fieldset are null, and not serialized.
+ * The policies are written by a dedicated serializer, the list responses being made of thousands of them.
+ */
 @Schema(title = "Insurance policy")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonSerialize(using = InsurancePolicyDtoSerializer.class)
 public record InsurancePolicyDto(
     @Schema(title = "Identifier of the policy", example = "1234")
     Integer id,
@@ -20,6 +29,8 @@ public record InsurancePolicyDto(
     @Schema(title = "Date of creation", example = "2024-10-28")
     LocalDate creation,
     @Schema(title = "Date of last update", example = "2024-10-28")
-    LocalDate lastUpdate
+    LocalDate lastUpdate,
+    @Schema(title = "Version of the policy, incremented by each update", example = "3")
+    Integer version
 ) {
 }
@@ -0,0 +1,12 @@
+package com.loenan.insurancepolicy.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(title = "Insurance policy name suggested by the autocompletion")
+public record InsurancePolicyNameDto(
+    @Schema(title = "Identifier of the policy", example = "1234")
+    Integer id,
+    @Schema(title = "Name of the policy", example = "My policy name")
+    String name
+) {
+}
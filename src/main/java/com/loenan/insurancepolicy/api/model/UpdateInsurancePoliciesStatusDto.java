@@ -0,0 +1,24 @@
+package com.loenan.insurancepolicy.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(title = "Status update of the insurance policies matching a filter")
+public record UpdateInsurancePoliciesStatusDto(
+    @Schema(title = "Current status of the policies", allowableValues = {"ACTIVE", "INACTIVE"}, example = "ACTIVE")
+    String status,
+    @Schema(title = "Minimum start date of cover (inclusive)", example = "2024-01-01")
+    LocalDate startDateFrom,
+    @Schema(title = "Maximum start date of cover (exclusive)", example = "2025-01-01")
+    LocalDate startDateBefore,
+    @Schema(title = "Minimum end date of cover (inclusive)", example = "2024-01-01")
+    LocalDate endDateFrom,
+    @Schema(title = "Maximum end date of cover (exclusive)", example = "2025-01-01")
+    LocalDate endDateBefore,
+    @Schema(title = "Prefix of the name of the policies", example = "My policy")
+    String namePrefix,
+    @Schema(title = "Status to set on the policies", allowableValues = {"ACTIVE", "INACTIVE"}, example = "INACTIVE")
+    String newStatus
+) {
+}
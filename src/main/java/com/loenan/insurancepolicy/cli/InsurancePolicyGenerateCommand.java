@@ -0,0 +1,120 @@
+package com.loenan.insurancepolicy.cli;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.ImportInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.port.primary.InsurancePolicyPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates a synthetic dataset of insurance policies at startup, when the {@code insurance-policy.generate.count}
+ * property is set (see {@link InsurancePolicyGenerator} for the distributions).
+ * The dataset is written to {@code insurance-policy.generate.output} (as CSV or NDJSON) when this property is set,
+ * otherwise it is loaded into the database through the CSV import, streamed without any intermediate file.
+ */
+@Component
+@ConditionalOnProperty("insurance-policy.generate.count")
+public class InsurancePolicyGenerateCommand implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyGenerateCommand.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InsurancePolicyPort insurancePolicyPort;
+    private final InsurancePolicyGenerator generator;
+    private final long count;
+    private final String output;
+    private final ExportFormat format;
+
+    @Autowired
+    public InsurancePolicyGenerateCommand(
+        InsurancePolicyPort insurancePolicyPort,
+        @Value("${insurance-policy.generate.count}") long count,
+        @Value("${insurance-policy.generate.seed:0}") long seed,
+        @Value("${insurance-policy.generate.output:}") String output,
+        @Value("${insurance-policy.generate.format:CSV}") ExportFormat format,
+        @Value("${insurance-policy.generate.name-min-length:10}") int nameMinLength,
+        @Value("${insurance-policy.generate.name-max-length:60}") int nameMaxLength,
+        @Value("${insurance-policy.generate.name-prefix-count:100}") int namePrefixCount,
+        @Value("${insurance-policy.generate.name-prefix-skew:1.0}") double namePrefixSkew,
+        @Value("${insurance-policy.generate.active-ratio:0.5}") double activeRatio,
+        @Value("${insurance-policy.generate.start-date-from:2020-01-01}") String startDateFrom,
+        @Value("${insurance-policy.generate.start-date-spread-days:1825}") int startDateSpreadDays,
+        @Value("${insurance-policy.generate.min-duration-days:30}") int minDurationDays,
+        @Value("${insurance-policy.generate.max-duration-days:1095}") int maxDurationDays
+    ) {
+        this.insurancePolicyPort = insurancePolicyPort;
+        this.generator = new InsurancePolicyGenerator(new InsurancePolicyGenerator.Settings(count, seed,
+            nameMinLength, nameMaxLength, namePrefixCount, namePrefixSkew, activeRatio,
+            LocalDate.parse(startDateFrom), startDateSpreadDays, minDurationDays, maxDurationDays));
+        this.count = count;
+        this.output = output;
+        this.format = format;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException, ExecutionException {
+        long startTime = System.currentTimeMillis();
+        if (output.isEmpty()) {
+            InsurancePolicyImportResult result = load();
+            LOGGER.info("Loaded {} generated insurance policies ({} rejected) in {} ms",
+                result.importedCount(), result.rejectedCount(), System.currentTimeMillis() - startTime);
+        } else {
+            try (Writer writer = newWriter(Files.newOutputStream(Path.of(output)))) {
+                generator.write(format, writer);
+            }
+            LOGGER.info("Wrote {} generated insurance policies to {} in {} ms", count, output, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    /**
+     * The generated CSV is written by another thread into a pipe, read by the import.
+     */
+    private InsurancePolicyImportResult load() throws IOException, InterruptedException, ExecutionException {
+        PipedInputStream input = new PipedInputStream(BUFFER_SIZE);
+        PipedOutputStream pipe = new PipedOutputStream(input);
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> generation = executor.submit(() -> {
+                try (Writer writer = newWriter(pipe)) {
+                    generator.write(ExportFormat.CSV, writer);
+                }
+                return null;
+            });
+            InsurancePolicyImportResult result;
+            // closing the input stops the generation if the import fails
+            try (input) {
+                result = insurancePolicyPort.importInsurancePolicies(
+                    new ImportInsurancePoliciesAction(input, OutputStream.nullOutputStream()));
+            }
+            generation.get();
+            return result;
+        }
+    }
+
+    private static Writer newWriter(OutputStream output) {
+        return new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,167 @@
+package com.loenan.insurancepolicy.cli;
+
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a synthetic dataset of valid insurance policies, identical for the same settings (seed included).
+ * <p>
+ * Each name is made of a prefix, the record number, and a filler up to a length drawn uniformly between the minimum
+ * and maximum lengths, so the names are unique. The prefixes are drawn from a fixed set with a Zipf distribution, so that a few prefixes are
+ * much more frequent than the others. The start dates are drawn uniformly over a period, and the end dates after
+ * them with a duration drawn uniformly between the minimum and maximum durations.
+ * The names only contain letters, digits and spaces, so the CSV and NDJSON rows never need any escaping.
+ */
+public class InsurancePolicyGenerator {
+
+    private static final String CSV_HEADER = "name,status,startDate,endDate\n";
+    private static final String NDJSON_ROW = "{\"name\":\"%s\",\"status\":\"%s\",\"startDate\":\"%s\",\"endDate\":\"%s\"}\n";
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_PREFIX_LENGTH = 12;
+
+    private final Settings settings;
+    private final String[] prefixes;
+    private final double[] prefixCumulativeProbabilities;
+    private final String filler;
+
+    public InsurancePolicyGenerator(Settings settings) {
+        this.settings = settings;
+        SplittableRandom random = new SplittableRandom(settings.seed()).split();
+        prefixes = new String[settings.namePrefixCount()];
+        prefixCumulativeProbabilities = new double[settings.namePrefixCount()];
+        double total = 0;
+        for (int rank = 0; rank < prefixes.length; rank++) {
+            prefixes[rank] = capitalize(randomLetters(random, random.nextInt(MIN_PREFIX_LENGTH, MAX_PREFIX_LENGTH + 1)));
+            total += 1 / Math.pow(rank + 1, settings.namePrefixSkew());
+            prefixCumulativeProbabilities[rank] = total;
+        }
+        for (int rank = 0; rank < prefixes.length; rank++) {
+            prefixCumulativeProbabilities[rank] /= total;
+        }
+        filler = randomLetters(random, 2 * InsurancePolicyFields.NAME_MAX_LENGTH);
+    }
+
+    /**
+     * Write the generated insurance policies, as CSV with a header line (columns: name, status, startDate, endDate,
+     * as expected by the import) or as NDJSON.
+     */
+    public void write(ExportFormat format, Writer output) throws IOException {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        StringBuilder name = new StringBuilder(InsurancePolicyFields.NAME_MAX_LENGTH);
+        if (format == ExportFormat.CSV) {
+            output.write(CSV_HEADER);
+        }
+        for (long recordNumber = 1; recordNumber <= settings.count(); recordNumber++) {
+            nextName(random, recordNumber, name);
+            InsurancePolicyStatus status = random.nextDouble() < settings.activeRatio()
+                ? InsurancePolicyStatus.ACTIVE
+                : InsurancePolicyStatus.INACTIVE;
+            LocalDate startDate = settings.startDateFrom().plusDays(random.nextInt(settings.startDateSpreadDays() + 1));
+            LocalDate endDate = startDate.plusDays(random.nextInt(settings.minDurationDays(), settings.maxDurationDays() + 1));
+            switch (format) {
+                case CSV -> output.append(name).append(',').append(status.name()).append(',')
+                    .append(startDate.toString()).append(',').append(endDate.toString()).append('\n');
+                case NDJSON -> output.write(NDJSON_ROW.formatted(name, status, startDate, endDate));
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * The prefix is shortened (or left out) to fit the length, never the record number: the names stay unique,
+     * and only exceed the drawn length when the record number alone is longer.
+     */
+    private void nextName(SplittableRandom random, long recordNumber, StringBuilder name) {
+        int length = random.nextInt(settings.nameMinLength(), settings.nameMaxLength() + 1);
+        String prefix = nextPrefix(random);
+        String number = Long.toString(recordNumber);
+        int prefixLength = Math.min(prefix.length(), length - number.length() - 1);
+        name.setLength(0);
+        if (prefixLength > 0) {
+            name.append(prefix, 0, prefixLength).append(' ');
+        }
+        name.append(number);
+        int fillerLength = length - name.length();
+        if (fillerLength > 1) {
+            name.append(' ');
+            fillerLength--;
+        }
+        if (fillerLength > 0) {
+            int fillerStart = random.nextInt(filler.length() - fillerLength + 1);
+            name.append(filler, fillerStart, fillerStart + fillerLength);
+        }
+    }
+
+    private String nextPrefix(SplittableRandom random) {
+        int rank = Arrays.binarySearch(prefixCumulativeProbabilities, random.nextDouble());
+        return prefixes[Math.min(rank < 0 ? -rank - 1 : rank, prefixes.length - 1)];
+    }
+
+    private static String randomLetters(SplittableRandom random, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(letters);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * @param count               Number of generated insurance policies
+     * @param seed                Seed of all the random draws
+     * @param nameMinLength       Minimum length of the names
+     * @param nameMaxLength       Maximum length of the names (at most {@link InsurancePolicyFields#NAME_MAX_LENGTH})
+     * @param namePrefixCount     Number of distinct name prefixes
+     * @param namePrefixSkew      Exponent of the Zipf distribution of the prefixes (0 for a uniform distribution)
+     * @param activeRatio         Ratio of ACTIVE insurance policies, between 0 and 1
+     * @param startDateFrom       First possible start date
+     * @param startDateSpreadDays Number of days after the first start date over which the start dates are spread
+     * @param minDurationDays     Minimum number of days between the start and end dates (at least 1)
+     * @param maxDurationDays     Maximum number of days between the start and end dates
+     */
+    public record Settings(
+        long count,
+        long seed,
+        int nameMinLength,
+        int nameMaxLength,
+        int namePrefixCount,
+        double namePrefixSkew,
+        double activeRatio,
+        LocalDate startDateFrom,
+        int startDateSpreadDays,
+        int minDurationDays,
+        int maxDurationDays
+    ) {
+
+        public Settings {
+            if (count < 0) {
+                throw new IllegalArgumentException("The count must be positive: " + count);
+            }
+            if (nameMinLength < 1 || nameMinLength > nameMaxLength || nameMaxLength > InsurancePolicyFields.NAME_MAX_LENGTH) {
+                throw new IllegalArgumentException("The name lengths must be between 1 and %d: %d-%d".formatted(
+                    InsurancePolicyFields.NAME_MAX_LENGTH, nameMinLength, nameMaxLength));
+            }
+            if (namePrefixCount < 1 || namePrefixSkew < 0) {
+                throw new IllegalArgumentException("Invalid name prefix distribution: %d prefixes, skew %s".formatted(
+                    namePrefixCount, namePrefixSkew));
+            }
+            if (activeRatio < 0 || activeRatio > 1) {
+                throw new IllegalArgumentException("The active ratio must be between 0 and 1: " + activeRatio);
+            }
+            if (startDateSpreadDays < 0 || minDurationDays < 1 || minDurationDays > maxDurationDays) {
+                throw new IllegalArgumentException("Invalid date distribution: spread of %d days, duration of %d-%d days".formatted(
+                    startDateSpreadDays, minDurationDays, maxDurationDays));
+            }
+        }
+    }
+}
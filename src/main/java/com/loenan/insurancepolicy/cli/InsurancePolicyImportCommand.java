@@ -0,0 +1,63 @@
+package com.loenan.insurancepolicy.cli;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.ImportInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.port.primary.InsurancePolicyPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports a CSV file of insurance policies at startup, when the {@code insurance-policy.import.file} property is set.
+ * The rejected records are written to {@code insurance-policy.import.error-report}
+ * (by default, next to the imported file with an {@code .errors.csv} suffix).
+ */
+@Component
+@ConditionalOnProperty("insurance-policy.import.file")
+public class InsurancePolicyImportCommand implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyImportCommand.class);
+
+    private static final String ERROR_REPORT_SUFFIX = ".errors.csv";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InsurancePolicyPort insurancePolicyPort;
+    private final Path file;
+    private final Path errorReport;
+
+    @Autowired
+    public InsurancePolicyImportCommand(
+        InsurancePolicyPort insurancePolicyPort,
+        @Value("${insurance-policy.import.file}") Path file,
+        @Value("${insurance-policy.import.error-report:}") String errorReport
+    ) {
+        this.insurancePolicyPort = insurancePolicyPort;
+        this.file = file;
+        this.errorReport = errorReport.isEmpty() ? Path.of(file + ERROR_REPORT_SUFFIX) : Path.of(errorReport);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        LOGGER.info("Importing the insurance policies of {}", file);
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+             OutputStream errorReportOutput = new BufferedOutputStream(Files.newOutputStream(errorReport), BUFFER_SIZE)) {
+            InsurancePolicyImportResult result = insurancePolicyPort.importInsurancePolicies(
+                new ImportInsurancePoliciesAction(input, errorReportOutput));
+            LOGGER.info("Imported {} insurance policies, {} rejected record(s) reported in {}",
+                result.importedCount(), result.rejectedCount(), errorReport);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.loenan.insurancepolicy.domain.contract.command.action;
+
+import java.util.List;
+
+public record CreateInsurancePoliciesAction(
+    List<CreateInsurancePolicyAction> insurancePolicies
+) {
+}
@@ -2,10 +2,14 @@ package com.loenan.insurancepolicy.domain.contract.command.action;
 
 import java.time.LocalDate;
 
+/**
+ * @param idempotencyKey The key identifying the creation across its retries, or null to create the policy at each call
+ */
 public record CreateInsurancePolicyAction(
     String name,
     String status,
     LocalDate startDate,
-    LocalDate endDate
+    LocalDate endDate,
+    String idempotencyKey
 ) {
 }
@@ -2,11 +2,15 @@ package com.loenan.insurancepolicy.domain.contract.command.action;
 
 import java.time.LocalDate;
 
+/**
+ * @param version The version the policy must still have to be edited, or null to edit it whatever its version
+ */
 public record EditInsurancePolicyAction(
     Integer id,
     String name,
     String status,
     LocalDate startDate,
-    LocalDate endDate
+    LocalDate endDate,
+    Integer version
 ) {
 }
@@ -0,0 +1,15 @@
+package com.loenan.insurancepolicy.domain.contract.command.action;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Import insurance policies from a CSV input (columns: name, status, startDate, endDate, with a header line).
+ *
+ * @param errorReport The output receiving the rejected records and their errors, as CSV
+ */
+public record ImportInsurancePoliciesAction(
+    InputStream input,
+    OutputStream errorReport
+) {
+}
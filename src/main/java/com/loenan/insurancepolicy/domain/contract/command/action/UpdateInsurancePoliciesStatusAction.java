@@ -0,0 +1,14 @@
+package com.loenan.insurancepolicy.domain.contract.command.action;
+
+import java.time.LocalDate;
+
+public record UpdateInsurancePoliciesStatusAction(
+    String status,
+    LocalDate startDateFrom,
+    LocalDate startDateBefore,
+    LocalDate endDateFrom,
+    LocalDate endDateBefore,
+    String namePrefix,
+    String newStatus
+) {
+}
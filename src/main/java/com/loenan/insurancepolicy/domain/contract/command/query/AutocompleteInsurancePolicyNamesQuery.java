@@ -0,0 +1,19 @@
+package com.loenan.insurancepolicy.domain.contract.command.query;
+
+/**
+ * Query for the insurance policy names starting with a prefix, ignoring the case.
+ *
+ * @param prefix The typed prefix of the names
+ * @param limit  The maximum number of names (defaults to {@link #DEFAULT_LIMIT})
+ */
+public record AutocompleteInsurancePolicyNamesQuery(
+    String prefix,
+    Integer limit
+) {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    public int resultSize() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+}
@@ -0,0 +1,18 @@
+package com.loenan.insurancepolicy.domain.contract.command.query;
+
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.ExportLayout;
+
+/**
+ * Query exporting all the insurance policies, ordered by id.
+ *
+ * @param format The format of the exported rows
+ * @param layout The layout of the export (a merged document, or one document per partition)
+ * @param parallelism The number of workers reading the id ranges in parallel (null for the configured default)
+ */
+public record ExportInsurancePoliciesQuery(
+    ExportFormat format,
+    ExportLayout layout,
+    Integer parallelism
+) {
+}
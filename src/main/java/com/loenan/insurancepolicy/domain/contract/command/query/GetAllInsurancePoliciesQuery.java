@@ -1,4 +1,65 @@
 package com.loenan.insurancepolicy.domain.contract.command.query;
 
-public record GetAllInsurancePoliciesQuery() {
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+
+import java.util.Set;
+
+/**
+ * Query for the insurance policies matching a filter, ordered by name unless another order is requested.
+ * When neither a cursor nor a limit is provided, all the matching policies are returned.
+ *
+ * @param after  The cursor after which the page starts (null for the first page)
+ * @param limit  The maximum number of policies in the page (defaults to {@link #DEFAULT_LIMIT} when a cursor is provided)
+ * @param fields The fields to read, the others being null in the result (null to read all the fields)
+ * @param filter The criteria of the policies (defaults to {@link InsurancePolicyFilter#NONE})
+ * @param sort   The order of the policies (defaults to {@link InsurancePolicySort#DEFAULT})
+ */
+public record GetAllInsurancePoliciesQuery(
+    InsurancePolicyCursor after,
+    Integer limit,
+    Set<InsurancePolicyField> fields,
+    InsurancePolicyFilter filter,
+    InsurancePolicySort sort
+) {
+
+    public static final int DEFAULT_LIMIT = 100;
+
+    public GetAllInsurancePoliciesQuery {
+        filter = filter != null ? filter : InsurancePolicyFilter.NONE;
+        sort = sort != null ? sort : InsurancePolicySort.DEFAULT;
+    }
+
+    public GetAllInsurancePoliciesQuery() {
+        this(null, null);
+    }
+
+    public GetAllInsurancePoliciesQuery(InsurancePolicyCursor after, Integer limit) {
+        this(after, limit, null);
+    }
+
+    public GetAllInsurancePoliciesQuery(InsurancePolicyCursor after, Integer limit, Set<InsurancePolicyField> fields) {
+        this(after, limit, fields, null, null);
+    }
+
+    public boolean isPaged() {
+        return after != null || limit != null;
+    }
+
+    public int pageSize() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+
+    public boolean isProjection() {
+        return fields != null;
+    }
+
+    /**
+     * @return Whether all the policies are requested in the default order
+     */
+    public boolean isUnfilteredDefaultOrder() {
+        return filter.isEmpty() && sort.equals(InsurancePolicySort.DEFAULT);
+    }
 }
@@ -0,0 +1,7 @@
+package com.loenan.insurancepolicy.domain.contract.command.query;
+
+/**
+ * Query for the aggregate version of all the insurance policies.
+ */
+public record GetInsurancePoliciesVersionQuery() {
+}
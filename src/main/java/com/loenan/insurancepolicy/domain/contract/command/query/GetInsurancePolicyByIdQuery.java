@@ -1,6 +1,22 @@
 package com.loenan.insurancepolicy.domain.contract.command.query;
 
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+
+import java.util.Set;
+
+/**
+ * @param fields The fields to read, the others being null in the result (null to read all the fields)
+ */
 public record GetInsurancePolicyByIdQuery(
-    Integer id
+    Integer id,
+    Set<InsurancePolicyField> fields
 ) {
+
+    public GetInsurancePolicyByIdQuery(Integer id) {
+        this(id, null);
+    }
+
+    public boolean isProjection() {
+        return fields != null;
+    }
 }
@@ -0,0 +1,6 @@
+package com.loenan.insurancepolicy.domain.contract.command.query;
+
+public record GetInsurancePolicyVersionQuery(
+    Integer id
+) {
+}
@@ -0,0 +1,15 @@
+package com.loenan.insurancepolicy.domain.contract.command.query;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+
+import java.util.function.Consumer;
+
+/**
+ * Query streaming all the insurance policies ordered by name, without loading them all in memory.
+ *
+ * @param consumer The consumer receiving the policies one by one, while the underlying cursor is open
+ */
+public record StreamAllInsurancePoliciesQuery(
+    Consumer<? super InsurancePolicy> consumer
+) {
+}
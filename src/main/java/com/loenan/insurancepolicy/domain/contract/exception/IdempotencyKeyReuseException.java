@@ -0,0 +1,17 @@
+package com.loenan.insurancepolicy.domain.contract.exception;
+
+import com.loenan.insurancepolicy.domain.contract.model.error.ErrorType;
+
+/**
+ * Thrown when an idempotency key is sent again with a request which is not the one it was first used for.
+ */
+public class IdempotencyKeyReuseException extends UserInputException {
+
+    public static final String KEY = "idempotency_key_reuse";
+
+    public static final String MESSAGE = "The idempotency key %s has already been used for another request";
+
+    public IdempotencyKeyReuseException(String idempotencyKey) {
+        super(ErrorType.MISMATCHING_DATA, KEY, MESSAGE.formatted(idempotencyKey));
+    }
+}
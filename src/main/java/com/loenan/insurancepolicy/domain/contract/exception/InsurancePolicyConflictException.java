@@ -0,0 +1,17 @@
+package com.loenan.insurancepolicy.domain.contract.exception;
+
+import com.loenan.insurancepolicy.domain.contract.model.error.ErrorType;
+
+/**
+ * Thrown when a policy is updated by a concurrent request between its load and the save of its edition.
+ */
+public class InsurancePolicyConflictException extends UserInputException {
+
+    public static final String KEY = "insurance_policy_conflict";
+
+    public static final String MESSAGE = "The insurance policy with id %s has been modified by a concurrent request";
+
+    public InsurancePolicyConflictException(Integer insurancePolicyId) {
+        super(ErrorType.CONFLICTING_DATA, KEY, MESSAGE.formatted(insurancePolicyId));
+    }
+}
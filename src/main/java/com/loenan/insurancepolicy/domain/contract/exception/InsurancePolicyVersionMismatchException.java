@@ -0,0 +1,17 @@
+package com.loenan.insurancepolicy.domain.contract.exception;
+
+import com.loenan.insurancepolicy.domain.contract.model.error.ErrorType;
+
+/**
+ * Thrown when a policy is edited from a version which is not its current one.
+ */
+public class InsurancePolicyVersionMismatchException extends UserInputException {
+
+    public static final String KEY = "insurance_policy_version_mismatch";
+
+    public static final String MESSAGE = "The insurance policy with id %s is not at the version required by the request";
+
+    public InsurancePolicyVersionMismatchException(Integer insurancePolicyId) {
+        super(ErrorType.OUTDATED_DATA, KEY, MESSAGE.formatted(insurancePolicyId));
+    }
+}
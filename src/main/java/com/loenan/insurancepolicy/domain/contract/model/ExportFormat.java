@@ -0,0 +1,6 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,12 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+public enum ExportLayout {
+    /**
+     * A single document, with the rows of all the partitions in id order.
+     */
+    MERGED,
+    /**
+     * One document per id range partition, packed in a ZIP archive.
+     */
+    PARTITIONED
+}
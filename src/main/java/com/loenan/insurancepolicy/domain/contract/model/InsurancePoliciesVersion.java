@@ -0,0 +1,12 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+/**
+ * Aggregate version of all the insurance policies: it is incremented each time policies are created, updated
+ * or deleted, when the change is committed.
+ *
+ * @param version The version number of the policies
+ */
+public record InsurancePoliciesVersion(
+    long version
+) {
+}
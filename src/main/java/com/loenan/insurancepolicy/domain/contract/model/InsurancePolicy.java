@@ -3,6 +3,9 @@ package com.loenan.insurancepolicy.domain.contract.model;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 
+/**
+ * @param version Incremented by each update of the policy, starting from 0
+ */
 public record InsurancePolicy(
     Integer id,
     String name,
@@ -10,6 +13,7 @@ public record InsurancePolicy(
     LocalDate startDate,
     LocalDate endDate,
     ZonedDateTime creation,
-    ZonedDateTime lastUpdate
+    ZonedDateTime lastUpdate,
+    Integer version
 ) {
 }
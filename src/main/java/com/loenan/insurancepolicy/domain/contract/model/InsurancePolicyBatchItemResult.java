@@ -0,0 +1,29 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+
+import java.util.List;
+
+/**
+ * Result of one item of a batch: either the saved insurance policy, or the validation errors of the item.
+ *
+ * @param index Position of the item in the batch
+ */
+public record InsurancePolicyBatchItemResult(
+    int index,
+    InsurancePolicy insurancePolicy,
+    List<FieldError> fieldErrors
+) {
+
+    public static InsurancePolicyBatchItemResult success(int index, InsurancePolicy insurancePolicy) {
+        return new InsurancePolicyBatchItemResult(index, insurancePolicy, List.of());
+    }
+
+    public static InsurancePolicyBatchItemResult failure(int index, List<FieldError> fieldErrors) {
+        return new InsurancePolicyBatchItemResult(index, null, fieldErrors);
+    }
+
+    public boolean isSuccess() {
+        return fieldErrors.isEmpty();
+    }
+}
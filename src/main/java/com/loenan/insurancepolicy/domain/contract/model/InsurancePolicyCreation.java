@@ -0,0 +1,13 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+/**
+ * A creation of an insurance policy recorded with its idempotency key.
+ *
+ * @param requestHash The hash of the creation request, to tell a retry from another request reusing the key
+ * @param insurancePolicy The created insurance policy, as it was returned to the first request
+ */
+public record InsurancePolicyCreation(
+    String requestHash,
+    InsurancePolicy insurancePolicy
+) {
+}
@@ -0,0 +1,36 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * Position of an insurance policy in a sorted list: the value of the sort field of the policy, and its id.
+ * Only the component of the sort field is set, the others are null.
+ * A page starting after this cursor contains the policies strictly following it in this order.
+ */
+public record InsurancePolicyCursor(
+    String name,
+    Integer id,
+    LocalDate startDate,
+    ZonedDateTime lastUpdate
+) {
+
+    /**
+     * A cursor in the list ordered by name.
+     */
+    public InsurancePolicyCursor(String name, Integer id) {
+        this(name, id, null, null);
+    }
+
+    /**
+     * @return The value of the given sort field, or null when this cursor is not a position in a list sorted by it
+     */
+    public Object valueOf(InsurancePolicyField sortField) {
+        return switch (sortField) {
+            case NAME -> name;
+            case START_DATE -> startDate;
+            case LAST_UPDATE -> lastUpdate;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+import java.io.OutputStream;
+
+/**
+ * An export of all the insurance policies, validated but not run yet, so that an invalid export is rejected
+ * before the response of the export is started.
+ */
+@FunctionalInterface
+public interface InsurancePolicyExport {
+
+    /**
+     * Run the export to the output stream, which is not closed.
+     *
+     * @return The number of exported policies
+     */
+    long writeTo(OutputStream output);
+}
@@ -0,0 +1,37 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The fields of an insurance policy which can be selected by a projection read.
+ */
+public enum InsurancePolicyField {
+    ID("id"),
+    NAME("name"),
+    STATUS("status"),
+    START_DATE("startDate"),
+    END_DATE("endDate"),
+    CREATION("creation"),
+    LAST_UPDATE("lastUpdate"),
+    VERSION("version");
+
+    private final String fieldName;
+
+    InsurancePolicyField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * @return The name of the field, as exposed by the API
+     */
+    public String fieldName() {
+        return fieldName;
+    }
+
+    public static Optional<InsurancePolicyField> fromFieldName(String fieldName) {
+        return Arrays.stream(values())
+            .filter(field -> field.fieldName.equals(fieldName))
+            .findFirst();
+    }
+}
@@ -0,0 +1,26 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+import java.time.LocalDate;
+
+/**
+ * Criteria selecting insurance policies. A null criterion is not applied.
+ * The "from" bounds are inclusive, the "before" bounds are exclusive.
+ *
+ * @param activeOn Date covered by the policies: started on or before it, and ending on or after it
+ */
+public record InsurancePolicyFilter(
+    InsurancePolicyStatus status,
+    LocalDate startDateFrom,
+    LocalDate startDateBefore,
+    LocalDate endDateFrom,
+    LocalDate endDateBefore,
+    String namePrefix,
+    LocalDate activeOn
+) {
+
+    public static final InsurancePolicyFilter NONE = new InsurancePolicyFilter(null, null, null, null, null, null, null);
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+}
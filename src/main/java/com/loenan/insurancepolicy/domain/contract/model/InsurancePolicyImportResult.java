@@ -0,0 +1,7 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+public record InsurancePolicyImportResult(
+    long importedCount,
+    long rejectedCount
+) {
+}
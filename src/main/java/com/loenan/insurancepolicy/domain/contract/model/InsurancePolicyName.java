@@ -0,0 +1,10 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+/**
+ * The name of an insurance policy, as suggested by the autocompletion.
+ */
+public record InsurancePolicyName(
+    Integer id,
+    String name
+) {
+}
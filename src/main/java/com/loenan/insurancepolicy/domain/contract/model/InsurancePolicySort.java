@@ -0,0 +1,30 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+import java.util.Set;
+
+/**
+ * Order of a list of insurance policies: by a field, then by id to break the ties, in the same direction.
+ *
+ * @param field      The sort field, one of the {@link #SORTABLE_FIELDS}
+ * @param descending Whether the policies are in descending order
+ */
+public record InsurancePolicySort(
+    InsurancePolicyField field,
+    boolean descending
+) {
+
+    /**
+     * The fields backed by an index, so that a page of a sorted list never requires sorting the table.
+     */
+    public static final Set<InsurancePolicyField> SORTABLE_FIELDS = Set.of(
+        InsurancePolicyField.NAME,
+        InsurancePolicyField.START_DATE,
+        InsurancePolicyField.LAST_UPDATE
+    );
+
+    public static final InsurancePolicySort DEFAULT = new InsurancePolicySort(InsurancePolicyField.NAME, false);
+
+    public boolean isSortable() {
+        return SORTABLE_FIELDS.contains(field);
+    }
+}
@@ -0,0 +1,15 @@
+package com.loenan.insurancepolicy.domain.contract.model;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Version of an insurance policy: it changes each time the policy is updated.
+ *
+ * @param version The version number of the policy, incremented by each update
+ */
+public record InsurancePolicyVersion(
+    Integer id,
+    ZonedDateTime lastUpdate,
+    Integer version
+) {
+}
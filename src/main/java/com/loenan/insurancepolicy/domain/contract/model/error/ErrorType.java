@@ -2,5 +2,8 @@ package com.loenan.insurancepolicy.domain.contract.model.error;
 
 public enum ErrorType {
     INVALID_DATA,
-    NOT_FOUND_DATA
+    NOT_FOUND_DATA,
+    OUTDATED_DATA,
+    CONFLICTING_DATA,
+    MISMATCHING_DATA
 }
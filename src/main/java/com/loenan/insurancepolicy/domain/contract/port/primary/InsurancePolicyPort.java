@@ -1,10 +1,25 @@
 package com.loenan.insurancepolicy.domain.contract.port.primary;
 
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePoliciesAction;
 import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePoliciesAction;
 import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.ImportInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.UpdateInsurancePoliciesStatusAction;
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.ExportInsurancePoliciesQuery;
 import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePoliciesVersionQuery;
 import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyVersionQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.StreamAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyExport;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
 
 import java.util.List;
 
@@ -12,9 +27,65 @@ public interface InsurancePolicyPort {
 
     List<InsurancePolicy> getAllInsurancePolicies(GetAllInsurancePoliciesQuery query);
 
+    /**
+     * Get the aggregate version of all the insurance policies, which changes whenever a policy is created or updated.
+     */
+    InsurancePoliciesVersion getInsurancePoliciesVersion(GetInsurancePoliciesVersionQuery query);
+
+    /**
+     * Stream all the insurance policies to the consumer of the query, with a constant memory footprint.
+     *
+     * @return The number of streamed policies
+     */
+    long streamAllInsurancePolicies(StreamAllInsurancePoliciesQuery query);
+
+    /**
+     * Validate an export of all the insurance policies, which is run later to an output stream,
+     * without building per-row objects.
+     *
+     * @return The export to run
+     */
+    InsurancePolicyExport exportInsurancePolicies(ExportInsurancePoliciesQuery query);
+
     InsurancePolicy getInsurancePolicyById(GetInsurancePolicyByIdQuery query);
 
+    /**
+     * Get the version of an insurance policy, which changes whenever the policy is updated, without loading the policy.
+     */
+    InsurancePolicyVersion getInsurancePolicyVersion(GetInsurancePolicyVersionQuery query);
+
+    /**
+     * Suggest the names starting with the prefix of the query, ignoring the case, from an in-memory index.
+     */
+    List<InsurancePolicyName> autocompleteInsurancePolicyNames(AutocompleteInsurancePolicyNamesQuery query);
+
     InsurancePolicy createInsurancePolicy(CreateInsurancePolicyAction action);
 
+    /**
+     * Create a batch of insurance policies: the valid items are created, the invalid ones are reported.
+     *
+     * @return One result per item, in the order of the action
+     */
+    List<InsurancePolicyBatchItemResult> createInsurancePolicies(CreateInsurancePoliciesAction action);
+
     InsurancePolicy editInsurancePolicy(EditInsurancePolicyAction action);
+
+    /**
+     * Edit a batch of insurance policies: the valid items of existing policies are saved, the others are reported.
+     *
+     * @return One result per item, in the order of the action
+     */
+    List<InsurancePolicyBatchItemResult> editInsurancePolicies(EditInsurancePoliciesAction action);
+
+    /**
+     * Set the status of all the insurance policies matching the filter of the action.
+     *
+     * @return The number of updated policies
+     */
+    long updateInsurancePoliciesStatus(UpdateInsurancePoliciesStatusAction action);
+
+    /**
+     * Import the insurance policies of a CSV input: the valid records are inserted, the invalid ones are reported.
+     */
+    InsurancePolicyImportResult importInsurancePolicies(ImportInsurancePoliciesAction action);
 }
@@ -0,0 +1,36 @@
+package com.loenan.insurancepolicy.domain.contract.port.primary;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking version of {@link InsurancePolicyPort}, for the reactive stack.
+ * The inputs are validated when a method is called, so an invalid input throws before any subscription;
+ * the database is only accessed once the returned publisher is subscribed.
+ */
+public interface ReactiveInsurancePolicyPort {
+
+    /**
+     * Get the insurance policies matching the query. The policies are emitted as they are read from the database,
+     * at the pace requested by the subscriber.
+     */
+    Flux<InsurancePolicy> getAllInsurancePolicies(GetAllInsurancePoliciesQuery query);
+
+    Mono<InsurancePolicy> getInsurancePolicyById(GetInsurancePolicyByIdQuery query);
+
+    /**
+     * Suggest the names starting with the prefix of the query, ignoring the case, from an in-memory index.
+     */
+    Flux<InsurancePolicyName> autocompleteInsurancePolicyNames(AutocompleteInsurancePolicyNamesQuery query);
+
+    Mono<InsurancePolicy> createInsurancePolicy(CreateInsurancePolicyAction action);
+
+    Mono<InsurancePolicy> editInsurancePolicy(EditInsurancePolicyAction action);
+}
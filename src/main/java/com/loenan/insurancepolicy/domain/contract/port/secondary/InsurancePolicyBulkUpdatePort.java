@@ -0,0 +1,19 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+
+import java.time.ZonedDateTime;
+
+public interface InsurancePolicyBulkUpdatePort {
+
+    /**
+     * Set the status of all the insurance policies matching the filter, with set-based updates.
+     * The policies are updated in chunks of bounded size, each one committed in its own transaction,
+     * so the row locks are held for a short time only.
+     *
+     * @param lastUpdate The last update date set on all the updated policies
+     * @return The number of updated policies
+     */
+    long updateStatus(InsurancePolicyFilter filter, InsurancePolicyStatus status, ZonedDateTime lastUpdate);
+}
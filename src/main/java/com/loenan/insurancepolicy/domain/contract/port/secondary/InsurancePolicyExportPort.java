@@ -0,0 +1,19 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.ExportLayout;
+
+import java.io.OutputStream;
+
+public interface InsurancePolicyExportPort {
+
+    /**
+     * Write all the insurance policies, ordered by id, to the output stream.
+     * With more than one worker, the id space is split in ranges read in parallel,
+     * all the workers sharing the same database snapshot so that the export stays consistent.
+     *
+     * @param parallelism The number of workers
+     * @return The number of exported policies
+     */
+    long exportAll(ExportFormat format, ExportLayout layout, int parallelism, OutputStream output);
+}
@@ -0,0 +1,27 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.IdempotencyKeyReuseException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+
+import java.util.function.Function;
+
+/**
+ * Cache of the creations made with an idempotency key in this instance, in front of their durable record,
+ * so that their retries are answered without a transaction. It is called outside of any transaction,
+ * as a retry may wait for the first request of its key.
+ */
+public interface InsurancePolicyIdempotencyCachePort {
+
+    /**
+     * Run the creation of a policy with an idempotency key, unless a creation with the same key is already known.
+     *
+     * @param creation The creation of the policy, only run by the first request of a key
+     * @return The policy created by the first request of the key
+     * @throws IdempotencyKeyReuseException When the key is known for another request
+     */
+    InsurancePolicy execute(
+        CreateInsurancePolicyAction action,
+        Function<CreateInsurancePolicyAction, InsurancePolicy> creation
+    ) throws IdempotencyKeyReuseException;
+}
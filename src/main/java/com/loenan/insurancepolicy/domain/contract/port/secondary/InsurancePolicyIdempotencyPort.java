@@ -0,0 +1,28 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCreation;
+
+import java.util.Optional;
+
+/**
+ * Durable record of the creations made with an idempotency key, kept for a limited time.
+ * The key is reserved and its creation recorded within the transaction of the creation,
+ * so a key is never recorded without its policy, nor a policy created twice for the same key.
+ */
+public interface InsurancePolicyIdempotencyPort {
+
+    /**
+     * Reserve a key for a creation, until the end of the current transaction. When the key is being reserved
+     * by a concurrent transaction, wait for its outcome: the key is only reserved if this transaction is rolled back.
+     *
+     * @param requestHash The hash of the creation request
+     * @return The creation recorded with the key, or nothing when the key is reserved for this creation
+     */
+    Optional<InsurancePolicyCreation> reserve(String key, String requestHash);
+
+    /**
+     * Record the policy created with a key reserved by the current transaction.
+     */
+    void complete(String key, InsurancePolicy insurancePolicy);
+}
@@ -0,0 +1,15 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface InsurancePolicyImportPort {
+
+    /**
+     * Import the insurance policies of a CSV input with set-based statements.
+     * The valid records are all inserted, the invalid ones are written to the error report with their errors.
+     */
+    InsurancePolicyImportResult importCsv(InputStream input, OutputStream errorReport);
+}
@@ -0,0 +1,37 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory index of the insurance policy names, searched by prefix without any database round trip.
+ * The changes are only applied once the current transaction, if any, is committed.
+ */
+public interface InsurancePolicyNameIndexPort {
+
+    /**
+     * Get the names starting with the prefix, ignoring the case, in the case-insensitive order of the names then ids.
+     *
+     * @param limit The maximum number of names to return
+     */
+    List<InsurancePolicyName> findByPrefix(String prefix, int limit);
+
+    /**
+     * Index the current names of saved insurance policies.
+     */
+    void index(Collection<InsurancePolicy> insurancePolicies);
+
+    /**
+     * Rebuild the whole index from the database, after policies are saved without going through {@link #index}.
+     */
+    void rebuild();
+
+    /**
+     * Rebuild the whole index from the database in the background, once the current transaction is committed,
+     * after many policies are saved without going through {@link #index}.
+     */
+    void scheduleRebuild();
+}
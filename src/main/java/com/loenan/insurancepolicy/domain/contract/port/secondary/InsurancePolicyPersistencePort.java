@@ -1,15 +1,66 @@
 package com.loenan.insurancepolicy.domain.contract.port.secondary;
 
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface InsurancePolicyPersistencePort {
 
     Optional<InsurancePolicy> getById(Integer id);
 
+    /**
+     * Get the version of an insurance policy, without loading the policy.
+     */
+    Optional<InsurancePolicyVersion> getVersionById(Integer id);
+
+    /**
+     * Get the aggregate version of all the insurance policies, without loading them.
+     */
+    InsurancePoliciesVersion getVersion();
+
     List<InsurancePolicy> getAll();
 
+    /**
+     * Get the insurance policies with the given ids, loading them with a few IN queries.
+     * The unknown ids are ignored.
+     */
+    List<InsurancePolicy> getByIds(Collection<Integer> ids);
+
+    /**
+     * Get a page of insurance policies ordered by name then id, using keyset pagination.
+     *
+     * @param after The cursor after which the page starts (null for the first page)
+     * @param limit The maximum number of policies to return
+     */
+    List<InsurancePolicy> getPage(InsurancePolicyCursor after, int limit);
+
+    /**
+     * Stream all the insurance policies ordered by name, reading them through a database cursor.
+     * The stream must be consumed inside a transaction, and closed afterward.
+     */
+    Stream<InsurancePolicy> streamAll();
+
     InsurancePolicy save(InsurancePolicy insurancePolicy);
+
+    /**
+     * Update the name, status, dates and last update of an existing insurance policy, without loading it first,
+     * and increment its version. When the given policy has a version, it is only updated if it still has this version.
+     *
+     * @return The updated policy, or nothing when no policy has this id, or when its version is not the given one
+     */
+    Optional<InsurancePolicy> update(InsurancePolicy insurancePolicy);
+
+    /**
+     * Save insurance policies with batched inserts and updates. The updated policies must still have their version:
+     * otherwise nothing is saved, and an {@link org.springframework.dao.OptimisticLockingFailureException} is thrown.
+     *
+     * @return The saved policies, in the same order, with their incremented versions
+     */
+    List<InsurancePolicy> saveAll(List<InsurancePolicy> insurancePolicies);
 }
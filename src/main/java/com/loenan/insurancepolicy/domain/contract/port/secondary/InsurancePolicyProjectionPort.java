@@ -0,0 +1,40 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads only some fields of the insurance policies, without loading the full policies:
+ * the fields which are not requested are null in the returned policies.
+ * The lists are filtered and sorted by the database.
+ */
+public interface InsurancePolicyProjectionPort {
+
+    Optional<InsurancePolicy> getById(Integer id, Set<InsurancePolicyField> fields);
+
+    /**
+     * Get all the insurance policies matching the filter, in the given order.
+     */
+    List<InsurancePolicy> getAll(InsurancePolicyFilter filter, InsurancePolicySort sort, Set<InsurancePolicyField> fields);
+
+    /**
+     * Get a page of the insurance policies matching the filter, in the given order, using keyset pagination.
+     *
+     * @param after The cursor after which the page starts (null for the first page)
+     * @param limit The maximum number of policies to return
+     */
+    List<InsurancePolicy> getPage(
+        InsurancePolicyFilter filter,
+        InsurancePolicySort sort,
+        InsurancePolicyCursor after,
+        int limit,
+        Set<InsurancePolicyField> fields
+    );
+}
@@ -0,0 +1,15 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import java.util.Collection;
+
+/**
+ * Cache of the serialized representations of the insurance policies, each one only served for the version
+ * it was written from. The evictions are only applied once the current transaction, if any, is committed.
+ */
+public interface InsurancePolicyResponseCachePort {
+
+    /**
+     * Evict the representations of updated insurance policies, which can no longer be served.
+     */
+    void evict(Collection<Integer> ids);
+}
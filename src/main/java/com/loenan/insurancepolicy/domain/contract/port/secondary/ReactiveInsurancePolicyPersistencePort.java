@@ -0,0 +1,49 @@
+package com.loenan.insurancepolicy.domain.contract.port.secondary;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Non-blocking version of {@link InsurancePolicyPersistencePort} and {@link InsurancePolicyProjectionPort},
+ * for the reactive stack: the fields which are not requested are null in the returned policies,
+ * and the lists are filtered and sorted by the database.
+ */
+public interface ReactiveInsurancePolicyPersistencePort {
+
+    Mono<InsurancePolicy> getById(Integer id, Set<InsurancePolicyField> fields);
+
+    /**
+     * Get all the insurance policies matching the filter, in the given order.
+     * The rows are fetched from the database as the subscriber requests them.
+     */
+    Flux<InsurancePolicy> getAll(InsurancePolicyFilter filter, InsurancePolicySort sort, Set<InsurancePolicyField> fields);
+
+    /**
+     * Get a page of the insurance policies matching the filter, in the given order, using keyset pagination.
+     *
+     * @param after The cursor after which the page starts (null for the first page)
+     * @param limit The maximum number of policies to return
+     */
+    Flux<InsurancePolicy> getPage(
+        InsurancePolicyFilter filter,
+        InsurancePolicySort sort,
+        InsurancePolicyCursor after,
+        int limit,
+        Set<InsurancePolicyField> fields
+    );
+
+    /**
+     * Insert a new insurance policy (without id), or update an existing one, and increment its version.
+     * An update with a version only applies when the stored policy still has this version.
+     *
+     * @return The saved policy, or nothing when the updated policy does not exist or has another version
+     */
+    Mono<InsurancePolicy> save(InsurancePolicy insurancePolicy);
+}
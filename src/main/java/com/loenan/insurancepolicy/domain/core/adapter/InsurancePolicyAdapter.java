@@ -1,15 +1,40 @@
 package com.loenan.insurancepolicy.domain.core.adapter;
 
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePoliciesAction;
 import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePoliciesAction;
 import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.ImportInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.UpdateInsurancePoliciesStatusAction;
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.ExportInsurancePoliciesQuery;
 import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePoliciesVersionQuery;
 import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyVersionQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.StreamAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyExport;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
 import com.loenan.insurancepolicy.domain.contract.port.primary.InsurancePolicyPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyIdempotencyCachePort;
+import com.loenan.insurancepolicy.domain.core.usecase.action.CreateInsurancePoliciesUseCase;
 import com.loenan.insurancepolicy.domain.core.usecase.action.CreateInsurancePolicyUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.action.EditInsurancePoliciesUseCase;
 import com.loenan.insurancepolicy.domain.core.usecase.action.EditInsurancePolicyUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.action.ImportInsurancePoliciesUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.action.UpdateInsurancePoliciesStatusUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.AutocompleteInsurancePolicyNamesUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.ExportInsurancePoliciesUseCase;
 import com.loenan.insurancepolicy.domain.core.usecase.query.GetAllInsurancePoliciesUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.GetInsurancePoliciesVersionUseCase;
 import com.loenan.insurancepolicy.domain.core.usecase.query.GetInsurancePolicyByIdUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.GetInsurancePolicyVersionUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.StreamAllInsurancePoliciesUseCase;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -19,21 +44,51 @@ import java.util.List;
 public class InsurancePolicyAdapter implements InsurancePolicyPort {
 
     private final GetAllInsurancePoliciesUseCase getAllInsurancePoliciesUseCase;
+    private final GetInsurancePoliciesVersionUseCase getInsurancePoliciesVersionUseCase;
+    private final StreamAllInsurancePoliciesUseCase streamAllInsurancePoliciesUseCase;
+    private final ExportInsurancePoliciesUseCase exportInsurancePoliciesUseCase;
     private final GetInsurancePolicyByIdUseCase getInsurancePolicyByIdUseCase;
+    private final GetInsurancePolicyVersionUseCase getInsurancePolicyVersionUseCase;
+    private final AutocompleteInsurancePolicyNamesUseCase autocompleteInsurancePolicyNamesUseCase;
     private final CreateInsurancePolicyUseCase createInsurancePolicyUseCase;
+    private final CreateInsurancePoliciesUseCase createInsurancePoliciesUseCase;
     private final EditInsurancePolicyUseCase editInsurancePolicyUseCase;
+    private final EditInsurancePoliciesUseCase editInsurancePoliciesUseCase;
+    private final UpdateInsurancePoliciesStatusUseCase updateInsurancePoliciesStatusUseCase;
+    private final ImportInsurancePoliciesUseCase importInsurancePoliciesUseCase;
+    private final InsurancePolicyIdempotencyCachePort insurancePolicyIdempotencyCachePort;
 
     @Autowired
     public InsurancePolicyAdapter(
         GetAllInsurancePoliciesUseCase getAllInsurancePoliciesUseCase,
+        GetInsurancePoliciesVersionUseCase getInsurancePoliciesVersionUseCase,
+        StreamAllInsurancePoliciesUseCase streamAllInsurancePoliciesUseCase,
+        ExportInsurancePoliciesUseCase exportInsurancePoliciesUseCase,
         GetInsurancePolicyByIdUseCase getInsurancePolicyByIdUseCase,
+        GetInsurancePolicyVersionUseCase getInsurancePolicyVersionUseCase,
+        AutocompleteInsurancePolicyNamesUseCase autocompleteInsurancePolicyNamesUseCase,
         CreateInsurancePolicyUseCase createInsurancePolicyUseCase,
-        EditInsurancePolicyUseCase editInsurancePolicyUseCase
+        CreateInsurancePoliciesUseCase createInsurancePoliciesUseCase,
+        EditInsurancePolicyUseCase editInsurancePolicyUseCase,
+        EditInsurancePoliciesUseCase editInsurancePoliciesUseCase,
+        UpdateInsurancePoliciesStatusUseCase updateInsurancePoliciesStatusUseCase,
+        ImportInsurancePoliciesUseCase importInsurancePoliciesUseCase,
+        InsurancePolicyIdempotencyCachePort insurancePolicyIdempotencyCachePort
     ) {
         this.getAllInsurancePoliciesUseCase = getAllInsurancePoliciesUseCase;
+        this.getInsurancePoliciesVersionUseCase = getInsurancePoliciesVersionUseCase;
+        this.streamAllInsurancePoliciesUseCase = streamAllInsurancePoliciesUseCase;
+        this.exportInsurancePoliciesUseCase = exportInsurancePoliciesUseCase;
         this.getInsurancePolicyByIdUseCase = getInsurancePolicyByIdUseCase;
+        this.getInsurancePolicyVersionUseCase = getInsurancePolicyVersionUseCase;
+        this.autocompleteInsurancePolicyNamesUseCase = autocompleteInsurancePolicyNamesUseCase;
         this.createInsurancePolicyUseCase = createInsurancePolicyUseCase;
+        this.createInsurancePoliciesUseCase = createInsurancePoliciesUseCase;
         this.editInsurancePolicyUseCase = editInsurancePolicyUseCase;
+        this.editInsurancePoliciesUseCase = editInsurancePoliciesUseCase;
+        this.updateInsurancePoliciesStatusUseCase = updateInsurancePoliciesStatusUseCase;
+        this.importInsurancePoliciesUseCase = importInsurancePoliciesUseCase;
+        this.insurancePolicyIdempotencyCachePort = insurancePolicyIdempotencyCachePort;
     }
 
     @Override
@@ -41,18 +96,70 @@ public class InsurancePolicyAdapter implements InsurancePolicyPort {
         return getAllInsurancePoliciesUseCase.execute(query);
     }
 
+    @Override
+    public InsurancePoliciesVersion getInsurancePoliciesVersion(GetInsurancePoliciesVersionQuery query) {
+        return getInsurancePoliciesVersionUseCase.execute(query);
+    }
+
+    @Override
+    public long streamAllInsurancePolicies(StreamAllInsurancePoliciesQuery query) {
+        return streamAllInsurancePoliciesUseCase.execute(query);
+    }
+
+    @Override
+    public InsurancePolicyExport exportInsurancePolicies(ExportInsurancePoliciesQuery query) {
+        return exportInsurancePoliciesUseCase.execute(query);
+    }
+
     @Override
     public InsurancePolicy getInsurancePolicyById(GetInsurancePolicyByIdQuery query) {
         return getInsurancePolicyByIdUseCase.execute(query);
     }
 
+    @Override
+    public InsurancePolicyVersion getInsurancePolicyVersion(GetInsurancePolicyVersionQuery query) {
+        return getInsurancePolicyVersionUseCase.execute(query);
+    }
+
+    @Override
+    public List<InsurancePolicyName> autocompleteInsurancePolicyNames(AutocompleteInsurancePolicyNamesQuery query) {
+        return autocompleteInsurancePolicyNamesUseCase.execute(query);
+    }
+
+    /**
+     * The creations with an idempotency key go through the cache before the transaction of the use case,
+     * which only runs for the first request of a key, or when the cache can not answer.
+     */
     @Override
     public InsurancePolicy createInsurancePolicy(CreateInsurancePolicyAction action) {
-        return createInsurancePolicyUseCase.execute(action);
+        if (action.idempotencyKey() == null) {
+            return createInsurancePolicyUseCase.execute(action);
+        }
+        return insurancePolicyIdempotencyCachePort.execute(action, createInsurancePolicyUseCase::execute);
+    }
+
+    @Override
+    public List<InsurancePolicyBatchItemResult> createInsurancePolicies(CreateInsurancePoliciesAction action) {
+        return createInsurancePoliciesUseCase.execute(action);
     }
 
     @Override
     public InsurancePolicy editInsurancePolicy(EditInsurancePolicyAction action) {
         return editInsurancePolicyUseCase.execute(action);
     }
+
+    @Override
+    public List<InsurancePolicyBatchItemResult> editInsurancePolicies(EditInsurancePoliciesAction action) {
+        return editInsurancePoliciesUseCase.execute(action);
+    }
+
+    @Override
+    public long updateInsurancePoliciesStatus(UpdateInsurancePoliciesStatusAction action) {
+        return updateInsurancePoliciesStatusUseCase.execute(action);
+    }
+
+    @Override
+    public InsurancePolicyImportResult importInsurancePolicies(ImportInsurancePoliciesAction action) {
+        return importInsurancePoliciesUseCase.execute(action);
+    }
 }
@@ -0,0 +1,71 @@
+package com.loenan.insurancepolicy.domain.core.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.port.primary.ReactiveInsurancePolicyPort;
+import com.loenan.insurancepolicy.domain.core.usecase.action.ReactiveCreateInsurancePolicyUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.action.ReactiveEditInsurancePolicyUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.ReactiveAutocompleteInsurancePolicyNamesUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.ReactiveGetAllInsurancePoliciesUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.ReactiveGetInsurancePolicyByIdUseCase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+public class ReactiveInsurancePolicyAdapter implements ReactiveInsurancePolicyPort {
+
+    private final ReactiveGetAllInsurancePoliciesUseCase getAllInsurancePoliciesUseCase;
+    private final ReactiveGetInsurancePolicyByIdUseCase getInsurancePolicyByIdUseCase;
+    private final ReactiveAutocompleteInsurancePolicyNamesUseCase autocompleteInsurancePolicyNamesUseCase;
+    private final ReactiveCreateInsurancePolicyUseCase createInsurancePolicyUseCase;
+    private final ReactiveEditInsurancePolicyUseCase editInsurancePolicyUseCase;
+
+    @Autowired
+    public ReactiveInsurancePolicyAdapter(
+        ReactiveGetAllInsurancePoliciesUseCase getAllInsurancePoliciesUseCase,
+        ReactiveGetInsurancePolicyByIdUseCase getInsurancePolicyByIdUseCase,
+        ReactiveAutocompleteInsurancePolicyNamesUseCase autocompleteInsurancePolicyNamesUseCase,
+        ReactiveCreateInsurancePolicyUseCase createInsurancePolicyUseCase,
+        ReactiveEditInsurancePolicyUseCase editInsurancePolicyUseCase
+    ) {
+        this.getAllInsurancePoliciesUseCase = getAllInsurancePoliciesUseCase;
+        this.getInsurancePolicyByIdUseCase = getInsurancePolicyByIdUseCase;
+        this.autocompleteInsurancePolicyNamesUseCase = autocompleteInsurancePolicyNamesUseCase;
+        this.createInsurancePolicyUseCase = createInsurancePolicyUseCase;
+        this.editInsurancePolicyUseCase = editInsurancePolicyUseCase;
+    }
+
+    @Override
+    public Flux<InsurancePolicy> getAllInsurancePolicies(GetAllInsurancePoliciesQuery query) {
+        return getAllInsurancePoliciesUseCase.execute(query);
+    }
+
+    @Override
+    public Mono<InsurancePolicy> getInsurancePolicyById(GetInsurancePolicyByIdQuery query) {
+        return getInsurancePolicyByIdUseCase.execute(query);
+    }
+
+    @Override
+    public Flux<InsurancePolicyName> autocompleteInsurancePolicyNames(AutocompleteInsurancePolicyNamesQuery query) {
+        return autocompleteInsurancePolicyNamesUseCase.execute(query);
+    }
+
+    @Override
+    public Mono<InsurancePolicy> createInsurancePolicy(CreateInsurancePolicyAction action) {
+        return createInsurancePolicyUseCase.execute(action);
+    }
+
+    @Override
+    public Mono<InsurancePolicy> editInsurancePolicy(EditInsurancePolicyAction action) {
+        return editInsurancePolicyUseCase.execute(action);
+    }
+}
@@ -12,6 +12,7 @@ public interface InsurancePolicyMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "creation", expression = "java(ZonedDateTime.now())")
     @Mapping(target = "lastUpdate", expression = "java(ZonedDateTime.now())")
+    @Mapping(target = "version", ignore = true)
     InsurancePolicy toDomain(CreateInsurancePolicyAction action);
 
     @Mapping(target = "id", source = "initial.id")
@@ -20,7 +21,14 @@ public interface InsurancePolicyMapper {
     @Mapping(target = "startDate", source = "action.startDate")
     @Mapping(target = "endDate", source = "action.endDate")
     @Mapping(target = "lastUpdate", expression = "java(ZonedDateTime.now())")
+    @Mapping(target = "version", source = "initial.version")
     InsurancePolicy toDomain(InsurancePolicy initial, EditInsurancePolicyAction action);
 
-
+    /**
+     * The edited fields of a policy, for an update which does not load it: the creation date is left null,
+     * and the version is the one the policy must still have, if any.
+     */
+    @Mapping(target = "creation", ignore = true)
+    @Mapping(target = "lastUpdate", expression = "java(ZonedDateTime.now())")
+    InsurancePolicy toDomain(EditInsurancePolicyAction action);
 }
@@ -0,0 +1,26 @@
+package com.loenan.insurancepolicy.domain.core.usecase;
+
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import org.reactivestreams.Publisher;
+
+/**
+ * Base class for the use case handlers of the reactive stack.
+ * It takes an input and returns a publisher of the result.
+ * As {@link UseCaseHandler}, this class enforces the pattern to validate the input before processing it:
+ * an invalid input throws right away, and the processing only starts when the publisher is subscribed.
+ * There is no implicit transaction: the handlers writing to the database demarcate their own one.
+ *
+ * @param <T> The input type
+ * @param <R> The publisher type of the result
+ */
+public abstract class ReactiveUseCaseHandler<T, R extends Publisher<?>> {
+
+    public R execute(T input) throws UserInputException {
+        validate(input);
+        return process(input);
+    }
+
+    protected abstract void validate(T input) throws UserInputException;
+
+    protected abstract R process(T input);
+}
@@ -0,0 +1,85 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.BatchValidationReport;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyValidation;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Create a batch of insurance policies in a single transaction.
+ * The invalid items are reported with their validation errors, the valid ones are all saved together.
+ */
+@Component
+public class CreateInsurancePoliciesUseCase extends UseCaseHandler<CreateInsurancePoliciesAction, List<InsurancePolicyBatchItemResult>> {
+
+    private static final Validator<CreateInsurancePoliciesAction> VALIDATOR = Validator.<CreateInsurancePoliciesAction>builder()
+        .mandatory(CreateInsurancePoliciesAction::insurancePolicies, InsurancePolicyFields.INSURANCE_POLICIES)
+        .collectionSize(CreateInsurancePoliciesAction::insurancePolicies, 1, InsurancePolicyFields.BATCH_MAX_SIZE, InsurancePolicyFields.INSURANCE_POLICIES)
+        .build();
+
+    private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+    private final InsurancePolicyMapper insurancePolicyMapper;
+
+    @Autowired
+    public CreateInsurancePoliciesUseCase(
+        InsurancePolicyPersistencePort insurancePolicyPersistencePort,
+        InsurancePolicyMapper insurancePolicyMapper,
+        InsurancePolicyNameIndexPort insurancePolicyNameIndexPort
+    ) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+        this.insurancePolicyMapper = insurancePolicyMapper;
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+    }
+
+    @Override
+    protected void validate(CreateInsurancePoliciesAction action) throws UserInputException {
+        VALIDATOR.validateInput(action);
+    }
+
+    @Override
+    protected List<InsurancePolicyBatchItemResult> process(CreateInsurancePoliciesAction action) {
+        List<CreateInsurancePolicyAction> items = action.insurancePolicies();
+        InsurancePolicyBatchItemResult[] results = new InsurancePolicyBatchItemResult[items.size()];
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        List<InsurancePolicy> insurancePoliciesToSave = new ArrayList<>(items.size());
+
+        BatchValidationReport validationReport = InsurancePolicyValidation.validateCreateActions(items);
+        for (int i = 0; i < items.size(); i++) {
+            List<FieldError> fieldErrors = validationReport.getFieldErrors(i);
+            if (fieldErrors.isEmpty()) {
+                validIndexes.add(i);
+                insurancePoliciesToSave.add(insurancePolicyMapper.toDomain(items.get(i)));
+            } else {
+                results[i] = InsurancePolicyBatchItemResult.failure(i, fieldErrors);
+            }
+        }
+
+        if (!insurancePoliciesToSave.isEmpty()) {
+            List<InsurancePolicy> savedInsurancePolicies = insurancePolicyPersistencePort.saveAll(insurancePoliciesToSave);
+            insurancePolicyNameIndexPort.index(savedInsurancePolicies);
+            Iterator<InsurancePolicy> savedInsurancePolicyIterator = savedInsurancePolicies.iterator();
+            for (int index : validIndexes) {
+                results[index] = InsurancePolicyBatchItemResult.success(index, savedInsurancePolicyIterator.next());
+            }
+        }
+        return Arrays.asList(results);
+    }
+}
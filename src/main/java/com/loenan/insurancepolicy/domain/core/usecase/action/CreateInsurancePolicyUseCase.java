@@ -1,47 +1,90 @@
 package com.loenan.insurancepolicy.domain.core.usecase.action;
 
 import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.IdempotencyKeyReuseException;
 import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
-import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCreation;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyIdempotencyPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
 import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
 import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
-import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
-import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyValidation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Creates an insurance policy. With an idempotency key, the key is reserved in the transaction of the creation:
+ * a retry of a committed creation gets the policy created the first time, and a retry sent while the first creation
+ * is still running waits for its outcome instead of creating a duplicate.
+ */
 @Component
 public class CreateInsurancePolicyUseCase extends UseCaseHandler<CreateInsurancePolicyAction, InsurancePolicy> {
 
     private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+    private final InsurancePolicyIdempotencyPort insurancePolicyIdempotencyPort;
     private final InsurancePolicyMapper insurancePolicyMapper;
 
     @Autowired
     public CreateInsurancePolicyUseCase(
         InsurancePolicyPersistencePort insurancePolicyPersistencePort,
-        InsurancePolicyMapper insurancePolicyMapper
+        InsurancePolicyMapper insurancePolicyMapper,
+        InsurancePolicyNameIndexPort insurancePolicyNameIndexPort,
+        InsurancePolicyIdempotencyPort insurancePolicyIdempotencyPort
     ) {
         this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
         this.insurancePolicyMapper = insurancePolicyMapper;
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+        this.insurancePolicyIdempotencyPort = insurancePolicyIdempotencyPort;
     }
 
     @Override
     protected void validate(CreateInsurancePolicyAction action) throws UserInputException {
-        ValidationUtil.validateInput(
-            ValidationUtil.validateMandatoryNotBlankString(action.name(), InsurancePolicyFields.NAME),
-            ValidationUtil.validateStringLength(action.name(), InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.NAME),
-            ValidationUtil.validateMandatoryValue(action.status(), InsurancePolicyFields.STATUS),
-            ValidationUtil.validateEnumValue(action.status(), InsurancePolicyStatus.class, InsurancePolicyFields.STATUS),
-            ValidationUtil.validateMandatoryValue(action.startDate(), InsurancePolicyFields.START_DATE),
-            ValidationUtil.validateMandatoryValue(action.endDate(), InsurancePolicyFields.END_DATE),
-            ValidationUtil.validateDateOrder(action.startDate(), action.endDate(), InsurancePolicyFields.START_DATE, InsurancePolicyFields.END_DATE)
-        );
+        InsurancePolicyValidation.CREATE_ACTION_VALIDATOR.validateInput(action);
     }
 
     @Override
     protected InsurancePolicy process(CreateInsurancePolicyAction action) {
-        return insurancePolicyPersistencePort.save(insurancePolicyMapper.toDomain(action));
+        String idempotencyKey = action.idempotencyKey();
+        if (idempotencyKey != null) {
+            String requestHash = toRequestHash(action);
+            Optional<InsurancePolicyCreation> previousCreation = insurancePolicyIdempotencyPort.reserve(idempotencyKey, requestHash);
+            if (previousCreation.isPresent()) {
+                if (!previousCreation.get().requestHash().equals(requestHash)) {
+                    throw new IdempotencyKeyReuseException(idempotencyKey);
+                }
+                return previousCreation.get().insurancePolicy();
+            }
+        }
+        InsurancePolicy savedInsurancePolicy = insurancePolicyPersistencePort.save(insurancePolicyMapper.toDomain(action));
+        if (idempotencyKey != null) {
+            insurancePolicyIdempotencyPort.complete(idempotencyKey, savedInsurancePolicy);
+        }
+        insurancePolicyNameIndexPort.index(List.of(savedInsurancePolicy));
+        return savedInsurancePolicy;
+    }
+
+    /**
+     * The hash of the content of the request, the same in any instance, so that a retry can be recognized
+     * by another instance than the one of the first request.
+     */
+    static String toRequestHash(CreateInsurancePolicyAction action) {
+        String request = String.join("\n", action.name(), action.status(),
+            action.startDate().toString(), action.endDate().toString());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(request.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is supported by every Java platform", e);
+        }
     }
 }
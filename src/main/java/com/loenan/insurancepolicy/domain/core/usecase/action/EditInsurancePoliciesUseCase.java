@@ -0,0 +1,129 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyResponseCachePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.BatchValidationReport;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyValidation;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Edit a batch of insurance policies in a single transaction.
+ * All the edited policies are loaded at once, updated in memory, then saved with batched updates.
+ * The invalid items, the unknown ids and the items not at their required version are reported with their errors,
+ * the other items are all saved together. The policies are only saved if they still have the version they were loaded
+ * with: a concurrent update of one of them fails the whole batch with a conflict.
+ */
+@Component
+public class EditInsurancePoliciesUseCase extends UseCaseHandler<EditInsurancePoliciesAction, List<InsurancePolicyBatchItemResult>> {
+
+    public static final String DUPLICATE_ID_ERROR_MESSAGE = "The insurance policy with id %s is edited more than once in the batch";
+
+    private static final Validator<EditInsurancePoliciesAction> VALIDATOR = Validator.<EditInsurancePoliciesAction>builder()
+        .mandatory(EditInsurancePoliciesAction::insurancePolicies, InsurancePolicyFields.INSURANCE_POLICIES)
+        .collectionSize(EditInsurancePoliciesAction::insurancePolicies, 1, InsurancePolicyFields.BATCH_MAX_SIZE, InsurancePolicyFields.INSURANCE_POLICIES)
+        .build();
+
+    private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+    private final InsurancePolicyResponseCachePort insurancePolicyResponseCachePort;
+    private final InsurancePolicyMapper insurancePolicyMapper;
+
+    @Autowired
+    public EditInsurancePoliciesUseCase(
+        InsurancePolicyPersistencePort insurancePolicyPersistencePort,
+        InsurancePolicyMapper insurancePolicyMapper,
+        InsurancePolicyNameIndexPort insurancePolicyNameIndexPort,
+        InsurancePolicyResponseCachePort insurancePolicyResponseCachePort
+    ) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+        this.insurancePolicyMapper = insurancePolicyMapper;
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+        this.insurancePolicyResponseCachePort = insurancePolicyResponseCachePort;
+    }
+
+    @Override
+    protected void validate(EditInsurancePoliciesAction action) throws UserInputException {
+        VALIDATOR.validateInput(action);
+    }
+
+    @Override
+    protected List<InsurancePolicyBatchItemResult> process(EditInsurancePoliciesAction action) {
+        List<EditInsurancePolicyAction> items = action.insurancePolicies();
+        InsurancePolicyBatchItemResult[] results = new InsurancePolicyBatchItemResult[items.size()];
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        Set<Integer> editedIds = new HashSet<>();
+
+        BatchValidationReport validationReport = InsurancePolicyValidation.validateEditActions(items);
+        for (int i = 0; i < items.size(); i++) {
+            List<FieldError> fieldErrors = validationReport.getFieldErrors(i);
+            if (fieldErrors.isEmpty() && !editedIds.add(items.get(i).id())) {
+                fieldErrors = List.of(new FieldError(InsurancePolicyFields.ID, DUPLICATE_ID_ERROR_MESSAGE.formatted(items.get(i).id())));
+            }
+            if (fieldErrors.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = InsurancePolicyBatchItemResult.failure(i, fieldErrors);
+            }
+        }
+
+        Map<Integer, InsurancePolicy> storedInsurancePolicies = editedIds.isEmpty()
+            ? new HashMap<>()
+            : insurancePolicyPersistencePort.getByIds(editedIds).stream()
+                .collect(Collectors.toMap(InsurancePolicy::id, Function.identity()));
+
+        List<Integer> foundIndexes = new ArrayList<>(validIndexes.size());
+        List<InsurancePolicy> insurancePoliciesToSave = new ArrayList<>(validIndexes.size());
+        for (int index : validIndexes) {
+            EditInsurancePolicyAction item = items.get(index);
+            InsurancePolicy storedInsurancePolicy = storedInsurancePolicies.get(item.id());
+            if (storedInsurancePolicy == null) {
+                results[index] = InsurancePolicyBatchItemResult.failure(index, List.of(
+                    new FieldError(InsurancePolicyFields.ID, InsurancePolicyNotFoundException.MESSAGE.formatted(item.id()))));
+            } else if (item.version() != null && !item.version().equals(storedInsurancePolicy.version())) {
+                results[index] = InsurancePolicyBatchItemResult.failure(index, List.of(
+                    new FieldError(InsurancePolicyFields.VERSION, InsurancePolicyVersionMismatchException.MESSAGE.formatted(item.id()))));
+            } else {
+                foundIndexes.add(index);
+                insurancePoliciesToSave.add(insurancePolicyMapper.toDomain(storedInsurancePolicy, item));
+            }
+        }
+
+        if (!insurancePoliciesToSave.isEmpty()) {
+            List<InsurancePolicy> savedInsurancePolicies = insurancePolicyPersistencePort.saveAll(insurancePoliciesToSave);
+            insurancePolicyNameIndexPort.index(savedInsurancePolicies);
+            insurancePolicyResponseCachePort.evict(insurancePoliciesToSave.stream()
+                .map(InsurancePolicy::id)
+                .toList());
+            Iterator<InsurancePolicy> savedInsurancePolicyIterator = savedInsurancePolicies.iterator();
+            for (int index : foundIndexes) {
+                results[index] = InsurancePolicyBatchItemResult.success(index, savedInsurancePolicyIterator.next());
+            }
+        }
+        return Arrays.asList(results);
+    }
+}
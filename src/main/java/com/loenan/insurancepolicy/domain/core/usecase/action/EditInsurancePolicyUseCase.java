@@ -2,49 +2,65 @@ package com.loenan.insurancepolicy.domain.core.usecase.action;
 
 import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
 import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
 import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
-import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyResponseCachePort;
 import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
 import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
-import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
-import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyValidation;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class EditInsurancePolicyUseCase extends UseCaseHandler<EditInsurancePolicyAction, InsurancePolicy> {
 
     private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+    private final InsurancePolicyResponseCachePort insurancePolicyResponseCachePort;
     private final InsurancePolicyMapper insurancePolicyMapper;
 
     @Autowired
-    public EditInsurancePolicyUseCase(InsurancePolicyPersistencePort insurancePolicyPersistencePort, InsurancePolicyMapper insurancePolicyMapper) {
+    public EditInsurancePolicyUseCase(
+        InsurancePolicyPersistencePort insurancePolicyPersistencePort,
+        InsurancePolicyMapper insurancePolicyMapper,
+        InsurancePolicyNameIndexPort insurancePolicyNameIndexPort,
+        InsurancePolicyResponseCachePort insurancePolicyResponseCachePort
+    ) {
         this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
         this.insurancePolicyMapper = insurancePolicyMapper;
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+        this.insurancePolicyResponseCachePort = insurancePolicyResponseCachePort;
     }
 
     @Override
     protected void validate(EditInsurancePolicyAction action) throws UserInputException {
-        ValidationUtil.validateInput(
-            ValidationUtil.validateMandatoryValue(action.id(), InsurancePolicyFields.ID),
-            ValidationUtil.validateMandatoryNotBlankString(action.name(), InsurancePolicyFields.NAME),
-            ValidationUtil.validateStringLength(action.name(), InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.NAME),
-            ValidationUtil.validateMandatoryValue(action.status(), InsurancePolicyFields.STATUS),
-            ValidationUtil.validateEnumValue(action.status(), InsurancePolicyStatus.class, InsurancePolicyFields.STATUS),
-            ValidationUtil.validateMandatoryValue(action.startDate(), InsurancePolicyFields.START_DATE),
-            ValidationUtil.validateMandatoryValue(action.endDate(), InsurancePolicyFields.END_DATE),
-            ValidationUtil.validateDateOrder(action.startDate(), action.endDate(), InsurancePolicyFields.START_DATE, InsurancePolicyFields.END_DATE)
-        );
+        InsurancePolicyValidation.EDIT_ACTION_VALIDATOR.validateInput(action);
     }
 
     @Override
     protected InsurancePolicy process(EditInsurancePolicyAction action) {
-        InsurancePolicy storedInsurancePolicy = insurancePolicyPersistencePort.getById(action.id())
-            .orElseThrow(() -> new InsurancePolicyNotFoundException(action.id()));
+        // updated without being loaded first: a missing policy, or a policy at another version, is only found out by the update
+        InsurancePolicy insurancePolicyToSave = insurancePolicyMapper.toDomain(action);
+        InsurancePolicy savedInsurancePolicy = insurancePolicyPersistencePort.update(insurancePolicyToSave)
+            .orElseThrow(() -> toUpdateFailure(action));
+        insurancePolicyNameIndexPort.index(List.of(savedInsurancePolicy));
+        insurancePolicyResponseCachePort.evict(List.of(action.id()));
+        return savedInsurancePolicy;
+    }
 
-        InsurancePolicy insurancePolicyToSave = insurancePolicyMapper.toDomain(storedInsurancePolicy, action);
-        return insurancePolicyPersistencePort.save(insurancePolicyToSave);
+    /**
+     * Without a required version, no update means that the policy does not exist. Otherwise its version is looked up,
+     * on this failure path only, to tell a missing policy from a policy updated since the required version.
+     */
+    private UserInputException toUpdateFailure(EditInsurancePolicyAction action) {
+        if (action.version() != null && insurancePolicyPersistencePort.getVersionById(action.id()).isPresent()) {
+            return new InsurancePolicyVersionMismatchException(action.id());
+        }
+        return new InsurancePolicyNotFoundException(action.id());
     }
 }
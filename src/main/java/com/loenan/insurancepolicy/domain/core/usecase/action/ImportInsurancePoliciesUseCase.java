@@ -0,0 +1,49 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.ImportInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyImportPort;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportInsurancePoliciesUseCase extends UseCaseHandler<ImportInsurancePoliciesAction, InsurancePolicyImportResult> {
+
+    private static final Validator<ImportInsurancePoliciesAction> VALIDATOR = Validator.<ImportInsurancePoliciesAction>builder()
+        .mandatory(ImportInsurancePoliciesAction::input, InsurancePolicyFields.INPUT)
+        .mandatory(ImportInsurancePoliciesAction::errorReport, InsurancePolicyFields.ERROR_REPORT)
+        .build();
+
+    private final InsurancePolicyImportPort insurancePolicyImportPort;
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+
+    @Autowired
+    public ImportInsurancePoliciesUseCase(
+        InsurancePolicyImportPort insurancePolicyImportPort,
+        InsurancePolicyNameIndexPort insurancePolicyNameIndexPort
+    ) {
+        this.insurancePolicyImportPort = insurancePolicyImportPort;
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+    }
+
+    @Override
+    protected void validate(ImportInsurancePoliciesAction action) throws UserInputException {
+        VALIDATOR.validateInput(action);
+    }
+
+    @Override
+    protected InsurancePolicyImportResult process(ImportInsurancePoliciesAction action) {
+        InsurancePolicyImportResult result = insurancePolicyImportPort.importCsv(action.input(), action.errorReport());
+        if (result.importedCount() > 0) {
+            // the imported rows never exist as domain objects: the index is reloaded from the database instead,
+            // without holding the response of the import until the whole table is read
+            insurancePolicyNameIndexPort.scheduleRebuild();
+        }
+        return result;
+    }
+}
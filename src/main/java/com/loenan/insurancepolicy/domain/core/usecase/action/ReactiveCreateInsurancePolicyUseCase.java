@@ -0,0 +1,51 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import com.loenan.insurancepolicy.domain.core.usecase.ReactiveUseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyValidation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive version of {@link CreateInsurancePolicyUseCase}. The policy is saved with a single statement,
+ * which is atomic without an explicit transaction.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveCreateInsurancePolicyUseCase extends ReactiveUseCaseHandler<CreateInsurancePolicyAction, Mono<InsurancePolicy>> {
+
+    private final ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+    private final InsurancePolicyMapper insurancePolicyMapper;
+
+    @Autowired
+    public ReactiveCreateInsurancePolicyUseCase(
+        ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort,
+        InsurancePolicyMapper insurancePolicyMapper,
+        InsurancePolicyNameIndexPort insurancePolicyNameIndexPort
+    ) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+        this.insurancePolicyMapper = insurancePolicyMapper;
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+    }
+
+    @Override
+    protected void validate(CreateInsurancePolicyAction action) throws UserInputException {
+        InsurancePolicyValidation.CREATE_ACTION_VALIDATOR.validateInput(action);
+    }
+
+    @Override
+    protected Mono<InsurancePolicy> process(CreateInsurancePolicyAction action) {
+        return Mono.defer(() -> insurancePolicyPersistencePort.save(insurancePolicyMapper.toDomain(action)))
+            .doOnNext(savedInsurancePolicy -> insurancePolicyNameIndexPort.index(List.of(savedInsurancePolicy)));
+    }
+}
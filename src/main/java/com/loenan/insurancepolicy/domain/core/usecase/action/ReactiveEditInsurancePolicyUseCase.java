@@ -0,0 +1,69 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyConflictException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import com.loenan.insurancepolicy.domain.core.usecase.ReactiveUseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyValidation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Reactive version of {@link EditInsurancePolicyUseCase}: the policy is read and saved in a single transaction.
+ * The policy is only saved if it still has the version it was read with, so a concurrent update between the read
+ * and the save is reported as a conflict instead of being overwritten.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveEditInsurancePolicyUseCase extends ReactiveUseCaseHandler<EditInsurancePolicyAction, Mono<InsurancePolicy>> {
+
+    private final ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+    private final InsurancePolicyMapper insurancePolicyMapper;
+    private final TransactionalOperator transactionalOperator;
+
+    @Autowired
+    public ReactiveEditInsurancePolicyUseCase(
+        ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort,
+        InsurancePolicyMapper insurancePolicyMapper,
+        InsurancePolicyNameIndexPort insurancePolicyNameIndexPort,
+        TransactionalOperator transactionalOperator
+    ) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+        this.insurancePolicyMapper = insurancePolicyMapper;
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @Override
+    protected void validate(EditInsurancePolicyAction action) throws UserInputException {
+        InsurancePolicyValidation.EDIT_ACTION_VALIDATOR.validateInput(action);
+    }
+
+    @Override
+    protected Mono<InsurancePolicy> process(EditInsurancePolicyAction action) {
+        Mono<InsurancePolicy> edition = insurancePolicyPersistencePort.getById(action.id(), EnumSet.allOf(InsurancePolicyField.class))
+            .switchIfEmpty(Mono.error(() -> new InsurancePolicyNotFoundException(action.id())))
+            .flatMap(storedInsurancePolicy -> action.version() == null || action.version().equals(storedInsurancePolicy.version())
+                ? Mono.just(insurancePolicyMapper.toDomain(storedInsurancePolicy, action))
+                : Mono.error(new InsurancePolicyVersionMismatchException(action.id())))
+            .flatMap(insurancePolicyToSave -> insurancePolicyPersistencePort.save(insurancePolicyToSave)
+                .switchIfEmpty(Mono.error(() -> new InsurancePolicyConflictException(action.id()))));
+        // the transactional Mono only emits the saved policy once the transaction is committed
+        return transactionalOperator.transactional(edition)
+            .doOnNext(savedInsurancePolicy -> insurancePolicyNameIndexPort.index(List.of(savedInsurancePolicy)));
+    }
+}
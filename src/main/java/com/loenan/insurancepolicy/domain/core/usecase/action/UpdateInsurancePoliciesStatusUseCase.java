@@ -0,0 +1,92 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.UpdateInsurancePoliciesStatusAction;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyBulkUpdatePort;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
+import jakarta.transaction.Transactional;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Set the status of all the insurance policies matching a filter.
+ * At least one criterion is required, so that a missing filter cannot update the whole table.
+ * A blank name prefix is no criterion (it would match every name), and is ignored.
+ */
+@Component
+public class UpdateInsurancePoliciesStatusUseCase extends UseCaseHandler<UpdateInsurancePoliciesStatusAction, Long> {
+
+    public static final String EMPTY_FILTER_ERROR_MESSAGE = "At least one filter criterion must be provided";
+
+    private static final Validator<UpdateInsurancePoliciesStatusAction> VALIDATOR = Validator.<UpdateInsurancePoliciesStatusAction>builder()
+        .mandatory(UpdateInsurancePoliciesStatusAction::newStatus, InsurancePolicyFields.NEW_STATUS)
+        .enumValue(UpdateInsurancePoliciesStatusAction::newStatus, InsurancePolicyStatus.class, InsurancePolicyFields.NEW_STATUS)
+        .enumValue(UpdateInsurancePoliciesStatusAction::status, InsurancePolicyStatus.class, InsurancePolicyFields.STATUS)
+        .maxLength(UpdateInsurancePoliciesStatusAction::namePrefix, InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.NAME_PREFIX)
+        .dateOrder(UpdateInsurancePoliciesStatusAction::startDateFrom, UpdateInsurancePoliciesStatusAction::startDateBefore,
+            InsurancePolicyFields.START_DATE_FROM, InsurancePolicyFields.START_DATE_BEFORE)
+        .dateOrder(UpdateInsurancePoliciesStatusAction::endDateFrom, UpdateInsurancePoliciesStatusAction::endDateBefore,
+            InsurancePolicyFields.END_DATE_FROM, InsurancePolicyFields.END_DATE_BEFORE)
+        .condition(UpdateInsurancePoliciesStatusUseCase::isFilterNotEmpty, InsurancePolicyFields.FILTER, EMPTY_FILTER_ERROR_MESSAGE)
+        .build();
+
+    private final InsurancePolicyBulkUpdatePort insurancePolicyBulkUpdatePort;
+
+    @Autowired
+    public UpdateInsurancePoliciesStatusUseCase(InsurancePolicyBulkUpdatePort insurancePolicyBulkUpdatePort) {
+        this.insurancePolicyBulkUpdatePort = insurancePolicyBulkUpdatePort;
+    }
+
+    /**
+     * Run outside of any transaction: each chunk is updated in its own transaction, and a transaction of the request
+     * would hold an idle connection of the pool besides the chunk one, so that concurrent bulk updates could exhaust it.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Long execute(UpdateInsurancePoliciesStatusAction action) throws UserInputException {
+        return super.execute(action);
+    }
+
+    @Override
+    protected void validate(UpdateInsurancePoliciesStatusAction action) throws UserInputException {
+        VALIDATOR.validateInput(action);
+    }
+
+    @Override
+    protected Long process(UpdateInsurancePoliciesStatusAction action) {
+        return insurancePolicyBulkUpdatePort.updateStatus(
+            toFilter(action),
+            InsurancePolicyStatus.valueOf(action.newStatus()),
+            ZonedDateTime.now(ZoneOffset.UTC)
+        );
+    }
+
+    private static boolean isFilterNotEmpty(UpdateInsurancePoliciesStatusAction action) {
+        return action.status() != null
+            || action.startDateFrom() != null
+            || action.startDateBefore() != null
+            || action.endDateFrom() != null
+            || action.endDateBefore() != null
+            || StringUtils.isNotBlank(action.namePrefix());
+    }
+
+    private static InsurancePolicyFilter toFilter(UpdateInsurancePoliciesStatusAction action) {
+        return new InsurancePolicyFilter(
+            action.status() == null ? null : InsurancePolicyStatus.valueOf(action.status()),
+            action.startDateFrom(),
+            action.startDateBefore(),
+            action.endDateFrom(),
+            action.endDateBefore(),
+            StringUtils.isBlank(action.namePrefix()) ? null : action.namePrefix(),
+            null
+        );
+    }
+}
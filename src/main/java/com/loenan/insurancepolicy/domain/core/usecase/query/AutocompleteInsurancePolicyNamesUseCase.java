@@ -0,0 +1,43 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Suggest the insurance policy names starting with a prefix, from the in-memory name index.
+ */
+@Component
+public class AutocompleteInsurancePolicyNamesUseCase extends UseCaseHandler<AutocompleteInsurancePolicyNamesQuery, List<InsurancePolicyName>> {
+
+    static final Validator<AutocompleteInsurancePolicyNamesQuery> VALIDATOR = Validator.<AutocompleteInsurancePolicyNamesQuery>builder()
+        .mandatory(AutocompleteInsurancePolicyNamesQuery::prefix, InsurancePolicyFields.PREFIX)
+        .maxLength(AutocompleteInsurancePolicyNamesQuery::prefix, InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.PREFIX)
+        .integerRange(AutocompleteInsurancePolicyNamesQuery::limit, 1, InsurancePolicyFields.AUTOCOMPLETE_LIMIT_MAX_VALUE, InsurancePolicyFields.LIMIT)
+        .build();
+
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+
+    @Autowired
+    public AutocompleteInsurancePolicyNamesUseCase(InsurancePolicyNameIndexPort insurancePolicyNameIndexPort) {
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+    }
+
+    @Override
+    protected void validate(AutocompleteInsurancePolicyNamesQuery query) throws UserInputException {
+        VALIDATOR.validateInput(query);
+    }
+
+    @Override
+    protected List<InsurancePolicyName> process(AutocompleteInsurancePolicyNamesQuery query) {
+        return insurancePolicyNameIndexPort.findByPrefix(query.prefix(), query.resultSize());
+    }
+}
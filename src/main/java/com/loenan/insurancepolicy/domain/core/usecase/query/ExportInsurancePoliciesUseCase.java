@@ -0,0 +1,58 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.ExportInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyExport;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyExportPort;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class ExportInsurancePoliciesUseCase extends UseCaseHandler<ExportInsurancePoliciesQuery, InsurancePolicyExport> {
+
+    private final InsurancePolicyExportPort insurancePolicyExportPort;
+    private final int defaultParallelism;
+    private final Validator<ExportInsurancePoliciesQuery> validator;
+
+    @Autowired
+    public ExportInsurancePoliciesUseCase(
+        InsurancePolicyExportPort insurancePolicyExportPort,
+        @Value("${insurance-policy.export.default-parallelism:1}") int defaultParallelism,
+        @Value("${insurance-policy.export.max-parallelism:8}") int maxParallelism
+    ) {
+        this.insurancePolicyExportPort = insurancePolicyExportPort;
+        this.defaultParallelism = defaultParallelism;
+        this.validator = Validator.<ExportInsurancePoliciesQuery>builder()
+            .mandatory(ExportInsurancePoliciesQuery::format, InsurancePolicyFields.FORMAT)
+            .mandatory(ExportInsurancePoliciesQuery::layout, InsurancePolicyFields.LAYOUT)
+            .integerRange(ExportInsurancePoliciesQuery::parallelism, 1, maxParallelism, InsurancePolicyFields.PARALLELISM)
+            .build();
+    }
+
+    /**
+     * Run outside of any transaction: the export opens its own connections when it is run, after the validation.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public InsurancePolicyExport execute(ExportInsurancePoliciesQuery query) throws UserInputException {
+        return super.execute(query);
+    }
+
+    @Override
+    protected void validate(ExportInsurancePoliciesQuery query) throws UserInputException {
+        validator.validateInput(query);
+    }
+
+    @Override
+    protected InsurancePolicyExport process(ExportInsurancePoliciesQuery query) {
+        int parallelism = Objects.requireNonNullElse(query.parallelism(), defaultParallelism);
+        return output -> insurancePolicyExportPort.exportAll(query.format(), query.layout(), parallelism, output);
+    }
+}
@@ -3,30 +3,103 @@ package com.loenan.insurancepolicy.domain.core.usecase.query;
 import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
 import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyProjectionPort;
 import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * Get the insurance policies matching a filter, in the requested order.
+ * The unfiltered lists of full policies in the default order are read through the persistence port,
+ * all the other lists through the projection port, which filters and sorts them with the database indexes.
+ */
 @Component
 public class GetAllInsurancePoliciesUseCase extends UseCaseHandler<GetAllInsurancePoliciesQuery, List<InsurancePolicy>> {
 
+    public static final String CURSOR_NOT_MATCHING_SORT_ERROR_MESSAGE = "The provided cursor does not match the requested sort";
+
+    static final Validator<GetAllInsurancePoliciesQuery> VALIDATOR = Validator.<GetAllInsurancePoliciesQuery>builder()
+        .integerRange(GetAllInsurancePoliciesQuery::limit, 1, InsurancePolicyFields.LIMIT_MAX_VALUE, InsurancePolicyFields.LIMIT)
+        .collectionSize(GetAllInsurancePoliciesQuery::fields, 1, InsurancePolicyField.values().length, InsurancePolicyFields.FIELDS)
+        .maxLength(query -> query.filter().namePrefix(), InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.NAME_PREFIX)
+        .dateOrder(query -> query.filter().startDateFrom(), query -> query.filter().startDateBefore(),
+            InsurancePolicyFields.START_DATE_FROM, InsurancePolicyFields.START_DATE_BEFORE)
+        .dateOrder(query -> query.filter().endDateFrom(), query -> query.filter().endDateBefore(),
+            InsurancePolicyFields.END_DATE_FROM, InsurancePolicyFields.END_DATE_BEFORE)
+        .condition(query -> query.sort().isSortable(), InsurancePolicyFields.SORT,
+            ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted(InsurancePolicyFields.SORT, InsurancePolicySort.SORTABLE_FIELDS.stream()
+                .sorted()
+                .map(InsurancePolicyField::fieldName)
+                .collect(Collectors.joining(", "))))
+        .condition(GetAllInsurancePoliciesUseCase::isCursorMatchingSort, InsurancePolicyFields.CURSOR,
+            CURSOR_NOT_MATCHING_SORT_ERROR_MESSAGE)
+        .build();
+
     private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyProjectionPort insurancePolicyProjectionPort;
 
     @Autowired
-    public GetAllInsurancePoliciesUseCase(InsurancePolicyPersistencePort insurancePolicyPersistencePort) {
+    public GetAllInsurancePoliciesUseCase(
+        InsurancePolicyPersistencePort insurancePolicyPersistencePort,
+        InsurancePolicyProjectionPort insurancePolicyProjectionPort
+    ) {
         this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+        this.insurancePolicyProjectionPort = insurancePolicyProjectionPort;
     }
 
     @Override
     protected void validate(GetAllInsurancePoliciesQuery query) throws UserInputException {
-        // nothing to validate here
+        VALIDATOR.validateInput(query);
     }
 
     @Override
     protected List<InsurancePolicy> process(GetAllInsurancePoliciesQuery query) {
-        return insurancePolicyPersistencePort.getAll();
+        if (query.isProjection() || !query.isUnfilteredDefaultOrder()) {
+            return processProjection(query);
+        }
+        if (!query.isPaged()) {
+            return insurancePolicyPersistencePort.getAll();
+        }
+        return insurancePolicyPersistencePort.getPage(query.after(), query.pageSize());
+    }
+
+    private List<InsurancePolicy> processProjection(GetAllInsurancePoliciesQuery query) {
+        Set<InsurancePolicyField> fields = fieldsToRead(query);
+        if (!query.isPaged()) {
+            return insurancePolicyProjectionPort.getAll(query.filter(), query.sort(), fields);
+        }
+        return insurancePolicyProjectionPort.getPage(query.filter(), query.sort(), query.after(), query.pageSize(), fields);
+    }
+
+    /**
+     * The requested fields (all the fields by default), plus the fields of the cursor for a page.
+     */
+    static Set<InsurancePolicyField> fieldsToRead(GetAllInsurancePoliciesQuery query) {
+        Set<InsurancePolicyField> fields = query.isProjection()
+            ? EnumSet.copyOf(query.fields())
+            : EnumSet.allOf(InsurancePolicyField.class);
+        if (query.isPaged()) {
+            // the id and the sort field of the last policy of a page make the cursor of the next page
+            fields.add(InsurancePolicyField.ID);
+            fields.add(query.sort().field());
+        }
+        return fields;
+    }
+
+    private static boolean isCursorMatchingSort(GetAllInsurancePoliciesQuery query) {
+        return query.after() == null
+            || !query.sort().isSortable()
+            || query.after().valueOf(query.sort().field()) != null;
     }
 }
@@ -0,0 +1,30 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePoliciesVersionQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetInsurancePoliciesVersionUseCase extends UseCaseHandler<GetInsurancePoliciesVersionQuery, InsurancePoliciesVersion> {
+
+    private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+
+    @Autowired
+    public GetInsurancePoliciesVersionUseCase(InsurancePolicyPersistencePort insurancePolicyPersistencePort) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+    }
+
+    @Override
+    protected void validate(GetInsurancePoliciesVersionQuery query) throws UserInputException {
+        // nothing to validate here
+    }
+
+    @Override
+    protected InsurancePoliciesVersion process(GetInsurancePoliciesVersionQuery query) {
+        return insurancePolicyPersistencePort.getVersion();
+    }
+}
@@ -4,33 +4,45 @@ import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePoli
 import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
 import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyProjectionPort;
 import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
 import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
-import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class GetInsurancePolicyByIdUseCase extends UseCaseHandler<GetInsurancePolicyByIdQuery, InsurancePolicy> {
 
+    static final Validator<GetInsurancePolicyByIdQuery> VALIDATOR = Validator.<GetInsurancePolicyByIdQuery>builder()
+        .mandatory(GetInsurancePolicyByIdQuery::id, InsurancePolicyFields.ID)
+        .collectionSize(GetInsurancePolicyByIdQuery::fields, 1, InsurancePolicyField.values().length, InsurancePolicyFields.FIELDS)
+        .build();
+
     private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+    private final InsurancePolicyProjectionPort insurancePolicyProjectionPort;
 
     @Autowired
-    public GetInsurancePolicyByIdUseCase(InsurancePolicyPersistencePort insurancePolicyPersistencePort) {
+    public GetInsurancePolicyByIdUseCase(
+        InsurancePolicyPersistencePort insurancePolicyPersistencePort,
+        InsurancePolicyProjectionPort insurancePolicyProjectionPort
+    ) {
         this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+        this.insurancePolicyProjectionPort = insurancePolicyProjectionPort;
     }
 
     @Override
     protected void validate(GetInsurancePolicyByIdQuery query) throws UserInputException {
-        ValidationUtil.validateInput(
-            ValidationUtil.validateMandatoryValue(query.id(), InsurancePolicyFields.ID)
-        );
+        VALIDATOR.validateInput(query);
     }
 
     @Override
     protected InsurancePolicy process(GetInsurancePolicyByIdQuery query) {
-        return insurancePolicyPersistencePort.getById(query.id())
+        return (query.isProjection()
+            ? insurancePolicyProjectionPort.getById(query.id(), query.fields())
+            : insurancePolicyPersistencePort.getById(query.id()))
             .orElseThrow((() -> new InsurancePolicyNotFoundException(query.id())));
     }
 }
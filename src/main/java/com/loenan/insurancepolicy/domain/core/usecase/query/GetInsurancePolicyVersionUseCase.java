@@ -0,0 +1,38 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyVersionQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GetInsurancePolicyVersionUseCase extends UseCaseHandler<GetInsurancePolicyVersionQuery, InsurancePolicyVersion> {
+
+    private static final Validator<GetInsurancePolicyVersionQuery> VALIDATOR = Validator.<GetInsurancePolicyVersionQuery>builder()
+        .mandatory(GetInsurancePolicyVersionQuery::id, InsurancePolicyFields.ID)
+        .build();
+
+    private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+
+    @Autowired
+    public GetInsurancePolicyVersionUseCase(InsurancePolicyPersistencePort insurancePolicyPersistencePort) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+    }
+
+    @Override
+    protected void validate(GetInsurancePolicyVersionQuery query) throws UserInputException {
+        VALIDATOR.validateInput(query);
+    }
+
+    @Override
+    protected InsurancePolicyVersion process(GetInsurancePolicyVersionQuery query) {
+        return insurancePolicyPersistencePort.getVersionById(query.id())
+            .orElseThrow(() -> new InsurancePolicyNotFoundException(query.id()));
+    }
+}
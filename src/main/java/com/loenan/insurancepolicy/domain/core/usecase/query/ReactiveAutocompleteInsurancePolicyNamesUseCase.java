@@ -0,0 +1,39 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.core.usecase.ReactiveUseCaseHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive version of {@link AutocompleteInsurancePolicyNamesUseCase}. The in-memory index is searched
+ * without blocking, so it is called directly, without the transaction of the blocking use case.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveAutocompleteInsurancePolicyNamesUseCase
+    extends ReactiveUseCaseHandler<AutocompleteInsurancePolicyNamesQuery, Flux<InsurancePolicyName>> {
+
+    private final InsurancePolicyNameIndexPort insurancePolicyNameIndexPort;
+
+    @Autowired
+    public ReactiveAutocompleteInsurancePolicyNamesUseCase(InsurancePolicyNameIndexPort insurancePolicyNameIndexPort) {
+        this.insurancePolicyNameIndexPort = insurancePolicyNameIndexPort;
+    }
+
+    @Override
+    protected void validate(AutocompleteInsurancePolicyNamesQuery query) throws UserInputException {
+        AutocompleteInsurancePolicyNamesUseCase.VALIDATOR.validateInput(query);
+    }
+
+    @Override
+    protected Flux<InsurancePolicyName> process(AutocompleteInsurancePolicyNamesQuery query) {
+        return Flux.defer(() -> Flux.fromIterable(
+            insurancePolicyNameIndexPort.findByPrefix(query.prefix(), query.resultSize())));
+    }
+}
@@ -0,0 +1,44 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.usecase.ReactiveUseCaseHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.Set;
+
+/**
+ * Reactive version of {@link GetAllInsurancePoliciesUseCase}: all the lists are read through the reactive
+ * persistence port, which filters and sorts them with the database indexes.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveGetAllInsurancePoliciesUseCase extends ReactiveUseCaseHandler<GetAllInsurancePoliciesQuery, Flux<InsurancePolicy>> {
+
+    private final ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort;
+
+    @Autowired
+    public ReactiveGetAllInsurancePoliciesUseCase(ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+    }
+
+    @Override
+    protected void validate(GetAllInsurancePoliciesQuery query) throws UserInputException {
+        GetAllInsurancePoliciesUseCase.VALIDATOR.validateInput(query);
+    }
+
+    @Override
+    protected Flux<InsurancePolicy> process(GetAllInsurancePoliciesQuery query) {
+        Set<InsurancePolicyField> fields = GetAllInsurancePoliciesUseCase.fieldsToRead(query);
+        if (!query.isPaged()) {
+            return insurancePolicyPersistencePort.getAll(query.filter(), query.sort(), fields);
+        }
+        return insurancePolicyPersistencePort.getPage(query.filter(), query.sort(), query.after(), query.pageSize(), fields);
+    }
+}
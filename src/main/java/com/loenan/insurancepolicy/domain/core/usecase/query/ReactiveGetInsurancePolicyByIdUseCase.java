@@ -0,0 +1,42 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.usecase.ReactiveUseCaseHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumSet;
+
+/**
+ * Reactive version of {@link GetInsurancePolicyByIdUseCase}: an unknown id is signaled as an error of the returned publisher.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveGetInsurancePolicyByIdUseCase extends ReactiveUseCaseHandler<GetInsurancePolicyByIdQuery, Mono<InsurancePolicy>> {
+
+    private final ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort;
+
+    @Autowired
+    public ReactiveGetInsurancePolicyByIdUseCase(ReactiveInsurancePolicyPersistencePort insurancePolicyPersistencePort) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+    }
+
+    @Override
+    protected void validate(GetInsurancePolicyByIdQuery query) throws UserInputException {
+        GetInsurancePolicyByIdUseCase.VALIDATOR.validateInput(query);
+    }
+
+    @Override
+    protected Mono<InsurancePolicy> process(GetInsurancePolicyByIdQuery query) {
+        return insurancePolicyPersistencePort.getById(query.id(),
+                query.isProjection() ? query.fields() : EnumSet.allOf(InsurancePolicyField.class))
+            .switchIfEmpty(Mono.error(() -> new InsurancePolicyNotFoundException(query.id())));
+    }
+}
@@ -0,0 +1,41 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.StreamAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.UserInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.usecase.UseCaseHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Component
+public class StreamAllInsurancePoliciesUseCase extends UseCaseHandler<StreamAllInsurancePoliciesQuery, Long> {
+
+    private final InsurancePolicyPersistencePort insurancePolicyPersistencePort;
+
+    @Autowired
+    public StreamAllInsurancePoliciesUseCase(InsurancePolicyPersistencePort insurancePolicyPersistencePort) {
+        this.insurancePolicyPersistencePort = insurancePolicyPersistencePort;
+    }
+
+    @Override
+    protected void validate(StreamAllInsurancePoliciesQuery query) throws UserInputException {
+        // nothing to validate here
+    }
+
+    @Override
+    protected Long process(StreamAllInsurancePoliciesQuery query) {
+        long count = 0;
+        try (Stream<InsurancePolicy> insurancePolicies = insurancePolicyPersistencePort.streamAll()) {
+            Iterator<InsurancePolicy> iterator = insurancePolicies.iterator();
+            while (iterator.hasNext()) {
+                query.consumer().accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,60 @@
+package com.loenan.insurancepolicy.domain.core.validation;
+
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Validation errors of a batch, indexed by position in the batch.
+ * Only the invalid items are stored (sorted by index), so the report of a valid batch is empty whatever its size.
+ */
+public class BatchValidationReport {
+
+    private final int size;
+    private final int[] invalidIndexes;
+    private final List<List<FieldError>> fieldErrors;
+
+    BatchValidationReport(int size, int[] invalidIndexes, List<List<FieldError>> fieldErrors) {
+        this.size = size;
+        this.invalidIndexes = invalidIndexes;
+        this.fieldErrors = fieldErrors;
+    }
+
+    /**
+     * @return The number of validated items
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of invalid items
+     */
+    public int invalidCount() {
+        return invalidIndexes.length;
+    }
+
+    public boolean isValid() {
+        return invalidIndexes.length == 0;
+    }
+
+    public boolean isValid(int index) {
+        return Arrays.binarySearch(invalidIndexes, index) < 0;
+    }
+
+    /**
+     * @return The validation errors of the item at this index, empty for a valid item
+     */
+    public List<FieldError> getFieldErrors(int index) {
+        int position = Arrays.binarySearch(invalidIndexes, index);
+        return position < 0 ? List.of() : fieldErrors.get(position);
+    }
+
+    /**
+     * @return The indexes of the invalid items, in increasing order
+     */
+    public int[] getInvalidIndexes() {
+        return invalidIndexes.clone();
+    }
+}
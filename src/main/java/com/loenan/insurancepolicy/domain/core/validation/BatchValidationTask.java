@@ -0,0 +1,96 @@
+package com.loenan.insurancepolicy.domain.core.validation;
+
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Validates a range of the items of a batch, splitting it in halves validated in parallel while it is larger than the threshold.
+ * The errors of the left half are followed by the ones of the right half, so they stay sorted by index.
+ */
+class BatchValidationTask<T> extends RecursiveTask<BatchValidationTask.Errors> {
+
+    private final List<T> items;
+    private final int start;
+    private final int end;
+    private final int threshold;
+    private final Function<T, List<FieldError>> validator;
+    private final List<FieldError> nullItemErrors;
+
+    BatchValidationTask(
+        List<T> items,
+        int start,
+        int end,
+        int threshold,
+        Function<T, List<FieldError>> validator,
+        List<FieldError> nullItemErrors
+    ) {
+        this.items = items;
+        this.start = start;
+        this.end = end;
+        this.threshold = threshold;
+        this.validator = validator;
+        this.nullItemErrors = nullItemErrors;
+    }
+
+    @Override
+    protected Errors compute() {
+        if (end - start <= threshold) {
+            return validateRange();
+        }
+        int middle = (start + end) >>> 1;
+        BatchValidationTask<T> left = new BatchValidationTask<>(items, start, middle, threshold, validator, nullItemErrors);
+        BatchValidationTask<T> right = new BatchValidationTask<>(items, middle, end, threshold, validator, nullItemErrors);
+        left.fork();
+        Errors rightErrors = right.compute();
+        return left.join().append(rightErrors);
+    }
+
+    private Errors validateRange() {
+        Errors errors = new Errors();
+        for (int i = start; i < end; i++) {
+            T item = items.get(i);
+            List<FieldError> fieldErrors = item == null ? nullItemErrors : validator.apply(item);
+            if (!fieldErrors.isEmpty()) {
+                errors.add(i, fieldErrors);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * The errors of the invalid items of a range, sorted by index.
+     */
+    static class Errors {
+
+        private int[] indexes = new int[0];
+        private int count;
+        private final List<List<FieldError>> fieldErrors = new ArrayList<>();
+
+        void add(int index, List<FieldError> itemFieldErrors) {
+            if (count == indexes.length) {
+                indexes = Arrays.copyOf(indexes, Math.max(8, count * 2));
+            }
+            indexes[count++] = index;
+            fieldErrors.add(itemFieldErrors);
+        }
+
+        Errors append(Errors other) {
+            if (other.count > 0) {
+                indexes = Arrays.copyOf(indexes, count + other.count);
+                System.arraycopy(other.indexes, 0, indexes, count, other.count);
+                count += other.count;
+                fieldErrors.addAll(other.fieldErrors);
+            }
+            return this;
+        }
+
+        BatchValidationReport toReport(int size) {
+            return new BatchValidationReport(size, Arrays.copyOf(indexes, count), fieldErrors);
+        }
+    }
+}
@@ -7,4 +7,29 @@ public interface InsurancePolicyFields {
     String STATUS = "status";
     String START_DATE = "startDate";
     String END_DATE = "endDate";
+    String VERSION = "version";
+    String IDEMPOTENCY_KEY = "idempotencyKey";
+    int IDEMPOTENCY_KEY_MAX_LENGTH = 255;
+    String CURSOR = "cursor";
+    String LIMIT = "limit";
+    String FIELDS = "fields";
+    int LIMIT_MAX_VALUE = 1000;
+    String FORMAT = "format";
+    String LAYOUT = "layout";
+    String PARALLELISM = "parallelism";
+    String INSURANCE_POLICIES = "insurancePolicies";
+    int BATCH_MAX_SIZE = 1000;
+    String FILTER = "filter";
+    String NEW_STATUS = "newStatus";
+    String NAME_PREFIX = "namePrefix";
+    String START_DATE_FROM = "startDateFrom";
+    String START_DATE_BEFORE = "startDateBefore";
+    String END_DATE_FROM = "endDateFrom";
+    String END_DATE_BEFORE = "endDateBefore";
+    String ACTIVE_ON = "activeOn";
+    String SORT = "sort";
+    String PREFIX = "prefix";
+    int AUTOCOMPLETE_LIMIT_MAX_VALUE = 100;
+    String INPUT = "input";
+    String ERROR_REPORT = "errorReport";
 }
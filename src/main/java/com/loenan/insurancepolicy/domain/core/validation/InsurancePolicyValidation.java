@@ -0,0 +1,65 @@
+package com.loenan.insurancepolicy.domain.core.validation;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+
+/**
+ * Validation rules of the insurance policy content, shared by the single and the batch use cases.
+ */
+public class InsurancePolicyValidation {
+
+    public static final Validator<CreateInsurancePolicyAction> CREATE_ACTION_VALIDATOR = Validator.<CreateInsurancePolicyAction>builder()
+        .mandatoryNotBlank(CreateInsurancePolicyAction::name, InsurancePolicyFields.NAME)
+        .maxLength(CreateInsurancePolicyAction::name, InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.NAME)
+        .mandatory(CreateInsurancePolicyAction::status, InsurancePolicyFields.STATUS)
+        .enumValue(CreateInsurancePolicyAction::status, InsurancePolicyStatus.class, InsurancePolicyFields.STATUS)
+        .mandatory(CreateInsurancePolicyAction::startDate, InsurancePolicyFields.START_DATE)
+        .mandatory(CreateInsurancePolicyAction::endDate, InsurancePolicyFields.END_DATE)
+        .dateOrder(CreateInsurancePolicyAction::startDate, CreateInsurancePolicyAction::endDate,
+            InsurancePolicyFields.START_DATE, InsurancePolicyFields.END_DATE)
+        .condition(action -> action.idempotencyKey() == null || StringUtils.isNotBlank(action.idempotencyKey()),
+            InsurancePolicyFields.IDEMPOTENCY_KEY,
+            ValidationUtil.BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.IDEMPOTENCY_KEY))
+        .maxLength(CreateInsurancePolicyAction::idempotencyKey, InsurancePolicyFields.IDEMPOTENCY_KEY_MAX_LENGTH,
+            InsurancePolicyFields.IDEMPOTENCY_KEY)
+        .build();
+
+    public static final Validator<EditInsurancePolicyAction> EDIT_ACTION_VALIDATOR = Validator.<EditInsurancePolicyAction>builder()
+        .mandatory(EditInsurancePolicyAction::id, InsurancePolicyFields.ID)
+        .mandatoryNotBlank(EditInsurancePolicyAction::name, InsurancePolicyFields.NAME)
+        .maxLength(EditInsurancePolicyAction::name, InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.NAME)
+        .mandatory(EditInsurancePolicyAction::status, InsurancePolicyFields.STATUS)
+        .enumValue(EditInsurancePolicyAction::status, InsurancePolicyStatus.class, InsurancePolicyFields.STATUS)
+        .mandatory(EditInsurancePolicyAction::startDate, InsurancePolicyFields.START_DATE)
+        .mandatory(EditInsurancePolicyAction::endDate, InsurancePolicyFields.END_DATE)
+        .dateOrder(EditInsurancePolicyAction::startDate, EditInsurancePolicyAction::endDate,
+            InsurancePolicyFields.START_DATE, InsurancePolicyFields.END_DATE)
+        .build();
+
+    public static List<FieldError> validateCreateAction(CreateInsurancePolicyAction action) {
+        return CREATE_ACTION_VALIDATOR.validate(action);
+    }
+
+    /**
+     * Validate a batch of creations, reporting the errors of every invalid item (a null item is reported as missing).
+     */
+    public static BatchValidationReport validateCreateActions(List<CreateInsurancePolicyAction> actions) {
+        return CREATE_ACTION_VALIDATOR.validateBatch(actions, InsurancePolicyFields.INSURANCE_POLICIES);
+    }
+
+    public static List<FieldError> validateEditAction(EditInsurancePolicyAction action) {
+        return EDIT_ACTION_VALIDATOR.validate(action);
+    }
+
+    /**
+     * Validate a batch of edits, reporting the errors of every invalid item (a null item is reported as missing).
+     */
+    public static BatchValidationReport validateEditActions(List<EditInsurancePolicyAction> actions) {
+        return EDIT_ACTION_VALIDATOR.validateBatch(actions, InsurancePolicyFields.INSURANCE_POLICIES);
+    }
+}
@@ -2,98 +2,64 @@ package com.loenan.insurancepolicy.domain.core.validation;
 
 import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
 import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
-import org.apache.commons.lang3.EnumUtils;
-import org.apache.commons.lang3.StringUtils;
 
-import java.time.LocalDate;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.function.BooleanSupplier;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
+/**
+ * Validation messages and helpers shared by the {@link Validator} of each command type.
+ */
 public class ValidationUtil {
 
     public static final String NO_VALUE_PROVIDED_ERROR_MESSAGE = "No value was provided for the required field %s";
     public static final String BLANK_STRING_PROVIDED_ERROR_MESSAGE = "The provided value was blank for the field %s";
     public static final String STRING_VALUE_TOO_LONG_ERROR_MESSAGE = "The field %s cannot contain more then %d characters";
     public static final String INVALID_ENUM_VALUE_ERROR_MESSAGE = "The value for the field %s can only one of: %s";
+    public static final String INVALID_DATE_ERROR_MESSAGE = "The value for the field %s is not a valid date";
     public static final String INVALID_DATE_ORDER_ERROR_MESSAGE = "The date value for the field %s must be after the value of the field %s";
+    public static final String INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE = "The value for the field %s must be between %d and %d";
+    public static final String COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE = "The field %s must contain between %d and %d elements";
 
-    @SafeVarargs
-    public static void validateInput(Optional<FieldError>... fieldErrors) throws InvalidInputException {
-        List<FieldError> errors = Arrays.stream(fieldErrors)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .toList();
-        if (!errors.isEmpty()) {
-            throw new InvalidInputException(errors);
-        }
-    }
-
-    public static Optional<FieldError> validateMandatoryValue(Object fieldValue, String fieldName) {
-        return validate(
-            fieldName,
-            () -> Objects.nonNull(fieldValue),
-            () -> NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName)
-        );
-    }
-
-    public static Optional<FieldError> validateMandatoryNotBlankString(String fieldValue, String fieldName) {
-        return validateMandatoryValue(fieldValue, fieldName)
-            .or(() -> validate(
-                fieldName,
-                () -> StringUtils.isNotBlank(fieldValue),
-                () -> BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted(fieldName)
-            ));
-    }
+    /**
+     * Number of items under which a batch is validated by the calling thread only.
+     */
+    public static final int PARALLEL_BATCH_VALIDATION_THRESHOLD = 4096;
 
-    public static Optional<FieldError> validateStringLength(String fieldValue, int maxLength, String fieldName) {
-        return validate(
-            fieldName,
-            () -> Objects.isNull(fieldValue) || fieldValue.length() <= maxLength,
-            () -> STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted(fieldName, maxLength)
-        );
-    }
-
-    public static <T extends Enum<T>> Optional<FieldError> validateEnumValue(String fieldValue, Class<T> enumType, String fieldName) {
-        return validate(
-            fieldName,
-            () -> Objects.isNull(fieldValue) || EnumUtils.isValidEnum(enumType, fieldValue),
-            () -> INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted(fieldName, getValidEnumValues(enumType))
-        );
-    }
-
-    private static <T extends Enum<T>> String getValidEnumValues(Class<T> enumType) {
-        return EnumUtils.getEnumList(enumType).stream()
-            .map(Enum::name)
-            .collect(Collectors.joining(", "));
+    public static void validateInput(List<FieldError> fieldErrors) throws InvalidInputException {
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidInputException(fieldErrors);
+        }
     }
 
-    public static Optional<FieldError> validateDateOrder(
-        LocalDate startDate,
-        LocalDate endDate,
-        String startDateFieldName,
-        String endDateFieldName
+    /**
+     * Validate all the items of a batch, without throwing: the errors are reported by index of the item.
+     * A null item is reported as a missing value of the batch field.
+     * A batch larger than {@link #PARALLEL_BATCH_VALIDATION_THRESHOLD} is split in ranges validated in parallel
+     * on the common fork/join pool, so the validator must not depend on the calling thread.
+     */
+    public static <T> BatchValidationReport validateBatch(
+        List<T> items,
+        Function<T, List<FieldError>> validator,
+        String fieldName
     ) {
-        return validate(
-            endDateFieldName,
-            () -> Objects.isNull(startDate) || Objects.isNull(endDate) || endDate.isAfter(startDate),
-            () -> INVALID_DATE_ORDER_ERROR_MESSAGE.formatted(endDateFieldName, startDateFieldName)
-        );
+        return validateBatch(items, validator, fieldName, PARALLEL_BATCH_VALIDATION_THRESHOLD);
     }
 
-    private static Optional<FieldError> validate(
+    static <T> BatchValidationReport validateBatch(
+        List<T> items,
+        Function<T, List<FieldError>> validator,
         String fieldName,
-        BooleanSupplier condition,
-        Supplier<String> errorMessageSupplier
+        int threshold
     ) {
-        if (condition.getAsBoolean()) {
-            return Optional.empty();
-        } else {
-            return Optional.of(new FieldError(fieldName, errorMessageSupplier.get()));
-        }
+        List<T> indexedItems = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        List<FieldError> nullItemErrors = List.of(new FieldError(fieldName, NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName)));
+        BatchValidationTask<T> task = new BatchValidationTask<>(indexedItems, 0, indexedItems.size(), threshold, validator, nullItemErrors);
+        BatchValidationTask.Errors errors = indexedItems.size() <= threshold
+            ? task.compute()
+            : ForkJoinPool.commonPool().invoke(task);
+        return errors.toReport(indexedItems.size());
     }
 }
@@ -0,0 +1,183 @@
+package com.loenan.insurancepolicy.domain.core.validation;
+
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Validation rules of a command type, built once and shared by all the validations of this type.
+ * <p>
+ * Each rule returns either null or a field error built with the validator, with its message already formatted,
+ * and the error list is only created at the first failing rule: validating a valid command allocates nothing.
+ *
+ * @param <T> The validated type
+ */
+public final class Validator<T> {
+
+    private final Rule<T>[] rules;
+
+    private Validator(Rule<T>[] rules) {
+        this.rules = rules;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return The errors of all the failing rules, in the order of the rules, or an empty list
+     */
+    public List<FieldError> validate(T value) {
+        List<FieldError> fieldErrors = null;
+        for (Rule<T> rule : rules) {
+            FieldError fieldError = rule.check(value);
+            if (fieldError != null) {
+                if (fieldErrors == null) {
+                    fieldErrors = new ArrayList<>(rules.length);
+                }
+                fieldErrors.add(fieldError);
+            }
+        }
+        return fieldErrors == null ? List.of() : fieldErrors;
+    }
+
+    /**
+     * @throws InvalidInputException With the errors of all the failing rules, if any
+     */
+    public void validateInput(T value) throws InvalidInputException {
+        ValidationUtil.validateInput(validate(value));
+    }
+
+    /**
+     * Validate all the items of a batch with these rules, see {@link ValidationUtil#validateBatch(List, Function, String)}.
+     */
+    public BatchValidationReport validateBatch(List<T> values, String fieldName) {
+        return ValidationUtil.validateBatch(values, this::validate, fieldName);
+    }
+
+    /**
+     * A validation rule.
+     */
+    @FunctionalInterface
+    public interface Rule<T> {
+
+        /**
+         * @return The error of the value, or null if the value is valid
+         */
+        FieldError check(T value);
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Rule<T>> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> mandatory(Function<T, ?> getter, String fieldName) {
+            FieldError fieldError = new FieldError(fieldName, ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName));
+            return rule(value -> getter.apply(value) == null ? fieldError : null);
+        }
+
+        /**
+         * A missing value and a blank value are reported with distinct messages.
+         */
+        public Builder<T> mandatoryNotBlank(Function<T, String> getter, String fieldName) {
+            FieldError missingFieldError = new FieldError(fieldName, ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName));
+            FieldError blankFieldError = new FieldError(fieldName, ValidationUtil.BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted(fieldName));
+            return rule(value -> {
+                String fieldValue = getter.apply(value);
+                if (fieldValue == null) {
+                    return missingFieldError;
+                }
+                return StringUtils.isBlank(fieldValue) ? blankFieldError : null;
+            });
+        }
+
+        public Builder<T> maxLength(Function<T, String> getter, int maxLength, String fieldName) {
+            FieldError fieldError = new FieldError(fieldName, ValidationUtil.STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted(fieldName, maxLength));
+            return rule(value -> {
+                String fieldValue = getter.apply(value);
+                return fieldValue != null && fieldValue.length() > maxLength ? fieldError : null;
+            });
+        }
+
+        public Builder<T> integerRange(Function<T, Integer> getter, int minValue, int maxValue, String fieldName) {
+            FieldError fieldError = new FieldError(fieldName,
+                ValidationUtil.INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE.formatted(fieldName, minValue, maxValue));
+            return rule(value -> {
+                Integer fieldValue = getter.apply(value);
+                return fieldValue != null && (fieldValue < minValue || fieldValue > maxValue) ? fieldError : null;
+            });
+        }
+
+        public Builder<T> collectionSize(Function<T, ? extends Collection<?>> getter, int minSize, int maxSize, String fieldName) {
+            FieldError fieldError = new FieldError(fieldName,
+                ValidationUtil.COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE.formatted(fieldName, minSize, maxSize));
+            return rule(value -> {
+                Collection<?> fieldValue = getter.apply(value);
+                return fieldValue != null && (fieldValue.size() < minSize || fieldValue.size() > maxSize) ? fieldError : null;
+            });
+        }
+
+        /**
+         * The value must be the exact name of a constant of the enum (a null value is accepted).
+         */
+        public <E extends Enum<E>> Builder<T> enumValue(Function<T, String> getter, Class<E> enumType, String fieldName) {
+            E[] constants = enumType.getEnumConstants();
+            Set<String> validNames = Arrays.stream(constants).map(Enum::name).collect(Collectors.toUnmodifiableSet());
+            FieldError fieldError = new FieldError(fieldName, ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted(fieldName,
+                Arrays.stream(constants).map(Enum::name).collect(Collectors.joining(", "))));
+            return rule(value -> {
+                String fieldValue = getter.apply(value);
+                return fieldValue != null && !validNames.contains(fieldValue) ? fieldError : null;
+            });
+        }
+
+        /**
+         * The end date must be after the start date, when both are provided.
+         */
+        public Builder<T> dateOrder(
+            Function<T, LocalDate> startDateGetter,
+            Function<T, LocalDate> endDateGetter,
+            String startDateFieldName,
+            String endDateFieldName
+        ) {
+            FieldError fieldError = new FieldError(endDateFieldName,
+                ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE.formatted(endDateFieldName, startDateFieldName));
+            return rule(value -> {
+                LocalDate startDate = startDateGetter.apply(value);
+                LocalDate endDate = endDateGetter.apply(value);
+                return startDate != null && endDate != null && !endDate.isAfter(startDate) ? fieldError : null;
+            });
+        }
+
+        /**
+         * A rule specific to the validated type, failing with the given error when the condition is false.
+         */
+        public Builder<T> condition(Predicate<T> condition, String fieldName, String errorMessage) {
+            FieldError fieldError = new FieldError(fieldName, errorMessage);
+            return rule(value -> condition.test(value) ? null : fieldError);
+        }
+
+        public Builder<T> rule(Rule<T> rule) {
+            rules.add(rule);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public Validator<T> build() {
+            return new Validator<>(rules.toArray(Rule[]::new));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.loenan.insurancepolicy.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.IdempotencyKeyReuseException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyIdempotencyCachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Holds the creations made with an idempotency key in this instance, so that their retries are answered
+ * without a transaction nor a database round trip:
+ * <ul>
+ *     <li>a retry of a completed creation gets the policy created the first time,</li>
+ *     <li>a retry sent while the first creation is running waits for it, and gets its policy once it is committed;
+ *     after {@code insurance-policy.idempotency.cache-wait-timeout}, it runs the creation itself, which finds
+ *     the durable record of the first one,</li>
+ *     <li>a failed creation is forgotten, and its waiting retries run the creation again, one of them at a time.</li>
+ * </ul>
+ * The creations are kept for the lifetime of their keys, bounded by {@code insurance-policy.idempotency.cache-max-size}
+ * entries. The creations unknown to this instance, or evicted, are found by the durable record of the use case.
+ */
+@Component
+public class InsurancePolicyIdempotencyCache implements InsurancePolicyIdempotencyCachePort {
+
+    private static final String CACHE_METRIC_PREFIX = "insurance.policy.idempotency.cache";
+
+    private final Cache<String, CompletableFuture<Creation>> cache;
+    private final Counter replays;
+    private final Duration waitTimeout;
+
+    @Autowired
+    public InsurancePolicyIdempotencyCache(
+        MeterRegistry meterRegistry,
+        @Value("${insurance-policy.idempotency.ttl:24h}") Duration ttl,
+        @Value("${insurance-policy.idempotency.cache-max-size:10000}") long maxSize,
+        @Value("${insurance-policy.idempotency.cache-wait-timeout:5s}") Duration waitTimeout
+    ) {
+        this.waitTimeout = waitTimeout;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .build();
+        this.replays = Counter.builder(CACHE_METRIC_PREFIX + ".replays")
+            .description("Insurance policy creations answered from the idempotency cache")
+            .register(meterRegistry);
+
+        Gauge.builder(CACHE_METRIC_PREFIX + ".entries", cache, Cache::estimatedSize)
+            .description("Insurance policy creations in the idempotency cache")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public InsurancePolicy execute(
+        CreateInsurancePolicyAction action,
+        Function<CreateInsurancePolicyAction, InsurancePolicy> creation
+    ) throws IdempotencyKeyReuseException {
+        String idempotencyKey = action.idempotencyKey();
+        while (true) {
+            CompletableFuture<Creation> newCreation = new CompletableFuture<>();
+            CompletableFuture<Creation> currentCreation = cache.asMap().putIfAbsent(idempotencyKey, newCreation);
+            if (currentCreation == null) {
+                return create(action, creation, newCreation);
+            }
+            Creation completedCreation;
+            try {
+                completedCreation = currentCreation.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | CancellationException e) {
+                // the first request failed, and removed its entry: this retry may now be the first one
+                continue;
+            } catch (TimeoutException e) {
+                // the first request is stuck: the durable record waits for it, or takes over its expired key
+                return creation.apply(action);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the creation with the idempotency key "
+                    + idempotencyKey, e);
+            }
+            if (!completedCreation.action().equals(action)) {
+                throw new IdempotencyKeyReuseException(idempotencyKey);
+            }
+            replays.increment();
+            return completedCreation.insurancePolicy();
+        }
+    }
+
+    private InsurancePolicy create(
+        CreateInsurancePolicyAction action,
+        Function<CreateInsurancePolicyAction, InsurancePolicy> creation,
+        CompletableFuture<Creation> newCreation
+    ) {
+        try {
+            InsurancePolicy insurancePolicy = creation.apply(action);
+            newCreation.complete(new Creation(action, insurancePolicy));
+            return insurancePolicy;
+        } catch (RuntimeException | Error e) {
+            // removed before the waiting retries are woken up, so that they do not find it again
+            cache.asMap().remove(action.idempotencyKey(), newCreation);
+            newCreation.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * A creation completed by this instance, with the request it was made for.
+     */
+    private record Creation(CreateInsurancePolicyAction action, InsurancePolicy insurancePolicy) {
+    }
+}
@@ -0,0 +1,156 @@
+package com.loenan.insurancepolicy.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyResponseCachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the JSON representations of the insurance policies, raw and compressed with gzip, so that the reads of
+ * an unchanged policy are served without loading, mapping nor encoding it:
+ * <ul>
+ *     <li>an entry is only served for the version number of the policy it was written from, which every edition
+ *     increments, so a stale entry is never served, even when its eviction is missed or delayed,</li>
+ *     <li>the entries of the edited policies are evicted once their transaction is committed,</li>
+ *     <li>the cache is bounded by the bytes it holds, and evicts the least frequently read entries beyond it.</li>
+ * </ul>
+ * The hits and misses, the hit ratio, the bytes held and the size evictions are published as metrics.
+ */
+@Component
+public class InsurancePolicyResponseCache implements InsurancePolicyResponseCachePort {
+
+    private static final String CACHE_METRIC_PREFIX = "insurance.policy.response.cache";
+
+    // estimated heap of an entry besides its bodies: key, cache node, response record and array headers
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Cache<Integer, CachedResponse> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public InsurancePolicyResponseCache(
+        MeterRegistry meterRegistry,
+        @Value("${insurance-policy.response-cache.max-size:64MB}") DataSize maxSize
+    ) {
+        Counter evictions = Counter.builder(CACHE_METRIC_PREFIX + ".evictions")
+            .description("Insurance policy responses evicted from the cache to stay within its maximum size")
+            .register(meterRegistry);
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Integer id, CachedResponse response) -> response.weight())
+            .evictionListener((id, response, cause) -> evictions.increment())
+            .build();
+        this.hits = Counter.builder(CACHE_METRIC_PREFIX + ".requests")
+            .tag("result", "hit")
+            .description("Insurance policy responses looked up in the cache")
+            .register(meterRegistry);
+        this.misses = Counter.builder(CACHE_METRIC_PREFIX + ".requests")
+            .tag("result", "miss")
+            .description("Insurance policy responses looked up in the cache")
+            .register(meterRegistry);
+
+        Gauge.builder(CACHE_METRIC_PREFIX + ".hit.ratio", this, InsurancePolicyResponseCache::hitRatio)
+            .description("Ratio of the insurance policy responses served from the cache")
+            .register(meterRegistry);
+        Gauge.builder(CACHE_METRIC_PREFIX + ".memory", this, InsurancePolicyResponseCache::memoryBytes)
+            .description("Bytes held by the insurance policy response cache, bodies and estimated overhead")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder(CACHE_METRIC_PREFIX + ".entries", cache, Cache::estimatedSize)
+            .description("Insurance policy responses in the cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param version The current version of the policy
+     * @return The response of the policy at this version, or null when it is not cached
+     */
+    @Nullable
+    public CachedResponse get(Integer id, int version) {
+        CachedResponse response = cache.getIfPresent(id);
+        if (response == null || response.version() != version) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return response;
+    }
+
+    /**
+     * Cache the JSON representation of a policy, unless a more recent version is already cached.
+     *
+     * @param version The version of the policy the body was written from
+     * @return The cached response, with its body compressed with gzip
+     */
+    public CachedResponse put(Integer id, int version, byte[] body) {
+        CachedResponse response = new CachedResponse(version, body, gzip(body));
+        cache.asMap().merge(id, response, (cachedResponse, newResponse) ->
+            newResponse.version() < cachedResponse.version() ? cachedResponse : newResponse);
+        return response;
+    }
+
+    @Override
+    public void evict(Collection<Integer> ids) {
+        List<Integer> evictedIds = List.copyOf(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(evictedIds);
+                }
+            });
+        } else {
+            cache.invalidateAll(evictedIds);
+        }
+    }
+
+    /**
+     * The pending evictions are applied first, so that only the live entries are accounted.
+     */
+    long memoryBytes() {
+        cache.cleanUp();
+        return cache.policy().eviction().orElseThrow().weightedSize().orElse(0);
+    }
+
+    double hitRatio() {
+        double requests = hits.count() + misses.count();
+        return requests == 0 ? 0 : hits.count() / requests;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * The JSON representation of an insurance policy at a given version.
+     */
+    public record CachedResponse(int version, byte[] body, byte[] gzipBody) {
+
+        int weight() {
+            return body.length + gzipBody.length + ENTRY_OVERHEAD;
+        }
+    }
+}
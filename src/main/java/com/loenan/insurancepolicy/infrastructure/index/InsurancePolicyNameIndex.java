@@ -0,0 +1,288 @@
+package com.loenan.insurancepolicy.infrastructure.index;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Case-insensitive prefix index of the insurance policy names, searched without any lock.
+ * <p>
+ * The bulk of the names is held by an immutable snapshot: the names and their ids in two parallel arrays, sorted in
+ * the case-insensitive order of the names then by id. As the names starting with a prefix are contiguous in this
+ * order, a search is a binary search of the prefix followed by a scan of the matching range, stopped at the limit.
+ * <p>
+ * The names indexed since the snapshot are kept in a small concurrent delta, sorted in the same order, which
+ * overrides the snapshot for its ids (at most one current entry per id, the most recent version). A search merges
+ * both sorted sequences. {@link #rebuild(Loader)} folds the delta into a new snapshot, loaded from the database.
+ */
+public class InsurancePolicyNameIndex {
+
+    // Approximate sizes of the JVM objects (64-bit JVM with compressed references)
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long STRING_BYTES = 24;
+    private static final long DELTA_ENTRY_BYTES = 160;
+
+    private static final Comparator<String> NAME_ORDER = String.CASE_INSENSITIVE_ORDER;
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator.comparing(Entry::name, NAME_ORDER)
+        .thenComparingInt(Entry::id)
+        .thenComparingLong(Entry::sequence);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final NavigableSet<Entry> delta = new ConcurrentSkipListSet<>(ENTRY_ORDER);
+    private final Map<Integer, Entry> latest = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // a lock rather than a monitor: a virtual thread loading the names would otherwise pin its carrier thread
+    private final Lock rebuildLock = new ReentrantLock();
+
+    /**
+     * Index the name of a policy, unless a more recent version of this policy is already indexed.
+     *
+     * @param version The version of the policy, increasing with its updates
+     */
+    public void put(int id, String name, long version) {
+        Entry[] replaced = new Entry[1];
+        latest.compute(id, (key, current) -> {
+            if (current != null && current.version() > version) {
+                return current;
+            }
+            // the new entry is added before becoming current: a concurrent search always sees one of both entries
+            Entry entry = new Entry(id, name, version, sequence.incrementAndGet());
+            delta.add(entry);
+            replaced[0] = current;
+            return entry;
+        });
+        if (replaced[0] != null) {
+            delta.remove(replaced[0]);
+        }
+    }
+
+    /**
+     * @return The names starting with the prefix, ignoring the case, in the order of the names then ids
+     */
+    public List<InsurancePolicyName> findByPrefix(String prefix, int limit) {
+        Snapshot base = snapshot;
+        List<InsurancePolicyName> names = new ArrayList<>(Math.min(limit, 16));
+        int baseIndex = base.lowerBound(prefix);
+        Iterator<Entry> deltaEntries = delta.tailSet(new Entry(Integer.MIN_VALUE, prefix, 0, 0)).iterator();
+        Entry deltaEntry = nextCurrent(deltaEntries, prefix);
+        while (names.size() < limit) {
+            // the snapshot entries of the ids indexed since then are superseded by the delta
+            while (baseIndex < base.size() && base.matches(baseIndex, prefix) && latest.containsKey(base.ids[baseIndex])) {
+                baseIndex++;
+            }
+            boolean baseMatches = baseIndex < base.size() && base.matches(baseIndex, prefix);
+            if (!baseMatches && deltaEntry == null) {
+                break;
+            }
+            if (deltaEntry == null || baseMatches && compare(base.names[baseIndex], base.ids[baseIndex], deltaEntry) < 0) {
+                names.add(new InsurancePolicyName(base.ids[baseIndex], base.names[baseIndex]));
+                baseIndex++;
+            } else {
+                names.add(new InsurancePolicyName(deltaEntry.id(), deltaEntry.name()));
+                deltaEntry = nextCurrent(deltaEntries, prefix);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Replace the snapshot by the names loaded from the database, and remove from the delta the entries indexed
+     * before the load started (their changes were committed before, so the load includes them).
+     * The entries indexed during the load remain in the delta, as the load may have missed them.
+     */
+    public void rebuild(Loader loader) {
+        rebuildLock.lock();
+        try {
+            long loadSequence = sequence.get();
+            Builder builder = new Builder();
+            loader.load(builder);
+            snapshot = builder.build();
+            for (Entry entry : latest.values()) {
+                if (entry.sequence() <= loadSequence && latest.remove(entry.id(), entry)) {
+                    delta.remove(entry);
+                }
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of current entries (snapshot entries superseded by the delta are counted once)
+     */
+    public long size() {
+        return snapshot.size() + latest.size();
+    }
+
+    /**
+     * @return The number of ids indexed since the last snapshot
+     */
+    public int deltaSize() {
+        return latest.size();
+    }
+
+    /**
+     * @return An estimate of the heap retained by the index, in bytes
+     */
+    public long memoryBytes() {
+        long deltaBytes = 0;
+        for (Entry entry : latest.values()) {
+            deltaBytes += DELTA_ENTRY_BYTES + stringBytes(entry.name());
+        }
+        return snapshot.memoryBytes + deltaBytes;
+    }
+
+    private Entry nextCurrent(Iterator<Entry> entries, String prefix) {
+        while (entries.hasNext()) {
+            Entry entry = entries.next();
+            if (!entry.name().regionMatches(true, 0, prefix, 0, prefix.length())) {
+                return null;
+            }
+            // an entry replaced by a more recent version is skipped until it is removed
+            if (latest.get(entry.id()) == entry) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static int compare(String name, int id, Entry entry) {
+        int nameOrder = NAME_ORDER.compare(name, entry.name());
+        return nameOrder != 0 ? nameOrder : Integer.compare(id, entry.id());
+    }
+
+    private static long stringBytes(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) <= 0xFF;
+        }
+        return STRING_BYTES + align(ARRAY_HEADER_BYTES + (latin1 ? 1L : 2L) * value.length());
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Loads all the names of a new snapshot into a builder.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        void load(Builder builder);
+    }
+
+    /**
+     * Accumulates the names of a snapshot, in any order.
+     */
+    public static final class Builder {
+
+        private String[] names = new String[1024];
+        private int[] ids = new int[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        public void add(int id, String name) {
+            if (size == ids.length) {
+                names = Arrays.copyOf(names, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            names[size] = name;
+            ids[size] = id;
+            size++;
+        }
+
+        private Snapshot build() {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            // the positions are sorted rather than boxed pairs, to keep the peak memory of a rebuild low
+            sort(order, order.clone(), 0, size);
+            String[] sortedNames = new String[size];
+            int[] sortedIds = new int[size];
+            long memoryBytes = 2 * ARRAY_HEADER_BYTES + (long) size * (Integer.BYTES + Integer.BYTES);
+            for (int i = 0; i < size; i++) {
+                sortedNames[i] = names[order[i]];
+                sortedIds[i] = ids[order[i]];
+                memoryBytes += stringBytes(sortedNames[i]);
+            }
+            return new Snapshot(sortedNames, sortedIds, memoryBytes);
+        }
+
+        /**
+         * Merge sort of the positions between from (inclusive) and to (exclusive), by name then id.
+         * The source holds the same positions as the target on entry, and is used as the work area.
+         */
+        private void sort(int[] target, int[] source, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            sort(source, target, from, middle);
+            sort(source, target, middle, to);
+            for (int i = from, left = from, right = middle; i < to; i++) {
+                target[i] = right >= to || left < middle && compare(source[left], source[right]) <= 0
+                    ? source[left++]
+                    : source[right++];
+            }
+        }
+
+        private int compare(int a, int b) {
+            int nameOrder = NAME_ORDER.compare(names[a], names[b]);
+            return nameOrder != 0 ? nameOrder : Integer.compare(ids[a], ids[b]);
+        }
+    }
+
+    private record Snapshot(String[] names, int[] ids, long memoryBytes) {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new int[0], 0);
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * @return The index of the first name greater than or equal to the prefix, which is the first name starting
+         * with the prefix if any
+         */
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = names.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (NAME_ORDER.compare(names[middle], prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        boolean matches(int index, String prefix) {
+            return names[index].regionMatches(true, 0, prefix, 0, prefix.length());
+        }
+    }
+
+    /**
+     * An indexed name, ordered by name then id; the sequence orders the successive entries of an id.
+     */
+    private record Entry(int id, String name, long version, long sequence) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.loenan.insurancepolicy.infrastructure.index;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the in-memory {@link InsurancePolicyNameIndex} in sync with the database:
+ * <ul>
+ *     <li>the index is loaded in the background at startup, with a streaming scan of the ids and names
+ *     (the suggestions are empty until the first load completes, and a failed load does not prevent the startup),</li>
+ *     <li>the saved policies are indexed once their transaction is committed, so a rollback never reaches the index,</li>
+ *     <li>the index is reloaded in the background when too many names were indexed since the last load,
+ *     to fold them into the compact snapshot.</li>
+ * </ul>
+ * The number of entries and the estimated heap of the index are published as gauges.
+ */
+@Component
+public class InsurancePolicyNameIndexAdapter implements InsurancePolicyNameIndexPort, SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyNameIndexAdapter.class);
+
+    private static final String SCAN_QUERY = "SELECT id, name FROM insurance_policy.insurance_policy";
+
+    private static final String INDEX_METRIC_PREFIX = "insurance.policy.name.index";
+
+    private final InsurancePolicyNameIndex index = new InsurancePolicyNameIndex();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildThreshold;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("name-index-rebuild").daemon().factory());
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    @Autowired
+    public InsurancePolicyNameIndexAdapter(
+        DataSource dataSource,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${insurance-policy.persistence.stream-fetch-size:500}") int streamFetchSize,
+        @Value("${insurance-policy.name-index.rebuild-threshold:10000}") int rebuildThreshold
+    ) {
+        // the rows are only streamed by a server-side cursor with a fetch size, within a transaction;
+        // a new one, as a load can be triggered after the commit of a transaction still bound to the thread
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(streamFetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.rebuildThreshold = rebuildThreshold;
+
+        Gauge.builder(INDEX_METRIC_PREFIX + ".entries", index, InsurancePolicyNameIndex::size)
+            .description("Insurance policy names in the autocompletion index")
+            .register(meterRegistry);
+        Gauge.builder(INDEX_METRIC_PREFIX + ".memory", index, InsurancePolicyNameIndex::memoryBytes)
+            .description("Estimated heap retained by the autocompletion index")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        submitRebuild();
+    }
+
+    @Override
+    public List<InsurancePolicyName> findByPrefix(String prefix, int limit) {
+        return index.findByPrefix(prefix, limit);
+    }
+
+    @Override
+    public void index(Collection<InsurancePolicy> insurancePolicies) {
+        List<InsurancePolicy> indexedPolicies = List.copyOf(insurancePolicies);
+        afterCommit(() -> {
+            for (InsurancePolicy insurancePolicy : indexedPolicies) {
+                index.put(insurancePolicy.id(), insurancePolicy.name(), toVersion(insurancePolicy));
+            }
+            if (index.deltaSize() >= rebuildThreshold) {
+                submitRebuild();
+            }
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        afterCommit(this::rebuildNow);
+    }
+
+    @Override
+    public void scheduleRebuild() {
+        afterCommit(this::submitRebuild);
+    }
+
+    /**
+     * A rebuild requested while another one is pending is merged into it. The flag is cleared when the rebuild starts,
+     * so a rebuild requested while one is running, whose scan may not see the latest commits, runs again after it.
+     */
+    private void submitRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildScheduled.set(false);
+                rebuildNow();
+            });
+        }
+    }
+
+    /**
+     * A failed load keeps the previous snapshot, and never fails the caller (the changes are already committed).
+     */
+    private void rebuildNow() {
+        long startTime = System.currentTimeMillis();
+        try {
+            index.rebuild(builder -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.query(SCAN_QUERY, resultSet -> {
+                    builder.add(resultSet.getInt(1), resultSet.getString(2));
+                })));
+            LOGGER.info("Loaded {} insurance policy names in the index ({} bytes) in {} ms",
+                index.size(), index.memoryBytes(), System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            LOGGER.error("Unable to load the insurance policy name index", e);
+        }
+    }
+
+    /**
+     * Run the update once the current transaction is committed, or immediately outside of any transaction.
+     */
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static long toVersion(InsurancePolicy insurancePolicy) {
+        return insurancePolicy.lastUpdate() == null
+            ? Long.MIN_VALUE
+            : ChronoUnit.MICROS.between(Instant.EPOCH, insurancePolicy.lastUpdate().toInstant());
+    }
+}
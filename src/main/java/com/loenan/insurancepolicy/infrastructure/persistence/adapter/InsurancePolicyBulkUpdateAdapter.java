@@ -0,0 +1,95 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyBulkUpdatePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Updates the insurance policies with set-based statements, in chunks walking the primary key:
+ * each chunk locks and updates at most {@code chunkSize} rows with a single statement,
+ * and is committed in its own transaction before the next one starts.
+ * The version of each updated policy is incremented, as by any other update.
+ */
+@Component
+public class InsurancePolicyBulkUpdateAdapter implements InsurancePolicyBulkUpdatePort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyBulkUpdateAdapter.class);
+
+    private static final String UPDATE_STATUS_CHUNK_QUERY = """
+        WITH chunk AS (
+            SELECT id FROM insurance_policy.insurance_policy
+            WHERE %s
+            ORDER BY id
+            LIMIT :chunkSize
+            FOR UPDATE
+        )
+        UPDATE insurance_policy.insurance_policy p
+        SET status = :newStatus, last_update = :lastUpdate, version = p.version + 1
+        FROM chunk
+        WHERE p.id = chunk.id
+        RETURNING p.id""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final int chunkSize;
+
+    @Autowired
+    public InsurancePolicyBulkUpdateAdapter(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${insurance-policy.persistence.bulk-update-chunk-size:5000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * The rows already having the target status are excluded, and each chunk starts after the last updated id,
+     * so every chunk seeks directly in the primary key index and the loop always ends.
+     */
+    @Override
+    public long updateStatus(InsurancePolicyFilter filter, InsurancePolicyStatus status, ZonedDateTime lastUpdate) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+            "newStatus", status.name(),
+            "lastUpdate", lastUpdate.toOffsetDateTime(),
+            "chunkSize", chunkSize,
+            "afterId", 0
+        ));
+        List<String> conditions = new ArrayList<>(List.of("id > :afterId", "status <> :newStatus"));
+        InsurancePolicyFilterConditions.addConditions(filter, conditions, parameters);
+        String query = UPDATE_STATUS_CHUNK_QUERY.formatted(String.join(" AND ", conditions));
+
+        long updatedCount = 0;
+        int chunkCount = 0;
+        List<Integer> updatedIds;
+        do {
+            updatedIds = Objects.requireNonNull(chunkTransactionTemplate.execute(
+                transactionStatus -> jdbcTemplate.queryForList(query, parameters, Integer.class)));
+            updatedCount += updatedIds.size();
+            chunkCount++;
+            updatedIds.stream().mapToInt(Integer::intValue).max()
+                .ifPresent(lastId -> parameters.put("afterId", lastId));
+        } while (updatedIds.size() >= chunkSize);
+
+        LOGGER.info("Set the status {} on {} insurance policies in {} chunk(s)", status, updatedCount, chunkCount);
+        return updatedCount;
+    }
+}
@@ -0,0 +1,408 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.ExportLayout;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyExportPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Exports the insurance policies with PostgreSQL {@code COPY ... TO STDOUT}:
+ * the rows are formatted by the database and copied as is to the output stream,
+ * without any per-row object on the JVM side.
+ * <p>
+ * A parallel export splits the id space in contiguous ranges, each one copied by a worker on its own connection.
+ * The workers import the snapshot exported by a coordinator transaction ({@code pg_export_snapshot()}),
+ * so they all read the table in the same state.
+ * <p>
+ * The connections held by the exports (coordinators and workers) are bounded by
+ * {@code insurance-policy.export.max-connections}, shared by all the running exports and kept below the pool size,
+ * so the other requests always find a connection: an export waits for its connections before starting,
+ * and copies its partitions with fewer workers than partitions when needed.
+ */
+@Component
+public class InsurancePolicyExportAdapter implements InsurancePolicyExportPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyExportAdapter.class);
+
+    private static final String CSV_EXPORT_QUERY = """
+        COPY (
+            SELECT id, name, status, start_date AS "startDate", end_date AS "endDate",
+                creation, last_update AS "lastUpdate"
+            FROM insurance_policy.insurance_policy
+            %s
+            ORDER BY id
+        ) TO STDOUT WITH (FORMAT csv, HEADER %s)""";
+
+    // The CSV format is used with quote and delimiter characters that never appear in a JSON document
+    // (control characters are escaped by PostgreSQL), so the JSON rows are copied without any escaping.
+    private static final String NDJSON_EXPORT_QUERY = """
+        COPY (
+            SELECT json_build_object(
+                'id', id, 'name', name, 'status', status, 'startDate', start_date, 'endDate', end_date,
+                'creation', creation, 'lastUpdate', last_update)
+            FROM insurance_policy.insurance_policy
+            %s
+            ORDER BY id
+        ) TO STDOUT WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')""";
+
+    private static final String ID_RANGE_CONDITION = "WHERE id >= %d AND id < %d";
+
+    private static final String EXPORT_SNAPSHOT_QUERY = """
+        SELECT pg_export_snapshot(), min(id), max(id)
+        FROM insurance_policy.insurance_policy""";
+
+    private static final String IMPORT_SNAPSHOT_QUERY = "SET TRANSACTION SNAPSHOT '%s'";
+
+    private static final String PARTITION_FILE_NAME = "insurance-policies-part-%03d.%s";
+
+    private static final String EXPORT_METRIC_PREFIX = "insurance.policy.export";
+    private static final String FORMAT_TAG = "format";
+
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int maxConnections;
+    // fair, so that an export needing many connections is not overtaken forever by smaller ones
+    private final Semaphore connectionPermits;
+
+    @Autowired
+    public InsurancePolicyExportAdapter(
+        DataSource dataSource,
+        MeterRegistry meterRegistry,
+        @Value("${insurance-policy.export.max-connections:6}") int maxConnections
+    ) {
+        if (maxConnections < 2) {
+            throw new IllegalArgumentException("The exports need at least 2 connections (a coordinator and a worker)");
+        }
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.maxConnections = maxConnections;
+        this.connectionPermits = new Semaphore(maxConnections, true);
+    }
+
+    @Override
+    public long exportAll(ExportFormat format, ExportLayout layout, int parallelism, OutputStream output) {
+        String formatTag = format.name().toLowerCase();
+        Counter exportedBytes = Counter.builder(EXPORT_METRIC_PREFIX + ".bytes")
+            .description("Bytes read by the insurance policy exports")
+            .baseUnit("bytes")
+            .tag(FORMAT_TAG, formatTag)
+            .register(meterRegistry);
+        Counter exportedRows = Counter.builder(EXPORT_METRIC_PREFIX + ".rows")
+            .description("Rows written by the insurance policy exports")
+            .tag(FORMAT_TAG, formatTag)
+            .register(meterRegistry);
+        LongTaskTimer activeExports = LongTaskTimer.builder(EXPORT_METRIC_PREFIX + ".active")
+            .description("Insurance policy exports in progress")
+            .tag(FORMAT_TAG, formatTag)
+            .register(meterRegistry);
+
+        boolean sequential = parallelism == 1 && layout == ExportLayout.MERGED;
+        int workerCount = Math.min(parallelism, maxConnections - 1);
+        int connectionCount = sequential ? 1 : workerCount + 1;
+        acquireConnections(connectionCount);
+        LongTaskTimer.Sample sample = activeExports.start();
+        try {
+            long rowCount = sequential
+                ? exportSequentially(format, new MeteredOutputStream(output, exportedBytes))
+                : exportInParallel(format, layout, parallelism, workerCount, output, exportedBytes);
+            exportedRows.increment(rowCount);
+            LOGGER.info("Exported {} insurance policies as {} ({}, {} worker(s)) in {} ms",
+                rowCount, format, layout, parallelism, (long) sample.duration(TimeUnit.MILLISECONDS));
+            return rowCount;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to export the insurance policies", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the exported insurance policies", e);
+        } finally {
+            sample.stop();
+            connectionPermits.release(connectionCount);
+        }
+    }
+
+    /**
+     * Wait until the connections of an export are available. They are acquired all at once, so that two exports
+     * never hold a part of their connections each while waiting for the rest.
+     */
+    private void acquireConnections(int connectionCount) {
+        try {
+            connectionPermits.acquire(connectionCount);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the connections of the export", e);
+        }
+    }
+
+    private long exportSequentially(ExportFormat format, OutputStream output) throws SQLException, IOException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return copyOut(connection, getExportQuery(format, "", true), output);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long exportInParallel(
+        ExportFormat format,
+        ExportLayout layout,
+        int parallelism,
+        int workerCount,
+        OutputStream output,
+        Counter exportedBytes
+    ) throws SQLException, IOException {
+        // The coordinator transaction must stay open until all the workers have imported its snapshot
+        try (Connection coordinator = dataSource.getConnection()) {
+            coordinator.setAutoCommit(false);
+            coordinator.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                String snapshotId;
+                List<IdRange> ranges;
+                try (Statement statement = coordinator.createStatement();
+                     ResultSet resultSet = statement.executeQuery(EXPORT_SNAPSHOT_QUERY)) {
+                    resultSet.next();
+                    snapshotId = resultSet.getString(1);
+                    ranges = IdRange.split(resultSet.getLong(2), resultSet.getLong(3), parallelism);
+                }
+                return layout == ExportLayout.MERGED
+                    ? exportMerged(format, snapshotId, ranges, workerCount, output, exportedBytes)
+                    : exportPartitioned(format, snapshotId, ranges, workerCount, output, exportedBytes);
+            } finally {
+                coordinator.rollback();
+            }
+        }
+    }
+
+    /**
+     * The first partition is copied directly to the output while the following ones are spooled to temporary files,
+     * then appended in order once all the workers are done.
+     */
+    private long exportMerged(
+        ExportFormat format,
+        String snapshotId,
+        List<IdRange> ranges,
+        int workerCount,
+        OutputStream output,
+        Counter exportedBytes
+    ) throws SQLException, IOException {
+        List<Path> partitionFiles = new ArrayList<>();
+        try {
+            List<PartitionTask> tasks = new ArrayList<>();
+            tasks.add(new PartitionTask(getExportQuery(format, ranges.getFirst().toCondition(), true), null));
+            for (IdRange range : ranges.subList(1, ranges.size())) {
+                Path partitionFile = Files.createTempFile("insurance-policies-export-", ".part");
+                partitionFiles.add(partitionFile);
+                tasks.add(new PartitionTask(getExportQuery(format, range.toCondition(), false), partitionFile));
+            }
+            long rowCount = runPartitionTasks(snapshotId, tasks, workerCount, output, exportedBytes);
+            for (Path partitionFile : partitionFiles) {
+                Files.copy(partitionFile, output);
+            }
+            return rowCount;
+        } finally {
+            deleteFiles(partitionFiles);
+        }
+    }
+
+    private long exportPartitioned(
+        ExportFormat format,
+        String snapshotId,
+        List<IdRange> ranges,
+        int workerCount,
+        OutputStream output,
+        Counter exportedBytes
+    ) throws SQLException, IOException {
+        List<Path> partitionFiles = new ArrayList<>();
+        try {
+            List<PartitionTask> tasks = new ArrayList<>();
+            for (IdRange range : ranges) {
+                Path partitionFile = Files.createTempFile("insurance-policies-export-", ".part");
+                partitionFiles.add(partitionFile);
+                tasks.add(new PartitionTask(getExportQuery(format, range.toCondition(), true), partitionFile));
+            }
+            long rowCount = runPartitionTasks(snapshotId, tasks, workerCount, output, exportedBytes);
+
+            ZipOutputStream zipOutput = new ZipOutputStream(output);
+            String extension = format.name().toLowerCase();
+            for (int i = 0; i < partitionFiles.size(); i++) {
+                zipOutput.putNextEntry(new ZipEntry(PARTITION_FILE_NAME.formatted(i + 1, extension)));
+                Files.copy(partitionFiles.get(i), zipOutput);
+                zipOutput.closeEntry();
+            }
+            zipOutput.finish();
+            return rowCount;
+        } finally {
+            deleteFiles(partitionFiles);
+        }
+    }
+
+    /**
+     * The tasks are started in order, so the first partition (written directly to the output) is never queued.
+     */
+    private long runPartitionTasks(
+        String snapshotId,
+        List<PartitionTask> tasks,
+        int workerCount,
+        OutputStream output,
+        Counter exportedBytes
+    ) throws SQLException, IOException {
+        List<Future<Long>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(workerCount, Thread.ofVirtual().factory())) {
+            for (PartitionTask task : tasks) {
+                results.add(executor.submit(() -> copyPartition(snapshotId, task, output, exportedBytes)));
+            }
+        }
+        long rowCount = 0;
+        for (Future<Long> result : results) {
+            rowCount += getPartitionRowCount(result);
+        }
+        return rowCount;
+    }
+
+    private long copyPartition(
+        String snapshotId,
+        PartitionTask task,
+        OutputStream output,
+        Counter exportedBytes
+    ) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(IMPORT_SNAPSHOT_QUERY.formatted(snapshotId));
+                }
+                if (task.file() == null) {
+                    return copyOut(connection, task.query(), new MeteredOutputStream(output, exportedBytes));
+                }
+                try (OutputStream fileOutput = new BufferedOutputStream(Files.newOutputStream(task.file()), FILE_BUFFER_SIZE)) {
+                    return copyOut(connection, task.query(), new MeteredOutputStream(fileOutput, exportedBytes));
+                }
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static long getPartitionRowCount(Future<Long> result) throws SQLException, IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while exporting the insurance policies", e);
+        } catch (ExecutionException e) {
+            switch (e.getCause()) {
+                case SQLException sqlException -> throw sqlException;
+                case IOException ioException -> throw ioException;
+                case RuntimeException runtimeException -> throw runtimeException;
+                default -> throw new IllegalStateException("Unable to export a partition of the insurance policies", e.getCause());
+            }
+        }
+    }
+
+    private static long copyOut(Connection connection, String query, OutputStream output) throws SQLException, IOException {
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(query, output);
+    }
+
+    private static String getExportQuery(ExportFormat format, String condition, boolean withHeader) {
+        return switch (format) {
+            case CSV -> CSV_EXPORT_QUERY.formatted(condition, withHeader);
+            case NDJSON -> NDJSON_EXPORT_QUERY.formatted(condition);
+        };
+    }
+
+    private static void deleteFiles(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.warn("Unable to delete the temporary export file {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * A partition to export: its query, and the file where it is spooled (null to write it directly to the output).
+     */
+    private record PartitionTask(String query, Path file) {
+    }
+
+    /**
+     * A range of ids, from the lower bound (inclusive) to the upper bound (exclusive).
+     */
+    record IdRange(long lowerBound, long upperBound) {
+
+        /**
+         * Split the ids from min to max (both inclusive) in contiguous ranges of equal width.
+         */
+        static List<IdRange> split(long minId, long maxId, int count) {
+            long width = maxId - minId + 1;
+            List<IdRange> ranges = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ranges.add(new IdRange(minId + width * i / count, minId + width * (i + 1) / count));
+            }
+            return ranges;
+        }
+
+        String toCondition() {
+            return ID_RANGE_CONDITION.formatted(lowerBound, upperBound);
+        }
+    }
+
+    /**
+     * Counts the bytes as they go, so that the progress of a running export can be followed.
+     */
+    private static class MeteredOutputStream extends FilterOutputStream {
+
+        private final Counter writtenBytes;
+
+        MeteredOutputStream(OutputStream output, Counter writtenBytes) {
+            super(output);
+            this.writtenBytes = writtenBytes;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            writtenBytes.increment(length);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            writtenBytes.increment();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates the criteria of a filter into SQL conditions on the insurance policy table, each one usable by an index:
+ * plain comparisons of the columns (no function applied to a column), and a left-anchored LIKE for the name prefix.
+ */
+final class InsurancePolicyFilterConditions {
+
+    private InsurancePolicyFilterConditions() {
+    }
+
+    /**
+     * Add the conditions of the non-null criteria, and their named parameters, bound by JDBC as well as by R2DBC.
+     */
+    static void addConditions(InsurancePolicyFilter filter, List<String> conditions, Map<String, Object> parameters) {
+        if (filter.status() != null) {
+            // the status is inlined, so that even a generic plan of the statement can use the partial index on ACTIVE
+            conditions.add("status = '%s'".formatted(filter.status().name()));
+        }
+        if (filter.startDateFrom() != null) {
+            conditions.add("start_date >= :startDateFrom");
+            parameters.put("startDateFrom", filter.startDateFrom());
+        }
+        if (filter.startDateBefore() != null) {
+            conditions.add("start_date < :startDateBefore");
+            parameters.put("startDateBefore", filter.startDateBefore());
+        }
+        if (filter.endDateFrom() != null) {
+            conditions.add("end_date >= :endDateFrom");
+            parameters.put("endDateFrom", filter.endDateFrom());
+        }
+        if (filter.endDateBefore() != null) {
+            conditions.add("end_date < :endDateBefore");
+            parameters.put("endDateBefore", filter.endDateBefore());
+        }
+        if (filter.activeOn() != null) {
+            // a range on the first column of the (start_date, end_date) index, the second one being checked in the index
+            conditions.add("start_date <= :activeOn AND end_date >= :activeOn");
+            parameters.put("activeOn", filter.activeOn());
+        }
+        if (filter.namePrefix() != null) {
+            conditions.add("name LIKE :namePrefix");
+            parameters.put("namePrefix", escapeLikePattern(filter.namePrefix()) + "%");
+        }
+    }
+
+    // Backslash is the default escape character of LIKE in PostgreSQL
+    private static String escapeLikePattern(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
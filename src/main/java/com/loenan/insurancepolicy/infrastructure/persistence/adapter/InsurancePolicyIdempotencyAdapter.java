@@ -0,0 +1,175 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCreation;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyIdempotencyPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the idempotency keys of the creations in the {@code idempotency_key} table:
+ * <ul>
+ *     <li>a key is reserved by inserting its row, so a concurrent reservation of the same key waits on the unique
+ *     index for the outcome of the first transaction, whichever instance runs it,</li>
+ *     <li>the created policy is stored as JSON in the row, and returned as it is to the retries,</li>
+ *     <li>the keys are kept for {@code insurance-policy.idempotency.ttl}: an expired key is reserved again
+ *     as a new one, and the expired rows are deleted in the background, in batches.</li>
+ * </ul>
+ */
+@Component
+public class InsurancePolicyIdempotencyAdapter implements InsurancePolicyIdempotencyPort, SmartInitializingSingleton,
+    DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyIdempotencyAdapter.class);
+
+    // an expired key is taken over as if it did not exist
+    private static final String RESERVE_QUERY = """
+        INSERT INTO insurance_policy.idempotency_key (key, request_hash, creation)
+        VALUES (:key, :requestHash, :creation)
+        ON CONFLICT (key) DO UPDATE
+        SET request_hash = EXCLUDED.request_hash, creation = EXCLUDED.creation, insurance_policy_id = NULL, response = NULL
+        WHERE idempotency_key.creation < :expiry
+        RETURNING key""";
+
+    private static final String GET_QUERY = """
+        SELECT request_hash, response FROM insurance_policy.idempotency_key
+        WHERE key = :key""";
+
+    private static final String COMPLETE_QUERY = """
+        UPDATE insurance_policy.idempotency_key
+        SET insurance_policy_id = :insurancePolicyId, response = CAST(:response AS JSONB)
+        WHERE key = :key""";
+
+    private static final String DELETE_EXPIRED_QUERY = """
+        DELETE FROM insurance_policy.idempotency_key
+        WHERE key IN (
+            SELECT key FROM insurance_policy.idempotency_key
+            WHERE creation < :expiry
+            LIMIT :batchSize
+        )""";
+
+    private static final int DELETE_BATCH_SIZE = 10_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration cleanupInterval;
+    private final ScheduledExecutorService cleanupExecutor = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("idempotency-key-cleanup").daemon().factory());
+
+    @Autowired
+    public InsurancePolicyIdempotencyAdapter(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        @Value("${insurance-policy.idempotency.ttl:24h}") Duration ttl,
+        @Value("${insurance-policy.idempotency.cleanup-interval:1h}") Duration cleanupInterval
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        cleanupExecutor.scheduleWithFixedDelay(this::deleteExpiredKeysSafely,
+            cleanupInterval.toMillis(), cleanupInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A running cleanup is interrupted, so that it never outlives the data source.
+     */
+    @Override
+    public void destroy() {
+        cleanupExecutor.shutdownNow();
+    }
+
+    @Override
+    public Optional<InsurancePolicyCreation> reserve(String key, String requestHash) {
+        ZonedDateTime now = ZonedDateTime.now();
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("key", key)
+            .addValue("requestHash", requestHash)
+            .addValue("creation", now.toOffsetDateTime())
+            .addValue("expiry", now.minus(ttl).toOffsetDateTime());
+        List<String> reservedKeys = jdbcTemplate.queryForList(RESERVE_QUERY, parameters, String.class);
+        if (!reservedKeys.isEmpty()) {
+            return Optional.empty();
+        }
+        // the row is committed: the reservation has waited for the transaction which inserted it
+        return Optional.of(jdbcTemplate.queryForObject(GET_QUERY, parameters, (resultSet, rowNum) ->
+            new InsurancePolicyCreation(resultSet.getString("request_hash"), readResponse(key, resultSet.getString("response")))));
+    }
+
+    @Override
+    public void complete(String key, InsurancePolicy insurancePolicy) {
+        try {
+            jdbcTemplate.update(COMPLETE_QUERY, new MapSqlParameterSource()
+                .addValue("key", key)
+                .addValue("insurancePolicyId", insurancePolicy.id())
+                .addValue("response", objectMapper.writeValueAsString(insurancePolicy)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to write the insurance policy created with the idempotency key " + key, e);
+        }
+    }
+
+    /**
+     * Delete the expired keys, a batch per statement, so that the cleanup never holds many row locks for long.
+     *
+     * @return The number of deleted keys
+     */
+    long deleteExpiredKeys() {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("expiry", ZonedDateTime.now().minus(ttl).toOffsetDateTime())
+            .addValue("batchSize", DELETE_BATCH_SIZE);
+        long deletedCount = 0;
+        int batchDeletedCount;
+        do {
+            batchDeletedCount = jdbcTemplate.update(DELETE_EXPIRED_QUERY, parameters);
+            deletedCount += batchDeletedCount;
+        } while (batchDeletedCount == DELETE_BATCH_SIZE);
+        return deletedCount;
+    }
+
+    /**
+     * A failed cleanup is retried at the next interval: it must not cancel the scheduled task.
+     */
+    private void deleteExpiredKeysSafely() {
+        try {
+            long deletedCount = deleteExpiredKeys();
+            if (deletedCount > 0) {
+                LOGGER.info("Deleted {} expired idempotency keys", deletedCount);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Unable to delete the expired idempotency keys", e);
+        }
+    }
+
+    private InsurancePolicy readResponse(String key, String response) {
+        if (response == null) {
+            throw new IllegalStateException("No insurance policy is recorded with the idempotency key " + key);
+        }
+        try {
+            return objectMapper.readValue(response, InsurancePolicy.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read the insurance policy created with the idempotency key " + key, e);
+        }
+    }
+}
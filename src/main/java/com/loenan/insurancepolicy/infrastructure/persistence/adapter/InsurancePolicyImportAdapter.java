@@ -0,0 +1,191 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyImportPort;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the insurance policies of a CSV input with set-based statements:
+ * <ol>
+ *     <li>the input is streamed with {@code COPY ... FROM STDIN} into an unlogged staging table, as raw text,</li>
+ *     <li>the validation rules of the insurance policies are evaluated by a single SQL expression per row,</li>
+ *     <li>the valid rows are moved into the insurance policy table with one {@code INSERT ... SELECT},</li>
+ *     <li>the rejected rows and their errors are written with {@code COPY ... TO STDOUT} to the error report.</li>
+ * </ol>
+ * The staging table is created and dropped within the transaction of the import, with a unique name per import.
+ */
+@Component
+public class InsurancePolicyImportAdapter implements InsurancePolicyImportPort {
+
+    public static final String UNREADABLE_INPUT_ERROR_MESSAGE = "The CSV input is not readable: %s";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsurancePolicyImportAdapter.class);
+
+    private static final String STAGING_TABLE_PREFIX = "insurance_policy.insurance_policy_import_";
+
+    private static final String CREATE_STAGING_TABLE_QUERY = """
+        CREATE UNLOGGED TABLE %s (
+            record_number   BIGINT  GENERATED ALWAYS AS IDENTITY,
+            name            TEXT,
+            status          TEXT,
+            start_date      TEXT,
+            end_date        TEXT
+        )""";
+
+    private static final String COPY_IN_QUERY = """
+        COPY %s (name, status, start_date, end_date) FROM STDIN WITH (FORMAT csv, HEADER true)""";
+
+    // The ids are allocated by blocks, with one call to the sequence per block of rows, exactly as the
+    // pooled generator of the entity does: a call returns the upper bound of a block of allocation size ids.
+    private static final String INSERT_VALID_ROWS_QUERY = """
+        WITH valid AS (
+            SELECT name, status, start_date::date AS start_date, end_date::date AS end_date,
+                row_number() OVER (ORDER BY record_number) - 1 AS position
+            FROM %1$s
+            WHERE %2$s = ''
+        ),
+        id_block AS (
+            SELECT block, nextval('insurance_policy.insurance_policy_id_seq') AS upper_id
+            FROM generate_series(1, (SELECT ceil(count(*) / %3$d.0)::integer FROM valid)) AS block
+        )
+        INSERT INTO insurance_policy.insurance_policy (id, name, status, start_date, end_date)
+        SELECT id_block.upper_id - %3$d + 1 + valid.position %% %3$d,
+            valid.name, valid.status, valid.start_date, valid.end_date
+        FROM valid
+        JOIN id_block ON id_block.block = valid.position / %3$d + 1""";
+
+    private static final String COPY_OUT_ERRORS_QUERY = """
+        COPY (
+            SELECT record_number AS record, name, status, start_date AS "startDate", end_date AS "endDate", errors
+            FROM (SELECT s.*, %2$s AS errors FROM %1$s s) AS checked
+            WHERE errors <> ''
+            ORDER BY record_number
+        ) TO STDOUT WITH (FORMAT csv, HEADER true)""";
+
+    private static final String DROP_STAGING_TABLE_QUERY = "DROP TABLE %s";
+
+    private static final String ERROR_SEPARATOR = "; ";
+
+    // SQL state class of the data exceptions, raised by COPY on a malformed CSV input
+    private static final String DATA_EXCEPTION_SQL_STATE_CLASS = "22";
+
+    /**
+     * The errors of a staging row, separated by "; ", or an empty string for a valid row.
+     * The rules and messages are the ones of {@link ValidationUtil} applied to {@link InsurancePolicyFields}.
+     */
+    static final String ERRORS_EXPRESSION = buildErrorsExpression();
+
+    private final DataSource dataSource;
+
+    @Autowired
+    public InsurancePolicyImportAdapter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public InsurancePolicyImportResult importCsv(InputStream input, OutputStream errorReport) {
+        String stagingTable = STAGING_TABLE_PREFIX + UUID.randomUUID().toString().replace("-", "");
+        long startTime = System.currentTimeMillis();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            statement.execute(CREATE_STAGING_TABLE_QUERY.formatted(stagingTable));
+            long loadedCount = copyIn(copyManager, stagingTable, input);
+            long importedCount = statement.executeUpdate(INSERT_VALID_ROWS_QUERY.formatted(
+                stagingTable, ERRORS_EXPRESSION, InsurancePolicyEntity.ID_ALLOCATION_SIZE));
+            long rejectedCount = copyManager.copyOut(COPY_OUT_ERRORS_QUERY.formatted(stagingTable, ERRORS_EXPRESSION), errorReport);
+            statement.execute(DROP_STAGING_TABLE_QUERY.formatted(stagingTable));
+            errorReport.flush();
+            LOGGER.info("Imported {} of {} insurance policies ({} rejected) in {} ms",
+                importedCount, loadedCount, rejectedCount, System.currentTimeMillis() - startTime);
+            return new InsurancePolicyImportResult(importedCount, rejectedCount);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to import the insurance policies", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the imported insurance policies", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static long copyIn(CopyManager copyManager, String stagingTable, InputStream input) throws SQLException, IOException {
+        try {
+            return copyManager.copyIn(COPY_IN_QUERY.formatted(stagingTable), input);
+        } catch (SQLException e) {
+            if (e.getSQLState() != null && e.getSQLState().startsWith(DATA_EXCEPTION_SQL_STATE_CLASS)) {
+                throw new InvalidInputException(List.of(new FieldError(
+                    InsurancePolicyFields.INPUT, UNREADABLE_INPUT_ERROR_MESSAGE.formatted(e.getMessage()))));
+            }
+            throw e;
+        }
+    }
+
+    private static String buildErrorsExpression() {
+        String validStatuses = Arrays.stream(InsurancePolicyStatus.values())
+            .map(status -> toLiteral(status.name()))
+            .collect(Collectors.joining(", "));
+        String statusNames = Arrays.stream(InsurancePolicyStatus.values())
+            .map(Enum::name)
+            .collect(Collectors.joining(", "));
+        return String.join(",\n", "concat_ws(" + toLiteral(ERROR_SEPARATOR),
+            errorCase("name IS NULL",
+                ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.NAME)),
+            errorCase("name ~ '^\\s*$'",
+                ValidationUtil.BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.NAME)),
+            errorCase("char_length(name) > " + InsurancePolicyFields.NAME_MAX_LENGTH,
+                ValidationUtil.STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted(InsurancePolicyFields.NAME, InsurancePolicyFields.NAME_MAX_LENGTH)),
+            errorCase("status IS NULL",
+                ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.STATUS)),
+            errorCase("status NOT IN (" + validStatuses + ")",
+                ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted(InsurancePolicyFields.STATUS, statusNames)),
+            errorCase("start_date IS NULL",
+                ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.START_DATE)),
+            errorCase("NOT pg_input_is_valid(start_date, 'date')",
+                ValidationUtil.INVALID_DATE_ERROR_MESSAGE.formatted(InsurancePolicyFields.START_DATE)),
+            errorCase("end_date IS NULL",
+                ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.END_DATE)),
+            errorCase("NOT pg_input_is_valid(end_date, 'date')",
+                ValidationUtil.INVALID_DATE_ERROR_MESSAGE.formatted(InsurancePolicyFields.END_DATE)),
+            // the dates are only cast once both are known to be valid
+            "CASE WHEN pg_input_is_valid(start_date, 'date') AND pg_input_is_valid(end_date, 'date') THEN "
+                + errorCase("end_date::date <= start_date::date",
+                ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE.formatted(InsurancePolicyFields.END_DATE, InsurancePolicyFields.START_DATE))
+                + " END)");
+    }
+
+    private static String errorCase(String condition, String errorMessage) {
+        return "CASE WHEN " + condition + " THEN " + toLiteral(errorMessage) + " END";
+    }
+
+    /**
+     * The SQL literal of a constant text (COPY statements do not accept bind parameters).
+     */
+    private static String toLiteral(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+}
@@ -1,29 +1,69 @@
 package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
 
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
 import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
 import com.loenan.insurancepolicy.infrastructure.persistence.model.mapper.InsurancePolicyPersistenceMapper;
 import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Component
 public class InsurancePolicyPersistenceAdapter implements InsurancePolicyPersistencePort {
 
+    private static final String STREAM_ALL_QUERY =
+        "SELECT p FROM InsurancePolicyEntity p ORDER BY p.name, p.id";
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private static final Set<InsurancePolicyField> ALL_FIELDS = EnumSet.allOf(InsurancePolicyField.class);
+
+    // the version condition is only added when the policy has a version
+    private static final String UPDATE_QUERY = """
+        UPDATE insurance_policy.insurance_policy
+        SET name = :name, status = :status, start_date = :startDate, end_date = :endDate, last_update = :lastUpdate,
+            version = version + 1
+        WHERE id = :id%s
+        RETURNING\s""" + InsurancePolicyProjectionAdapter.toColumnList(ALL_FIELDS);
+
+    private static final String VERSION_CONDITION = " AND version = :version";
+
     private final InsurancePolicyRepository repository;
     private final InsurancePolicyPersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int streamFetchSize;
 
     @Autowired
     public InsurancePolicyPersistenceAdapter(
         InsurancePolicyRepository repository,
-        InsurancePolicyPersistenceMapper mapper
+        InsurancePolicyPersistenceMapper mapper,
+        EntityManager entityManager,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        @Value("${insurance-policy.persistence.stream-fetch-size:500}") int streamFetchSize
     ) {
         this.repository = repository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
@@ -32,6 +72,17 @@ public class InsurancePolicyPersistenceAdapter implements InsurancePolicyPersist
             .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<InsurancePolicyVersion> getVersionById(Integer id) {
+        return repository.findVersionById(id)
+            .map(version -> new InsurancePolicyVersion(id, version.getLastUpdate(), version.getVersion()));
+    }
+
+    @Override
+    public InsurancePoliciesVersion getVersion() {
+        return new InsurancePoliciesVersion(repository.findListVersion());
+    }
+
     @Override
     public List<InsurancePolicy> getAll() {
         return repository.findAllByOrderByName()
@@ -39,10 +90,99 @@ public class InsurancePolicyPersistenceAdapter implements InsurancePolicyPersist
             .toList();
     }
 
+    /**
+     * The ids are split in chunks to bound the number of bind parameters per query.
+     * The loaded entities stay in the persistence context, so a later save in the same transaction
+     * merges into them without selecting them again.
+     */
+    @Override
+    public List<InsurancePolicy> getByIds(Collection<Integer> ids) {
+        List<Integer> idList = List.copyOf(ids);
+        List<InsurancePolicy> insurancePolicies = new ArrayList<>(idList.size());
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Integer> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, idList.size()));
+            repository.findAllById(chunk).stream()
+                .map(mapper::toDomain)
+                .forEach(insurancePolicies::add);
+        }
+        return insurancePolicies;
+    }
+
+    @Override
+    public List<InsurancePolicy> getPage(InsurancePolicyCursor after, int limit) {
+        List<InsurancePolicyEntity> entities = after == null
+            ? repository.findAllByOrderByNameAscIdAsc(Limit.of(limit))
+            : repository.findAllAfterOrderByNameAscIdAsc(after.name(), after.id(), limit);
+        return entities.stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
+    /**
+     * Inside a transaction, the PostgreSQL driver uses a server-side cursor when a fetch size is set,
+     * so only one batch of rows is held in memory at a time.
+     * Each entity is detached once mapped so the persistence context does not grow with the table.
+     */
+    @Override
+    public Stream<InsurancePolicy> streamAll() {
+        return entityManager.createQuery(STREAM_ALL_QUERY, InsurancePolicyEntity.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream()
+            .map(this::toDetachedDomain);
+    }
+
     @Override
     public InsurancePolicy save(InsurancePolicy insurancePolicy) {
         InsurancePolicyEntity entityToSave = mapper.toEntity(insurancePolicy);
         InsurancePolicyEntity savedEntity = repository.save(entityToSave);
         return mapper.toDomain(savedEntity);
     }
+
+    /**
+     * A single round trip: the row is updated and returned by the same statement, instead of being selected
+     * by a load then by the merge of the entity before its update. No returned row means that no policy has this id,
+     * or that its version is not the expected one. The row is only locked for the time of the statement and the commit:
+     * a concurrent edit never waits for a read, and the version condition is checked against the committed row.
+     * The statement bypasses the persistence context, so it must not be mixed with entities of the policy
+     * loaded in the same transaction.
+     */
+    @Override
+    public Optional<InsurancePolicy> update(InsurancePolicy insurancePolicy) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", insurancePolicy.id())
+            .addValue("name", insurancePolicy.name())
+            .addValue("status", insurancePolicy.status().name())
+            .addValue("startDate", insurancePolicy.startDate())
+            .addValue("endDate", insurancePolicy.endDate())
+            .addValue("lastUpdate", insurancePolicy.lastUpdate().toOffsetDateTime())
+            .addValue("version", insurancePolicy.version());
+        String query = UPDATE_QUERY.formatted(insurancePolicy.version() == null ? "" : VERSION_CONDITION);
+        return jdbcTemplate.query(query, parameters, InsurancePolicyProjectionAdapter.rowMapper(ALL_FIELDS))
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * The ids come from a pooled sequence, so Hibernate does not need a round trip per row
+     * and groups the inserts in JDBC batches (see hibernate.jdbc.batch_size).
+     * The updates are batched as well, and do not select the policies again when they were loaded by {@link #getByIds}.
+     * The statements are flushed before the policies are returned, so that they come with their incremented versions;
+     * an update of a policy which is no longer at its version fails with an optimistic locking failure.
+     */
+    @Override
+    public List<InsurancePolicy> saveAll(List<InsurancePolicy> insurancePolicies) {
+        List<InsurancePolicyEntity> entitiesToSave = insurancePolicies.stream()
+            .map(mapper::toEntity)
+            .toList();
+        return repository.saveAllAndFlush(entitiesToSave).stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
+    private InsurancePolicy toDetachedDomain(InsurancePolicyEntity entity) {
+        InsurancePolicy insurancePolicy = mapper.toDomain(entity);
+        entityManager.detach(entity);
+        return insurancePolicy;
+    }
 }
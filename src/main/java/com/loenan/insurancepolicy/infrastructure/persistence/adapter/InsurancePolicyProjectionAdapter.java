@@ -0,0 +1,160 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyProjectionPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads only the columns of the requested fields, with plain SQL queries mapped straight to the domain model:
+ * no entity is instantiated nor managed by the persistence context.
+ * When the requested fields are covered by an index (such as the id and the name), PostgreSQL can read them
+ * from the index only. The lists are filtered and sorted by the database, with conditions usable by its indexes.
+ */
+@Component
+public class InsurancePolicyProjectionAdapter implements InsurancePolicyProjectionPort {
+
+    static final Map<InsurancePolicyField, String> COLUMNS = new EnumMap<>(Map.of(
+        InsurancePolicyField.ID, "id",
+        InsurancePolicyField.NAME, "name",
+        InsurancePolicyField.STATUS, "status",
+        InsurancePolicyField.START_DATE, "start_date",
+        InsurancePolicyField.END_DATE, "end_date",
+        InsurancePolicyField.CREATION, "creation",
+        InsurancePolicyField.LAST_UPDATE, "last_update",
+        InsurancePolicyField.VERSION, "version"
+    ));
+
+    static final Map<InsurancePolicyField, String> SORT_COLUMNS = new EnumMap<>(Map.of(
+        InsurancePolicyField.NAME, "name",
+        InsurancePolicyField.START_DATE, "start_date",
+        InsurancePolicyField.LAST_UPDATE, "last_update"
+    ));
+
+    static final String GET_BY_ID_QUERY = """
+        SELECT %s FROM insurance_policy.insurance_policy
+        WHERE id = :id""";
+
+    private static final String GET_LIST_QUERY = """
+        SELECT %s FROM insurance_policy.insurance_policy
+        WHERE %s
+        ORDER BY %s""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InsurancePolicyProjectionAdapter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<InsurancePolicy> getById(Integer id, Set<InsurancePolicyField> fields) {
+        return jdbcTemplate.query(GET_BY_ID_QUERY.formatted(toColumnList(fields)),
+                new MapSqlParameterSource("id", id), rowMapper(fields))
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public List<InsurancePolicy> getAll(InsurancePolicyFilter filter, InsurancePolicySort sort, Set<InsurancePolicyField> fields) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> conditions = new ArrayList<>();
+        InsurancePolicyFilterConditions.addConditions(filter, conditions, parameters);
+        return jdbcTemplate.query(toListQuery(fields, conditions, sort), parameters, rowMapper(fields));
+    }
+
+    /**
+     * The page starts after the cursor with a row value comparison on the sort column and the id,
+     * which seeks directly in the index of the sort column instead of skipping the previous rows.
+     */
+    @Override
+    public List<InsurancePolicy> getPage(
+        InsurancePolicyFilter filter,
+        InsurancePolicySort sort,
+        InsurancePolicyCursor after,
+        int limit,
+        Set<InsurancePolicyField> fields
+    ) {
+        Map<String, Object> parameters = new HashMap<>(Map.of("limit", limit));
+        List<String> conditions = new ArrayList<>();
+        InsurancePolicyFilterConditions.addConditions(filter, conditions, parameters);
+        if (after != null) {
+            conditions.add("(%s, id) %s (:afterValue, :afterId)".formatted(
+                SORT_COLUMNS.get(sort.field()), sort.descending() ? "<" : ">"));
+            parameters.put("afterValue", toParameter(after.valueOf(sort.field())));
+            parameters.put("afterId", after.id());
+        }
+        return jdbcTemplate.query(toListQuery(fields, conditions, sort) + "\nLIMIT :limit", parameters, rowMapper(fields));
+    }
+
+    static String toListQuery(Set<InsurancePolicyField> fields, List<String> conditions, InsurancePolicySort sort) {
+        String direction = sort.descending() ? " DESC" : "";
+        return GET_LIST_QUERY.formatted(
+            toColumnList(fields),
+            conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions),
+            SORT_COLUMNS.get(sort.field()) + direction + ", id" + direction
+        );
+    }
+
+    static Object toParameter(Object value) {
+        return value instanceof ZonedDateTime dateTime ? dateTime.toOffsetDateTime() : value;
+    }
+
+    static String toColumnList(Set<InsurancePolicyField> fields) {
+        return fields.stream()
+            .sorted()
+            .map(COLUMNS::get)
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * The fields which are not selected are left null.
+     */
+    static RowMapper<InsurancePolicy> rowMapper(Set<InsurancePolicyField> fields) {
+        boolean id = fields.contains(InsurancePolicyField.ID);
+        boolean name = fields.contains(InsurancePolicyField.NAME);
+        boolean status = fields.contains(InsurancePolicyField.STATUS);
+        boolean startDate = fields.contains(InsurancePolicyField.START_DATE);
+        boolean endDate = fields.contains(InsurancePolicyField.END_DATE);
+        boolean creation = fields.contains(InsurancePolicyField.CREATION);
+        boolean lastUpdate = fields.contains(InsurancePolicyField.LAST_UPDATE);
+        boolean version = fields.contains(InsurancePolicyField.VERSION);
+        return (resultSet, rowNum) -> new InsurancePolicy(
+            id ? (Integer) resultSet.getObject("id") : null,
+            name ? resultSet.getString("name") : null,
+            status ? InsurancePolicyStatus.valueOf(resultSet.getString("status")) : null,
+            startDate ? resultSet.getObject("start_date", LocalDate.class) : null,
+            endDate ? resultSet.getObject("end_date", LocalDate.class) : null,
+            creation ? getZonedDateTime(resultSet, "creation") : null,
+            lastUpdate ? getZonedDateTime(resultSet, "last_update") : null,
+            version ? (Integer) resultSet.getObject("version") : null
+        );
+    }
+
+    private static ZonedDateTime getZonedDateTime(ResultSet resultSet, String column) throws SQLException {
+        OffsetDateTime value = resultSet.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toZonedDateTime();
+    }
+}
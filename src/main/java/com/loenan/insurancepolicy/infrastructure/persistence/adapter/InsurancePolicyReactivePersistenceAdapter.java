@@ -0,0 +1,209 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Non-blocking access to the insurance policy table through R2DBC, with the same SQL queries as
+ * {@link InsurancePolicyProjectionAdapter}. The lists are read with a fetch size: the driver only fetches the next rows
+ * from the database once the subscriber requested the previous ones, so a slow consumer of a long list holds neither
+ * the whole list in memory nor a thread.
+ */
+@Component
+@Profile("reactive")
+public class InsurancePolicyReactivePersistenceAdapter implements ReactiveInsurancePolicyPersistencePort {
+
+    private static final String ALL_COLUMNS = InsurancePolicyProjectionAdapter.toColumnList(EnumSet.allOf(InsurancePolicyField.class));
+
+    // The ids are allocated by blocks, exactly as the pooled generator of the entity does: a call to the sequence
+    // returns the upper bound of a block of allocation size ids, so they never collide with the blocking stack ones
+    private static final String NEXT_ID_BLOCK_QUERY = "SELECT nextval('insurance_policy.insurance_policy_id_seq')";
+
+    private static final String INSERT_QUERY = """
+        INSERT INTO insurance_policy.insurance_policy (id, name, status, start_date, end_date, creation, last_update)
+        VALUES (:id, :name, :status, :startDate, :endDate, :creation, :lastUpdate)
+        RETURNING\s""" + ALL_COLUMNS;
+
+    // the version condition is only added when the policy has a version
+    private static final String UPDATE_QUERY = """
+        UPDATE insurance_policy.insurance_policy
+        SET name = :name, status = :status, start_date = :startDate, end_date = :endDate, last_update = :lastUpdate,
+            version = version + 1
+        WHERE id = :id%s
+        RETURNING\s""" + ALL_COLUMNS;
+
+    private static final String VERSION_CONDITION = " AND version = :version";
+
+    private final DatabaseClient databaseClient;
+    private final int streamFetchSize;
+
+    // the current block of ids, guarded by this adapter: the next id to use, and the last id of the block
+    private long nextId = 1;
+    private long lastBlockId = 0;
+
+    @Autowired
+    public InsurancePolicyReactivePersistenceAdapter(
+        DatabaseClient databaseClient,
+        @Value("${insurance-policy.persistence.stream-fetch-size:500}") int streamFetchSize
+    ) {
+        this.databaseClient = databaseClient;
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    @Override
+    public Mono<InsurancePolicy> getById(Integer id, Set<InsurancePolicyField> fields) {
+        return databaseClient.sql(InsurancePolicyProjectionAdapter.GET_BY_ID_QUERY.formatted(
+                InsurancePolicyProjectionAdapter.toColumnList(fields)))
+            .bind("id", id)
+            .map(rowMapper(fields))
+            .one();
+    }
+
+    @Override
+    public Flux<InsurancePolicy> getAll(InsurancePolicyFilter filter, InsurancePolicySort sort, Set<InsurancePolicyField> fields) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> conditions = new ArrayList<>();
+        InsurancePolicyFilterConditions.addConditions(filter, conditions, parameters);
+        return bind(databaseClient.sql(InsurancePolicyProjectionAdapter.toListQuery(fields, conditions, sort)), parameters)
+            .filter(statement -> statement.fetchSize(streamFetchSize))
+            .map(rowMapper(fields))
+            .all();
+    }
+
+    @Override
+    public Flux<InsurancePolicy> getPage(
+        InsurancePolicyFilter filter,
+        InsurancePolicySort sort,
+        InsurancePolicyCursor after,
+        int limit,
+        Set<InsurancePolicyField> fields
+    ) {
+        Map<String, Object> parameters = new HashMap<>(Map.of("limit", limit));
+        List<String> conditions = new ArrayList<>();
+        InsurancePolicyFilterConditions.addConditions(filter, conditions, parameters);
+        if (after != null) {
+            conditions.add("(%s, id) %s (:afterValue, :afterId)".formatted(
+                InsurancePolicyProjectionAdapter.SORT_COLUMNS.get(sort.field()), sort.descending() ? "<" : ">"));
+            parameters.put("afterValue", InsurancePolicyProjectionAdapter.toParameter(after.valueOf(sort.field())));
+            parameters.put("afterId", after.id());
+        }
+        return bind(databaseClient.sql(InsurancePolicyProjectionAdapter.toListQuery(fields, conditions, sort) + "\nLIMIT :limit"), parameters)
+            .map(rowMapper(fields))
+            .all();
+    }
+
+    @Override
+    public Mono<InsurancePolicy> save(InsurancePolicy insurancePolicy) {
+        if (insurancePolicy.id() == null) {
+            return allocateId().flatMap(id -> save(databaseClient.sql(INSERT_QUERY)
+                .bind("id", id)
+                .bind("creation", insurancePolicy.creation().toOffsetDateTime()), insurancePolicy));
+        } else if (insurancePolicy.version() == null) {
+            return save(databaseClient.sql(UPDATE_QUERY.formatted("")).bind("id", insurancePolicy.id()), insurancePolicy);
+        } else {
+            return save(databaseClient.sql(UPDATE_QUERY.formatted(VERSION_CONDITION))
+                .bind("id", insurancePolicy.id())
+                .bind("version", insurancePolicy.version()), insurancePolicy);
+        }
+    }
+
+    private static Mono<InsurancePolicy> save(DatabaseClient.GenericExecuteSpec statement, InsurancePolicy insurancePolicy) {
+        return statement
+            .bind("name", insurancePolicy.name())
+            .bind("status", insurancePolicy.status().name())
+            .bind("startDate", insurancePolicy.startDate())
+            .bind("endDate", insurancePolicy.endDate())
+            .bind("lastUpdate", insurancePolicy.lastUpdate().toOffsetDateTime())
+            .map(rowMapper(EnumSet.allOf(InsurancePolicyField.class)))
+            .one();
+    }
+
+    /**
+     * The next id of the current block, or the first one of a new block when it is exhausted. When concurrent
+     * inserts both fetch a new block, the last one replaces the other, whose remaining ids are lost but never reused.
+     */
+    private Mono<Integer> allocateId() {
+        return Mono.defer(() -> {
+            Integer id = takeIdFromBlock();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            return databaseClient.sql(NEXT_ID_BLOCK_QUERY)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(this::startBlock);
+        });
+    }
+
+    private synchronized Integer takeIdFromBlock() {
+        return nextId <= lastBlockId ? Math.toIntExact(nextId++) : null;
+    }
+
+    private synchronized Integer startBlock(long upperId) {
+        lastBlockId = upperId;
+        // the first value of the sequence is the only id of its block
+        nextId = Math.max(1, upperId - InsurancePolicyEntity.ID_ALLOCATION_SIZE + 1);
+        return Math.toIntExact(nextId++);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec statement, Map<String, Object> parameters) {
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            statement = statement.bind(parameter.getKey(), parameter.getValue());
+        }
+        return statement;
+    }
+
+    /**
+     * The fields which are not selected are left null.
+     */
+    private static Function<Readable, InsurancePolicy> rowMapper(Set<InsurancePolicyField> fields) {
+        boolean id = fields.contains(InsurancePolicyField.ID);
+        boolean name = fields.contains(InsurancePolicyField.NAME);
+        boolean status = fields.contains(InsurancePolicyField.STATUS);
+        boolean startDate = fields.contains(InsurancePolicyField.START_DATE);
+        boolean endDate = fields.contains(InsurancePolicyField.END_DATE);
+        boolean creation = fields.contains(InsurancePolicyField.CREATION);
+        boolean lastUpdate = fields.contains(InsurancePolicyField.LAST_UPDATE);
+        boolean version = fields.contains(InsurancePolicyField.VERSION);
+        return row -> new InsurancePolicy(
+            id ? row.get("id", Integer.class) : null,
+            name ? row.get("name", String.class) : null,
+            status ? InsurancePolicyStatus.valueOf(row.get("status", String.class)) : null,
+            startDate ? row.get("start_date", LocalDate.class) : null,
+            endDate ? row.get("end_date", LocalDate.class) : null,
+            creation ? getZonedDateTime(row, "creation") : null,
+            lastUpdate ? getZonedDateTime(row, "last_update") : null,
+            version ? row.get("version", Integer.class) : null
+        );
+    }
+
+    private static ZonedDateTime getZonedDateTime(Readable row, String column) {
+        OffsetDateTime value = row.get(column, OffsetDateTime.class);
+        return value == null ? null : value.toZonedDateTime();
+    }
+}
@@ -0,0 +1,62 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * R2DBC access of the reactive stack, configured with the usual {@code spring.r2dbc.*} properties.
+ * The connection pool and its transaction manager are deliberately not exposed as beans: the data source and the
+ * JPA transaction manager of the blocking stack, which still runs the background jobs, back off when such beans exist.
+ * The adapters use the database client, and the use cases the transactional operator.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactivePersistenceConfiguration implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    @Autowired
+    public ReactivePersistenceConfiguration(R2dbcProperties properties) {
+        ConnectionFactoryBuilder connectionFactoryBuilder = ConnectionFactoryBuilder.withUrl(properties.getUrl());
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(properties.getUsername()).to(connectionFactoryBuilder::username);
+        map.from(properties.getPassword()).to(connectionFactoryBuilder::password);
+
+        R2dbcProperties.Pool pool = properties.getPool();
+        ConnectionPoolConfiguration.Builder poolBuilder = ConnectionPoolConfiguration.builder(connectionFactoryBuilder.build());
+        map.from(pool.getInitialSize()).to(poolBuilder::initialSize);
+        map.from(pool.getMaxSize()).to(poolBuilder::maxSize);
+        map.from(pool.getMaxIdleTime()).to(poolBuilder::maxIdleTime);
+        map.from(pool.getMaxAcquireTime()).to(poolBuilder::maxAcquireTime);
+        map.from(pool.getValidationQuery()).whenHasText().to(poolBuilder::validationQuery);
+        this.connectionPool = new ConnectionPool(poolBuilder.build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator transactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -8,7 +8,9 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,8 +21,15 @@ import java.time.ZonedDateTime;
 @Table(name = "insurance_policy", schema = "insurance_policy")
 public class InsurancePolicyEntity {
 
+    /**
+     * Number of ids reserved by each call to the id sequence, which is incremented by the same value.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "insurance_policy_id_generator")
+    @SequenceGenerator(name = "insurance_policy_id_generator", schema = "insurance_policy",
+        sequenceName = "insurance_policy_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Integer id;
 
@@ -45,6 +54,13 @@ public class InsurancePolicyEntity {
     @UpdateTimestamp
     private ZonedDateTime lastUpdate;
 
+    /**
+     * Incremented by each update, which only applies when the row still has the version the entity was loaded with.
+     */
+    @Column(name = "version")
+    @Version
+    private Integer version;
+
     public InsurancePolicyEntity() {
     }
 
@@ -103,4 +119,12 @@ public class InsurancePolicyEntity {
     public void setLastUpdate(ZonedDateTime lastUpdate) {
         this.lastUpdate = lastUpdate;
     }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
 }
@@ -1,11 +1,59 @@
 package com.loenan.insurancepolicy.infrastructure.persistence.repository;
 
 import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 public interface InsurancePolicyRepository extends JpaRepository<InsurancePolicyEntity, Integer> {
 
     Stream<InsurancePolicyEntity> findAllByOrderByName();
+
+    @Query("SELECT p.lastUpdate AS lastUpdate, p.version AS version FROM InsurancePolicyEntity p WHERE p.id = :id")
+    Optional<PolicyVersion> findVersionById(@Param("id") Integer id);
+
+    /**
+     * The counter of the folded writing transactions, plus the committed ones not folded yet: it only reads the counter
+     * and the few recent changes, and changes exactly when a write is committed.
+     */
+    @Query(
+        value = """
+            SELECT CAST(sum(version) AS BIGINT) + (SELECT count(*) FROM insurance_policy.insurance_policy_list_change)
+            FROM insurance_policy.insurance_policy_list_version""",
+        nativeQuery = true
+    )
+    long findListVersion();
+
+    List<InsurancePolicyEntity> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    /**
+     * Keyset pagination: the row value comparison lets PostgreSQL seek directly
+     * in the (name, id) index, whatever the position of the page.
+     */
+    @Query(
+        value = """
+            SELECT * FROM insurance_policy.insurance_policy
+            WHERE (name, id) > (:name, :id)
+            ORDER BY name, id
+            LIMIT :limit""",
+        nativeQuery = true
+    )
+    List<InsurancePolicyEntity> findAllAfterOrderByNameAscIdAsc(
+        @Param("name") String name,
+        @Param("id") Integer id,
+        @Param("limit") int limit
+    );
+
+    interface PolicyVersion {
+
+        ZonedDateTime getLastUpdate();
+
+        Integer getVersion();
+    }
 }
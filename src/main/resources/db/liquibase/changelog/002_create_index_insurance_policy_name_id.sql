@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:002_create_index_insurance_policy_name_id
+-- comment Index supporting the keyset pagination of the policies ordered by name
+SET search_path TO insurance_policy;
+
+CREATE INDEX idx_insurance_policy_name_id ON insurance_policy (name, id);
+
+-- rollback DROP INDEX IF EXISTS insurance_policy.idx_insurance_policy_name_id;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:003_alter_sequence_insurance_policy_id_increment
+-- comment Let the application allocate the ids by blocks of 50 (pooled sequence generator), so the inserts can be batched
+SET search_path TO insurance_policy;
+
+ALTER SEQUENCE insurance_policy_id_seq INCREMENT BY 50;
+
+-- rollback ALTER SEQUENCE insurance_policy.insurance_policy_id_seq INCREMENT BY 1;
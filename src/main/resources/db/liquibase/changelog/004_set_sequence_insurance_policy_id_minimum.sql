@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:004_set_sequence_insurance_policy_id_minimum
+-- comment Make sure the next value of the id sequence is at least a full block, so every value is the upper bound of a block of 50 free ids
+SET search_path TO insurance_policy;
+
+SELECT setval('insurance_policy_id_seq', 50) WHERE (SELECT last_value FROM insurance_policy_id_seq) < 50;
+
+-- rollback SELECT 1;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:005_create_index_insurance_policy_last_update
+-- comment Index supporting the lists of the policies sorted by last update
+SET search_path TO insurance_policy;
+
+CREATE INDEX idx_insurance_policy_last_update ON insurance_policy (last_update);
+
+-- rollback DROP INDEX IF EXISTS insurance_policy.idx_insurance_policy_last_update;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:006_create_index_insurance_policy_active_name_id
+-- comment Partial index supporting the keyset pagination of the active policies ordered by name
+SET search_path TO insurance_policy;
+
+CREATE INDEX idx_insurance_policy_active_name_id ON insurance_policy (name, id) WHERE status = 'ACTIVE';
+
+-- rollback DROP INDEX IF EXISTS insurance_policy.idx_insurance_policy_active_name_id;
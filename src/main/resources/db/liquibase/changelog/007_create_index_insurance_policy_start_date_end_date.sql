@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:007_create_index_insurance_policy_start_date_end_date
+-- comment Index supporting the filters on the dates of cover, and the policies ordered by start date
+SET search_path TO insurance_policy;
+
+CREATE INDEX idx_insurance_policy_start_date_end_date ON insurance_policy (start_date, end_date);
+
+-- rollback DROP INDEX IF EXISTS insurance_policy.idx_insurance_policy_start_date_end_date;
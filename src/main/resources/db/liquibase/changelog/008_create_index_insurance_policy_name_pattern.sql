@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:008_create_index_insurance_policy_name_pattern
+-- comment Index supporting the name prefix filter (LIKE 'prefix%') whatever the collation of the database
+SET search_path TO insurance_policy;
+
+CREATE INDEX idx_insurance_policy_name_pattern ON insurance_policy (name text_pattern_ops);
+
+-- rollback DROP INDEX IF EXISTS insurance_policy.idx_insurance_policy_name_pattern;
@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:009_add_column_insurance_policy_version
+-- comment Version of each policy, incremented by every update, for the optimistic concurrency control of the edits
+SET search_path TO insurance_policy;
+
+ALTER TABLE insurance_policy ADD COLUMN version INTEGER NOT NULL DEFAULT 0;
+
+-- rollback ALTER TABLE insurance_policy.insurance_policy DROP COLUMN IF EXISTS version;
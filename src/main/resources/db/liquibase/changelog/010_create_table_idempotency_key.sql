@@ -0,0 +1,18 @@
+--liquibase formatted sql
+
+-- changeset loenan:010_create_table_idempotency_key
+-- comment Idempotency keys of the creations, with the hash of their request and the created policy, kept for a limited time
+SET search_path TO insurance_policy;
+
+CREATE TABLE idempotency_key (
+    key                 VARCHAR(255)    NOT NULL,
+    request_hash        VARCHAR(64)     NOT NULL,
+    insurance_policy_id INTEGER,
+    response            JSONB,
+    creation            TIMESTAMP WITH TIME ZONE    NOT NULL    DEFAULT timezone('utc'::text, now()),
+    CONSTRAINT pk_idempotency_key PRIMARY KEY (key)
+);
+
+CREATE INDEX idx_idempotency_key_creation ON idempotency_key (creation);
+
+-- rollback DROP TABLE IF EXISTS insurance_policy.idempotency_key;
@@ -0,0 +1,36 @@
+--liquibase formatted sql
+
+-- changeset loenan:011_create_table_insurance_policy_list_version splitStatements:false
+-- comment Version of the list of the policies, incremented once by every transaction writing the table, in this transaction. The counter is split in slots chosen by the backend, so the concurrent writers seldom wait on the same row, and the version is their sum
+SET search_path TO insurance_policy;
+
+CREATE TABLE insurance_policy_list_version (
+    slot        SMALLINT    NOT NULL,
+    version     BIGINT      NOT NULL    DEFAULT 0,
+    CONSTRAINT pk_insurance_policy_list_version PRIMARY KEY (slot)
+);
+
+INSERT INTO insurance_policy_list_version (slot) SELECT generate_series(0, 15);
+
+CREATE FUNCTION insurance_policy.increment_insurance_policy_list_version() RETURNS trigger AS $$
+BEGIN
+    PERFORM set_config('insurance_policy.list_version_incremented', 'true', true);
+    UPDATE insurance_policy.insurance_policy_list_version
+    SET version = version + 1
+    WHERE slot = pg_backend_pid() % 16;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The transaction-local setting skips the following statements of the transaction: a single update of the counter
+-- is enough, as it is committed with all the writes, and a counter row updated by each statement of a large
+-- transaction (such as row-by-row deletions) would grow a long chain of row versions
+CREATE TRIGGER trg_insurance_policy_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON insurance_policy
+FOR EACH STATEMENT
+WHEN (current_setting('insurance_policy.list_version_incremented', true) IS DISTINCT FROM 'true')
+EXECUTE FUNCTION insurance_policy.increment_insurance_policy_list_version();
+
+-- rollback DROP TRIGGER IF EXISTS trg_insurance_policy_list_version ON insurance_policy.insurance_policy;
+-- rollback DROP FUNCTION IF EXISTS insurance_policy.increment_insurance_policy_list_version();
+-- rollback DROP TABLE IF EXISTS insurance_policy.insurance_policy_list_version;
@@ -0,0 +1,49 @@
+--liquibase formatted sql
+
+-- changeset loenan:012_create_table_insurance_policy_list_change splitStatements:false
+-- comment Record the writing transactions in an append-only table instead of updating a counter row, whose lock was held until the commit of the writer and blocked the other writers. The recorded transactions are folded into the counter by one writer at a time, and the version of the list is the counter plus the transactions not folded yet
+SET search_path TO insurance_policy;
+
+CREATE TABLE insurance_policy_list_change (
+    transaction_id  XID8    NOT NULL    DEFAULT pg_current_xact_id()
+);
+
+UPDATE insurance_policy_list_version SET version = (SELECT sum(version) FROM insurance_policy_list_version) WHERE slot = 0;
+DELETE FROM insurance_policy_list_version WHERE slot <> 0;
+
+-- Inserting a row never waits for another writer. The counter row is only locked when it is free (SKIP LOCKED),
+-- so a long transaction folding the changes delays the next folding, never the other writers
+CREATE FUNCTION insurance_policy.record_insurance_policy_list_change() RETURNS trigger AS $$
+DECLARE
+    folded_count BIGINT;
+BEGIN
+    PERFORM set_config('insurance_policy.list_version_incremented', 'true', true);
+    INSERT INTO insurance_policy.insurance_policy_list_change DEFAULT VALUES;
+    PERFORM FROM insurance_policy.insurance_policy_list_version WHERE slot = 0 FOR UPDATE SKIP LOCKED;
+    IF FOUND THEN
+        WITH folded AS (
+            DELETE FROM insurance_policy.insurance_policy_list_change RETURNING 1
+        )
+        SELECT count(*) INTO folded_count FROM folded;
+        UPDATE insurance_policy.insurance_policy_list_version
+        SET version = version + folded_count
+        WHERE slot = 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER trg_insurance_policy_list_version ON insurance_policy;
+
+CREATE TRIGGER trg_insurance_policy_list_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON insurance_policy
+FOR EACH STATEMENT
+WHEN (current_setting('insurance_policy.list_version_incremented', true) IS DISTINCT FROM 'true')
+EXECUTE FUNCTION insurance_policy.record_insurance_policy_list_change();
+
+-- rollback DROP TRIGGER IF EXISTS trg_insurance_policy_list_version ON insurance_policy.insurance_policy;
+-- rollback CREATE TRIGGER trg_insurance_policy_list_version AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON insurance_policy.insurance_policy FOR EACH STATEMENT WHEN (current_setting('insurance_policy.list_version_incremented', true) IS DISTINCT FROM 'true') EXECUTE FUNCTION insurance_policy.increment_insurance_policy_list_version();
+-- rollback DROP FUNCTION IF EXISTS insurance_policy.record_insurance_policy_list_change();
+-- rollback UPDATE insurance_policy.insurance_policy_list_version SET version = version + (SELECT count(*) FROM insurance_policy.insurance_policy_list_change);
+-- rollback INSERT INTO insurance_policy.insurance_policy_list_version (slot) SELECT generate_series(1, 15);
+-- rollback DROP TABLE IF EXISTS insurance_policy.insurance_policy_list_change;
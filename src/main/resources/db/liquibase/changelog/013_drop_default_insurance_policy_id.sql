@@ -0,0 +1,9 @@
+--liquibase formatted sql
+
+-- changeset loenan:013_drop_default_insurance_policy_id
+-- comment Drop the SERIAL default of the id, which would use a whole block of 50 ids of the sequence for a single row, now that the ids are allocated by the application
+SET search_path TO insurance_policy;
+
+ALTER TABLE insurance_policy ALTER COLUMN id DROP DEFAULT;
+
+-- rollback ALTER TABLE insurance_policy.insurance_policy ALTER COLUMN id SET DEFAULT nextval('insurance_policy.insurance_policy_id_seq');
@@ -0,0 +1,170 @@
+package com.loenan.insurancepolicy;
+
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the virtual-threads profile: the requests are served on virtual threads, and they never pin their carrier
+ * thread while they wait, in particular for a database connection or a database response (JDBC driver, pool, ORM).
+ * The check under a heavy load is excluded from the default build, run it with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+class InsurancePolicyVirtualThreadsTest extends AbstractDatabaseTest {
+
+    // a few more concurrent clients than pooled connections, so that requests also wait for a connection
+    private static final int CONCURRENT_CLIENTS = 30;
+
+    private static final int HEAVY_LOAD_CONCURRENT_CLIENTS = 200;
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String POLICY_JSON = """
+        {"name": "My policy %d", "status": "ACTIVE", "startDate": "2024-01-01", "endDate": "2024-12-31"}""";
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldServeRequestsOnVirtualThreads() {
+        TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor())
+            .isInstanceOf(VirtualThreadExecutor.class);
+    }
+
+    @Test
+    void shouldNotPinCarrierThreads_whenConcurrentRequestsWaitForDatabase() throws Exception {
+        // the classes of the request path are loaded before the recording
+        sendRequests(10);
+
+        List<String> pinnedStacks = recordPinnedStacks(() -> sendRequests(CONCURRENT_CLIENTS));
+
+        assertThat(pinnedStacks).as("Stacks of the pinned virtual threads").isEmpty();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void shouldServeAllRequestsWithoutPinning_whenManyConcurrentRequestsWaitForDatabase() throws Exception {
+        sendRequests(10);
+        AtomicInteger successCount = new AtomicInteger();
+
+        List<String> pinnedStacks = recordPinnedStacks(
+            () -> successCount.set(sendRequests(HEAVY_LOAD_CONCURRENT_CLIENTS)));
+
+        assertThat(successCount).hasValue(HEAVY_LOAD_CONCURRENT_CLIENTS * 3);
+        assertThat(pinnedStacks).as("Stacks of the pinned virtual threads").isEmpty();
+    }
+
+    /**
+     * @return The stacks of the virtual threads pinned while the requests are sent
+     */
+    private static List<String> recordPinnedStacks(Requests requests) throws InterruptedException {
+        List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> pinnedStacks.add(describe(event)));
+            recording.startAsync();
+
+            requests.send();
+
+            // flushes the pending events to the callback
+            recording.stop();
+        }
+        return pinnedStacks;
+    }
+
+    /**
+     * Send concurrently, from each of the given number of clients, a creation, a list and an autocompletion.
+     *
+     * @return The number of successful requests
+     */
+    private int sendRequests(int count) throws InterruptedException {
+        String baseUrl = "http://localhost:" + port + "/v1/insurance-policies";
+        AtomicInteger successCount = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int number = i;
+                executor.execute(() -> {
+                    send(HttpRequest.newBuilder(URI.create(baseUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(POLICY_JSON.formatted(number))), successCount);
+                    send(HttpRequest.newBuilder(URI.create(baseUrl + "?limit=20&sort=-lastUpdate")), successCount);
+                    send(HttpRequest.newBuilder(URI.create(baseUrl + "/autocomplete?prefix=my")), successCount);
+                });
+            }
+        }
+        return successCount.get();
+    }
+
+    private void send(HttpRequest.Builder request, AtomicInteger successCount) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                successCount.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // counted as a failed request
+        }
+    }
+
+    @FunctionalInterface
+    private interface Requests {
+        void send() throws InterruptedException;
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack trace)";
+        }
+        return event.getStackTrace().getFrames().stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+            .collect(Collectors.joining("\n  at ", "Pinned for " + event.getDuration().toMillis() + " ms\n  at ", ""));
+    }
+}
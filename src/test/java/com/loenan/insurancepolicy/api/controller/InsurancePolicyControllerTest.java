@@ -1,31 +1,71 @@
 package com.loenan.insurancepolicy.api.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.loenan.insurancepolicy.api.converter.BinaryMediaTypes;
+import com.loenan.insurancepolicy.api.converter.InsurancePolicyProtobufHttpMessageConverter;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyCursorCodec;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyFieldsCodec;
+import com.loenan.insurancepolicy.api.model.BatchEditInsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.BulkUpdateResultDto;
 import com.loenan.insurancepolicy.api.model.EditInsurancePolicyDto;
 import com.loenan.insurancepolicy.api.model.ErrorDto;
 import com.loenan.insurancepolicy.api.model.FieldErrorDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyBatchItemResultDto;
 import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyNameDto;
+import com.loenan.insurancepolicy.api.model.UpdateInsurancePoliciesStatusDto;
+import com.loenan.insurancepolicy.domain.contract.exception.IdempotencyKeyReuseException;
 import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
 import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.core.usecase.action.UpdateInsurancePoliciesStatusUseCase;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
 import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
 import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
 import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
 import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus.ACTIVE;
@@ -36,12 +76,33 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class InsurancePolicyControllerTest extends AbstractDatabaseTest {
 
+    private static final ObjectMapper CBOR_MAPPER = Jackson2ObjectMapperBuilder.cbor()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private static final ObjectMapper SMILE_MAPPER = Jackson2ObjectMapperBuilder.smile()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private static final ObjectMapper PROTOBUF_MAPPER = Jackson2ObjectMapperBuilder.json()
+        .factory(new ProtobufFactory())
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private static final NativeProtobufSchema PROTOBUF_SCHEMA = loadProtobufSchema();
+    // the binary payloads are sent without the default charset parameter, which would make them read as text
+    private static final RestAssuredConfig BINARY_CONFIG = RestAssured.config()
+        .encoderConfig(EncoderConfig.encoderConfig().appendDefaultContentCharsetToContentTypeIfUndefined(false));
+
     @LocalServerPort
     private Integer port;
 
     @Autowired
     private InsurancePolicyRepository repository;
 
+    @Autowired
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         RestAssured.baseURI = "http://localhost:" + port;
@@ -83,6 +144,238 @@ class InsurancePolicyControllerTest extends AbstractDatabaseTest {
         assertDtoIsMatchingExpectedEntity(dtos.get(1), policy2);
     }
 
+    @Test
+    void shouldGetInsurancePoliciesPageByPage_whenLimitIsProvided() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        InsurancePolicyEntity policy2 = saveNumberedPolicy(2, INACTIVE);
+        InsurancePolicyEntity policy3 = saveNumberedPolicy(3, ACTIVE);
+
+        ExtractableResponse<Response> firstPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("limit", 2)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract();
+
+        List<InsurancePolicyDto> firstDtos = firstPage.body().jsonPath().getList("", InsurancePolicyDto.class);
+        assertThat(firstDtos).hasSize(2);
+        assertDtoIsMatchingExpectedEntity(firstDtos.get(0), policy1);
+        assertDtoIsMatchingExpectedEntity(firstDtos.get(1), policy2);
+        String nextCursor = firstPage.header(InsurancePolicyController.NEXT_CURSOR_HEADER);
+        assertThat(nextCursor).isNotBlank();
+
+        ExtractableResponse<Response> secondPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("limit", 2)
+            .queryParam("cursor", nextCursor)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract();
+
+        List<InsurancePolicyDto> secondDtos = secondPage.body().jsonPath().getList("", InsurancePolicyDto.class);
+        assertThat(secondDtos).hasSize(1);
+        assertDtoIsMatchingExpectedEntity(secondDtos.get(0), policy3);
+        assertThat(secondPage.header(InsurancePolicyController.NEXT_CURSOR_HEADER)).isNull();
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenCursorIsInvalid() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .queryParam("cursor", "not a cursor")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("cursor", InsurancePolicyCursorCodec.INVALID_CURSOR_ERROR_MESSAGE));
+    }
+
+    @Test
+    void shouldGetOnlyRequestedFieldsPageByPage_whenFieldsAndLimitAreProvided() {
+        saveNumberedPolicy(1, ACTIVE);
+        saveNumberedPolicy(2, INACTIVE);
+        saveNumberedPolicy(3, ACTIVE);
+
+        ExtractableResponse<Response> firstPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("limit", 2)
+            .queryParam("fields", "status")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract();
+
+        assertThat(firstPage.body().jsonPath().getList("", Map.class))
+            .containsExactly(Map.of("status", "ACTIVE"), Map.of("status", "INACTIVE"));
+        String nextCursor = firstPage.header(InsurancePolicyController.NEXT_CURSOR_HEADER);
+        assertThat(nextCursor).isNotBlank();
+
+        List<Map> secondPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("limit", 2)
+            .queryParam("cursor", nextCursor)
+            .queryParam("fields", "name,status")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getList("", Map.class);
+
+        assertThat(secondPage).containsExactly(Map.of("name", "My policy 3", "status", "ACTIVE"));
+    }
+
+    @Test
+    void shouldGetMatchingInsurancePolicies_whenFiltersAreProvided() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        saveNumberedPolicy(2, INACTIVE);
+        InsurancePolicyEntity policy3 = saveNumberedPolicy(3, ACTIVE);
+        savePolicy("Other policy", ACTIVE, LocalDate.of(2021, 1, 1), LocalDate.of(2023, 12, 31));
+
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .queryParam("status", "ACTIVE")
+            .queryParam("namePrefix", "My policy")
+            .queryParam("endDateFrom", "2021-06-01")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath();
+
+        List<InsurancePolicyDto> dtos = jsonPath.getList("", InsurancePolicyDto.class);
+        assertThat(dtos).hasSize(2);
+        assertDtoIsMatchingExpectedEntity(dtos.get(0), policy1);
+        assertDtoIsMatchingExpectedEntity(dtos.get(1), policy3);
+    }
+
+    @Test
+    void shouldGetInsurancePoliciesPageByPageInRequestedOrder_whenSortIsProvided() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        InsurancePolicyEntity policy2 = saveNumberedPolicy(2, INACTIVE);
+        InsurancePolicyEntity policy3 = saveNumberedPolicy(3, ACTIVE);
+
+        ExtractableResponse<Response> firstPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("limit", 2)
+            .queryParam("sort", "-startDate")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract();
+
+        List<InsurancePolicyDto> firstDtos = firstPage.body().jsonPath().getList("", InsurancePolicyDto.class);
+        assertThat(firstDtos).extracting(InsurancePolicyDto::id).containsExactly(policy3.getId(), policy2.getId());
+
+        List<InsurancePolicyDto> secondDtos = given()
+            .contentType(ContentType.JSON)
+            .queryParam("limit", 2)
+            .queryParam("sort", "-startDate")
+            .queryParam("cursor", firstPage.header(InsurancePolicyController.NEXT_CURSOR_HEADER))
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getList("", InsurancePolicyDto.class);
+
+        assertThat(secondDtos).hasSize(1);
+        assertDtoIsMatchingExpectedEntity(secondDtos.get(0), policy1);
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenFilterIsInvalid() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .queryParam("activeOn", "2024-13-01")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("activeOn",
+                InsurancePolicyExceptionHandler.INVALID_PARAMETER_ERROR_MESSAGE.formatted("2024-13-01", "activeOn")));
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenSortFieldIsNotSortable() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .queryParam("sort", "endDate")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("sort",
+                ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("sort", "name, startDate, lastUpdate")));
+    }
+
+    @Test
+    void shouldReceive304NotModified_whenListIsUnchangedSinceETag() {
+        saveNumberedPolicy(1, ACTIVE);
+        saveNumberedPolicy(2, INACTIVE);
+
+        String eTag = given()
+            .queryParam("limit", 1)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().header(HttpHeaders.ETAG);
+
+        given()
+            .queryParam("limit", 1)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(304);
+
+        // another page has another version
+        given()
+            .queryParam("limit", 2)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200);
+
+        saveNumberedPolicy(3, ACTIVE);
+
+        JsonPath jsonPath = given()
+            .queryParam("limit", 1)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath();
+        assertThat(jsonPath.getList("", InsurancePolicyDto.class)).hasSize(1);
+    }
+
     // endregion
 
     // region Get an insurance policy by ID
@@ -126,33 +419,447 @@ class InsurancePolicyControllerTest extends AbstractDatabaseTest {
             .isEqualTo(InsurancePolicyNotFoundException.KEY);
     }
 
-    // endregion
+    @Test
+    void shouldGetOnlyRequestedFields_whenFieldsAreProvided() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        Map<String, Object> body = given()
+            .contentType(ContentType.JSON)
+            .queryParam("fields", "id,startDate")
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getMap("");
+
+        assertThat(body).containsExactlyInAnyOrderEntriesOf(Map.of("id", policy.getId(), "startDate", "2021-01-01"));
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenFieldIsUnknown() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .queryParam("fields", "id,premium")
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("fields", InsurancePolicyFieldsCodec.INVALID_FIELD_ERROR_MESSAGE.formatted(
+                "premium", "id, name, status, startDate, endDate, creation, lastUpdate, version")));
+    }
+
+    @Test
+    void shouldReceive304NotModified_whenPolicyIsUnchangedSinceETag() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+
+        String eTag = given()
+            .when()
+            .get("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(200)
+            .extract().header(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+
+        ExtractableResponse<Response> notModified = given()
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(304)
+            .extract();
+        assertThat(notModified.header(HttpHeaders.ETAG)).isEqualTo(eTag);
+        assertThat(notModified.body().asByteArray()).isEmpty();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(buildNumberedEditInsurancePolicyDto(2, "INACTIVE"))
+            .when()
+            .put("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(200);
+
+        String newETag = given()
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .when()
+            .get("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(200)
+            .extract().header(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void shouldServeSameBodyFromCache_whenPolicyIsReadAgain() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+        double initialHits = getResponseCacheRequests("hit");
+        double initialMisses = getResponseCacheRequests("miss");
+
+        String firstBody = given()
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract().body().asString();
+        String secondBody = given()
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract().body().asString();
+
+        assertThat(secondBody).isEqualTo(firstBody);
+        assertDtoIsMatchingExpectedEntity(JsonPath.from(secondBody).getObject("", InsurancePolicyDto.class), policy);
+        assertThat(getResponseCacheRequests("miss")).isEqualTo(initialMisses + 1);
+        assertThat(getResponseCacheRequests("hit")).isEqualTo(initialHits + 1);
+        assertThat(meterRegistry.get("insurance.policy.response.cache.memory").gauge().value()).isPositive();
+    }
+
+    @Test
+    void shouldGetGzipEncodedPolicyWithItsOwnETag_whenClientAcceptsGzip() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        ExtractableResponse<Response> gzipResponse = given()
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract();
+        ExtractableResponse<Response> identityResponse = given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract();
+
+        assertThat(gzipResponse.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipResponse.headers().getValues(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(identityResponse.header(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identityResponse.headers().getValues(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzipResponse.header(HttpHeaders.ETAG))
+            .endsWith("-gzip\"")
+            .isEqualTo(identityResponse.header(HttpHeaders.ETAG).replaceFirst("\"$", "-gzip\""));
+        // decoded by the client
+        assertThat(gzipResponse.body().asString()).isEqualTo(identityResponse.body().asString());
+    }
+
+    @Test
+    void shouldGetIdentityEncodedPolicy_whenClientRefusesGzip() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        ExtractableResponse<Response> response = given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0")
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract();
+
+        assertThat(response.header(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.header(HttpHeaders.ETAG)).doesNotEndWith("-gzip\"");
+        assertThat(response.body().jsonPath().getString("name")).isEqualTo(policy.getName());
+    }
+
+    @Test
+    void shouldGetEditedPolicy_whenCachedPolicyIsEdited() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+        given()
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200);
+        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(2, "INACTIVE");
+        given()
+            .contentType(ContentType.JSON)
+            .body(requestDto)
+            .when()
+            .put("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200);
+
+        InsurancePolicyDto dto = given()
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getObject("", InsurancePolicyDto.class);
+
+        assertDtoIsMatchingRequestDto(dto, requestDto);
+    }
+
+    // endregion
+
+    // region Autocomplete the insurance policy names
+
+    @Test
+    void shouldSuggestNamesIgnoringCase_whenNamesStartWithPrefix() {
+        InsurancePolicyEntity homePolicy = savePolicy("Home policy", ACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        InsurancePolicyEntity homeBoat = savePolicy("home boat", INACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        savePolicy("Car policy", ACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        // the policies are saved without the use cases
+        nameIndexPort.rebuild();
+
+        JsonPath jsonPath = given()
+            .queryParam("prefix", "HOME")
+            .when()
+            .get("/v1/insurance-policies/autocomplete")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath();
+
+        assertThat(jsonPath.getList("", InsurancePolicyNameDto.class)).containsExactly(
+            new InsurancePolicyNameDto(homeBoat.getId(), "home boat"),
+            new InsurancePolicyNameDto(homePolicy.getId(), "Home policy")
+        );
+    }
+
+    @Test
+    void shouldSuggestCreatedAndEditedNames_whenPoliciesAreSavedThroughApi() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+        nameIndexPort.rebuild();
+        Integer createdId = given()
+            .contentType(ContentType.JSON)
+            .body(new EditInsurancePolicyDto("Autocompleted 2", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getInt("id");
+        given()
+            .contentType(ContentType.JSON)
+            .body(new EditInsurancePolicyDto("Autocompleted 1", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+            .when()
+            .put("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200);
+
+        JsonPath jsonPath = given()
+            .queryParam("prefix", "autocompleted")
+            .queryParam("limit", 5)
+            .when()
+            .get("/v1/insurance-policies/autocomplete")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath();
+
+        assertThat(jsonPath.getList("", InsurancePolicyNameDto.class)).containsExactly(
+            new InsurancePolicyNameDto(policy.getId(), "Autocompleted 1"),
+            new InsurancePolicyNameDto(createdId, "Autocompleted 2")
+        );
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenPrefixIsMissing() {
+        JsonPath jsonPath = given()
+            .when()
+            .get("/v1/insurance-policies/autocomplete")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto.fieldErrors()).containsExactly(
+            new FieldErrorDto(InsurancePolicyFields.PREFIX, ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.PREFIX)));
+    }
+
+    // endregion
+
+    // region Create an insurance policy
+
+    @Test
+    void shouldCreateInsurancePolicy_whenPolicyIsValid() {
+        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(4, "ACTIVE");
+
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .body(requestDto)
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath();
+
+        InsurancePolicyDto dto = jsonPath.getObject("", InsurancePolicyDto.class);
+        assertDtoIsMatchingRequestDto(dto, requestDto);
+        assertDtoExistsInDatabaseWithId(dto.id(), requestDto);
+    }
+
+    @Test
+    void shouldReceive400BadRequestWithValidationErrors_whenPolicyIsInvalid() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .body(new EditInsurancePolicyDto(null, null, null, null))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .hasSize(4)
+            .containsExactlyInAnyOrder(
+                Stream.of("name", "status", "startDate", "endDate")
+                    .map(fieldName -> new FieldErrorDto(fieldName, ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName)))
+                    .toArray(FieldErrorDto[]::new)
+            );
+        assertThat(repository.findAll()).isEmpty(); // nothing should be created
+    }
+
+    @Test
+    void shouldReceive400BadRequestWithValidationError_whenPolicyStatusIsInvalid() {
+        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(4, "XXX");
+
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .body(requestDto)
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .hasSize(1)
+            .containsExactly(new FieldErrorDto("status",
+                ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("status", "ACTIVE, INACTIVE")));
+
+        assertThat(repository.findAll()).isEmpty(); // nothing should be created
+    }
+
+    @Test
+    void shouldReceiveInvalidFormatError_whenCreateMessageIsInvalid() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .body("{\"startDate\": \"not a date\"}")
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo("invalid_format");
+    }
+
+    @Test
+    void shouldReplayCreation_whenSameRequestIsSentAgainWithSameIdempotencyKey() {
+        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(4, "ACTIVE");
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        List<InsurancePolicyDto> dtos = IntStream.range(0, 2)
+            .mapToObj(i -> given()
+                .contentType(ContentType.JSON)
+                .header(InsurancePolicyController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(requestDto)
+                .when()
+                .post("/v1/insurance-policies")
+                .then()
+                .statusCode(200)
+                .extract().body().jsonPath()
+                .getObject("", InsurancePolicyDto.class))
+            .toList();
+
+        assertThat(dtos.get(1)).isEqualTo(dtos.get(0));
+        assertDtoExistsInDatabaseWithId(dtos.get(0).id(), requestDto);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCreateOnlyOnePolicy_whenSameRequestIsSentConcurrentlyWithSameIdempotencyKey() throws Exception {
+        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(4, "ACTIVE");
+        String idempotencyKey = UUID.randomUUID().toString();
+        int requestCount = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> ids = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(requestCount)) {
+            for (int i = 0; i < requestCount; i++) {
+                ids.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .contentType(ContentType.JSON)
+                        .header(InsurancePolicyController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .body(requestDto)
+                        .when()
+                        .post("/v1/insurance-policies")
+                        .then()
+                        .statusCode(200)
+                        .extract().body().jsonPath()
+                        .getInt("id");
+                }));
+            }
+            start.countDown();
+        }
 
-    // region Create an insurance policy
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> id : ids) {
+            results.add(id.get());
+        }
+        assertThat(results).hasSize(requestCount).containsOnly(results.get(0));
+        assertThat(repository.count()).isEqualTo(1);
+    }
 
     @Test
-    void shouldCreateInsurancePolicy_whenPolicyIsValid() {
-        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(4, "ACTIVE");
+    void shouldReceive422UnprocessableEntity_whenIdempotencyKeyIsReusedForAnotherRequest() {
+        String idempotencyKey = UUID.randomUUID().toString();
+        given()
+            .contentType(ContentType.JSON)
+            .header(InsurancePolicyController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .body(buildNumberedEditInsurancePolicyDto(4, "ACTIVE"))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(200);
 
         JsonPath jsonPath = given()
             .contentType(ContentType.JSON)
-            .body(requestDto)
+            .header(InsurancePolicyController.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .body(buildNumberedEditInsurancePolicyDto(5, "ACTIVE"))
             .when()
             .post("/v1/insurance-policies")
             .then()
-            .statusCode(200)
+            .statusCode(422)
             .extract().body().jsonPath();
 
-        InsurancePolicyDto dto = jsonPath.getObject("", InsurancePolicyDto.class);
-        assertDtoIsMatchingRequestDto(dto, requestDto);
-        assertDtoExistsInDatabaseWithId(dto.id(), requestDto);
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(IdempotencyKeyReuseException.KEY);
+        assertThat(repository.count()).isEqualTo(1);
     }
 
     @Test
-    void shouldReceive400BadRequestWithValidationErrors_whenPolicyIsInvalid() {
+    void shouldReceive400BadRequestWithValidationError_whenIdempotencyKeyIsBlank() {
         JsonPath jsonPath = given()
             .contentType(ContentType.JSON)
-            .body(new EditInsurancePolicyDto(null, null, null, null))
+            .header(InsurancePolicyController.IDEMPOTENCY_KEY_HEADER, " ")
+            .body(buildNumberedEditInsurancePolicyDto(4, "ACTIVE"))
             .when()
             .post("/v1/insurance-policies")
             .then()
@@ -160,62 +867,87 @@ class InsurancePolicyControllerTest extends AbstractDatabaseTest {
             .extract().body().jsonPath();
 
         ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
-        assertThat(dto)
-            .isNotNull()
-            .extracting(ErrorDto::key)
-            .isEqualTo(InvalidInputException.KEY);
         assertThat(dto.fieldErrors())
-            .hasSize(4)
-            .containsExactlyInAnyOrder(
-                Stream.of("name", "status", "startDate", "endDate")
-                    .map(fieldName -> new FieldErrorDto(fieldName, ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName)))
-                    .toArray(FieldErrorDto[]::new)
-            );
+            .extracting(FieldErrorDto::fieldName)
+            .containsExactly(InsurancePolicyFields.IDEMPOTENCY_KEY);
         assertThat(repository.findAll()).isEmpty(); // nothing should be created
     }
 
+    // endregion
+
+    // region Create a batch of insurance policies
+
     @Test
-    void shouldReceive400BadRequestWithValidationError_whenPolicyStatusIsInvalid() {
-        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(4, "XXX");
+    void shouldCreateValidPoliciesAndReportInvalidOnes_whenBatchIsPosted() {
+        List<EditInsurancePolicyDto> requestDtos = List.of(
+            buildNumberedEditInsurancePolicyDto(1, "ACTIVE"),
+            buildNumberedEditInsurancePolicyDto(2, "XXX"),
+            buildNumberedEditInsurancePolicyDto(3, "INACTIVE")
+        );
 
-        JsonPath jsonPath = given()
+        List<InsurancePolicyBatchItemResultDto> results = given()
             .contentType(ContentType.JSON)
-            .body(requestDto)
+            .body(requestDtos)
             .when()
-            .post("/v1/insurance-policies")
+            .post("/v1/insurance-policies/batch")
             .then()
-            .statusCode(400)
-            .extract().body().jsonPath();
+            .statusCode(200)
+            .extract().body().jsonPath().getList("", InsurancePolicyBatchItemResultDto.class);
 
-        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
-        assertThat(dto)
-            .isNotNull()
-            .extracting(ErrorDto::key)
-            .isEqualTo(InvalidInputException.KEY);
-        assertThat(dto.fieldErrors())
-            .hasSize(1)
-            .containsExactly(new FieldErrorDto("status",
-                ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("status", "ACTIVE, INACTIVE")));
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).index()).isZero();
+        assertThat(results.get(0).fieldErrors()).isEmpty();
+        assertDtoIsMatchingRequestDto(results.get(0).insurancePolicy(), requestDtos.get(0));
+        assertDtoExistsInDatabaseWithId(results.get(0).insurancePolicy().id(), requestDtos.get(0));
+        assertThat(results.get(1).index()).isEqualTo(1);
+        assertThat(results.get(1).insurancePolicy()).isNull();
+        assertThat(results.get(1).fieldErrors()).extracting(FieldErrorDto::fieldName).containsExactly("status");
+        assertThat(results.get(2).index()).isEqualTo(2);
+        assertDtoIsMatchingRequestDto(results.get(2).insurancePolicy(), requestDtos.get(2));
+        assertDtoExistsInDatabaseWithId(results.get(2).insurancePolicy().id(), requestDtos.get(2));
+        assertThat(repository.count()).isEqualTo(2);
+    }
 
-        assertThat(repository.findAll()).isEmpty(); // nothing should be created
+    @Test
+    void shouldCreateAllPoliciesWithDistinctIds_whenBatchIsLarge() {
+        saveNumberedPolicy(0, ACTIVE);
+        List<EditInsurancePolicyDto> requestDtos = IntStream.range(0, InsurancePolicyFields.BATCH_MAX_SIZE)
+            .mapToObj(i -> buildNumberedEditInsurancePolicyDto(i % 10, "ACTIVE"))
+            .toList();
+
+        List<InsurancePolicyBatchItemResultDto> results = given()
+            .contentType(ContentType.JSON)
+            .body(requestDtos)
+            .when()
+            .post("/v1/insurance-policies/batch")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getList("", InsurancePolicyBatchItemResultDto.class);
+
+        assertThat(results)
+            .hasSize(InsurancePolicyFields.BATCH_MAX_SIZE)
+            .allSatisfy(result -> assertThat(result.fieldErrors()).isEmpty())
+            .extracting(result -> result.insurancePolicy().id())
+            .doesNotHaveDuplicates();
+        assertThat(repository.count()).isEqualTo(InsurancePolicyFields.BATCH_MAX_SIZE + 1);
     }
 
     @Test
-    void shouldReceiveInvalidFormatError_whenCreateMessageIsInvalid() {
-        JsonPath jsonPath = given()
+    void shouldReceive400BadRequest_whenBatchIsEmpty() {
+        ErrorDto dto = given()
             .contentType(ContentType.JSON)
-            .body("{\"startDate\": \"not a date\"}")
+            .body(List.of())
             .when()
-            .post("/v1/insurance-policies")
+            .post("/v1/insurance-policies/batch")
             .then()
             .statusCode(400)
-            .extract().body().jsonPath();
+            .extract().body().jsonPath().getObject("", ErrorDto.class);
 
-        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
-        assertThat(dto)
-            .isNotNull()
-            .extracting(ErrorDto::key)
-            .isEqualTo("invalid_format");
+        assertThat(dto.key()).isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors()).containsExactly(new FieldErrorDto(
+            "insurancePolicies",
+            ValidationUtil.COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("insurancePolicies", 1, InsurancePolicyFields.BATCH_MAX_SIZE)
+        ));
     }
 
     // endregion
@@ -241,6 +973,121 @@ class InsurancePolicyControllerTest extends AbstractDatabaseTest {
         assertDtoExistsInDatabaseWithId(policy1.getId(), requestDto);
     }
 
+    @Test
+    void shouldEditInsurancePolicyOnce_whenEditionsAreBasedOnSameETag() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        String eTag = given()
+            .when()
+            .get("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(200)
+            .extract().header(HttpHeaders.ETAG);
+        EditInsurancePolicyDto firstRequestDto = buildNumberedEditInsurancePolicyDto(2, "INACTIVE");
+        EditInsurancePolicyDto secondRequestDto = buildNumberedEditInsurancePolicyDto(3, "ACTIVE");
+
+        ExtractableResponse<Response> edited = given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_MATCH, eTag)
+            .body(firstRequestDto)
+            .when()
+            .put("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(200)
+            .extract();
+
+        InsurancePolicyDto dto = edited.body().jsonPath().getObject("", InsurancePolicyDto.class);
+        assertDtoIsMatchingRequestDto(dto, firstRequestDto);
+        assertThat(dto.version()).isEqualTo(policy1.getVersion() + 1);
+        assertThat(edited.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+
+        // the second edition is based on the version before the first one
+        ErrorDto errorDto = given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_MATCH, eTag)
+            .body(secondRequestDto)
+            .when()
+            .put("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(412)
+            .extract().body().jsonPath().getObject("", ErrorDto.class);
+
+        assertThat(errorDto.key()).isEqualTo(InsurancePolicyVersionMismatchException.KEY);
+        assertDtoExistsInDatabaseWithId(policy1.getId(), firstRequestDto);
+
+        // the edition based on the returned ETag succeeds
+        given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_MATCH, edited.header(HttpHeaders.ETAG))
+            .body(secondRequestDto)
+            .when()
+            .put("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(200);
+        assertDtoExistsInDatabaseWithId(policy1.getId(), secondRequestDto);
+    }
+
+    @Test
+    void shouldReceive412PreconditionFailed_whenIfMatchIsNotAnETagOfPolicy() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+
+        ErrorDto dto = given()
+            .contentType(ContentType.JSON)
+            .header(HttpHeaders.IF_MATCH, "\"list-1-0\"")
+            .body(buildNumberedEditInsurancePolicyDto(2, "INACTIVE"))
+            .when()
+            .put("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(412)
+            .extract().body().jsonPath().getObject("", ErrorDto.class);
+
+        assertThat(dto.key()).isEqualTo(InsurancePolicyVersionMismatchException.KEY);
+        assertThat(repository.findById(policy1.getId()))
+            .get()
+            .extracting(InsurancePolicyEntity::getName)
+            .isEqualTo("My policy 1");
+    }
+
+    @Test
+    void shouldApplyOnlyOneEdition_whenConcurrentEditionsAreBasedOnSameETag() throws Exception {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        String eTag = given()
+            .when()
+            .get("/v1/insurance-policies/" + policy1.getId())
+            .then()
+            .statusCode(200)
+            .extract().header(HttpHeaders.ETAG);
+        int editionCount = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> statusCodes = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(editionCount)) {
+            for (int i = 0; i < editionCount; i++) {
+                EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(10 + i, "INACTIVE");
+                statusCodes.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .contentType(ContentType.JSON)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .body(requestDto)
+                        .when()
+                        .put("/v1/insurance-policies/" + policy1.getId())
+                        .statusCode();
+                }));
+            }
+            start.countDown();
+        }
+
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> statusCode : statusCodes) {
+            results.add(statusCode.get());
+        }
+        assertThat(results).containsOnly(200, 412).containsOnlyOnce(200);
+        assertThat(repository.findById(policy1.getId()))
+            .get()
+            .extracting(InsurancePolicyEntity::getVersion)
+            .isEqualTo(policy1.getVersion() + 1);
+    }
+
     @Test
     void shouldReceive404NotFound_whenEditedPolicyDoesNotExist() {
         EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(2, "INACTIVE");
@@ -317,8 +1164,286 @@ class InsurancePolicyControllerTest extends AbstractDatabaseTest {
 
     // endregion
 
+    // region Edit a batch of insurance policies
+
+    @Test
+    void shouldEditExistingPoliciesAndReportUnknownIds_whenBatchIsPut() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        InsurancePolicyEntity policy2 = saveNumberedPolicy(2, ACTIVE);
+        int unknownId = policy2.getId() + 1000;
+        List<BatchEditInsurancePolicyDto> requestDtos = List.of(
+            buildBatchEditInsurancePolicyDto(policy1.getId(), 5, "INACTIVE"),
+            buildBatchEditInsurancePolicyDto(unknownId, 6, "INACTIVE"),
+            buildBatchEditInsurancePolicyDto(policy2.getId(), 7, "INACTIVE")
+        );
+
+        List<InsurancePolicyBatchItemResultDto> results = given()
+            .contentType(ContentType.JSON)
+            .body(requestDtos)
+            .when()
+            .put("/v1/insurance-policies/batch")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getList("", InsurancePolicyBatchItemResultDto.class);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).insurancePolicy().id()).isEqualTo(policy1.getId());
+        assertThat(results.get(0).insurancePolicy().name()).isEqualTo("My policy 5");
+        assertThat(results.get(1).insurancePolicy()).isNull();
+        assertThat(results.get(1).fieldErrors()).containsExactly(
+            new FieldErrorDto("id", InsurancePolicyNotFoundException.MESSAGE.formatted(unknownId)));
+        assertThat(results.get(2).insurancePolicy().id()).isEqualTo(policy2.getId());
+        assertThat(repository.findById(policy1.getId()))
+            .get()
+            .extracting(InsurancePolicyEntity::getName, InsurancePolicyEntity::getStatus)
+            .containsExactly("My policy 5", INACTIVE);
+        assertThat(repository.findById(policy2.getId()))
+            .get()
+            .extracting(InsurancePolicyEntity::getName, InsurancePolicyEntity::getStatus)
+            .containsExactly("My policy 7", INACTIVE);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    // endregion
+
+    // region Update the status of the insurance policies matching a filter
+
+    @Test
+    void shouldUpdateStatusOfMatchingPolicies_whenFilterIsValid() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        InsurancePolicyEntity policy2 = saveNumberedPolicy(2, ACTIVE);
+        InsurancePolicyEntity policy3 = saveNumberedPolicy(3, ACTIVE);
+        InsurancePolicyEntity policy4 = saveNumberedPolicy(4, INACTIVE);
+
+        BulkUpdateResultDto result = given()
+            .contentType(ContentType.JSON)
+            .body(new UpdateInsurancePoliciesStatusDto("ACTIVE", null, null, null, LocalDate.of(2023, 1, 1), null, "INACTIVE"))
+            .when()
+            .post("/v1/insurance-policies/status-update")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getObject("", BulkUpdateResultDto.class);
+
+        assertThat(result.updatedCount()).isEqualTo(2);
+        assertThat(Stream.of(policy1, policy2, policy3, policy4).map(policy -> repository.findById(policy.getId()).orElseThrow()))
+            .extracting(InsurancePolicyEntity::getStatus)
+            .containsExactly(INACTIVE, INACTIVE, ACTIVE, INACTIVE);
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenStatusUpdateFilterIsEmpty() {
+        ErrorDto dto = given()
+            .contentType(ContentType.JSON)
+            .body(new UpdateInsurancePoliciesStatusDto(null, null, null, null, null, null, "INACTIVE"))
+            .when()
+            .post("/v1/insurance-policies/status-update")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath().getObject("", ErrorDto.class);
+
+        assertThat(dto.key()).isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("filter", UpdateInsurancePoliciesStatusUseCase.EMPTY_FILTER_ERROR_MESSAGE));
+    }
+
+    // endregion
+
+    // region Binary formats
+
+    @Test
+    void shouldCreateAndGetInsurancePolicy_whenPayloadsAreInCbor() throws IOException {
+        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(4, "ACTIVE");
+
+        byte[] createdBody = given()
+            .config(BINARY_CONFIG)
+            .contentType(BinaryMediaTypes.CBOR.toString())
+            .accept(BinaryMediaTypes.CBOR.toString())
+            .body(CBOR_MAPPER.writeValueAsBytes(requestDto))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .contentType(BinaryMediaTypes.CBOR.toString())
+            .extract().body().asByteArray();
+        InsurancePolicyDto createdDto = CBOR_MAPPER.readValue(createdBody, InsurancePolicyDto.class);
+        assertDtoIsMatchingRequestDto(createdDto, requestDto);
+
+        byte[] body = given()
+            .accept(BinaryMediaTypes.CBOR.toString())
+            .when()
+            .get("/v1/insurance-policies/" + createdDto.id())
+            .then()
+            .statusCode(200)
+            .extract().body().asByteArray();
+        assertThat(CBOR_MAPPER.readValue(body, InsurancePolicyDto.class)).isEqualTo(createdDto);
+    }
+
+    @Test
+    void shouldGetInsurancePolicies_whenSmileIsAccepted() throws IOException {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        InsurancePolicyEntity policy2 = saveNumberedPolicy(2, INACTIVE);
+
+        byte[] body = given()
+            .accept(BinaryMediaTypes.SMILE.toString())
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .contentType(BinaryMediaTypes.SMILE.toString())
+            .extract().body().asByteArray();
+
+        List<InsurancePolicyDto> dtos = SMILE_MAPPER.readValue(body, new TypeReference<>() {
+        });
+        assertThat(dtos).hasSize(2);
+        assertDtoIsMatchingExpectedEntity(dtos.get(0), policy1);
+        assertDtoIsMatchingExpectedEntity(dtos.get(1), policy2);
+    }
+
+    @Test
+    void shouldCreateAndListInsurancePolicies_whenPayloadsAreInProtobuf() throws IOException {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        EditInsurancePolicyDto requestDto = buildNumberedEditInsurancePolicyDto(2, "INACTIVE");
+
+        byte[] createdBody = given()
+            .config(BINARY_CONFIG)
+            .contentType(BinaryMediaTypes.PROTOBUF.toString())
+            .accept(BinaryMediaTypes.PROTOBUF.toString())
+            .body(PROTOBUF_MAPPER.writer(PROTOBUF_SCHEMA.forType("EditInsurancePolicy")).writeValueAsBytes(requestDto))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .contentType(BinaryMediaTypes.PROTOBUF.toString())
+            .extract().body().asByteArray();
+        InsurancePolicyDto createdDto = PROTOBUF_MAPPER.readerFor(InsurancePolicyDto.class)
+            .with(PROTOBUF_SCHEMA.forType("InsurancePolicy"))
+            .readValue(createdBody);
+        assertDtoIsMatchingRequestDto(createdDto, requestDto);
+        assertDtoExistsInDatabaseWithId(createdDto.id(), requestDto);
+
+        byte[] listBody = given()
+            .accept(BinaryMediaTypes.PROTOBUF.toString())
+            .queryParam("fields", "id,status")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().asByteArray();
+        List<Map<String, Object>> insurancePolicies = PROTOBUF_MAPPER.readerFor(new TypeReference<Map<String, List<Map<String, Object>>>>() {
+            })
+            .with(PROTOBUF_SCHEMA.forType("InsurancePolicyList"))
+            .<Map<String, List<Map<String, Object>>>>readValue(listBody)
+            .get("insurancePolicies");
+        assertThat(insurancePolicies).containsExactly(
+            Map.of("id", policy1.getId(), "status", "ACTIVE"),
+            Map.of("id", createdDto.id(), "status", "INACTIVE")
+        );
+    }
+
+    @Test
+    void shouldReceive400BadRequestInProtobuf_whenProtobufPolicyIsInvalid() throws IOException {
+        byte[] body = given()
+            .config(BINARY_CONFIG)
+            .contentType(BinaryMediaTypes.PROTOBUF.toString())
+            .accept(BinaryMediaTypes.PROTOBUF.toString())
+            .body(PROTOBUF_MAPPER.writer(PROTOBUF_SCHEMA.forType("EditInsurancePolicy"))
+                .writeValueAsBytes(new EditInsurancePolicyDto("My policy", "ACTIVE", null, LocalDate.of(2024, 12, 31))))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().asByteArray();
+
+        ErrorDto dto = PROTOBUF_MAPPER.readerFor(ErrorDto.class).with(PROTOBUF_SCHEMA.forType("Error")).readValue(body);
+        assertThat(dto.key()).isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors()).containsExactly(
+            new FieldErrorDto("startDate", ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("startDate")));
+    }
+
+    @Test
+    void shouldReceive406NotAcceptable_whenProtobufIsRequestedForPayloadWithoutSchema() {
+        given()
+            .accept(BinaryMediaTypes.PROTOBUF.toString())
+            .queryParam("prefix", "my")
+            .when()
+            .get("/v1/insurance-policies/autocomplete")
+            .then()
+            .statusCode(406);
+    }
+
+    @Test
+    void shouldReceive415UnsupportedMediaType_whenPayloadFormatIsUnknown() {
+        JsonPath jsonPath = given()
+            .contentType("application/x-unknown")
+            .accept(ContentType.JSON)
+            .body("name=My policy".getBytes())
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(415)
+            .extract().body().jsonPath();
+
+        assertThat(jsonPath.getObject("", ErrorDto.class).key()).isEqualTo("unsupported_media_type");
+    }
+
+    @Test
+    void shouldGetJson_whenAnyMediaTypeIsAccepted() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        given()
+            .accept("*/*")
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON);
+    }
+
+    @Test
+    void shouldTagEachFormatSeparately_whenPolicyIsReadInSeveralFormats() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        ExtractableResponse<Response> jsonResponse = given()
+            .accept(ContentType.JSON)
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract();
+        String cborETag = given()
+            .accept(BinaryMediaTypes.CBOR.toString())
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract().header(HttpHeaders.ETAG);
+
+        assertThat(jsonResponse.header(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        assertThat(cborETag).isNotEqualTo(jsonResponse.header(HttpHeaders.ETAG));
+        given()
+            .accept(BinaryMediaTypes.CBOR.toString())
+            .header(HttpHeaders.IF_NONE_MATCH, cborETag)
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(304);
+        given()
+            .accept(ContentType.JSON)
+            .header(HttpHeaders.IF_NONE_MATCH, cborETag)
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200);
+    }
+
+    // endregion
+
     // region Utility methods
 
+    private double getResponseCacheRequests(String result) {
+        return meterRegistry.get("insurance.policy.response.cache.requests").tag("result", result).counter().count();
+    }
+
     private InsurancePolicyEntity saveNumberedPolicy(int number, InsurancePolicyStatus status) {
         return savePolicy(
             "My policy " + number,
@@ -351,6 +1476,17 @@ class InsurancePolicyControllerTest extends AbstractDatabaseTest {
         );
     }
 
+    private BatchEditInsurancePolicyDto buildBatchEditInsurancePolicyDto(Integer id, int number, String status) {
+        return new BatchEditInsurancePolicyDto(
+            id,
+            "My policy " + number,
+            status,
+            LocalDate.of(2020 + number, 1, 1),
+            LocalDate.of(2020 + number, 12, 31),
+            null
+        );
+    }
+
     private void assertDtoIsMatchingExpectedEntity(InsurancePolicyDto dto, InsurancePolicyEntity entity) {
         assertThat(dto)
             .isNotNull()
@@ -405,6 +1541,14 @@ class InsurancePolicyControllerTest extends AbstractDatabaseTest {
             );
     }
 
+    private static NativeProtobufSchema loadProtobufSchema() {
+        try (InputStream inputStream = new ClassPathResource(InsurancePolicyProtobufHttpMessageConverter.SCHEMA_LOCATION).getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(inputStream, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static Comparator<ZonedDateTime> getZonedDateTimeComparator() {
         return Comparator.comparing(ZonedDateTime::toInstant);
     }
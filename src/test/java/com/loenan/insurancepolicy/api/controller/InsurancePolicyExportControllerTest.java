@@ -0,0 +1,299 @@
+package com.loenan.insurancepolicy.api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.api.model.FieldErrorDto;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus.ACTIVE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus.INACTIVE;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class InsurancePolicyExportControllerTest extends AbstractDatabaseTest {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost:" + port;
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldExportPoliciesAsCsv_whenFormatIsCsv() {
+        InsurancePolicyEntity policy1 = savePolicy("My policy 1", ACTIVE);
+        InsurancePolicyEntity policy2 = savePolicy("My \"quoted\", policy 2", INACTIVE);
+
+        String body = given()
+            .queryParam("format", "CSV")
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(200)
+            .contentType("text/csv")
+            .extract().asString();
+
+        assertThat(body.lines())
+            .hasSize(3)
+            .first()
+            .isEqualTo("id,name,status,startDate,endDate,creation,lastUpdate");
+        assertThat(body.lines().skip(1))
+            .satisfiesExactly(
+                line -> assertThat(line).startsWith(policy1.getId() + ",My policy 1,ACTIVE,2024-01-01,2024-12-31,"),
+                line -> assertThat(line).startsWith(policy2.getId() + ",\"My \"\"quoted\"\", policy 2\",INACTIVE,2024-01-01,2024-12-31,")
+            );
+    }
+
+    @Test
+    void shouldExportPoliciesAsNdjson_whenFormatIsNdjson() throws IOException {
+        InsurancePolicyEntity policy1 = savePolicy("My policy 1", ACTIVE);
+        InsurancePolicyEntity policy2 = savePolicy("My \"quoted\" \\ policy 2", INACTIVE);
+
+        String body = given()
+            .queryParam("format", "NDJSON")
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(200)
+            .contentType("application/x-ndjson")
+            .extract().asString();
+
+        assertThat(body.lines()).hasSize(2);
+        JsonNode row1 = objectMapper.readTree(body.lines().toList().get(0));
+        JsonNode row2 = objectMapper.readTree(body.lines().toList().get(1));
+        assertThat(row1.get("id").asInt()).isEqualTo(policy1.getId());
+        assertThat(row1.get("name").asText()).isEqualTo("My policy 1");
+        assertThat(row1.get("startDate").asText()).isEqualTo("2024-01-01");
+        assertThat(row2.get("id").asInt()).isEqualTo(policy2.getId());
+        assertThat(row2.get("name").asText()).isEqualTo("My \"quoted\" \\ policy 2");
+        assertThat(row2.get("status").asText()).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    void shouldCompressExport_whenClientAcceptsGzip() throws IOException {
+        savePolicy("My policy 1", ACTIVE);
+
+        ExtractableResponse<Response> response = given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .header("Accept-Encoding", "gzip")
+            .queryParam("format", "CSV")
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(200)
+            .header("Content-Encoding", "gzip")
+            .extract();
+
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(response.asByteArray()))) {
+            String body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(body.lines()).hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldExportPoliciesInIdOrder_whenParallelismIsGreaterThanOne() {
+        List<Integer> ids = IntStream.rangeClosed(1, 10)
+            .mapToObj(i -> savePolicy("My policy " + i, ACTIVE).getId())
+            .toList();
+
+        String body = given()
+            .queryParam("format", "CSV")
+            .queryParam("parallelism", 4)
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(200)
+            .contentType("text/csv")
+            .extract().asString();
+
+        assertThat(body.lines())
+            .hasSize(11)
+            .first()
+            .isEqualTo("id,name,status,startDate,endDate,creation,lastUpdate");
+        assertThat(body.lines().skip(1).map(line -> Integer.valueOf(line.substring(0, line.indexOf(',')))))
+            .containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void shouldExportOneFilePerPartition_whenLayoutIsPartitioned() throws IOException {
+        List<Integer> ids = IntStream.rangeClosed(1, 10)
+            .mapToObj(i -> savePolicy("My policy " + i, ACTIVE).getId())
+            .toList();
+
+        ExtractableResponse<Response> response = given()
+            .header("Accept-Encoding", "gzip")
+            .queryParam("format", "NDJSON")
+            .queryParam("layout", "PARTITIONED")
+            .queryParam("parallelism", 3)
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(200)
+            .contentType("application/zip")
+            .extract();
+
+        assertThat(response.header("Content-Encoding")).isNull();
+        List<String> entryNames = new ArrayList<>();
+        List<Integer> exportedIds = new ArrayList<>();
+        try (ZipInputStream input = new ZipInputStream(new ByteArrayInputStream(response.asByteArray()))) {
+            ZipEntry entry;
+            while ((entry = input.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                for (String line : new String(input.readAllBytes(), StandardCharsets.UTF_8).lines().toList()) {
+                    exportedIds.add(objectMapper.readTree(line).get("id").asInt());
+                }
+            }
+        }
+        assertThat(entryNames).containsExactly(
+            "insurance-policies-part-001.ndjson",
+            "insurance-policies-part-002.ndjson",
+            "insurance-policies-part-003.ndjson"
+        );
+        assertThat(exportedIds).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void shouldServeConcurrentExportsAndOtherRequests_whenExportsUseMaxParallelism() throws Exception {
+        List<Integer> ids = IntStream.rangeClosed(1, 20)
+            .mapToObj(i -> savePolicy("My policy " + i, ACTIVE).getId())
+            .toList();
+        int exportCount = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> exports = new ArrayList<>();
+        List<Future<Integer>> reads = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(exportCount * 2)) {
+            for (int i = 0; i < exportCount; i++) {
+                exports.add(executor.submit(() -> {
+                    start.await();
+                    String body = given()
+                        .queryParam("format", "CSV")
+                        .queryParam("parallelism", 8)
+                        .when()
+                        .get("/v1/insurance-policies/export")
+                        .then()
+                        .statusCode(200)
+                        .extract().asString();
+                    return body.lines().skip(1).map(line -> Integer.valueOf(line.substring(0, line.indexOf(',')))).toList();
+                }));
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    return given()
+                        .when()
+                        .get("/v1/insurance-policies/" + ids.getFirst())
+                        .statusCode();
+                }));
+            }
+            start.countDown();
+        }
+
+        for (Future<List<Integer>> export : exports) {
+            assertThat(export.get()).containsExactlyElementsOf(ids);
+        }
+        for (Future<Integer> read : reads) {
+            assertThat(read.get()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenLayoutIsInvalid() {
+        ErrorDto dto = given()
+            .queryParam("layout", "SPLIT")
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath().getObject("", ErrorDto.class);
+
+        assertThat(dto.key()).isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("layout", InsurancePolicyExportController.INVALID_LAYOUT_ERROR_MESSAGE));
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenFormatIsInvalid() {
+        ErrorDto dto = given()
+            .queryParam("format", "XML")
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath().getObject("", ErrorDto.class);
+
+        assertThat(dto.key()).isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("format", InsurancePolicyExportController.INVALID_FORMAT_ERROR_MESSAGE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 999})
+    void shouldReceive400BadRequestWithoutExportHeaders_whenParallelismIsOutOfRange(int parallelism) {
+        ExtractableResponse<Response> response = given()
+            .header("Accept-Encoding", "gzip")
+            .queryParam("parallelism", parallelism)
+            .when()
+            .get("/v1/insurance-policies/export")
+            .then()
+            .statusCode(400)
+            .extract();
+        ErrorDto dto = response.body().jsonPath().getObject("", ErrorDto.class);
+
+        assertThat(response.contentType()).startsWith("application/json");
+        assertThat(response.header("Content-Disposition")).isNull();
+        assertThat(response.header("Content-Encoding")).isNull();
+        assertThat(dto.key()).isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("parallelism",
+                INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("parallelism", 1, 8)));
+    }
+
+    private InsurancePolicyEntity savePolicy(String name, InsurancePolicyStatus status) {
+        InsurancePolicyEntity entity = new InsurancePolicyEntity();
+        entity.setName(name);
+        entity.setStatus(status);
+        entity.setStartDate(LocalDate.of(2024, 1, 1));
+        entity.setEndDate(LocalDate.of(2024, 12, 31));
+        return repository.save(entity);
+    }
+}
@@ -0,0 +1,95 @@
+package com.loenan.insurancepolicy.api.controller;
+
+import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.time.Duration;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class InsurancePolicyImportControllerTest extends AbstractDatabaseTest {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost:" + port;
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldImportValidRecordsAndReturnErrorReport_whenCsvIsPosted() {
+        ExtractableResponse<Response> response = given()
+            .contentType("text/csv")
+            .body("""
+                name,status,startDate,endDate
+                My policy 1,ACTIVE,2024-01-01,2024-12-31
+                My policy 2,INACTIVE,2024-12-31,2024-01-01
+                """)
+            .when()
+            .post("/v1/insurance-policies/import")
+            .then()
+            .statusCode(200)
+            .contentType("text/csv")
+            .extract();
+
+        assertThat(response.header(InsurancePolicyImportController.IMPORTED_COUNT_HEADER)).isEqualTo("1");
+        assertThat(response.header(InsurancePolicyImportController.REJECTED_COUNT_HEADER)).isEqualTo("1");
+        assertThat(response.asString().lines())
+            .containsExactly(
+                "record,name,status,startDate,endDate,errors",
+                "2,My policy 2,INACTIVE,2024-12-31,2024-01-01," + INVALID_DATE_ORDER_ERROR_MESSAGE.formatted("endDate", "startDate")
+            );
+        assertThat(repository.findAll())
+            .extracting(InsurancePolicyEntity::getName)
+            .containsExactly("My policy 1");
+        // the name index is reloaded in the background once the import is committed
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(given()
+            .queryParam("prefix", "my policy")
+            .when()
+            .get("/v1/insurance-policies/autocomplete")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getList("name", String.class))
+            .containsExactly("My policy 1"));
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenCsvIsMalformed() {
+        ErrorDto dto = given()
+            .contentType("text/csv")
+            .body("""
+                name,status,startDate,endDate
+                "My policy 1,ACTIVE,2024-01-01,2024-12-31
+                """)
+            .when()
+            .post("/v1/insurance-policies/import")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath().getObject("", ErrorDto.class);
+
+        assertThat(dto.key()).isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors()).singleElement()
+            .satisfies(fieldError -> assertThat(fieldError.fieldName()).isEqualTo("input"));
+        assertThat(repository.findAll()).isEmpty();
+    }
+}
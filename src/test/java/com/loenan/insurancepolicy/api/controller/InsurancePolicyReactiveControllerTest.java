@@ -0,0 +1,368 @@
+package com.loenan.insurancepolicy.api.controller;
+
+import com.loenan.insurancepolicy.api.model.EditInsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.ErrorDto;
+import com.loenan.insurancepolicy.api.model.FieldErrorDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyNameDto;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus.ACTIVE;
+import static com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus.INACTIVE;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the reactive profile serves the same contract as {@link InsurancePolicyControllerTest}
+ * for the endpoints it supports.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class InsurancePolicyReactiveControllerTest extends AbstractDatabaseTest {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @Autowired
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.baseURI = "http://localhost:" + port;
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldServeRequestsWithReactiveController() {
+        assertThat(applicationContext.getBeanNamesForType(InsurancePolicyReactiveController.class)).hasSize(1);
+        assertThat(applicationContext.getBeanNamesForType(InsurancePolicyController.class)).isEmpty();
+    }
+
+    // region Get all insurance policies
+
+    @Test
+    void shouldStreamAllInsurancePolicies_whenNoLimitIsProvided() {
+        List<InsurancePolicyEntity> policies = Stream.of(1, 2, 3)
+            .map(number -> saveNumberedPolicy(number, number % 2 == 0 ? INACTIVE : ACTIVE))
+            .toList();
+
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath();
+
+        List<InsurancePolicyDto> dtos = jsonPath.getList("", InsurancePolicyDto.class);
+        assertThat(dtos).hasSize(3);
+        for (int i = 0; i < policies.size(); i++) {
+            assertDtoIsMatchingExpectedEntity(dtos.get(i), policies.get(i));
+        }
+    }
+
+    @Test
+    void shouldGetMatchingInsurancePoliciesPageByPageInRequestedOrder_whenFilterSortAndLimitAreProvided() {
+        InsurancePolicyEntity policy1 = saveNumberedPolicy(1, ACTIVE);
+        saveNumberedPolicy(2, INACTIVE);
+        InsurancePolicyEntity policy3 = saveNumberedPolicy(3, ACTIVE);
+        InsurancePolicyEntity policy4 = saveNumberedPolicy(4, ACTIVE);
+
+        ExtractableResponse<Response> firstPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("status", "ACTIVE")
+            .queryParam("sort", "-startDate")
+            .queryParam("limit", 2)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract();
+
+        assertThat(firstPage.body().jsonPath().getList("", InsurancePolicyDto.class))
+            .extracting(InsurancePolicyDto::id)
+            .containsExactly(policy4.getId(), policy3.getId());
+        String nextCursor = firstPage.header(InsurancePolicyController.NEXT_CURSOR_HEADER);
+        assertThat(nextCursor).isNotBlank();
+
+        ExtractableResponse<Response> secondPage = given()
+            .contentType(ContentType.JSON)
+            .queryParam("status", "ACTIVE")
+            .queryParam("sort", "-startDate")
+            .queryParam("limit", 2)
+            .queryParam("cursor", nextCursor)
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract();
+
+        List<InsurancePolicyDto> secondDtos = secondPage.body().jsonPath().getList("", InsurancePolicyDto.class);
+        assertThat(secondDtos).hasSize(1);
+        assertDtoIsMatchingExpectedEntity(secondDtos.get(0), policy1);
+        assertThat(secondPage.header(InsurancePolicyController.NEXT_CURSOR_HEADER)).isNull();
+    }
+
+    @Test
+    void shouldReceive400BadRequest_whenFilterIsInvalid() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .queryParam("status", "XXX")
+            .when()
+            .get("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InvalidInputException.KEY);
+        assertThat(dto.fieldErrors())
+            .containsExactly(new FieldErrorDto("status",
+                InsurancePolicyExceptionHandler.INVALID_PARAMETER_ERROR_MESSAGE.formatted("XXX", "status")));
+    }
+
+    // endregion
+
+    // region Get an insurance policy by ID
+
+    @Test
+    void shouldGetOnlyRequestedFields_whenFieldsAreProvided() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        Map<String, Object> body = given()
+            .contentType(ContentType.JSON)
+            .queryParam("fields", "id,startDate")
+            .when()
+            .get("/v1/insurance-policies/" + policy.getId())
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getMap("");
+
+        assertThat(body).containsExactlyInAnyOrderEntriesOf(Map.of("id", policy.getId(), "startDate", "2021-01-01"));
+    }
+
+    @Test
+    void shouldReceive404NotFound_whenPolicyDoesNotExist() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .when()
+            .get("/v1/insurance-policies/666")
+            .then()
+            .statusCode(404)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InsurancePolicyNotFoundException.KEY);
+    }
+
+    // endregion
+
+    // region Create and edit an insurance policy
+
+    @Test
+    void shouldCreateThenEditInsurancePolicy_andSuggestItsNames() {
+        nameIndexPort.rebuild();
+        EditInsurancePolicyDto createDto = new EditInsurancePolicyDto("Reactive 1", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        EditInsurancePolicyDto editDto = new EditInsurancePolicyDto("Reactive 2", "INACTIVE", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+        InsurancePolicyDto createdDto = given()
+            .contentType(ContentType.JSON)
+            .body(createDto)
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getObject("", InsurancePolicyDto.class);
+        assertDtoIsMatchingRequestDto(createdDto, createDto);
+        assertThat(createdDto.creation()).isNotNull();
+
+        InsurancePolicyDto editedDto = given()
+            .contentType(ContentType.JSON)
+            .body(editDto)
+            .when()
+            .put("/v1/insurance-policies/" + createdDto.id())
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getObject("", InsurancePolicyDto.class);
+        assertDtoIsMatchingRequestDto(editedDto, editDto);
+        assertThat(editedDto.id()).isEqualTo(createdDto.id());
+        assertThat(editedDto.creation()).isEqualTo(createdDto.creation());
+
+        assertThat(repository.findById(createdDto.id()))
+            .isPresent()
+            .get()
+            .extracting(InsurancePolicyEntity::getName, InsurancePolicyEntity::getStatus)
+            .containsExactly("Reactive 2", INACTIVE);
+        JsonPath suggestions = given()
+            .queryParam("prefix", "reactive")
+            .when()
+            .get("/v1/insurance-policies/autocomplete")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath();
+        assertThat(suggestions.getList("", InsurancePolicyNameDto.class))
+            .containsExactly(new InsurancePolicyNameDto(createdDto.id(), "Reactive 2"));
+    }
+
+    @Test
+    void shouldCreateInsurancePoliciesWithIdsDistinctFromBlockingStack() {
+        InsurancePolicyEntity policy = saveNumberedPolicy(1, ACTIVE);
+
+        Integer createdId = given()
+            .contentType(ContentType.JSON)
+            .body(new EditInsurancePolicyDto("Reactive", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(200)
+            .extract().body().jsonPath().getInt("id");
+        InsurancePolicyEntity nextPolicy = saveNumberedPolicy(2, ACTIVE);
+
+        assertThat(List.of(policy.getId(), createdId, nextPolicy.getId())).doesNotHaveDuplicates();
+        assertThat(repository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReceive400BadRequestWithValidationErrors_whenPolicyIsInvalid() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .body(new EditInsurancePolicyDto(null, null, null, null))
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto.fieldErrors())
+            .containsExactlyInAnyOrder(
+                Stream.of("name", "status", "startDate", "endDate")
+                    .map(fieldName -> new FieldErrorDto(fieldName, ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName)))
+                    .toArray(FieldErrorDto[]::new)
+            );
+        assertThat(repository.findAll()).isEmpty(); // nothing should be created
+    }
+
+    @Test
+    void shouldReceiveInvalidFormatError_whenCreateMessageIsInvalid() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .body("{\"startDate\": \"not a date\"}")
+            .when()
+            .post("/v1/insurance-policies")
+            .then()
+            .statusCode(400)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo("invalid_format");
+    }
+
+    @Test
+    void shouldReceive404NotFound_whenEditedPolicyDoesNotExist() {
+        JsonPath jsonPath = given()
+            .contentType(ContentType.JSON)
+            .body(new EditInsurancePolicyDto("My policy", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+            .when()
+            .put("/v1/insurance-policies/153")
+            .then()
+            .statusCode(404)
+            .extract().body().jsonPath();
+
+        ErrorDto dto = jsonPath.getObject("", ErrorDto.class);
+        assertThat(dto)
+            .isNotNull()
+            .extracting(ErrorDto::key)
+            .isEqualTo(InsurancePolicyNotFoundException.KEY);
+    }
+
+    // endregion
+
+    // region Utility methods
+
+    private InsurancePolicyEntity saveNumberedPolicy(int number, InsurancePolicyStatus status) {
+        InsurancePolicyEntity entity = new InsurancePolicyEntity();
+        entity.setName("My policy " + number);
+        entity.setStatus(status);
+        entity.setStartDate(LocalDate.of(2020 + number, 1, 1));
+        entity.setEndDate(LocalDate.of(2020 + number, 12, 31));
+        return repository.save(entity);
+    }
+
+    private void assertDtoIsMatchingExpectedEntity(InsurancePolicyDto dto, InsurancePolicyEntity entity) {
+        assertThat(dto)
+            .isNotNull()
+            .extracting(
+                InsurancePolicyDto::id,
+                InsurancePolicyDto::name,
+                InsurancePolicyDto::status,
+                InsurancePolicyDto::startDate,
+                InsurancePolicyDto::endDate
+            )
+            .containsExactly(
+                entity.getId(),
+                entity.getName(),
+                entity.getStatus(),
+                entity.getStartDate(),
+                entity.getEndDate()
+            );
+    }
+
+    private void assertDtoIsMatchingRequestDto(InsurancePolicyDto dto, EditInsurancePolicyDto requestDto) {
+        assertThat(dto)
+            .isNotNull()
+            .extracting(
+                InsurancePolicyDto::name,
+                insurancePolicyDto -> insurancePolicyDto.status().name(),
+                InsurancePolicyDto::startDate,
+                InsurancePolicyDto::endDate
+            )
+            .containsExactly(
+                requestDto.name(),
+                requestDto.status(),
+                requestDto.startDate(),
+                requestDto.endDate()
+            );
+    }
+
+    // endregion
+}
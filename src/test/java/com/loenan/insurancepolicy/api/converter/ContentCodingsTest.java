@@ -0,0 +1,33 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodingsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "GZIP", "x-gzip", "gzip, deflate, br", "br;q=1.0, gzip;q=0.8", "gzip ; q=0.001",
+        "*", "deflate, *;q=0.5", "gzip;q=0, gzip;q=0.5"})
+    void shouldAcceptGzip_whenGzipHasPositiveQuality(String acceptEncoding) {
+        // when
+        boolean acceptsGzip = ContentCodings.acceptsGzip(acceptEncoding);
+
+        // then
+        assertThat(acceptsGzip).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"identity", "deflate, br", "gzip;q=0", "gzip;q=0.000", "GZIP; Q=0", "br, gzip;q=0, *",
+        "*;q=0", "gzip;q=invalid", "gzip;q=2", "gzipped", "identity;q=1, notgzip"})
+    void shouldNotAcceptGzip_whenGzipHasNoPositiveQuality(String acceptEncoding) {
+        // when
+        boolean acceptsGzip = ContentCodings.acceptsGzip(acceptEncoding);
+
+        // then
+        assertThat(acceptsGzip).isFalse();
+    }
+}
@@ -0,0 +1,66 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsurancePolicyDtoSerializerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private final ObjectMapper genericObjectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .mixIn(InsurancePolicyDto.class, GenericSerialization.class)
+        .build();
+
+    @Test
+    void shouldWriteAllFields() throws Exception {
+        // given
+        InsurancePolicyDto dto = new InsurancePolicyDto(12, "My \"quoted\" policy é", InsurancePolicyStatus.INACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), LocalDate.of(2024, 10, 28), LocalDate.of(2024, 10, 29), 3);
+
+        // when
+        String json = objectMapper.writeValueAsString(dto);
+
+        // then
+        assertThat(json).isEqualTo("""
+            {"id":12,"name":"My \\"quoted\\" policy é","status":"INACTIVE","startDate":"2024-01-01",\
+            "endDate":"2024-12-31","creation":"2024-10-28","lastUpdate":"2024-10-29","version":3}""");
+        assertThat(json).isEqualTo(genericObjectMapper.writeValueAsString(dto));
+    }
+
+    @Test
+    void shouldSkipNullFields() throws Exception {
+        // given
+        List<InsurancePolicyDto> dtos = List.of(
+            new InsurancePolicyDto(1, null, InsurancePolicyStatus.ACTIVE, null, LocalDate.of(2024, 12, 31), null, null, null),
+            new InsurancePolicyDto(null, null, null, null, null, null, null, null)
+        );
+
+        // when
+        String json = objectMapper.writeValueAsString(dtos);
+
+        // then
+        assertThat(json).isEqualTo("""
+            [{"id":1,"status":"ACTIVE","endDate":"2024-12-31"},{}]""");
+        assertThat(json).isEqualTo(genericObjectMapper.writeValueAsString(dtos));
+    }
+
+    /**
+     * Replaces the serializer of the DTO by the generic one.
+     */
+    @JsonSerialize
+    private interface GenericSerialization {
+    }
+}
@@ -0,0 +1,82 @@
+package com.loenan.insurancepolicy.api.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsurancePolicyListStreamWriterTest {
+
+    private static final List<InsurancePolicyDto> DTOS = List.of(
+        new InsurancePolicyDto(1, "My policy 1", InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), LocalDate.of(2024, 10, 28), LocalDate.of(2024, 10, 29), 0),
+        new InsurancePolicyDto(2, "My policy 2", InsurancePolicyStatus.INACTIVE,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), LocalDate.of(2024, 10, 28), LocalDate.of(2024, 11, 3), 2)
+    );
+
+    private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private final ObjectMapper protobufMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .factory(new ProtobufFactory())
+        .build();
+
+    private final ProtobufSchema listSchema = InsurancePolicyProtobufHttpMessageConverter.loadListSchema();
+
+    private final InsurancePolicyListStreamWriter writer = new InsurancePolicyListStreamWriter(Map.of(
+        MediaType.APPLICATION_JSON, jsonMapper.writer(),
+        BinaryMediaTypes.PROTOBUF, protobufMapper.writer(listSchema)
+    ));
+
+    @Test
+    void shouldWriteJsonArray_whenPoliciesAreProduced() throws Exception {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        writer.write(MediaType.APPLICATION_JSON, output, DTOS::forEach);
+
+        // then
+        assertThat(output.toString()).isEqualTo(jsonMapper.writeValueAsString(DTOS));
+    }
+
+    @Test
+    void shouldWriteEmptyJsonArray_whenNoPolicyIsProduced() throws Exception {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        writer.write(MediaType.APPLICATION_JSON, output, consumer -> {
+        });
+
+        // then
+        assertThat(output.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void shouldWriteProtobufListMessage_whenPoliciesAreProduced() throws Exception {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        writer.write(BinaryMediaTypes.PROTOBUF, output, DTOS::forEach);
+
+        // then
+        assertThat(output.toByteArray()).isEqualTo(protobufMapper.writer(listSchema)
+            .writeValueAsBytes(new InsurancePolicyProtobufHttpMessageConverter.InsurancePolicyList(DTOS)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.loenan.insurancepolicy.api.mapper;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsurancePolicyETagGeneratorTest {
+
+    private static final InsurancePoliciesVersion VERSION = new InsurancePoliciesVersion(7);
+
+    private final InsurancePolicyETagGenerator generator = new InsurancePolicyETagGenerator();
+
+    @Test
+    void shouldGenerateListTagWith64BitQueryDigest() {
+        // given
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, 10);
+
+        // when
+        String eTag = generator.generate(VERSION, query, null);
+
+        // then
+        assertThat(eTag).matches("\"list-7-q[0-9a-f]{16}\"");
+    }
+
+    @Test
+    void shouldGenerateDifferentListTags_whenQueriesOnlyDifferInHowNameCriteriaAreSplit() {
+        // given
+        GetAllInsurancePoliciesQuery query = queryWithNamePrefix("a, status=ACTIVE");
+        GetAllInsurancePoliciesQuery otherQuery = queryWithNamePrefix("a");
+
+        // when
+        String eTag = generator.generate(VERSION, query, null);
+        String otherETag = generator.generate(VERSION, otherQuery, null);
+
+        // then
+        assertThat(eTag).isNotEqualTo(otherETag);
+    }
+
+    @Test
+    void shouldGenerateSameListTag_whenFieldsAreInAnotherOrder() {
+        // given
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, 10,
+            EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.NAME));
+        GetAllInsurancePoliciesQuery otherQuery = new GetAllInsurancePoliciesQuery(null, 10,
+            new LinkedHashSet<>(List.of(InsurancePolicyField.NAME, InsurancePolicyField.ID)));
+
+        // when
+        String eTag = generator.generate(VERSION, query, null);
+        String otherETag = generator.generate(VERSION, otherQuery, null);
+
+        // then
+        assertThat(eTag).isEqualTo(otherETag);
+    }
+
+    private static GetAllInsurancePoliciesQuery queryWithNamePrefix(String namePrefix) {
+        return new GetAllInsurancePoliciesQuery(null, null, null,
+            new InsurancePolicyFilter(null, null, null, null, null, namePrefix, null), null);
+    }
+}
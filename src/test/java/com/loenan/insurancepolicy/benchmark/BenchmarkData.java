@@ -0,0 +1,29 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Data shared by the benchmarks.
+ */
+class BenchmarkData {
+
+    private static final ZonedDateTime CREATION = ZonedDateTime.of(2024, 10, 28, 10, 0, 0, 0, ZoneOffset.UTC);
+
+    static InsurancePolicy insurancePolicy(int id) {
+        return new InsurancePolicy(
+            id,
+            "My policy " + id,
+            id % 2 == 0 ? InsurancePolicyStatus.ACTIVE : InsurancePolicyStatus.INACTIVE,
+            LocalDate.of(2024, 1, 1),
+            LocalDate.of(2024, 12, 31),
+            CREATION,
+            CREATION,
+            0
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.loenan.insurancepolicy.api.converter.InsurancePolicyProtobufHttpMessageConverter;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyApiMapper;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares the binary formats of the API with JSON, for insurance policy lists as returned by the list endpoint:
+ * encoding and decoding times, with mappers configured like the ones of the application.
+ * The encoded size of each format is printed at the setup of the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    public enum Format {
+        JSON, CBOR, SMILE, PROTOBUF
+    }
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private Format format;
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Object payload;
+    private byte[] encodedPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        InsurancePolicyApiMapper mapper = Mappers.getMapper(InsurancePolicyApiMapper.class);
+        List<InsurancePolicyDto> insurancePolicies = IntStream.rangeClosed(1, size)
+            .mapToObj(id -> mapper.toDto(BenchmarkData.insurancePolicy(id)))
+            .toList();
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case JSON -> Jackson2ObjectMapperBuilder.json();
+            case CBOR -> Jackson2ObjectMapperBuilder.cbor();
+            case SMILE -> Jackson2ObjectMapperBuilder.smile();
+            case PROTOBUF -> Jackson2ObjectMapperBuilder.json().factory(new ProtobufFactory());
+        };
+        ObjectMapper objectMapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        if (format == Format.PROTOBUF) {
+            // the root of a Protobuf payload is a message, which wraps the list
+            ProtobufSchema schema = loadProtobufSchema();
+            payload = new InsurancePolicyList(insurancePolicies);
+            writer = objectMapper.writerFor(InsurancePolicyList.class).with(schema);
+            reader = objectMapper.readerFor(InsurancePolicyList.class).with(schema);
+        } else {
+            payload = insurancePolicies;
+            writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, InsurancePolicyDto.class));
+            reader = objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, InsurancePolicyDto.class));
+        }
+        encodedPayload = writer.writeValueAsBytes(payload);
+        System.out.printf("%n%s encoding of %d policies: %d bytes%n", format, size, encodedPayload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return reader.readValue(encodedPayload);
+    }
+
+    private static ProtobufSchema loadProtobufSchema() throws IOException {
+        try (InputStream inputStream = new ClassPathResource(InsurancePolicyProtobufHttpMessageConverter.SCHEMA_LOCATION).getInputStream()) {
+            return ProtobufSchemaLoader.std.loadNative(inputStream, true).forType("InsurancePolicyList");
+        }
+    }
+
+    public record InsurancePolicyList(List<InsurancePolicyDto> insurancePolicies) {
+    }
+}
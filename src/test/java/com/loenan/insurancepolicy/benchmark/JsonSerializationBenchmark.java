@@ -0,0 +1,103 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyApiMapper;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the JSON serialization of insurance policy lists, as returned by the list endpoint,
+ * with an object mapper configured like the one of the application.
+ * The {@code GENERIC} serializer is the reflective record serializer of Jackson, the {@code PRE_ENCODED} one is
+ * the dedicated serializer of the DTO. The {@code writeMapped*} benchmarks include the mapping of the domain policies:
+ * either all mapped to a list before being written, or mapped one by one while they are written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    @Param({"GENERIC", "PRE_ENCODED"})
+    private String serializer;
+
+    private ObjectWriter writer;
+    private InsurancePolicyApiMapper mapper;
+    private List<InsurancePolicy> domainInsurancePolicies;
+    private List<InsurancePolicyDto> insurancePolicies;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (serializer.equals("GENERIC")) {
+            builder.mixIn(InsurancePolicyDto.class, GenericSerialization.class);
+        }
+        writer = builder.build()
+            .writerFor(new TypeReference<List<InsurancePolicyDto>>() {
+            });
+        mapper = Mappers.getMapper(InsurancePolicyApiMapper.class);
+        domainInsurancePolicies = IntStream.rangeClosed(1, size)
+            .mapToObj(BenchmarkData::insurancePolicy)
+            .toList();
+        insurancePolicies = domainInsurancePolicies.stream()
+            .map(mapper::toDto)
+            .toList();
+    }
+
+    @Benchmark
+    public byte[] writeAsBytes() throws IOException {
+        return writer.writeValueAsBytes(insurancePolicies);
+    }
+
+    @Benchmark
+    public void writeToStream() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), insurancePolicies);
+    }
+
+    @Benchmark
+    public void writeMappedList() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), domainInsurancePolicies.stream()
+            .map(insurancePolicy -> mapper.toDto(insurancePolicy, null))
+            .toList());
+    }
+
+    @Benchmark
+    public void writeMappedView() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), mapper.toDtos(domainInsurancePolicies, null));
+    }
+
+    /**
+     * Replaces the serializer of the DTO by the generic one.
+     */
+    @JsonSerialize
+    private interface GenericSerialization {
+    }
+}
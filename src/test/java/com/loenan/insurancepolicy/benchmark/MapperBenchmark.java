@@ -0,0 +1,63 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.loenan.insurancepolicy.api.mapper.InsurancePolicyApiMapper;
+import com.loenan.insurancepolicy.api.model.EditInsurancePolicyDto;
+import com.loenan.insurancepolicy.api.model.InsurancePolicyDto;
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.mapper.InsurancePolicyPersistenceMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions of an insurance policy between the API, domain and persistence models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final InsurancePolicyApiMapper apiMapper = Mappers.getMapper(InsurancePolicyApiMapper.class);
+    private final InsurancePolicyPersistenceMapper persistenceMapper = Mappers.getMapper(InsurancePolicyPersistenceMapper.class);
+
+    private final InsurancePolicy insurancePolicy = BenchmarkData.insurancePolicy(1);
+    private final EditInsurancePolicyDto editDto = new EditInsurancePolicyDto(
+        "My policy", InsurancePolicyStatus.ACTIVE.name(), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    private final InsurancePolicyEntity entity = persistenceMapper.toEntity(insurancePolicy);
+
+    @Benchmark
+    public InsurancePolicyDto apiToDto() {
+        return apiMapper.toDto(insurancePolicy);
+    }
+
+    @Benchmark
+    public CreateInsurancePolicyAction apiToCreateAction() {
+        return apiMapper.toCreateAction(editDto);
+    }
+
+    @Benchmark
+    public InsurancePolicyEntity persistenceToEntity() {
+        return persistenceMapper.toEntity(insurancePolicy);
+    }
+
+    @Benchmark
+    public InsurancePolicy persistenceToDomain() {
+        return persistenceMapper.toDomain(entity);
+    }
+}
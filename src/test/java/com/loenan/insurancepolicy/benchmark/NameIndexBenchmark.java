@@ -0,0 +1,78 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.infrastructure.index.InsurancePolicyNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the prefix searches of the name index, with the given number of names in the snapshot and in the delta.
+ * The names are made of one of 100 prefixes and a record number, so a prefix matches about 1% of the names.
+ * Run it with {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="NameIndexBenchmark -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class NameIndexBenchmark {
+
+    private static final int PREFIX_COUNT = 100;
+    private static final int LIMIT = 10;
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"0", "10000"})
+    private int deltaSize;
+
+    private final InsurancePolicyNameIndex index = new InsurancePolicyNameIndex();
+    private String[] prefixes;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(0);
+        prefixes = new String[PREFIX_COUNT];
+        for (int i = 0; i < PREFIX_COUNT; i++) {
+            prefixes[i] = "Prefix" + (char) ('a' + i % 26) + i;
+        }
+        index.rebuild(builder -> {
+            for (int id = 1; id <= size; id++) {
+                builder.add(id, prefixes[random.nextInt(PREFIX_COUNT)] + " " + id);
+            }
+        });
+        for (int i = 0; i < deltaSize; i++) {
+            int id = random.nextInt(1, size + 1);
+            index.put(id, prefixes[random.nextInt(PREFIX_COUNT)] + " edited " + id, i);
+        }
+    }
+
+    @Benchmark
+    public List<InsurancePolicyName> commonPrefix() {
+        return index.findByPrefix("prefix", LIMIT);
+    }
+
+    @Benchmark
+    public List<InsurancePolicyName> selectivePrefix() {
+        return index.findByPrefix(prefixes[42].toUpperCase() + " 1", LIMIT);
+    }
+
+    @Benchmark
+    public List<InsurancePolicyName> unknownPrefix() {
+        return index.findByPrefix("unknown", LIMIT);
+    }
+}
@@ -0,0 +1,114 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import org.apache.commons.lang3.EnumUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.BLANK_STRING_PROVIDED_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.STRING_VALUE_TOO_LONG_ERROR_MESSAGE;
+
+/**
+ * The former Optional and lambda based validation of the creation of an insurance policy,
+ * kept as the baseline of {@link ValidationBenchmark}.
+ */
+class OptionalChainValidation {
+
+    static void validateCreateAction(CreateInsurancePolicyAction action) throws InvalidInputException {
+        validateInput(
+            validateMandatoryNotBlankString(action.name(), InsurancePolicyFields.NAME),
+            validateStringLength(action.name(), InsurancePolicyFields.NAME_MAX_LENGTH, InsurancePolicyFields.NAME),
+            validateMandatoryValue(action.status(), InsurancePolicyFields.STATUS),
+            validateEnumValue(action.status(), InsurancePolicyStatus.class, InsurancePolicyFields.STATUS),
+            validateMandatoryValue(action.startDate(), InsurancePolicyFields.START_DATE),
+            validateMandatoryValue(action.endDate(), InsurancePolicyFields.END_DATE),
+            validateDateOrder(action.startDate(), action.endDate(), InsurancePolicyFields.START_DATE, InsurancePolicyFields.END_DATE)
+        );
+    }
+
+    @SafeVarargs
+    private static void validateInput(Optional<FieldError>... fieldErrors) throws InvalidInputException {
+        List<FieldError> errors = Arrays.stream(fieldErrors)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .toList();
+        if (!errors.isEmpty()) {
+            throw new InvalidInputException(errors);
+        }
+    }
+
+    private static Optional<FieldError> validateMandatoryValue(Object fieldValue, String fieldName) {
+        return validate(
+            fieldName,
+            () -> Objects.nonNull(fieldValue),
+            () -> NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(fieldName)
+        );
+    }
+
+    private static Optional<FieldError> validateMandatoryNotBlankString(String fieldValue, String fieldName) {
+        return validateMandatoryValue(fieldValue, fieldName)
+            .or(() -> validate(
+                fieldName,
+                () -> StringUtils.isNotBlank(fieldValue),
+                () -> BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted(fieldName)
+            ));
+    }
+
+    private static Optional<FieldError> validateStringLength(String fieldValue, int maxLength, String fieldName) {
+        return validate(
+            fieldName,
+            () -> Objects.isNull(fieldValue) || fieldValue.length() <= maxLength,
+            () -> STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted(fieldName, maxLength)
+        );
+    }
+
+    private static <T extends Enum<T>> Optional<FieldError> validateEnumValue(String fieldValue, Class<T> enumType, String fieldName) {
+        return validate(
+            fieldName,
+            () -> Objects.isNull(fieldValue) || EnumUtils.isValidEnum(enumType, fieldValue),
+            () -> INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted(fieldName, EnumUtils.getEnumList(enumType).stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(", ")))
+        );
+    }
+
+    private static Optional<FieldError> validateDateOrder(
+        LocalDate startDate,
+        LocalDate endDate,
+        String startDateFieldName,
+        String endDateFieldName
+    ) {
+        return validate(
+            endDateFieldName,
+            () -> Objects.isNull(startDate) || Objects.isNull(endDate) || endDate.isAfter(startDate),
+            () -> INVALID_DATE_ORDER_ERROR_MESSAGE.formatted(endDateFieldName, startDateFieldName)
+        );
+    }
+
+    private static Optional<FieldError> validate(
+        String fieldName,
+        BooleanSupplier condition,
+        Supplier<String> errorMessageSupplier
+    ) {
+        if (condition.getAsBoolean()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(new FieldError(fieldName, errorMessageSupplier.get()));
+        }
+    }
+}
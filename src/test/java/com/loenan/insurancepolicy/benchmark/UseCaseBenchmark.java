@@ -0,0 +1,161 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import com.loenan.insurancepolicy.domain.core.usecase.action.CreateInsurancePolicyUseCase;
+import com.loenan.insurancepolicy.domain.core.usecase.query.GetInsurancePolicyByIdUseCase;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the {@code UseCaseHandler.execute} path (validation, mapping, port call) with an in-memory persistence port,
+ * outside of any Spring proxy or transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UseCaseBenchmark {
+
+    private final InsurancePolicyPersistencePort persistencePort = new StubPersistencePort();
+    private final CreateInsurancePolicyUseCase createUseCase =
+        new CreateInsurancePolicyUseCase(persistencePort, Mappers.getMapper(InsurancePolicyMapper.class), new StubNameIndexPort(), null);
+    // the benchmarked query reads all the fields, without the projection port
+    private final GetInsurancePolicyByIdUseCase getByIdUseCase = new GetInsurancePolicyByIdUseCase(persistencePort, null);
+
+    private final CreateInsurancePolicyAction validAction = new CreateInsurancePolicyAction(
+        "My policy", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null);
+    private final CreateInsurancePolicyAction invalidAction = new CreateInsurancePolicyAction(
+        "My policy", "UNKNOWN", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null);
+    private final GetInsurancePolicyByIdQuery getByIdQuery = new GetInsurancePolicyByIdQuery(1);
+
+    @Benchmark
+    public InsurancePolicy createValid() {
+        return createUseCase.execute(validAction);
+    }
+
+    @Benchmark
+    public InvalidInputException createInvalid() {
+        try {
+            createUseCase.execute(invalidAction);
+            throw new IllegalStateException("The action should be rejected");
+        } catch (InvalidInputException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public InsurancePolicy getById() {
+        return getByIdUseCase.execute(getByIdQuery);
+    }
+
+    /**
+     * Returns the saved policies with an id, and always finds the same policy by id.
+     */
+    private static class StubPersistencePort implements InsurancePolicyPersistencePort {
+
+        private final InsurancePolicy storedInsurancePolicy = BenchmarkData.insurancePolicy(1);
+
+        @Override
+        public Optional<InsurancePolicy> getById(Integer id) {
+            return Optional.of(storedInsurancePolicy);
+        }
+
+        @Override
+        public Optional<InsurancePolicyVersion> getVersionById(Integer id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InsurancePoliciesVersion getVersion() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<InsurancePolicy> getAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<InsurancePolicy> getByIds(Collection<Integer> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<InsurancePolicy> getPage(InsurancePolicyCursor after, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Stream<InsurancePolicy> streamAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InsurancePolicy save(InsurancePolicy insurancePolicy) {
+            return new InsurancePolicy(1, insurancePolicy.name(), insurancePolicy.status(), insurancePolicy.startDate(),
+                insurancePolicy.endDate(), insurancePolicy.creation(), insurancePolicy.lastUpdate(), 0);
+        }
+
+        @Override
+        public Optional<InsurancePolicy> update(InsurancePolicy insurancePolicy) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<InsurancePolicy> saveAll(List<InsurancePolicy> insurancePolicies) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Ignores the indexed policies.
+     */
+    private static class StubNameIndexPort implements InsurancePolicyNameIndexPort {
+
+        @Override
+        public List<InsurancePolicyName> findByPrefix(String prefix, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void index(Collection<InsurancePolicy> insurancePolicies) {
+        }
+
+        @Override
+        public void rebuild() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void scheduleRebuild() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.loenan.insurancepolicy.benchmark;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyValidation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the validation of a creation by the former Optional chain and by the prebuilt validator,
+ * for a valid action and for an action failing on every field.
+ * Run it with {@code ./mvnw -Pjmh test-compile exec:exec -Djmh.args="ValidationBenchmark -prof gc"}
+ * to also get the allocation rate of each implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final CreateInsurancePolicyAction validAction = new CreateInsurancePolicyAction(
+        "My policy", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null);
+
+    private final CreateInsurancePolicyAction invalidAction = new CreateInsurancePolicyAction(
+        " ", "UNKNOWN", LocalDate.of(2024, 12, 31), LocalDate.of(2024, 1, 1), null);
+
+    @Benchmark
+    public boolean optionalChainValidAction() {
+        return validateWithOptionalChain(validAction);
+    }
+
+    @Benchmark
+    public boolean validatorValidAction() {
+        return validateWithValidator(validAction);
+    }
+
+    @Benchmark
+    public boolean optionalChainInvalidAction() {
+        return validateWithOptionalChain(invalidAction);
+    }
+
+    @Benchmark
+    public boolean validatorInvalidAction() {
+        return validateWithValidator(invalidAction);
+    }
+
+    private static boolean validateWithOptionalChain(CreateInsurancePolicyAction action) {
+        try {
+            OptionalChainValidation.validateCreateAction(action);
+            return true;
+        } catch (InvalidInputException e) {
+            return false;
+        }
+    }
+
+    private static boolean validateWithValidator(CreateInsurancePolicyAction action) {
+        try {
+            InsurancePolicyValidation.CREATE_ACTION_VALIDATOR.validateInput(action);
+            return true;
+        } catch (InvalidInputException e) {
+            return false;
+        }
+    }
+}
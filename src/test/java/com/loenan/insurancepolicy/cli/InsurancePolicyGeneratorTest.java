@@ -0,0 +1,109 @@
+package com.loenan.insurancepolicy.cli;
+
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InsurancePolicyGeneratorTest {
+
+    private static final LocalDate START_DATE_FROM = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void shouldGenerateSameDataset_whenSeedIsSame() throws IOException {
+        // when
+        String dataset1 = generate(settings(1000, 42), ExportFormat.CSV);
+        String dataset2 = generate(settings(1000, 42), ExportFormat.CSV);
+        String dataset3 = generate(settings(1000, 43), ExportFormat.CSV);
+
+        // then
+        assertThat(dataset1).isEqualTo(dataset2);
+        assertThat(dataset1).isNotEqualTo(dataset3);
+    }
+
+    @Test
+    void shouldGenerateCsvRowsWithinDistributions() throws IOException {
+        // when
+        List<String> lines = generate(settings(10_000, 1), ExportFormat.CSV).lines().toList();
+
+        // then
+        assertThat(lines).hasSize(10_001);
+        assertThat(lines.getFirst()).isEqualTo("name,status,startDate,endDate");
+        List<String[]> rows = lines.stream().skip(1).map(line -> line.split(",")).toList();
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row).hasSize(4);
+            assertThat(row[0]).hasSizeBetween(20, 40).matches("[A-Za-z0-9 ]+");
+            assertThat(row[1]).isIn("ACTIVE", "INACTIVE");
+            LocalDate startDate = LocalDate.parse(row[2]);
+            assertThat(startDate).isBetween(START_DATE_FROM, START_DATE_FROM.plusDays(365));
+            assertThat(LocalDate.parse(row[3])).isBetween(startDate.plusDays(30), startDate.plusDays(60));
+        });
+        assertThat(rows.stream().filter(row -> row[1].equals("ACTIVE")).count()).isBetween(7_500L, 8_500L);
+
+        // the first prefix of the Zipf distribution is the most frequent one
+        Map<String, Long> prefixCounts = rows.stream()
+            .map(row -> row[0].split(" ")[0])
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(prefixCounts).hasSizeLessThanOrEqualTo(10);
+        assertThat(prefixCounts.values().stream().mapToLong(Long::longValue).max().orElseThrow()).isGreaterThan(2_500L);
+    }
+
+    @Test
+    void shouldGenerateNdjsonRows() throws IOException {
+        // when
+        String dataset = generate(settings(2, 1), ExportFormat.NDJSON);
+
+        // then
+        assertThat(dataset.lines()).hasSize(2).allMatch(line -> line.matches(
+            "\\{\"name\":\"[A-Za-z0-9 ]+\",\"status\":\"(ACTIVE|INACTIVE)\",\"startDate\":\"\\d{4}-\\d{2}-\\d{2}\",\"endDate\":\"\\d{4}-\\d{2}-\\d{2}\"}"));
+    }
+
+    @Test
+    void shouldKeepRecordNumberInUniqueNames_whenNamesAreShorterThanPrefixAndNumber() throws IOException {
+        // given
+        InsurancePolicyGenerator.Settings settings = new InsurancePolicyGenerator.Settings(
+            20_000, 1, 3, 8, 10, 1.0, 0.8, START_DATE_FROM, 365, 30, 60);
+
+        // when
+        List<String> names = generate(settings, ExportFormat.CSV).lines().skip(1)
+            .map(line -> line.split(",")[0])
+            .toList();
+
+        // then
+        assertThat(names).doesNotHaveDuplicates().allSatisfy(name -> assertThat(name)
+            .doesNotStartWith(" ")
+            .doesNotEndWith(" ")
+            .matches("([A-Za-z]+ )?\\d+( ?[a-z]+)?"));
+        assertThat(names.get(12_344)).contains("12345");
+        assertThat(names.subList(0, 9_999)).allSatisfy(name -> assertThat(name.length()).isBetween(3, 8));
+    }
+
+    @Test
+    void shouldRejectSettings_whenNameMaxLengthIsTooLong() {
+        assertThatThrownBy(
+            // when
+            () -> new InsurancePolicyGenerator.Settings(1, 1, 10, 201, 10, 1.0, 0.8, START_DATE_FROM, 365, 30, 60)
+        )
+            // then
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InsurancePolicyGenerator.Settings settings(long count, long seed) {
+        return new InsurancePolicyGenerator.Settings(count, seed, 20, 40, 10, 1.0, 0.8, START_DATE_FROM, 365, 30, 60);
+    }
+
+    private static String generate(InsurancePolicyGenerator.Settings settings, ExportFormat format) throws IOException {
+        StringWriter output = new StringWriter();
+        new InsurancePolicyGenerator(settings).write(format, output);
+        return output.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields.BATCH_MAX_SIZE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreateInsurancePoliciesUseCaseTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private InsurancePolicyPersistencePort persistencePort;
+
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @Mock
+    private InsurancePolicy savedInsurancePolicy1;
+
+    @Mock
+    private InsurancePolicy savedInsurancePolicy2;
+
+    private InsurancePolicyMapper mapper = Mappers.getMapper(InsurancePolicyMapper.class);
+
+    private CreateInsurancePoliciesUseCase useCase;
+
+    @Captor
+    private ArgumentCaptor<List<InsurancePolicy>> insurancePoliciesCaptor;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreateInsurancePoliciesUseCase(persistencePort, mapper, nameIndexPort);
+    }
+
+    @Test
+    void shouldSaveValidPoliciesAndReportInvalidOnes_whenBatchIsPartiallyValid() {
+        // given
+        CreateInsurancePoliciesAction action = new CreateInsurancePoliciesAction(List.of(
+            new CreateInsurancePolicyAction("policy 1", "ACTIVE", START_DATE, END_DATE, null),
+            new CreateInsurancePolicyAction("policy 2", "ACTIVE", END_DATE, START_DATE, null),
+            new CreateInsurancePolicyAction("policy 3", "INACTIVE", START_DATE, END_DATE, null)
+        ));
+        when(persistencePort.saveAll(insurancePoliciesCaptor.capture()))
+            .thenReturn(List.of(savedInsurancePolicy1, savedInsurancePolicy2));
+
+        // when
+        List<InsurancePolicyBatchItemResult> results = useCase.execute(action);
+
+        // then
+        assertThat(insurancePoliciesCaptor.getValue())
+            .extracting(InsurancePolicy::id, InsurancePolicy::name, InsurancePolicy::status)
+            .containsExactly(
+                tuple(null, "policy 1", InsurancePolicyStatus.ACTIVE),
+                tuple(null, "policy 3", InsurancePolicyStatus.INACTIVE)
+            );
+        assertThat(results).containsExactly(
+            InsurancePolicyBatchItemResult.success(0, savedInsurancePolicy1),
+            InsurancePolicyBatchItemResult.failure(1, List.of(
+                new FieldError("endDate", INVALID_DATE_ORDER_ERROR_MESSAGE.formatted("endDate", "startDate")))),
+            InsurancePolicyBatchItemResult.success(2, savedInsurancePolicy2)
+        );
+        verify(nameIndexPort).index(List.of(savedInsurancePolicy1, savedInsurancePolicy2));
+    }
+
+    @Test
+    void shouldNotSaveAnything_whenNoPolicyIsValid() {
+        // given
+        CreateInsurancePoliciesAction action = new CreateInsurancePoliciesAction(Collections.singletonList(null));
+
+        // when
+        List<InsurancePolicyBatchItemResult> results = useCase.execute(action);
+
+        // then
+        assertThat(results).containsExactly(InsurancePolicyBatchItemResult.failure(0, List.of(
+            new FieldError("insurancePolicies", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("insurancePolicies")))));
+        verifyNoInteractions(persistencePort, nameIndexPort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenBatchIsTooLarge() {
+        // given
+        CreateInsurancePolicyAction item = new CreateInsurancePolicyAction("policy", "ACTIVE", START_DATE, END_DATE, null);
+        CreateInsurancePoliciesAction action = new CreateInsurancePoliciesAction(Collections.nCopies(BATCH_MAX_SIZE + 1, item));
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors()).containsExactly(new FieldError("insurancePolicies",
+                    COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("insurancePolicies", 1, BATCH_MAX_SIZE))));
+        verifyNoInteractions(persistencePort, nameIndexPort);
+    }
+}
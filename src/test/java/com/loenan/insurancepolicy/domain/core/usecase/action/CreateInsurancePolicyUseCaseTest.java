@@ -1,10 +1,14 @@
 package com.loenan.insurancepolicy.domain.core.usecase.action;
 
 import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.IdempotencyKeyReuseException;
 import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCreation;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
 import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyIdempotencyPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
 import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,13 +20,16 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mapstruct.factory.Mappers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
+import static com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields.IDEMPOTENCY_KEY_MAX_LENGTH;
 import static com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields.NAME_MAX_LENGTH;
 import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.BLANK_STRING_PROVIDED_ERROR_MESSAGE;
 import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE;
@@ -33,6 +40,9 @@ import static com.loenan.insurancepolicy.test.util.TestUtil.assertDateTimeIsClos
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -44,10 +54,17 @@ class CreateInsurancePolicyUseCaseTest {
     private static final String VERY_LONG_NAME = "very ".repeat(1000) + "long name";
     private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
     private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+    private static final String IDEMPOTENCY_KEY = "5f0c3a9e-8b7d-4d2a-9a4e-2f1c6b8d7e90";
 
     @Mock
     private InsurancePolicyPersistencePort persistencePort;
 
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @Mock
+    private InsurancePolicyIdempotencyPort idempotencyPort;
+
     @Mock
     private InsurancePolicy savedInsurancePolicy;
 
@@ -60,7 +77,7 @@ class CreateInsurancePolicyUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new CreateInsurancePolicyUseCase(persistencePort, mapper);
+        useCase = new CreateInsurancePolicyUseCase(persistencePort, mapper, nameIndexPort, idempotencyPort);
     }
 
     @Test
@@ -70,7 +87,8 @@ class CreateInsurancePolicyUseCaseTest {
             NAME,
             "ACTIVE",
             START_DATE,
-            END_DATE
+            END_DATE,
+            null
         );
         when(persistencePort.save(any())).thenReturn(savedInsurancePolicy);
 
@@ -99,6 +117,64 @@ class CreateInsurancePolicyUseCaseTest {
         assertDateTimeIsCloseToNow(insurancePolicyCaptor.getValue().lastUpdate());
 
         assertThat(result).isSameAs(savedInsurancePolicy);
+        verify(nameIndexPort).index(List.of(savedInsurancePolicy));
+        verifyNoInteractions(idempotencyPort);
+    }
+
+    @Test
+    void shouldSavePolicyAndRecordIt_whenIdempotencyKeyIsNew() {
+        // given
+        CreateInsurancePolicyAction action = new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, END_DATE, IDEMPOTENCY_KEY);
+        when(idempotencyPort.reserve(eq(IDEMPOTENCY_KEY), any())).thenReturn(Optional.empty());
+        when(persistencePort.save(any())).thenReturn(savedInsurancePolicy);
+
+        // when
+        InsurancePolicy result = useCase.execute(action);
+
+        // then
+        assertThat(result).isSameAs(savedInsurancePolicy);
+        InOrder inOrder = inOrder(idempotencyPort, persistencePort);
+        inOrder.verify(idempotencyPort).reserve(IDEMPOTENCY_KEY, CreateInsurancePolicyUseCase.toRequestHash(action));
+        inOrder.verify(persistencePort).save(any());
+        inOrder.verify(idempotencyPort).complete(IDEMPOTENCY_KEY, savedInsurancePolicy);
+        verify(nameIndexPort).index(List.of(savedInsurancePolicy));
+    }
+
+    @Test
+    void shouldReturnRecordedPolicyWithoutSaving_whenIdempotencyKeyIsKnownForSameRequest() {
+        // given
+        CreateInsurancePolicyAction action = new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, END_DATE, IDEMPOTENCY_KEY);
+        // the same request, sent with another key
+        String requestHash = CreateInsurancePolicyUseCase.toRequestHash(
+            new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, END_DATE, "another key"));
+        when(idempotencyPort.reserve(IDEMPOTENCY_KEY, requestHash))
+            .thenReturn(Optional.of(new InsurancePolicyCreation(requestHash, savedInsurancePolicy)));
+
+        // when
+        InsurancePolicy result = useCase.execute(action);
+
+        // then
+        assertThat(result).isSameAs(savedInsurancePolicy);
+        verify(idempotencyPort, never()).complete(any(), any());
+        verifyNoInteractions(persistencePort, nameIndexPort);
+    }
+
+    @Test
+    void shouldThrowIdempotencyKeyReuseException_whenIdempotencyKeyIsKnownForAnotherRequest() {
+        // given
+        CreateInsurancePolicyAction action = new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, END_DATE, IDEMPOTENCY_KEY);
+        String otherRequestHash = CreateInsurancePolicyUseCase.toRequestHash(
+            new CreateInsurancePolicyAction("other policy", "ACTIVE", START_DATE, END_DATE, IDEMPOTENCY_KEY));
+        when(idempotencyPort.reserve(eq(IDEMPOTENCY_KEY), any()))
+            .thenReturn(Optional.of(new InsurancePolicyCreation(otherRequestHash, savedInsurancePolicy)));
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOf(IdempotencyKeyReuseException.class);
+        verifyNoInteractions(persistencePort, nameIndexPort);
     }
 
     @ParameterizedTest
@@ -113,55 +189,66 @@ class CreateInsurancePolicyUseCaseTest {
                 ex -> assertThat(ex.getFieldErrors())
                     .containsExactlyInAnyOrder(expectedFieldErrors.toArray(FieldError[]::new)));
 
-        verifyNoInteractions(persistencePort);
+        verifyNoInteractions(persistencePort, nameIndexPort, idempotencyPort);
     }
 
     private static Stream<Arguments> provideInvalidData() {
         return Stream.of(
             Arguments.of(
                 "Null name",
-                new CreateInsurancePolicyAction(null, "ACTIVE", START_DATE, END_DATE),
+                new CreateInsurancePolicyAction(null, "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("name")))
             ),
             Arguments.of(
                 "Blank name",
-                new CreateInsurancePolicyAction("  ", "ACTIVE", START_DATE, END_DATE),
+                new CreateInsurancePolicyAction("  ", "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted("name")))
             ),
             Arguments.of(
                 "Too long name",
-                new CreateInsurancePolicyAction(VERY_LONG_NAME, "ACTIVE", START_DATE, END_DATE),
+                new CreateInsurancePolicyAction(VERY_LONG_NAME, "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted("name", NAME_MAX_LENGTH)))
             ),
             Arguments.of(
                 "Null name",
-                new CreateInsurancePolicyAction(null, "ACTIVE", START_DATE, END_DATE),
+                new CreateInsurancePolicyAction(null, "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("name")))
             ),
             Arguments.of(
                 "Null status",
-                new CreateInsurancePolicyAction(NAME, null, START_DATE, END_DATE),
+                new CreateInsurancePolicyAction(NAME, null, START_DATE, END_DATE, null),
                 List.of(new FieldError("status", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("status")))
             ),
             Arguments.of(
                 "Invalid status",
-                new CreateInsurancePolicyAction(NAME, "XXX", START_DATE, END_DATE),
+                new CreateInsurancePolicyAction(NAME, "XXX", START_DATE, END_DATE, null),
                 List.of(new FieldError("status", INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("status", "ACTIVE, INACTIVE")))
             ),
             Arguments.of(
                 "Null start date",
-                new CreateInsurancePolicyAction(NAME, "ACTIVE", null, END_DATE),
+                new CreateInsurancePolicyAction(NAME, "ACTIVE", null, END_DATE, null),
                 List.of(new FieldError("startDate", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("startDate")))
             ),
             Arguments.of(
                 "Null end date",
-                new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, null),
+                new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, null, null),
                 List.of(new FieldError("endDate", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("endDate")))
             ),
             Arguments.of(
                 "Date order",
-                new CreateInsurancePolicyAction(NAME, "ACTIVE", END_DATE, START_DATE),
+                new CreateInsurancePolicyAction(NAME, "ACTIVE", END_DATE, START_DATE, null),
                 List.of(new FieldError("endDate", INVALID_DATE_ORDER_ERROR_MESSAGE.formatted("endDate", "startDate")))
+            ),
+            Arguments.of(
+                "Blank idempotency key",
+                new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, END_DATE, " "),
+                List.of(new FieldError("idempotencyKey", BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted("idempotencyKey")))
+            ),
+            Arguments.of(
+                "Too long idempotency key",
+                new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, END_DATE, "k".repeat(IDEMPOTENCY_KEY_MAX_LENGTH + 1)),
+                List.of(new FieldError("idempotencyKey",
+                    STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted("idempotencyKey", IDEMPOTENCY_KEY_MAX_LENGTH)))
             )
         );
     }
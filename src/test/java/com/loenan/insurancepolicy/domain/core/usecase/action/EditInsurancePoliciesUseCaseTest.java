@@ -0,0 +1,173 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyBatchItemResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyResponseCachePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.loenan.insurancepolicy.domain.core.usecase.action.EditInsurancePoliciesUseCase.DUPLICATE_ID_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields.BATCH_MAX_SIZE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EditInsurancePoliciesUseCaseTest {
+
+    private static final ZonedDateTime INITIAL_CREATION =
+        ZonedDateTime.of(2023, 10, 28, 10, 32, 0, 0, ZoneId.of("UTC"));
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+    private static final Integer STORED_VERSION = 2;
+
+    @Mock
+    private InsurancePolicyPersistencePort persistencePort;
+
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @Mock
+    private InsurancePolicyResponseCachePort responseCachePort;
+
+    @Mock
+    private InsurancePolicy savedInsurancePolicy1;
+
+    @Mock
+    private InsurancePolicy savedInsurancePolicy3;
+
+    private InsurancePolicyMapper mapper = Mappers.getMapper(InsurancePolicyMapper.class);
+
+    private EditInsurancePoliciesUseCase useCase;
+
+    @Captor
+    private ArgumentCaptor<Collection<Integer>> idsCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<InsurancePolicy>> insurancePoliciesCaptor;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new EditInsurancePoliciesUseCase(persistencePort, mapper, nameIndexPort, responseCachePort);
+    }
+
+    @Test
+    void shouldSaveExistingPoliciesAndReportOtherItems_whenBatchIsPartiallyValid() {
+        // given
+        EditInsurancePoliciesAction action = new EditInsurancePoliciesAction(List.of(
+            new EditInsurancePolicyAction(1, "edited 1", "INACTIVE", START_DATE, END_DATE, STORED_VERSION),
+            new EditInsurancePolicyAction(2, "edited 2", "ACTIVE", START_DATE, END_DATE, null),
+            new EditInsurancePolicyAction(3, "edited 3", "ACTIVE", START_DATE, END_DATE, null),
+            new EditInsurancePolicyAction(null, "edited", "ACTIVE", START_DATE, END_DATE, null),
+            new EditInsurancePolicyAction(1, "edited again", "ACTIVE", START_DATE, END_DATE, null),
+            new EditInsurancePolicyAction(4, "edited 4", "ACTIVE", START_DATE, END_DATE, STORED_VERSION - 1)
+        ));
+        when(persistencePort.getByIds(idsCaptor.capture())).thenReturn(List.of(
+            storedInsurancePolicy(1),
+            storedInsurancePolicy(3),
+            storedInsurancePolicy(4)
+        ));
+        when(persistencePort.saveAll(insurancePoliciesCaptor.capture()))
+            .thenReturn(List.of(savedInsurancePolicy1, savedInsurancePolicy3));
+
+        // when
+        List<InsurancePolicyBatchItemResult> results = useCase.execute(action);
+
+        // then
+        assertThat(idsCaptor.getValue()).containsExactlyInAnyOrder(1, 2, 3, 4);
+        // saved with the version they were loaded with, checked by the update
+        assertThat(insurancePoliciesCaptor.getValue())
+            .extracting(InsurancePolicy::id, InsurancePolicy::name, InsurancePolicy::status, InsurancePolicy::creation, InsurancePolicy::version)
+            .containsExactly(
+                tuple(1, "edited 1", InsurancePolicyStatus.INACTIVE, INITIAL_CREATION, STORED_VERSION),
+                tuple(3, "edited 3", InsurancePolicyStatus.ACTIVE, INITIAL_CREATION, STORED_VERSION)
+            );
+        assertThat(results).containsExactly(
+            InsurancePolicyBatchItemResult.success(0, savedInsurancePolicy1),
+            InsurancePolicyBatchItemResult.failure(1, List.of(
+                new FieldError("id", InsurancePolicyNotFoundException.MESSAGE.formatted(2)))),
+            InsurancePolicyBatchItemResult.success(2, savedInsurancePolicy3),
+            InsurancePolicyBatchItemResult.failure(3, List.of(
+                new FieldError("id", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("id")))),
+            InsurancePolicyBatchItemResult.failure(4, List.of(
+                new FieldError("id", DUPLICATE_ID_ERROR_MESSAGE.formatted(1)))),
+            InsurancePolicyBatchItemResult.failure(5, List.of(
+                new FieldError("version", InsurancePolicyVersionMismatchException.MESSAGE.formatted(4))))
+        );
+        verify(nameIndexPort).index(List.of(savedInsurancePolicy1, savedInsurancePolicy3));
+        verify(responseCachePort).evict(List.of(1, 3));
+    }
+
+    @Test
+    void shouldNotSaveAnything_whenNoPolicyExists() {
+        // given
+        EditInsurancePoliciesAction action = new EditInsurancePoliciesAction(List.of(
+            new EditInsurancePolicyAction(1, "edited 1", "INACTIVE", START_DATE, END_DATE, null)
+        ));
+        when(persistencePort.getByIds(idsCaptor.capture())).thenReturn(List.of());
+
+        // when
+        List<InsurancePolicyBatchItemResult> results = useCase.execute(action);
+
+        // then
+        assertThat(results).containsExactly(InsurancePolicyBatchItemResult.failure(0, List.of(
+            new FieldError("id", InsurancePolicyNotFoundException.MESSAGE.formatted(1)))));
+        verifyNoInteractions(nameIndexPort, responseCachePort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenBatchIsEmpty() {
+        // given
+        EditInsurancePoliciesAction action = new EditInsurancePoliciesAction(List.of());
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors()).containsExactly(new FieldError("insurancePolicies",
+                    COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("insurancePolicies", 1, BATCH_MAX_SIZE))));
+        verifyNoInteractions(persistencePort, nameIndexPort, responseCachePort);
+    }
+
+    private static InsurancePolicy storedInsurancePolicy(int id) {
+        return new InsurancePolicy(
+            id,
+            "initial " + id,
+            InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2023, 1, 1),
+            LocalDate.of(2023, 12, 31),
+            INITIAL_CREATION,
+            INITIAL_CREATION,
+            STORED_VERSION
+        );
+    }
+}
@@ -2,11 +2,15 @@ package com.loenan.insurancepolicy.domain.core.usecase.action;
 
 import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
 import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
 import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
 import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyResponseCachePort;
 import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +25,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -46,19 +49,21 @@ import static org.mockito.Mockito.when;
 class EditInsurancePolicyUseCaseTest {
 
     private static final Integer ID = 1234;
-    private static final String INITIAL_NAME = "initial name";
-    private static final LocalDate INITIAL_START_DATE = LocalDate.of(2023, 1, 1);
-    private static final LocalDate INITIAL_END_DATE = LocalDate.of(2023, 12, 31);
-    private static final ZonedDateTime INITIAL_CREATION =
-        ZonedDateTime.of(2023, 10, 28, 10, 32, 0, 0, ZoneId.of("UTC"));
     private static final String NAME = "edited name";
     private static final String VERY_LONG_NAME = "very ".repeat(1000) + "long name";
     private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
     private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+    private static final Integer VERSION = 3;
 
     @Mock
     private InsurancePolicyPersistencePort persistencePort;
 
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @Mock
+    private InsurancePolicyResponseCachePort responseCachePort;
+
     @Mock
     private InsurancePolicy savedInsurancePolicy;
 
@@ -71,7 +76,7 @@ class EditInsurancePolicyUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new EditInsurancePolicyUseCase(persistencePort, mapper);
+        useCase = new EditInsurancePolicyUseCase(persistencePort, mapper, nameIndexPort, responseCachePort);
     }
 
     @Test
@@ -82,24 +87,16 @@ class EditInsurancePolicyUseCaseTest {
             NAME,
             "ACTIVE",
             START_DATE,
-            END_DATE
+            END_DATE,
+            null
         );
-        when(persistencePort.getById(ID)).thenReturn(Optional.of(new InsurancePolicy(
-            ID,
-            INITIAL_NAME,
-            InsurancePolicyStatus.INACTIVE,
-            INITIAL_START_DATE,
-            INITIAL_END_DATE,
-            INITIAL_CREATION,
-            INITIAL_CREATION
-        )));
-        when(persistencePort.save(any())).thenReturn(savedInsurancePolicy);
+        when(persistencePort.update(any())).thenReturn(Optional.of(savedInsurancePolicy));
 
         // when
         InsurancePolicy result = useCase.execute(action);
 
         // then
-        verify(persistencePort).save(insurancePolicyCaptor.capture());
+        verify(persistencePort).update(insurancePolicyCaptor.capture());
         assertThat(insurancePolicyCaptor.getValue())
             .isNotNull()
             .extracting(
@@ -116,11 +113,13 @@ class EditInsurancePolicyUseCaseTest {
                 InsurancePolicyStatus.ACTIVE,
                 START_DATE,
                 END_DATE,
-                INITIAL_CREATION
+                null
             );
         assertDateTimeIsCloseToNow(insurancePolicyCaptor.getValue().lastUpdate());
 
         assertThat(result).isSameAs(savedInsurancePolicy);
+        verify(nameIndexPort).index(List.of(savedInsurancePolicy));
+        verify(responseCachePort).evict(List.of(ID));
     }
 
     @Test
@@ -131,9 +130,10 @@ class EditInsurancePolicyUseCaseTest {
             NAME,
             "ACTIVE",
             START_DATE,
-            END_DATE
+            END_DATE,
+            null
         );
-        when(persistencePort.getById(ID)).thenReturn(Optional.empty());
+        when(persistencePort.update(any())).thenReturn(Optional.empty());
 
         assertThatThrownBy(
             // when
@@ -143,6 +143,57 @@ class EditInsurancePolicyUseCaseTest {
             .isInstanceOf(InsurancePolicyNotFoundException.class);
 
         verifyNoMoreInteractions(persistencePort);
+        verifyNoInteractions(nameIndexPort, responseCachePort);
+    }
+
+    @Test
+    void shouldSavePolicyAtRequiredVersion_whenVersionIsProvided() {
+        // given
+        EditInsurancePolicyAction action = new EditInsurancePolicyAction(ID, NAME, "ACTIVE", START_DATE, END_DATE, VERSION);
+        when(persistencePort.update(any())).thenReturn(Optional.of(savedInsurancePolicy));
+
+        // when
+        InsurancePolicy result = useCase.execute(action);
+
+        // then
+        verify(persistencePort).update(insurancePolicyCaptor.capture());
+        assertThat(insurancePolicyCaptor.getValue().version()).isEqualTo(VERSION);
+        assertThat(result).isSameAs(savedInsurancePolicy);
+    }
+
+    @Test
+    void shouldThrowVersionMismatchException_whenPolicyIsAtAnotherVersion() {
+        // given
+        EditInsurancePolicyAction action = new EditInsurancePolicyAction(ID, NAME, "ACTIVE", START_DATE, END_DATE, VERSION);
+        when(persistencePort.update(any())).thenReturn(Optional.empty());
+        when(persistencePort.getVersionById(ID))
+            .thenReturn(Optional.of(new InsurancePolicyVersion(ID, ZonedDateTime.now(), VERSION + 1)));
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOf(InsurancePolicyVersionMismatchException.class);
+
+        verifyNoInteractions(nameIndexPort, responseCachePort);
+    }
+
+    @Test
+    void shouldThrowNotFoundException_whenPolicyWithRequiredVersionDoesNotExist() {
+        // given
+        EditInsurancePolicyAction action = new EditInsurancePolicyAction(ID, NAME, "ACTIVE", START_DATE, END_DATE, VERSION);
+        when(persistencePort.update(any())).thenReturn(Optional.empty());
+        when(persistencePort.getVersionById(ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOf(InsurancePolicyNotFoundException.class);
+
+        verifyNoInteractions(nameIndexPort, responseCachePort);
     }
 
     @ParameterizedTest
@@ -157,59 +208,59 @@ class EditInsurancePolicyUseCaseTest {
                 ex -> assertThat(ex.getFieldErrors())
                     .containsExactlyInAnyOrder(expectedFieldErrors.toArray(FieldError[]::new)));
 
-        verifyNoInteractions(persistencePort);
+        verifyNoInteractions(persistencePort, nameIndexPort, responseCachePort);
     }
 
     private static Stream<Arguments> provideInvalidData() {
         return Stream.of(
             Arguments.of(
                 "Null ID",
-                new EditInsurancePolicyAction(null, NAME, "ACTIVE", START_DATE, END_DATE),
+                new EditInsurancePolicyAction(null, NAME, "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("id", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("id")))
             ),
             Arguments.of(
                 "Null name",
-                new EditInsurancePolicyAction(ID, null, "ACTIVE", START_DATE, END_DATE),
+                new EditInsurancePolicyAction(ID, null, "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("name")))
             ),
             Arguments.of(
                 "Blank name",
-                new EditInsurancePolicyAction(ID, "  ", "ACTIVE", START_DATE, END_DATE),
+                new EditInsurancePolicyAction(ID, "  ", "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted("name")))
             ),
             Arguments.of(
                 "Too long name",
-                new EditInsurancePolicyAction(ID, VERY_LONG_NAME, "ACTIVE", START_DATE, END_DATE),
+                new EditInsurancePolicyAction(ID, VERY_LONG_NAME, "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted("name", NAME_MAX_LENGTH)))
             ),
             Arguments.of(
                 "Null name",
-                new EditInsurancePolicyAction(ID, null, "ACTIVE", START_DATE, END_DATE),
+                new EditInsurancePolicyAction(ID, null, "ACTIVE", START_DATE, END_DATE, null),
                 List.of(new FieldError("name", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("name")))
             ),
             Arguments.of(
                 "Null status",
-                new EditInsurancePolicyAction(ID, NAME, null, START_DATE, END_DATE),
+                new EditInsurancePolicyAction(ID, NAME, null, START_DATE, END_DATE, null),
                 List.of(new FieldError("status", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("status")))
             ),
             Arguments.of(
                 "Invalid status",
-                new EditInsurancePolicyAction(ID, NAME, "XXX", START_DATE, END_DATE),
+                new EditInsurancePolicyAction(ID, NAME, "XXX", START_DATE, END_DATE, null),
                 List.of(new FieldError("status", INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("status", "ACTIVE, INACTIVE")))
             ),
             Arguments.of(
                 "Null start date",
-                new EditInsurancePolicyAction(ID, NAME, "ACTIVE", null, END_DATE),
+                new EditInsurancePolicyAction(ID, NAME, "ACTIVE", null, END_DATE, null),
                 List.of(new FieldError("startDate", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("startDate")))
             ),
             Arguments.of(
                 "Null end date",
-                new EditInsurancePolicyAction(ID, NAME, "ACTIVE", START_DATE, null),
+                new EditInsurancePolicyAction(ID, NAME, "ACTIVE", START_DATE, null, null),
                 List.of(new FieldError("endDate", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("endDate")))
             ),
             Arguments.of(
                 "Date order",
-                new EditInsurancePolicyAction(ID, NAME, "ACTIVE", END_DATE, START_DATE),
+                new EditInsurancePolicyAction(ID, NAME, "ACTIVE", END_DATE, START_DATE, null),
                 List.of(new FieldError("endDate", INVALID_DATE_ORDER_ERROR_MESSAGE.formatted("endDate", "startDate")))
             )
         );
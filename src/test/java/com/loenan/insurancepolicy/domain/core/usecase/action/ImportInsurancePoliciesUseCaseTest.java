@@ -0,0 +1,93 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.ImportInsurancePoliciesAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyImportPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportInsurancePoliciesUseCaseTest {
+
+    @Mock
+    private InsurancePolicyImportPort importPort;
+
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    private ImportInsurancePoliciesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ImportInsurancePoliciesUseCase(importPort, nameIndexPort);
+    }
+
+    @Test
+    void shouldImportPolicies_whenInputAndErrorReportAreProvided() {
+        // given
+        InputStream input = new ByteArrayInputStream("name,status,startDate,endDate\n".getBytes(StandardCharsets.UTF_8));
+        OutputStream errorReport = new ByteArrayOutputStream();
+        InsurancePolicyImportResult importResult = new InsurancePolicyImportResult(10, 2);
+        when(importPort.importCsv(input, errorReport)).thenReturn(importResult);
+
+        // when
+        InsurancePolicyImportResult result = useCase.execute(new ImportInsurancePoliciesAction(input, errorReport));
+
+        // then
+        assertThat(result).isEqualTo(importResult);
+        verify(nameIndexPort).scheduleRebuild();
+    }
+
+    @Test
+    void shouldNotRebuildNameIndex_whenNoPolicyIsImported() {
+        // given
+        InputStream input = new ByteArrayInputStream("name,status,startDate,endDate\n".getBytes(StandardCharsets.UTF_8));
+        OutputStream errorReport = new ByteArrayOutputStream();
+        InsurancePolicyImportResult importResult = new InsurancePolicyImportResult(0, 0);
+        when(importPort.importCsv(input, errorReport)).thenReturn(importResult);
+
+        // when
+        InsurancePolicyImportResult result = useCase.execute(new ImportInsurancePoliciesAction(input, errorReport));
+
+        // then
+        assertThat(result).isEqualTo(importResult);
+        verifyNoInteractions(nameIndexPort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenInputAndErrorReportAreMissing() {
+        // given
+        ImportInsurancePoliciesAction action = new ImportInsurancePoliciesAction(null, null);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class, e -> assertThat(e.getFieldErrors())
+                .containsExactly(
+                    new FieldError("input", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("input")),
+                    new FieldError("errorReport", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("errorReport"))
+                ));
+        verifyNoInteractions(importPort, nameIndexPort);
+    }
+}
@@ -0,0 +1,99 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.test.util.TestUtil.assertDateTimeIsCloseToNow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreateInsurancePolicyUseCaseTest {
+
+    private static final String NAME = "My policy";
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private ReactiveInsurancePolicyPersistencePort persistencePort;
+
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @Mock
+    private InsurancePolicy savedInsurancePolicy;
+
+    @Captor
+    private ArgumentCaptor<InsurancePolicy> insurancePolicyCaptor;
+
+    private final InsurancePolicyMapper mapper = Mappers.getMapper(InsurancePolicyMapper.class);
+
+    private ReactiveCreateInsurancePolicyUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveCreateInsurancePolicyUseCase(persistencePort, mapper, nameIndexPort);
+    }
+
+    @Test
+    void shouldSaveAndIndexPolicy_whenSubscribedWithValidData() {
+        // given
+        CreateInsurancePolicyAction action = new CreateInsurancePolicyAction(NAME, "ACTIVE", START_DATE, END_DATE, null);
+        when(persistencePort.save(any())).thenReturn(Mono.just(savedInsurancePolicy));
+
+        // when
+        Mono<InsurancePolicy> result = useCase.execute(action);
+
+        // then
+        verifyNoInteractions(persistencePort);
+        StepVerifier.create(result)
+            .expectNext(savedInsurancePolicy)
+            .verifyComplete();
+        verify(persistencePort).save(insurancePolicyCaptor.capture());
+        assertThat(insurancePolicyCaptor.getValue())
+            .extracting(InsurancePolicy::id, InsurancePolicy::name, InsurancePolicy::status,
+                InsurancePolicy::startDate, InsurancePolicy::endDate)
+            .containsExactly(null, NAME, InsurancePolicyStatus.ACTIVE, START_DATE, END_DATE);
+        assertDateTimeIsCloseToNow(insurancePolicyCaptor.getValue().creation());
+        verify(nameIndexPort).index(List.of(savedInsurancePolicy));
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_beforeSubscription_whenNameIsMissing() {
+        // given
+        CreateInsurancePolicyAction action = new CreateInsurancePolicyAction(null, "ACTIVE", START_DATE, END_DATE, null);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class, e -> assertThat(e.getFieldErrors())
+                .containsExactly(new FieldError("name", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("name"))));
+        verifyNoInteractions(persistencePort, nameIndexPort);
+    }
+}
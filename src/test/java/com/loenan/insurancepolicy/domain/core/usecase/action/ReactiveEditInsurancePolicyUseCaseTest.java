@@ -0,0 +1,163 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyConflictException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyVersionMismatchException;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEditInsurancePolicyUseCaseTest {
+
+    private static final Integer ID = 1234;
+    private static final ZonedDateTime INITIAL_CREATION =
+        ZonedDateTime.of(2023, 10, 28, 10, 32, 0, 0, ZoneId.of("UTC"));
+    private static final InsurancePolicy STORED_INSURANCE_POLICY = new InsurancePolicy(ID, "initial name",
+        InsurancePolicyStatus.INACTIVE, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31), INITIAL_CREATION, INITIAL_CREATION, 2);
+    private static final EditInsurancePolicyAction ACTION = new EditInsurancePolicyAction(
+        ID, "edited name", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null);
+
+    @Mock
+    private ReactiveInsurancePolicyPersistencePort persistencePort;
+
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private InsurancePolicy savedInsurancePolicy;
+
+    @Captor
+    private ArgumentCaptor<InsurancePolicy> insurancePolicyCaptor;
+
+    private final InsurancePolicyMapper mapper = Mappers.getMapper(InsurancePolicyMapper.class);
+
+    private ReactiveEditInsurancePolicyUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveEditInsurancePolicyUseCase(persistencePort, mapper, nameIndexPort, transactionalOperator);
+    }
+
+    @Test
+    void shouldSaveAndIndexPolicyInTransaction_whenPolicyExists() {
+        // given
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(persistencePort.getById(ID, EnumSet.allOf(InsurancePolicyField.class))).thenReturn(Mono.just(STORED_INSURANCE_POLICY));
+        when(persistencePort.save(any())).thenReturn(Mono.just(savedInsurancePolicy));
+
+        // when
+        Mono<InsurancePolicy> result = useCase.execute(ACTION);
+
+        // then
+        StepVerifier.create(result)
+            .expectNext(savedInsurancePolicy)
+            .verifyComplete();
+        verify(persistencePort).save(insurancePolicyCaptor.capture());
+        assertThat(insurancePolicyCaptor.getValue())
+            .extracting(InsurancePolicy::id, InsurancePolicy::name, InsurancePolicy::status, InsurancePolicy::creation, InsurancePolicy::version)
+            .containsExactly(ID, "edited name", InsurancePolicyStatus.ACTIVE, INITIAL_CREATION, 2);
+        verify(nameIndexPort).index(List.of(savedInsurancePolicy));
+    }
+
+    @Test
+    void shouldFailWithInsurancePolicyNotFoundException_whenPolicyDoesNotExist() {
+        // given
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(persistencePort.getById(ID, EnumSet.allOf(InsurancePolicyField.class))).thenReturn(Mono.empty());
+
+        // when
+        Mono<InsurancePolicy> result = useCase.execute(ACTION);
+
+        // then
+        StepVerifier.create(result)
+            .expectError(InsurancePolicyNotFoundException.class)
+            .verify();
+        verify(persistencePort, never()).save(any());
+        verifyNoInteractions(nameIndexPort);
+    }
+
+    @Test
+    void shouldFailWithVersionMismatchException_whenPolicyIsAtAnotherVersion() {
+        // given
+        EditInsurancePolicyAction action = new EditInsurancePolicyAction(
+            ID, "edited name", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 1);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(persistencePort.getById(ID, EnumSet.allOf(InsurancePolicyField.class))).thenReturn(Mono.just(STORED_INSURANCE_POLICY));
+
+        // when
+        Mono<InsurancePolicy> result = useCase.execute(action);
+
+        // then
+        StepVerifier.create(result)
+            .expectError(InsurancePolicyVersionMismatchException.class)
+            .verify();
+        verify(persistencePort, never()).save(any());
+        verifyNoInteractions(nameIndexPort);
+    }
+
+    @Test
+    void shouldFailWithConflictException_whenPolicyIsUpdatedConcurrently() {
+        // given
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(persistencePort.getById(ID, EnumSet.allOf(InsurancePolicyField.class))).thenReturn(Mono.just(STORED_INSURANCE_POLICY));
+        when(persistencePort.save(any())).thenReturn(Mono.empty());
+
+        // when
+        Mono<InsurancePolicy> result = useCase.execute(ACTION);
+
+        // then
+        StepVerifier.create(result)
+            .expectError(InsurancePolicyConflictException.class)
+            .verify();
+        verifyNoInteractions(nameIndexPort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_beforeSubscription_whenIdIsMissing() {
+        // given
+        EditInsurancePolicyAction action = new EditInsurancePolicyAction(
+            null, "edited name", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOf(InvalidInputException.class);
+        verifyNoInteractions(persistencePort, nameIndexPort, transactionalOperator);
+    }
+}
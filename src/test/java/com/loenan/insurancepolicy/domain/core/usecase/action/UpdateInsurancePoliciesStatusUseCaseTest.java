@@ -0,0 +1,126 @@
+package com.loenan.insurancepolicy.domain.core.usecase.action;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.UpdateInsurancePoliciesStatusAction;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyBulkUpdatePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import static com.loenan.insurancepolicy.domain.core.usecase.action.UpdateInsurancePoliciesStatusUseCase.EMPTY_FILTER_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.test.util.TestUtil.assertDateTimeIsCloseToNow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateInsurancePoliciesStatusUseCaseTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private InsurancePolicyBulkUpdatePort bulkUpdatePort;
+
+    private UpdateInsurancePoliciesStatusUseCase useCase;
+
+    @Captor
+    private ArgumentCaptor<InsurancePolicyFilter> filterCaptor;
+
+    @Captor
+    private ArgumentCaptor<ZonedDateTime> lastUpdateCaptor;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new UpdateInsurancePoliciesStatusUseCase(bulkUpdatePort);
+    }
+
+    @Test
+    void shouldUpdateMatchingPolicies_whenFilterIsValid() {
+        // given
+        UpdateInsurancePoliciesStatusAction action = new UpdateInsurancePoliciesStatusAction(
+            "ACTIVE", null, null, null, END_DATE, "Partner ", "INACTIVE");
+        when(bulkUpdatePort.updateStatus(filterCaptor.capture(), eq(InsurancePolicyStatus.INACTIVE), lastUpdateCaptor.capture()))
+            .thenReturn(42L);
+
+        // when
+        long result = useCase.execute(action);
+
+        // then
+        assertThat(result).isEqualTo(42L);
+        assertThat(filterCaptor.getValue())
+            .isEqualTo(new InsurancePolicyFilter(InsurancePolicyStatus.ACTIVE, null, null, null, END_DATE, "Partner ", null));
+        assertDateTimeIsCloseToNow(lastUpdateCaptor.getValue());
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "  "})
+    void shouldThrowInvalidInputException_whenFilterIsEmpty(String namePrefix) {
+        // given
+        UpdateInsurancePoliciesStatusAction action = new UpdateInsurancePoliciesStatusAction(
+            null, null, null, null, null, namePrefix, "INACTIVE");
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors()).containsExactly(new FieldError("filter", EMPTY_FILTER_ERROR_MESSAGE)));
+        verifyNoInteractions(bulkUpdatePort);
+    }
+
+    @Test
+    void shouldIgnoreNamePrefix_whenNamePrefixIsBlank() {
+        // given
+        UpdateInsurancePoliciesStatusAction action = new UpdateInsurancePoliciesStatusAction(
+            "ACTIVE", null, null, null, null, " ", "INACTIVE");
+        when(bulkUpdatePort.updateStatus(filterCaptor.capture(), eq(InsurancePolicyStatus.INACTIVE), lastUpdateCaptor.capture()))
+            .thenReturn(42L);
+
+        // when
+        useCase.execute(action);
+
+        // then
+        assertThat(filterCaptor.getValue())
+            .isEqualTo(new InsurancePolicyFilter(InsurancePolicyStatus.ACTIVE, null, null, null, null, null, null));
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenDataIsInvalid() {
+        // given
+        UpdateInsurancePoliciesStatusAction action = new UpdateInsurancePoliciesStatusAction(
+            "XXX", END_DATE, END_DATE.minusDays(1), null, null, null, null);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(action)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors()).containsExactlyInAnyOrder(
+                    new FieldError("newStatus", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("newStatus")),
+                    new FieldError("status", INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("status", "ACTIVE, INACTIVE")),
+                    new FieldError("startDateBefore", INVALID_DATE_ORDER_ERROR_MESSAGE.formatted("startDateBefore", "startDateFrom"))
+                ));
+        verifyNoInteractions(bulkUpdatePort);
+    }
+}
@@ -0,0 +1,100 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.AutocompleteInsurancePolicyNamesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyNameIndexPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields.AUTOCOMPLETE_LIMIT_MAX_VALUE;
+import static com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields.NAME_MAX_LENGTH;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.STRING_VALUE_TOO_LONG_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteInsurancePolicyNamesUseCaseTest {
+
+    @Mock
+    private InsurancePolicyNameIndexPort nameIndexPort;
+
+    private AutocompleteInsurancePolicyNamesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new AutocompleteInsurancePolicyNamesUseCase(nameIndexPort);
+    }
+
+    @Test
+    void shouldFindNamesWithDefaultLimit_whenLimitIsMissing() {
+        // given
+        List<InsurancePolicyName> names = List.of(new InsurancePolicyName(1, "My policy"));
+        when(nameIndexPort.findByPrefix("my", AutocompleteInsurancePolicyNamesQuery.DEFAULT_LIMIT)).thenReturn(names);
+
+        // when
+        List<InsurancePolicyName> result = useCase.execute(new AutocompleteInsurancePolicyNamesQuery("my", null));
+
+        // then
+        assertThat(result).isSameAs(names);
+    }
+
+    @Test
+    void shouldFindNamesWithRequestedLimit_whenLimitIsProvided() {
+        // given
+        List<InsurancePolicyName> names = List.of(new InsurancePolicyName(1, "My policy"), new InsurancePolicyName(2, "my other policy"));
+        when(nameIndexPort.findByPrefix("MY", 2)).thenReturn(names);
+
+        // when
+        List<InsurancePolicyName> result = useCase.execute(new AutocompleteInsurancePolicyNamesQuery("MY", 2));
+
+        // then
+        assertThat(result).isSameAs(names);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenPrefixIsMissingAndLimitIsTooLarge() {
+        // given
+        AutocompleteInsurancePolicyNamesQuery query = new AutocompleteInsurancePolicyNamesQuery(null, AUTOCOMPLETE_LIMIT_MAX_VALUE + 1);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class, e -> assertThat(e.getFieldErrors())
+                .containsExactly(
+                    new FieldError("prefix", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("prefix")),
+                    new FieldError("limit", INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("limit", 1, AUTOCOMPLETE_LIMIT_MAX_VALUE))
+                ));
+        verifyNoInteractions(nameIndexPort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenPrefixIsTooLongAndLimitIsZero() {
+        // given
+        AutocompleteInsurancePolicyNamesQuery query = new AutocompleteInsurancePolicyNamesQuery("a".repeat(NAME_MAX_LENGTH + 1), 0);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class, e -> assertThat(e.getFieldErrors())
+                .containsExactly(
+                    new FieldError("prefix", STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted("prefix", NAME_MAX_LENGTH)),
+                    new FieldError("limit", INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("limit", 1, AUTOCOMPLETE_LIMIT_MAX_VALUE))
+                ));
+        verifyNoInteractions(nameIndexPort);
+    }
+}
@@ -0,0 +1,106 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.ExportInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.ExportLayout;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyExport;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyExportPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportInsurancePoliciesUseCaseTest {
+
+    private static final int DEFAULT_PARALLELISM = 2;
+    private static final int MAX_PARALLELISM = 8;
+
+    @Mock
+    private InsurancePolicyExportPort exportPort;
+
+    private ExportInsurancePoliciesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportInsurancePoliciesUseCase(exportPort, DEFAULT_PARALLELISM, MAX_PARALLELISM);
+    }
+
+    @Test
+    void shouldExportPoliciesOnlyWhenRun_whenQueryIsValid() {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(exportPort.exportAll(ExportFormat.NDJSON, ExportLayout.PARTITIONED, 4, output)).thenReturn(42L);
+        ExportInsurancePoliciesQuery query = new ExportInsurancePoliciesQuery(ExportFormat.NDJSON, ExportLayout.PARTITIONED, 4);
+
+        // when
+        InsurancePolicyExport export = useCase.execute(query);
+
+        // then
+        verifyNoInteractions(exportPort);
+        assertThat(export.writeTo(output)).isEqualTo(42L);
+    }
+
+    @Test
+    void shouldExportPoliciesWithDefaultParallelism_whenParallelismIsMissing() {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        when(exportPort.exportAll(ExportFormat.CSV, ExportLayout.MERGED, DEFAULT_PARALLELISM, output)).thenReturn(42L);
+        ExportInsurancePoliciesQuery query = new ExportInsurancePoliciesQuery(ExportFormat.CSV, ExportLayout.MERGED, null);
+
+        // when
+        long result = useCase.execute(query).writeTo(output);
+
+        // then
+        assertThat(result).isEqualTo(42L);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenFormatAndLayoutAreMissing() {
+        // given
+        ExportInsurancePoliciesQuery query = new ExportInsurancePoliciesQuery(null, null, null);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors())
+                    .containsExactlyInAnyOrder(
+                        new FieldError("format", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("format")),
+                        new FieldError("layout", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("layout"))
+                    ));
+        verifyNoInteractions(exportPort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenParallelismIsTooHigh() {
+        // given
+        ExportInsurancePoliciesQuery query = new ExportInsurancePoliciesQuery(
+            ExportFormat.CSV, ExportLayout.MERGED, MAX_PARALLELISM + 1);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors())
+                    .containsExactly(new FieldError("parallelism",
+                        INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("parallelism", 1, MAX_PARALLELISM))));
+        verifyNoInteractions(exportPort);
+    }
+}
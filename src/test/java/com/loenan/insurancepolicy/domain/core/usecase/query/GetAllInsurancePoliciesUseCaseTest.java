@@ -1,18 +1,37 @@
 package com.loenan.insurancepolicy.domain.core.usecase.query;
 
 import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyProjectionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
+import static com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields.LIMIT_MAX_VALUE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +40,9 @@ class GetAllInsurancePoliciesUseCaseTest {
     @Mock
     private InsurancePolicyPersistencePort persistencePort;
 
+    @Mock
+    private InsurancePolicyProjectionPort projectionPort;
+
     @Mock
     private InsurancePolicy storedInsurancePolicy1;
 
@@ -31,7 +53,7 @@ class GetAllInsurancePoliciesUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new GetAllInsurancePoliciesUseCase(persistencePort);
+        useCase = new GetAllInsurancePoliciesUseCase(persistencePort, projectionPort);
     }
 
     @Test
@@ -60,4 +82,152 @@ class GetAllInsurancePoliciesUseCaseTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void shouldGetFirstPage_whenLimitIsProvided() {
+        // given
+        when(persistencePort.getPage(null, 2)).thenReturn(List.of(storedInsurancePolicy1, storedInsurancePolicy2));
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, 2);
+
+        // when
+        List<InsurancePolicy> result = useCase.execute(query);
+
+        // then
+        assertThat(result).containsExactly(storedInsurancePolicy1, storedInsurancePolicy2);
+    }
+
+    @Test
+    void shouldGetPageWithDefaultLimit_whenOnlyCursorIsProvided() {
+        // given
+        InsurancePolicyCursor cursor = new InsurancePolicyCursor("My policy", 12);
+        when(persistencePort.getPage(cursor, GetAllInsurancePoliciesQuery.DEFAULT_LIMIT)).thenReturn(List.of(storedInsurancePolicy2));
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(cursor, null);
+
+        // when
+        List<InsurancePolicy> result = useCase.execute(query);
+
+        // then
+        assertThat(result).containsExactly(storedInsurancePolicy2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, LIMIT_MAX_VALUE + 1})
+    void shouldThrowInvalidInputException_whenLimitIsOutOfRange(int limit) {
+        // given
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, limit);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors())
+                    .containsExactly(new FieldError("limit", INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("limit", 1, LIMIT_MAX_VALUE))));
+        verifyNoInteractions(persistencePort, projectionPort);
+    }
+
+    @Test
+    void shouldGetAllProjections_whenFieldsAreProvided() {
+        // given
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.STATUS);
+        when(projectionPort.getAll(InsurancePolicyFilter.NONE, InsurancePolicySort.DEFAULT, fields)).thenReturn(List.of(storedInsurancePolicy1, storedInsurancePolicy2));
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, null, fields);
+
+        // when
+        List<InsurancePolicy> result = useCase.execute(query);
+
+        // then
+        assertThat(result).containsExactly(storedInsurancePolicy1, storedInsurancePolicy2);
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void shouldGetPageOfProjectionsWithCursorFields_whenFieldsAndLimitAreProvided() {
+        // given
+        when(projectionPort.getPage(InsurancePolicyFilter.NONE, InsurancePolicySort.DEFAULT, null, 2,
+            EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.NAME, InsurancePolicyField.STATUS)))
+            .thenReturn(List.of(storedInsurancePolicy1, storedInsurancePolicy2));
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, 2, EnumSet.of(InsurancePolicyField.STATUS));
+
+        // when
+        List<InsurancePolicy> result = useCase.execute(query);
+
+        // then
+        assertThat(result).containsExactly(storedInsurancePolicy1, storedInsurancePolicy2);
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void shouldGetAllFieldsOfFilteredPolicies_whenFilterIsProvided() {
+        // given
+        InsurancePolicyFilter filter = new InsurancePolicyFilter(
+            InsurancePolicyStatus.ACTIVE, null, null, null, null, null, LocalDate.of(2024, 6, 30));
+        when(projectionPort.getAll(filter, InsurancePolicySort.DEFAULT, EnumSet.allOf(InsurancePolicyField.class)))
+            .thenReturn(List.of(storedInsurancePolicy1));
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, null, null, filter, null);
+
+        // when
+        List<InsurancePolicy> result = useCase.execute(query);
+
+        // then
+        assertThat(result).containsExactly(storedInsurancePolicy1);
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void shouldGetPageWithSortField_whenSortAndFieldsAreProvided() {
+        // given
+        InsurancePolicySort sort = new InsurancePolicySort(InsurancePolicyField.START_DATE, true);
+        InsurancePolicyCursor cursor = new InsurancePolicyCursor(null, 12, LocalDate.of(2024, 1, 1), null);
+        when(projectionPort.getPage(InsurancePolicyFilter.NONE, sort, cursor, 2,
+            EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.STATUS, InsurancePolicyField.START_DATE)))
+            .thenReturn(List.of(storedInsurancePolicy2));
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(
+            cursor, 2, EnumSet.of(InsurancePolicyField.STATUS), null, sort);
+
+        // when
+        List<InsurancePolicy> result = useCase.execute(query);
+
+        // then
+        assertThat(result).containsExactly(storedInsurancePolicy2);
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenFilterAndSortAreInvalid() {
+        // given
+        InsurancePolicyFilter filter = new InsurancePolicyFilter(
+            null, LocalDate.of(2024, 1, 1), LocalDate.of(2023, 1, 1), null, null, null, null);
+        InsurancePolicySort sort = new InsurancePolicySort(InsurancePolicyField.STATUS, false);
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, null, null, filter, sort);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors())
+                    .containsExactly(
+                        new FieldError("startDateBefore", INVALID_DATE_ORDER_ERROR_MESSAGE.formatted("startDateBefore", "startDateFrom")),
+                        new FieldError("sort", INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("sort", "name, startDate, lastUpdate"))));
+        verifyNoInteractions(persistencePort, projectionPort);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenCursorDoesNotMatchSort() {
+        // given
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(new InsurancePolicyCursor("My policy", 12), 2, null,
+            null, new InsurancePolicySort(InsurancePolicyField.LAST_UPDATE, false));
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors())
+                    .containsExactly(new FieldError("cursor", GetAllInsurancePoliciesUseCase.CURSOR_NOT_MATCHING_SORT_ERROR_MESSAGE)));
+        verifyNoInteractions(persistencePort, projectionPort);
+    }
 }
@@ -0,0 +1,40 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePoliciesVersionQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePoliciesVersion;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetInsurancePoliciesVersionUseCaseTest {
+
+    @Mock
+    private InsurancePolicyPersistencePort persistencePort;
+
+    private GetInsurancePoliciesVersionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetInsurancePoliciesVersionUseCase(persistencePort);
+    }
+
+    @Test
+    void shouldGetVersionOfAllPolicies() {
+        // given
+        InsurancePoliciesVersion storedVersion = new InsurancePoliciesVersion(3);
+        when(persistencePort.getVersion()).thenReturn(storedVersion);
+
+        // when
+        InsurancePoliciesVersion result = useCase.execute(new GetInsurancePoliciesVersionQuery());
+
+        // then
+        assertThat(result).isSameAs(storedVersion);
+    }
+}
@@ -2,18 +2,26 @@ package com.loenan.insurancepolicy.domain.core.usecase.query;
 
 import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
 import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
 import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
 import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyProjectionPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +32,9 @@ class GetInsurancePolicyByIdUseCaseTest {
     @Mock
     private InsurancePolicyPersistencePort persistencePort;
 
+    @Mock
+    private InsurancePolicyProjectionPort projectionPort;
+
     @Mock
     private InsurancePolicy storedInsurancePolicy;
 
@@ -31,7 +42,7 @@ class GetInsurancePolicyByIdUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new GetInsurancePolicyByIdUseCase(persistencePort);
+        useCase = new GetInsurancePolicyByIdUseCase(persistencePort, projectionPort);
     }
 
     @Test
@@ -60,4 +71,51 @@ class GetInsurancePolicyByIdUseCaseTest {
             // then
             .isInstanceOf(InsurancePolicyNotFoundException.class);
     }
+
+    @Test
+    void shouldGetProjection_whenFieldsAreProvided() {
+        // given
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.NAME);
+        when(projectionPort.getById(ID, fields)).thenReturn(Optional.of(storedInsurancePolicy));
+        GetInsurancePolicyByIdQuery query = new GetInsurancePolicyByIdQuery(ID, fields);
+
+        // when
+        InsurancePolicy result = useCase.execute(query);
+
+        // then
+        assertThat(result).isSameAs(storedInsurancePolicy);
+        verifyNoInteractions(persistencePort);
+    }
+
+    @Test
+    void shouldThrowNotFoundException_whenProjectedPolicyDoesNotExist() {
+        // given
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.STATUS);
+        when(projectionPort.getById(ID, fields)).thenReturn(Optional.empty());
+        GetInsurancePolicyByIdQuery query = new GetInsurancePolicyByIdQuery(ID, fields);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOf(InsurancePolicyNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenFieldsAreEmpty() {
+        // given
+        GetInsurancePolicyByIdQuery query = new GetInsurancePolicyByIdQuery(ID, Set.of());
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class,
+                ex -> assertThat(ex.getFieldErrors())
+                    .containsExactly(new FieldError("fields", COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE.formatted(
+                        "fields", 1, InsurancePolicyField.values().length))));
+        verifyNoInteractions(persistencePort, projectionPort);
+    }
 }
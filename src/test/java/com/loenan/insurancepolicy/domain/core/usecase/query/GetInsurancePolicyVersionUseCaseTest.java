@@ -0,0 +1,80 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyVersionQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import com.loenan.insurancepolicy.domain.core.validation.ValidationUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetInsurancePolicyVersionUseCaseTest {
+
+    private static final Integer ID = 789;
+
+    @Mock
+    private InsurancePolicyPersistencePort persistencePort;
+
+    private GetInsurancePolicyVersionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetInsurancePolicyVersionUseCase(persistencePort);
+    }
+
+    @Test
+    void shouldGetVersion_whenPolicyExists() {
+        // given
+        InsurancePolicyVersion storedVersion = new InsurancePolicyVersion(ID, ZonedDateTime.now(), 2);
+        when(persistencePort.getVersionById(ID)).thenReturn(Optional.of(storedVersion));
+
+        // when
+        InsurancePolicyVersion result = useCase.execute(new GetInsurancePolicyVersionQuery(ID));
+
+        // then
+        assertThat(result).isSameAs(storedVersion);
+    }
+
+    @Test
+    void shouldThrowNotFoundException_whenPolicyDoesNotExist() {
+        // given
+        when(persistencePort.getVersionById(ID)).thenReturn(Optional.empty());
+        GetInsurancePolicyVersionQuery query = new GetInsurancePolicyVersionQuery(ID);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOf(InsurancePolicyNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenIdIsMissing() {
+        // given
+        GetInsurancePolicyVersionQuery query = new GetInsurancePolicyVersionQuery(null);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class, e -> assertThat(e.getFieldErrors())
+                .containsExactly(new FieldError(InsurancePolicyFields.ID,
+                    ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(InsurancePolicyFields.ID))));
+    }
+}
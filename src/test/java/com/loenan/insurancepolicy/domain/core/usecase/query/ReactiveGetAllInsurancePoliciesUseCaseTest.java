@@ -0,0 +1,93 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import com.loenan.insurancepolicy.domain.core.validation.InsurancePolicyFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetAllInsurancePoliciesUseCaseTest {
+
+    private static final InsurancePolicyFilter ACTIVE_FILTER =
+        new InsurancePolicyFilter(InsurancePolicyStatus.ACTIVE, null, null, null, null, null, null);
+
+    @Mock
+    private ReactiveInsurancePolicyPersistencePort persistencePort;
+
+    @Mock
+    private InsurancePolicy insurancePolicy1;
+
+    @Mock
+    private InsurancePolicy insurancePolicy2;
+
+    private ReactiveGetAllInsurancePoliciesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveGetAllInsurancePoliciesUseCase(persistencePort);
+    }
+
+    @Test
+    void shouldReadAllFieldsOfAllPolicies_whenNoPageNorFieldIsRequested() {
+        // given
+        when(persistencePort.getAll(ACTIVE_FILTER, InsurancePolicySort.DEFAULT, EnumSet.allOf(InsurancePolicyField.class)))
+            .thenReturn(Flux.just(insurancePolicy1, insurancePolicy2));
+
+        // when / then
+        StepVerifier.create(useCase.execute(new GetAllInsurancePoliciesQuery(null, null, null, ACTIVE_FILTER, null)))
+            .expectNext(insurancePolicy1, insurancePolicy2)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReadPageWithCursorFields_whenPageOfSomeFieldsIsRequested() {
+        // given
+        InsurancePolicySort sort = new InsurancePolicySort(InsurancePolicyField.START_DATE, true);
+        InsurancePolicyCursor after = new InsurancePolicyCursor(null, 12, LocalDate.of(2024, 1, 1), null);
+        Set<InsurancePolicyField> expectedFields =
+            EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.NAME, InsurancePolicyField.START_DATE);
+        when(persistencePort.getPage(InsurancePolicyFilter.NONE, sort, after, 2, expectedFields))
+            .thenReturn(Flux.just(insurancePolicy1));
+
+        // when / then
+        StepVerifier.create(useCase.execute(new GetAllInsurancePoliciesQuery(
+                after, 2, EnumSet.of(InsurancePolicyField.NAME), null, sort)))
+            .expectNext(insurancePolicy1)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_beforeSubscription_whenLimitIsTooLarge() {
+        // given
+        GetAllInsurancePoliciesQuery query = new GetAllInsurancePoliciesQuery(null, InsurancePolicyFields.LIMIT_MAX_VALUE + 1);
+
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(query)
+        )
+            // then
+            .isInstanceOf(InvalidInputException.class);
+        verifyNoInteractions(persistencePort);
+    }
+}
@@ -0,0 +1,86 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.GetInsurancePolicyByIdQuery;
+import com.loenan.insurancepolicy.domain.contract.exception.InsurancePolicyNotFoundException;
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.ReactiveInsurancePolicyPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetInsurancePolicyByIdUseCaseTest {
+
+    private static final Integer ID = 1234;
+
+    @Mock
+    private ReactiveInsurancePolicyPersistencePort persistencePort;
+
+    @Mock
+    private InsurancePolicy insurancePolicy;
+
+    private ReactiveGetInsurancePolicyByIdUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveGetInsurancePolicyByIdUseCase(persistencePort);
+    }
+
+    @Test
+    void shouldReadAllFields_whenNoFieldIsRequested() {
+        // given
+        when(persistencePort.getById(ID, EnumSet.allOf(InsurancePolicyField.class))).thenReturn(Mono.just(insurancePolicy));
+
+        // when / then
+        StepVerifier.create(useCase.execute(new GetInsurancePolicyByIdQuery(ID)))
+            .expectNext(insurancePolicy)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReadRequestedFields_whenFieldsAreRequested() {
+        // given
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.NAME);
+        when(persistencePort.getById(ID, fields)).thenReturn(Mono.just(insurancePolicy));
+
+        // when / then
+        StepVerifier.create(useCase.execute(new GetInsurancePolicyByIdQuery(ID, fields)))
+            .expectNext(insurancePolicy)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFailWithInsurancePolicyNotFoundException_whenPolicyDoesNotExist() {
+        // given
+        when(persistencePort.getById(ID, EnumSet.allOf(InsurancePolicyField.class))).thenReturn(Mono.empty());
+
+        // when / then
+        StepVerifier.create(useCase.execute(new GetInsurancePolicyByIdQuery(ID)))
+            .expectError(InsurancePolicyNotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_beforeSubscription_whenIdIsMissing() {
+        assertThatThrownBy(
+            // when
+            () -> useCase.execute(new GetInsurancePolicyByIdQuery(null))
+        )
+            // then
+            .isInstanceOf(InvalidInputException.class);
+        verifyNoInteractions(persistencePort);
+    }
+}
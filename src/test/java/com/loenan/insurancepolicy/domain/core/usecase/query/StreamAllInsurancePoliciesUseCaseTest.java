@@ -0,0 +1,71 @@
+package com.loenan.insurancepolicy.domain.core.usecase.query;
+
+import com.loenan.insurancepolicy.domain.contract.command.query.StreamAllInsurancePoliciesQuery;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.port.secondary.InsurancePolicyPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamAllInsurancePoliciesUseCaseTest {
+
+    @Mock
+    private InsurancePolicyPersistencePort persistencePort;
+
+    @Mock
+    private InsurancePolicy storedInsurancePolicy1;
+
+    @Mock
+    private InsurancePolicy storedInsurancePolicy2;
+
+    private StreamAllInsurancePoliciesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new StreamAllInsurancePoliciesUseCase(persistencePort);
+    }
+
+    @Test
+    void shouldStreamAllPoliciesAndCloseTheStream_whenPoliciesExist() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(persistencePort.streamAll())
+            .thenReturn(Stream.of(storedInsurancePolicy1, storedInsurancePolicy2).onClose(() -> closed.set(true)));
+        List<InsurancePolicy> consumed = new ArrayList<>();
+        StreamAllInsurancePoliciesQuery query = new StreamAllInsurancePoliciesQuery(consumed::add);
+
+        // when
+        long result = useCase.execute(query);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(consumed).containsExactly(storedInsurancePolicy1, storedInsurancePolicy2);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldStreamNoPolicies_whenNoPoliciesExist() {
+        // given
+        when(persistencePort.streamAll()).thenReturn(Stream.empty());
+        List<InsurancePolicy> consumed = new ArrayList<>();
+        StreamAllInsurancePoliciesQuery query = new StreamAllInsurancePoliciesQuery(consumed::add);
+
+        // when
+        long result = useCase.execute(query);
+
+        // then
+        assertThat(result).isZero();
+        assertThat(consumed).isEmpty();
+    }
+}
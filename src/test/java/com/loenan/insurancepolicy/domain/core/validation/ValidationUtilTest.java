@@ -0,0 +1,68 @@
+package com.loenan.insurancepolicy.domain.core.validation;
+
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationUtilTest {
+
+    private static final String FIELD = "values";
+
+    @Test
+    void shouldReportErrorsByIndex_whenBatchIsValidatedSequentially() {
+        // given
+        List<Integer> items = new ArrayList<>(List.of(1, -2, 3, -4));
+        items.add(null);
+
+        // when
+        BatchValidationReport report = ValidationUtil.validateBatch(items, ValidationUtilTest::validatePositive, FIELD);
+
+        // then
+        assertThat(report.size()).isEqualTo(5);
+        assertThat(report.invalidCount()).isEqualTo(3);
+        assertThat(report.getInvalidIndexes()).containsExactly(1, 3, 4);
+        assertThat(report.isValid(0)).isTrue();
+        assertThat(report.getFieldErrors(0)).isEmpty();
+        assertThat(report.getFieldErrors(1)).containsExactly(new FieldError("value", "-2 is negative"));
+        assertThat(report.getFieldErrors(4)).containsExactly(new FieldError(FIELD, NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted(FIELD)));
+    }
+
+    @Test
+    void shouldReportAllErrorsInIndexOrder_whenBatchIsValidatedInParallel() {
+        // given
+        List<Integer> items = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 7 == 0 ? -i - 1 : i)
+            .collect(LinkedList::new, List::add, List::addAll);
+
+        // when
+        BatchValidationReport report = ValidationUtil.validateBatch(items, ValidationUtilTest::validatePositive, FIELD, 100);
+
+        // then
+        int[] expectedInvalidIndexes = IntStream.range(0, 10_000).filter(i -> i % 7 == 0).toArray();
+        assertThat(report.size()).isEqualTo(10_000);
+        assertThat(report.getInvalidIndexes()).containsExactly(expectedInvalidIndexes);
+        assertThat(report.getFieldErrors(9_996)).containsExactly(new FieldError("value", "-9997 is negative"));
+        assertThat(report.getFieldErrors(9_997)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyReport_whenAllItemsAreValid() {
+        // when
+        BatchValidationReport report = ValidationUtil.validateBatch(List.of(1, 2, 3), ValidationUtilTest::validatePositive, FIELD);
+
+        // then
+        assertThat(report.isValid()).isTrue();
+        assertThat(report.getInvalidIndexes()).isEmpty();
+    }
+
+    private static List<FieldError> validatePositive(Integer value) {
+        return value < 0 ? List.of(new FieldError("value", value + " is negative")) : List.of();
+    }
+}
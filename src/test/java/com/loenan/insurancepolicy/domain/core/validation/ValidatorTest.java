@@ -0,0 +1,61 @@
+package com.loenan.insurancepolicy.domain.core.validation;
+
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.error.FieldError;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidatorTest {
+
+    private static final String ERROR_MESSAGE = "The code must be even";
+
+    private static final Validator<Command> VALIDATOR = Validator.<Command>builder()
+        .mandatory(Command::code, "code")
+        .integerRange(Command::code, 1, 10, "code")
+        .collectionSize(Command::tags, 1, 2, "tags")
+        .condition(command -> command.code() == null || command.code() % 2 == 0, "code", ERROR_MESSAGE)
+        .build();
+
+    @Test
+    void shouldReturnSharedEmptyList_whenValueIsValid() {
+        // when
+        List<FieldError> fieldErrors = VALIDATOR.validate(new Command(4, List.of("a")));
+
+        // then
+        assertThat(fieldErrors).isSameAs(List.of());
+    }
+
+    @Test
+    void shouldReturnErrorsInRuleOrder_whenSeveralRulesFail() {
+        // when
+        List<FieldError> fieldErrors = VALIDATOR.validate(new Command(11, List.of()));
+
+        // then
+        assertThat(fieldErrors).containsExactly(
+            new FieldError("code", INTEGER_VALUE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("code", 1, 10)),
+            new FieldError("tags", COLLECTION_SIZE_OUT_OF_RANGE_ERROR_MESSAGE.formatted("tags", 1, 2)),
+            new FieldError("code", ERROR_MESSAGE)
+        );
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenMandatoryValueIsMissing() {
+        assertThatThrownBy(
+            // when
+            () -> VALIDATOR.validateInput(new Command(null, null))
+        )
+            // then
+            .isInstanceOfSatisfying(InvalidInputException.class, e -> assertThat(e.getFieldErrors())
+                .containsExactly(new FieldError("code", NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("code"))));
+    }
+
+    private record Command(Integer code, List<String> tags) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.loenan.insurancepolicy.infrastructure.cache;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.CreateInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.exception.IdempotencyKeyReuseException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InsurancePolicyIdempotencyCacheTest {
+
+    private static final String KEY = "5f0c3a9e-8b7d-4d2a-9a4e-2f1c6b8d7e90";
+    private static final CreateInsurancePolicyAction ACTION = new CreateInsurancePolicyAction(
+        "My policy", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), KEY);
+    private static final ZonedDateTime CREATION = ZonedDateTime.of(2024, 10, 28, 10, 0, 0, 0, ZoneOffset.UTC);
+    private static final InsurancePolicy CREATED_POLICY = new InsurancePolicy(1, "My policy", InsurancePolicyStatus.ACTIVE,
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), CREATION, CREATION, 0);
+
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private MeterRegistry meterRegistry;
+    private InsurancePolicyIdempotencyCache cache;
+    private AtomicInteger creationCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new InsurancePolicyIdempotencyCache(meterRegistry, Duration.ofHours(1), 100, WAIT_TIMEOUT);
+        creationCount = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReplayCreation_whenSameRequestIsSentAgain() {
+        // given
+        cache.execute(ACTION, this::create);
+
+        // when
+        InsurancePolicy result = cache.execute(ACTION, this::create);
+
+        // then
+        assertThat(result).isSameAs(CREATED_POLICY);
+        assertThat(creationCount).hasValue(1);
+        assertThat(meterRegistry.get("insurance.policy.idempotency.cache.replays").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowIdempotencyKeyReuseException_whenKeyIsSentWithAnotherRequest() {
+        // given
+        cache.execute(ACTION, this::create);
+        CreateInsurancePolicyAction otherAction = new CreateInsurancePolicyAction(
+            "Other policy", "ACTIVE", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), KEY);
+
+        assertThatThrownBy(
+            // when
+            () -> cache.execute(otherAction, this::create)
+        )
+            // then
+            .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThat(creationCount).hasValue(1);
+    }
+
+    @Test
+    void shouldRunCreationAgain_whenFirstCreationFailed() {
+        // given
+        assertThatThrownBy(() -> cache.execute(ACTION, action -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        InsurancePolicy result = cache.execute(ACTION, this::create);
+
+        // then
+        assertThat(result).isSameAs(CREATED_POLICY);
+        assertThat(creationCount).hasValue(1);
+    }
+
+    @Test
+    void shouldWaitForFirstCreation_whenSameRequestIsSentConcurrently() throws Exception {
+        // given
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch creationReleased = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<InsurancePolicy> first = executor.submit(() -> cache.execute(ACTION, action -> {
+                creationStarted.countDown();
+                awaitQuietly(creationReleased);
+                return create(action);
+            }));
+            assertThat(creationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            Future<InsurancePolicy> retry = executor.submit(() -> cache.execute(ACTION, this::create));
+            Thread.sleep(100);
+            assertThat(retry).isNotDone();
+            creationReleased.countDown();
+
+            // then
+            assertThat(first.get(10, TimeUnit.SECONDS)).isSameAs(CREATED_POLICY);
+            assertThat(retry.get(10, TimeUnit.SECONDS)).isSameAs(CREATED_POLICY);
+        }
+        assertThat(creationCount).hasValue(1);
+    }
+
+    @Test
+    void shouldRunCreationWithoutCache_whenFirstCreationIsStuckBeyondWaitTimeout() throws Exception {
+        // given
+        cache = new InsurancePolicyIdempotencyCache(meterRegistry, Duration.ofHours(1), 100, Duration.ofMillis(100));
+        CountDownLatch creationStarted = new CountDownLatch(1);
+        CountDownLatch creationReleased = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<InsurancePolicy> first = executor.submit(() -> cache.execute(ACTION, action -> {
+                creationStarted.countDown();
+                awaitQuietly(creationReleased);
+                return create(action);
+            }));
+            assertThat(creationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            // the creation of the retry stands for the durable record, which returns the recorded creation
+            InsurancePolicy retryResult = cache.execute(ACTION, this::create);
+
+            // then
+            assertThat(retryResult).isSameAs(CREATED_POLICY);
+            assertThat(first).isNotDone();
+            creationReleased.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS)).isSameAs(CREATED_POLICY);
+        }
+        assertThat(creationCount).hasValue(2);
+        assertThat(meterRegistry.get("insurance.policy.idempotency.cache.replays").counter().count()).isZero();
+    }
+
+    private InsurancePolicy create(CreateInsurancePolicyAction action) {
+        creationCount.incrementAndGet();
+        return CREATED_POLICY;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.loenan.insurancepolicy.infrastructure.cache;
+
+import com.loenan.insurancepolicy.infrastructure.cache.InsurancePolicyResponseCache.CachedResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsurancePolicyResponseCacheTest {
+
+    private static final int VERSION_1 = 0;
+    private static final int VERSION_2 = 1;
+    private static final byte[] BODY = "{\"id\":1,\"name\":\"My policy\"}".getBytes(StandardCharsets.UTF_8);
+
+    private MeterRegistry meterRegistry;
+    private InsurancePolicyResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new InsurancePolicyResponseCache(meterRegistry, DataSize.ofKilobytes(4));
+    }
+
+    @Test
+    void shouldServeResponse_onlyForItsVersion() throws IOException {
+        // given
+        cache.put(1, VERSION_1, BODY);
+
+        // when
+        CachedResponse sameVersion = cache.get(1, VERSION_1);
+        CachedResponse otherVersion = cache.get(1, VERSION_2);
+        CachedResponse otherPolicy = cache.get(2, VERSION_1);
+
+        // then
+        assertThat(sameVersion).isNotNull();
+        assertThat(sameVersion.body()).isEqualTo(BODY);
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(sameVersion.gzipBody())).readAllBytes()).isEqualTo(BODY);
+        assertThat(otherVersion).isNull();
+        assertThat(otherPolicy).isNull();
+        assertThat(meterRegistry.get("insurance.policy.response.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("insurance.policy.response.cache.requests").tag("result", "miss").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("insurance.policy.response.cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void shouldKeepMostRecentVersion_whenOlderVersionIsPutAfterIt() {
+        // given
+        cache.put(1, VERSION_2, BODY);
+
+        // when
+        cache.put(1, VERSION_1, BODY);
+
+        // then
+        assertThat(cache.get(1, VERSION_2)).isNotNull();
+        assertThat(cache.get(1, VERSION_1)).isNull();
+    }
+
+    @Test
+    void shouldEvictResponses_whenPoliciesAreEdited() {
+        // given
+        cache.put(1, VERSION_1, BODY);
+        cache.put(2, VERSION_1, BODY);
+
+        // when
+        cache.evict(List.of(1));
+
+        // then
+        assertThat(cache.get(1, VERSION_1)).isNull();
+        assertThat(cache.get(2, VERSION_1)).isNotNull();
+        assertThat(meterRegistry.get("insurance.policy.response.cache.evictions").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldEvictResponses_whenMaxSizeIsExceeded() {
+        // when
+        for (int id = 1; id <= 100; id++) {
+            cache.put(id, VERSION_1, BODY);
+        }
+
+        // then
+        double memory = meterRegistry.get("insurance.policy.response.cache.memory").gauge().value();
+        assertThat(memory).isPositive().isLessThanOrEqualTo(DataSize.ofKilobytes(4).toBytes());
+        assertThat(meterRegistry.get("insurance.policy.response.cache.evictions").counter().count()).isPositive();
+        assertThat(meterRegistry.get("insurance.policy.response.cache.entries").gauge().value()).isLessThan(100);
+    }
+}
@@ -0,0 +1,124 @@
+package com.loenan.insurancepolicy.infrastructure.index;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InsurancePolicyNameIndexTest {
+
+    private InsurancePolicyNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InsurancePolicyNameIndex();
+        index.rebuild(builder -> {
+            builder.add(4, "car policy");
+            builder.add(1, "Home policy");
+            builder.add(3, "home insurance");
+            builder.add(2, "HOME policy");
+            builder.add(5, "Homer");
+        });
+    }
+
+    @Test
+    void shouldFindNamesIgnoringCase_inNameThenIdOrder() {
+        // when / then
+        assertThat(index.findByPrefix("HoMe", 10)).containsExactly(
+            new InsurancePolicyName(3, "home insurance"),
+            new InsurancePolicyName(1, "Home policy"),
+            new InsurancePolicyName(2, "HOME policy"),
+            new InsurancePolicyName(5, "Homer")
+        );
+    }
+
+    @Test
+    void shouldStopAtLimit() {
+        // when / then
+        assertThat(index.findByPrefix("home ", 2)).containsExactly(
+            new InsurancePolicyName(3, "home insurance"),
+            new InsurancePolicyName(1, "Home policy")
+        );
+    }
+
+    @Test
+    void shouldFindNothing_whenNoNameMatches() {
+        // when / then
+        assertThat(index.findByPrefix("house", 10)).isEmpty();
+        assertThat(index.findByPrefix("zzz", 10)).isEmpty();
+        assertThat(index.findByPrefix("car policy and more", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldMergeIndexedNames_withSnapshotNames() {
+        // given
+        index.put(6, "home boat", 1);
+        index.put(1, "Car policy", 1);
+
+        // when / then
+        assertThat(index.findByPrefix("home", 10)).containsExactly(
+            new InsurancePolicyName(6, "home boat"),
+            new InsurancePolicyName(3, "home insurance"),
+            new InsurancePolicyName(2, "HOME policy"),
+            new InsurancePolicyName(5, "Homer")
+        );
+        assertThat(index.findByPrefix("car", 10)).containsExactly(
+            new InsurancePolicyName(1, "Car policy"),
+            new InsurancePolicyName(4, "car policy")
+        );
+        assertThat(index.size()).isEqualTo(7);
+        assertThat(index.deltaSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepMostRecentVersion_whenNamesAreIndexedOutOfOrder() {
+        // given
+        index.put(1, "home v3", 3);
+        index.put(1, "home v2", 2);
+        index.put(3, "home w1", 1);
+        index.put(3, "home w2", 2);
+
+        // when / then
+        assertThat(index.findByPrefix("home ", 10)).containsExactly(
+            new InsurancePolicyName(2, "HOME policy"),
+            new InsurancePolicyName(1, "home v3"),
+            new InsurancePolicyName(3, "home w2")
+        );
+        assertThat(index.deltaSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFoldIndexedNames_whenRebuilt() {
+        // given
+        index.put(6, "home boat", 1);
+
+        // when
+        index.rebuild(builder -> {
+            builder.add(6, "home boat");
+            // indexed while the names are loaded: kept in the delta, as the load may have missed it
+            index.put(7, "home tent", 1);
+        });
+
+        // then
+        assertThat(index.findByPrefix("home", 10)).containsExactly(
+            new InsurancePolicyName(6, "home boat"),
+            new InsurancePolicyName(7, "home tent")
+        );
+        assertThat(index.deltaSize()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEstimateMemory_fromNamesAndDelta() {
+        // given
+        long snapshotBytes = index.memoryBytes();
+
+        // when
+        index.put(6, "home boat", 1);
+
+        // then
+        assertThat(snapshotBytes).isPositive();
+        assertThat(index.memoryBytes()).isGreaterThan(snapshotBytes);
+    }
+}
@@ -0,0 +1,82 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.loenan.insurancepolicy.test.util.TestUtil.insertGeneratedPoliciesQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "insurance-policy.persistence.bulk-update-chunk-size=7"
+})
+class InsurancePolicyBulkUpdateAdapterTest extends AbstractDatabaseTest {
+
+    @Autowired
+    private InsurancePolicyBulkUpdateAdapter adapter;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        // 100 policies: the even ones are ACTIVE, the end date is in 2023 for the 50 first ones, in 2024 for the others
+        jdbcTemplate.update(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            CASE WHEN i % 10 = 0 THEN 'Partner_' ELSE 'Policy ' END || i,
+            CASE WHEN i % 2 = 0 THEN 'ACTIVE' ELSE 'INACTIVE' END,
+            DATE '2023-01-01',
+            CASE WHEN i <= 50 THEN DATE '2023-12-31' ELSE DATE '2024-12-31' END"""), 100);
+    }
+
+    @Test
+    void shouldUpdateAllMatchingPoliciesInChunks_whenFilterMatchesMoreThanOneChunk() {
+        ZonedDateTime lastUpdate = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+        InsurancePolicyFilter filter = new InsurancePolicyFilter(
+            InsurancePolicyStatus.ACTIVE, null, null, null, LocalDate.of(2024, 1, 1), null, null);
+
+        long updatedCount = adapter.updateStatus(filter, InsurancePolicyStatus.INACTIVE, lastUpdate);
+
+        assertThat(updatedCount).isEqualTo(25);
+        List<InsurancePolicyEntity> entities = repository.findAll();
+        assertThat(entities)
+            .filteredOn(entity -> entity.getEndDate().getYear() == 2023)
+            .allSatisfy(entity -> {
+                assertThat(entity.getStatus()).isEqualTo(InsurancePolicyStatus.INACTIVE);
+                assertThat(entity.getLastUpdate().toInstant()).isIn(lastUpdate.toInstant(), entity.getCreation().toInstant());
+            });
+        assertThat(entities)
+            .filteredOn(entity -> entity.getStatus() == InsurancePolicyStatus.ACTIVE)
+            .hasSize(25)
+            .allSatisfy(entity -> assertThat(entity.getEndDate().getYear()).isEqualTo(2024));
+    }
+
+    @Test
+    void shouldMatchNamePrefixLiterally_whenPrefixContainsWildcards() {
+        InsurancePolicyFilter filter = new InsurancePolicyFilter(null, null, null, null, null, "Partner_", null);
+
+        long updatedCount = adapter.updateStatus(filter, InsurancePolicyStatus.INACTIVE, ZonedDateTime.now(ZoneOffset.UTC));
+
+        // the policies named "Partner_<i>" are all ACTIVE (i is a multiple of 10)
+        assertThat(updatedCount).isEqualTo(10);
+        assertThat(repository.findAll())
+            .filteredOn(entity -> entity.getName().startsWith("Partner_"))
+            .allSatisfy(entity -> assertThat(entity.getStatus()).isEqualTo(InsurancePolicyStatus.INACTIVE));
+    }
+}
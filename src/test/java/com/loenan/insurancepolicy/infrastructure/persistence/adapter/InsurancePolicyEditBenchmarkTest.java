@@ -0,0 +1,101 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.loenan.insurancepolicy.test.util.TestUtil.insertGeneratedPoliciesQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the latency of the edition of a policy, loaded then saved by the ORM, or updated by a single
+ * {@code UPDATE ... RETURNING} statement. Excluded from the default build, run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class InsurancePolicyEditBenchmarkTest extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 10_000;
+    private static final int WARMUP_EDITS = 2_000;
+    private static final int MEASURED_EDITS = 5_000;
+
+    enum EditStrategy {
+        LOAD_THEN_SAVE,
+        UPDATE_RETURNING
+    }
+
+    @Autowired
+    private InsurancePolicyPersistenceAdapter adapter;
+
+    @Autowired
+    private InsurancePolicyMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Integer> ids;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE insurance_policy.insurance_policy");
+        jdbcTemplate.update(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            'My policy ' || lpad(i::text, 5, '0'),
+            CASE WHEN i % 2 = 0 THEN 'ACTIVE' ELSE 'INACTIVE' END,
+            DATE '2024-01-01',
+            DATE '2024-12-31'"""), ROW_COUNT);
+        jdbcTemplate.execute("VACUUM ANALYZE insurance_policy.insurance_policy");
+        ids = jdbcTemplate.queryForList("SELECT id FROM insurance_policy.insurance_policy ORDER BY id", Integer.class);
+    }
+
+    @ParameterizedTest
+    @EnumSource(EditStrategy.class)
+    void editPolicies(EditStrategy strategy) {
+        for (int i = 0; i < WARMUP_EDITS; i++) {
+            edit(strategy, i);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_EDITS; i++) {
+            edit(strategy, WARMUP_EDITS + i);
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+        System.out.printf("Edited %d policies with %-16s in %6d ms (%4d us/edit)%n",
+            MEASURED_EDITS, strategy, elapsedMicros / 1000, elapsedMicros / MEASURED_EDITS);
+    }
+
+    /**
+     * Each edition in its own transaction, as the edition use case.
+     */
+    private void edit(EditStrategy strategy, int number) {
+        EditInsurancePolicyAction action = new EditInsurancePolicyAction(
+            ids.get(number % ids.size()),
+            "Edited policy " + number,
+            number % 2 == 0 ? "ACTIVE" : "INACTIVE",
+            LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 12, 31),
+            null
+        );
+        InsurancePolicy savedInsurancePolicy = transactionTemplate.execute(status -> switch (strategy) {
+            case LOAD_THEN_SAVE -> adapter.save(mapper.toDomain(adapter.getById(action.id()).orElseThrow(), action));
+            case UPDATE_RETURNING -> adapter.update(mapper.toDomain(action)).orElseThrow();
+        });
+        assertThat(savedInsurancePolicy.name()).isEqualTo(action.name());
+    }
+}
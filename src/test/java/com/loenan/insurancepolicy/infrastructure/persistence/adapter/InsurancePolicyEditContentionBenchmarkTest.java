@@ -0,0 +1,147 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.command.action.EditInsurancePolicyAction;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
+import com.loenan.insurancepolicy.domain.core.model.mapper.InsurancePolicyMapper;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.loenan.insurancepolicy.test.util.TestUtil.insertGeneratedPoliciesQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the throughput of concurrent editions of a few hot policies, by writers which first read the policy
+ * version, as a client reading its ETag, then edit it either whatever its version, or only when it still has this
+ * version, as with an If-Match header, reading it again after each conflict. Each writer runs in its own thread,
+ * with fewer writers than pooled connections. Excluded from the default build, run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class InsurancePolicyEditContentionBenchmarkTest extends AbstractDatabaseTest {
+
+    private static final int HOT_POLICY_COUNT = 4;
+    private static final int WARMUP_EDITS = 1_000;
+    private static final int EDITS_PER_WRITER = 1_000;
+
+    enum Precondition {
+        NONE,
+        IF_MATCH
+    }
+
+    @Autowired
+    private InsurancePolicyPersistenceAdapter adapter;
+
+    @Autowired
+    private InsurancePolicyMapper mapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Integer> ids;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE insurance_policy.insurance_policy");
+        jdbcTemplate.update(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            'My policy ' || i,
+            'ACTIVE',
+            DATE '2024-01-01',
+            DATE '2024-12-31'"""), HOT_POLICY_COUNT);
+        ids = jdbcTemplate.queryForList("SELECT id FROM insurance_policy.insurance_policy ORDER BY id", Integer.class);
+    }
+
+    static Stream<Arguments> editPoliciesConcurrently() {
+        return Stream.of(1, 4, 8).flatMap(writerCount -> Stream.of(Precondition.values())
+            .map(precondition -> Arguments.of(precondition, writerCount)));
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void editPoliciesConcurrently(Precondition precondition, int writerCount) throws Exception {
+        editConcurrently(precondition, 1, WARMUP_EDITS);
+
+        long start = System.nanoTime();
+        long conflictCount = editConcurrently(precondition, writerCount, EDITS_PER_WRITER);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long editCount = (long) writerCount * EDITS_PER_WRITER;
+        System.out.printf("%d writers, precondition %-8s: %6d edits/s, %5d conflicts (%.2f per edit)%n",
+            writerCount, precondition, editCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+            conflictCount, (double) conflictCount / editCount);
+    }
+
+    /**
+     * @return The number of editions rejected because the policy changed since its version was read
+     */
+    private long editConcurrently(Precondition precondition, int writerCount, int editsPerWriter) throws Exception {
+        List<Future<Long>> writers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(writerCount)) {
+            for (int writer = 0; writer < writerCount; writer++) {
+                writers.add(executor.submit(() -> {
+                    long conflictCount = 0;
+                    for (int number = 0; number < editsPerWriter; number++) {
+                        conflictCount += edit(precondition, number);
+                    }
+                    return conflictCount;
+                }));
+            }
+            long conflictCount = 0;
+            for (Future<Long> writer : writers) {
+                conflictCount += writer.get();
+            }
+            return conflictCount;
+        }
+    }
+
+    /**
+     * Read the version of a random hot policy, then edit it, until the edition succeeds.
+     * Each read and each edition in its own transaction, as the use cases.
+     *
+     * @return The number of conflicts before the edition succeeded
+     */
+    private long edit(Precondition precondition, int number) {
+        Integer id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        long conflictCount = 0;
+        while (true) {
+            Integer version = adapter.getVersionById(id).map(InsurancePolicyVersion::version).orElseThrow();
+            EditInsurancePolicyAction action = new EditInsurancePolicyAction(
+                id,
+                "Edited policy " + number,
+                number % 2 == 0 ? "ACTIVE" : "INACTIVE",
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                precondition == Precondition.IF_MATCH ? version : null
+            );
+            Optional<InsurancePolicy> savedInsurancePolicy = transactionTemplate.execute(status ->
+                adapter.update(mapper.toDomain(action)));
+            if (savedInsurancePolicy.isPresent()) {
+                assertThat(savedInsurancePolicy.get().name()).isEqualTo(action.name());
+                return conflictCount;
+            }
+            conflictCount++;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.ExportFormat;
+import com.loenan.insurancepolicy.domain.contract.model.ExportLayout;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static com.loenan.insurancepolicy.test.util.TestUtil.insertGeneratedPoliciesQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the export throughput for an increasing number of parallel workers.
+ * Excluded from the default build, run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "spring.datasource.hikari.maximum-pool-size=20",
+    "insurance-policy.export.max-parallelism=16",
+    "insurance-policy.export.max-connections=17"
+})
+class InsurancePolicyExportAdapterBenchmarkTest extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 2_000_000;
+    private static final int WARMUP_RUNS = 1;
+
+    @Autowired
+    private InsurancePolicyExportAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Integer rowCount = jdbcTemplate.queryForObject("SELECT count(*) FROM insurance_policy.insurance_policy", Integer.class);
+        if (rowCount == null || rowCount != ROW_COUNT) {
+            jdbcTemplate.update("TRUNCATE insurance_policy.insurance_policy");
+            jdbcTemplate.update(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+                'My policy ' || lpad(i::text, 7, '0'),
+                CASE WHEN i % 2 = 0 THEN 'ACTIVE' ELSE 'INACTIVE' END,
+                DATE '2024-01-01',
+                DATE '2024-12-31'"""), ROW_COUNT);
+            jdbcTemplate.execute("VACUUM ANALYZE insurance_policy.insurance_policy");
+        }
+    }
+
+    @ParameterizedTest(name = "{0} worker(s)")
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    void exportAllPolicies(int parallelism) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            adapter.exportAll(ExportFormat.CSV, ExportLayout.MERGED, parallelism, OutputStream.nullOutputStream());
+        }
+
+        long start = System.nanoTime();
+        long rowCount = adapter.exportAll(ExportFormat.CSV, ExportLayout.MERGED, parallelism, OutputStream.nullOutputStream());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        System.out.printf("Exported %d rows with %2d worker(s) in %6d ms (%d rows/s)%n",
+            rowCount, parallelism, elapsedMillis, rowCount * 1000 / Math.max(elapsedMillis, 1));
+        assertThat(rowCount).isEqualTo(ROW_COUNT);
+    }
+}
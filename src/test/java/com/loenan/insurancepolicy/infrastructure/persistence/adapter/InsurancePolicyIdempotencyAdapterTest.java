@@ -0,0 +1,146 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCreation;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "insurance-policy.idempotency.ttl=1h"
+})
+class InsurancePolicyIdempotencyAdapterTest extends AbstractDatabaseTest {
+
+    private static final ZonedDateTime CREATION = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+    private static final InsurancePolicy CREATED_POLICY = new InsurancePolicy(12, "My policy", InsurancePolicyStatus.ACTIVE,
+        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), CREATION, CREATION, 0);
+
+    @Autowired
+    private InsurancePolicyIdempotencyAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM insurance_policy.idempotency_key");
+    }
+
+    @Test
+    void shouldReturnRecordedCreation_whenKeyIsReservedAgain() {
+        Optional<InsurancePolicyCreation> firstReservation = transactionTemplate.execute(status -> {
+            Optional<InsurancePolicyCreation> reservation = adapter.reserve("key-1", "hash-1");
+            adapter.complete("key-1", CREATED_POLICY);
+            return reservation;
+        });
+
+        Optional<InsurancePolicyCreation> secondReservation = adapter.reserve("key-1", "hash-2");
+
+        assertThat(firstReservation).isEmpty();
+        assertThat(secondReservation).hasValueSatisfying(creation -> {
+            assertThat(creation.requestHash()).isEqualTo("hash-1");
+            assertThat(creation.insurancePolicy())
+                .usingRecursiveComparison()
+                .withComparatorForType(ChronoZonedDateTime.timeLineOrder(), ZonedDateTime.class)
+                .isEqualTo(CREATED_POLICY);
+        });
+    }
+
+    @Test
+    void shouldReserveKeyAgain_whenFirstReservationIsRolledBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            adapter.reserve("key-1", "hash-1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(adapter.reserve("key-1", "hash-1")).isEmpty();
+    }
+
+    @Test
+    void shouldWaitForFirstTransaction_whenKeyIsReservedConcurrently() throws Exception {
+        CountDownLatch reserved = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                adapter.reserve("key-1", "hash-1");
+                reserved.countDown();
+                awaitQuietly(released);
+                adapter.complete("key-1", CREATED_POLICY);
+            }));
+            assertThat(reserved.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<Optional<InsurancePolicyCreation>> second = executor.submit(() -> adapter.reserve("key-1", "hash-1"));
+            Thread.sleep(200);
+            assertThat(second).isNotDone();
+            released.countDown();
+
+            first.get(10, TimeUnit.SECONDS);
+            assertThat(second.get(10, TimeUnit.SECONDS))
+                .get()
+                .extracting(creation -> creation.insurancePolicy().id())
+                .isEqualTo(CREATED_POLICY.id());
+        }
+    }
+
+    @Test
+    void shouldTakeOverKey_whenKeyIsExpired() {
+        insertKey("expired-key", ZonedDateTime.now().minusHours(2));
+
+        Optional<InsurancePolicyCreation> reservation = adapter.reserve("expired-key", "hash-2");
+
+        assertThat(reservation).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT request_hash FROM insurance_policy.idempotency_key WHERE key = 'expired-key'", String.class))
+            .isEqualTo("hash-2");
+    }
+
+    @Test
+    void shouldDeleteOnlyExpiredKeys_whenCleanedUp() {
+        insertKey("expired-key-1", ZonedDateTime.now().minusHours(2));
+        insertKey("expired-key-2", ZonedDateTime.now().minusDays(3));
+        insertKey("live-key", ZonedDateTime.now().minusMinutes(5));
+
+        long deletedCount = adapter.deleteExpiredKeys();
+
+        assertThat(deletedCount).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT key FROM insurance_policy.idempotency_key", String.class))
+            .containsExactly("live-key");
+    }
+
+    private void insertKey(String key, ZonedDateTime creation) {
+        jdbcTemplate.update("""
+            INSERT INTO insurance_policy.idempotency_key (key, request_hash, insurance_policy_id, response, creation)
+            VALUES (?, 'hash-1', 1, '{}', ?)""", key, creation.toOffsetDateTime());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
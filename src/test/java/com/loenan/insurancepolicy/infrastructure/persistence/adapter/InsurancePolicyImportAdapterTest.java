@@ -0,0 +1,122 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.exception.InvalidInputException;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyImportResult;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.BLANK_STRING_PROVIDED_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_DATE_ORDER_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.INVALID_ENUM_VALUE_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.NO_VALUE_PROVIDED_ERROR_MESSAGE;
+import static com.loenan.insurancepolicy.domain.core.validation.ValidationUtil.STRING_VALUE_TOO_LONG_ERROR_MESSAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class InsurancePolicyImportAdapterTest extends AbstractDatabaseTest {
+
+    private static final String HEADER = "name,status,startDate,endDate\n";
+
+    @Autowired
+    private InsurancePolicyImportAdapter adapter;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldImportValidRecordsAndReportInvalidOnes_whenInputMixesBoth() {
+        String input = HEADER + """
+            Policy 1,ACTIVE,2024-01-01,2024-12-31
+            ,ACTIVE,2024-01-01,2024-12-31
+            "  ",UNKNOWN,2024-01-01,2024-12-31
+            %s,INACTIVE,2024-01-01,2024-12-31
+            "Policy \"\"4\"\"",INACTIVE,2024-01-01,2024-12-31
+            Policy 5,ACTIVE,2024-02-30,
+            Policy 6,ACTIVE,2024-12-31,2024-01-01
+            """.formatted("x".repeat(201));
+        ByteArrayOutputStream errorReport = new ByteArrayOutputStream();
+
+        InsurancePolicyImportResult result = adapter.importCsv(toInputStream(input), errorReport);
+
+        assertThat(result).isEqualTo(new InsurancePolicyImportResult(2, 5));
+        assertThat(repository.findAll())
+            .extracting(InsurancePolicyEntity::getName, InsurancePolicyEntity::getStatus)
+            .containsExactlyInAnyOrder(
+                tuple("Policy 1", InsurancePolicyStatus.ACTIVE),
+                tuple("Policy \"4\"", InsurancePolicyStatus.INACTIVE)
+            );
+        assertThat(errorReport.toString(StandardCharsets.UTF_8).lines())
+            .containsExactly(
+                "record,name,status,startDate,endDate,errors",
+                "2,,ACTIVE,2024-01-01,2024-12-31," + NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("name"),
+                "3,  ,UNKNOWN,2024-01-01,2024-12-31,\"" + BLANK_STRING_PROVIDED_ERROR_MESSAGE.formatted("name")
+                    + "; " + INVALID_ENUM_VALUE_ERROR_MESSAGE.formatted("status", "ACTIVE, INACTIVE") + "\"",
+                "4," + "x".repeat(201) + ",INACTIVE,2024-01-01,2024-12-31,"
+                    + STRING_VALUE_TOO_LONG_ERROR_MESSAGE.formatted("name", 200),
+                "6,Policy 5,ACTIVE,2024-02-30,," + INVALID_DATE_ERROR_MESSAGE.formatted("startDate")
+                    + "; " + NO_VALUE_PROVIDED_ERROR_MESSAGE.formatted("endDate"),
+                "7,Policy 6,ACTIVE,2024-12-31,2024-01-01," + INVALID_DATE_ORDER_ERROR_MESSAGE.formatted("endDate", "startDate")
+            );
+    }
+
+    @Test
+    void shouldAllocateDistinctIdsConsistentWithTheEntityGenerator_whenImportSpansSeveralIdBlocks() {
+        String input = IntStream.rangeClosed(1, 120)
+            .mapToObj(i -> "Policy " + i + ",ACTIVE,2024-01-01,2024-12-31\n")
+            .collect(Collectors.joining("", HEADER, ""));
+
+        InsurancePolicyImportResult result = adapter.importCsv(toInputStream(input), new ByteArrayOutputStream());
+        InsurancePolicyEntity created = repository.save(buildEntity());
+
+        assertThat(result).isEqualTo(new InsurancePolicyImportResult(120, 0));
+        List<Integer> ids = repository.findAll().stream().map(InsurancePolicyEntity::getId).toList();
+        assertThat(ids)
+            .hasSize(121)
+            .doesNotHaveDuplicates()
+            .contains(created.getId())
+            .allSatisfy(id -> assertThat(id).isPositive());
+    }
+
+    @Test
+    void shouldThrowInvalidInputException_whenCsvIsMalformed() {
+        String input = HEADER + "Policy 1,ACTIVE,2024-01-01,2024-12-31,extra\n";
+
+        assertThatThrownBy(() -> adapter.importCsv(toInputStream(input), new ByteArrayOutputStream()))
+            .isInstanceOf(InvalidInputException.class);
+    }
+
+    private static ByteArrayInputStream toInputStream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InsurancePolicyEntity buildEntity() {
+        InsurancePolicyEntity entity = new InsurancePolicyEntity();
+        entity.setName("Created policy");
+        entity.setStatus(InsurancePolicyStatus.ACTIVE);
+        entity.setStartDate(LocalDate.of(2024, 1, 1));
+        entity.setEndDate(LocalDate.of(2024, 12, 31));
+        return entity;
+    }
+}
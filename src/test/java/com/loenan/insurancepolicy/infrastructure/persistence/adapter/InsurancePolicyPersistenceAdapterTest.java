@@ -0,0 +1,245 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyVersion;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.loenan.insurancepolicy.test.util.TestUtil.insertGeneratedPoliciesQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class InsurancePolicyPersistenceAdapterTest extends AbstractDatabaseTest {
+
+    private static final int ROW_COUNT = 1_000_000;
+    private static final int HEAP_SAMPLING_INTERVAL = 100_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private InsurancePolicyPersistenceAdapter adapter;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldStreamAllPoliciesWithFlatHeap_whenTableContainsOneMillionRows() {
+        // given
+        jdbcTemplate.update(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            'My policy ' || lpad(i::text, 7, '0'),
+            CASE WHEN i % 2 = 0 THEN 'ACTIVE' ELSE 'INACTIVE' END,
+            DATE '2024-01-01',
+            DATE '2024-12-31'"""), ROW_COUNT);
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeapAfterGc(memory);
+
+        // when
+        long[] result = transactionTemplate.execute(status -> {
+            long count = 0;
+            long maxHeapGrowth = 0;
+            String previousName = "";
+            try (Stream<InsurancePolicy> insurancePolicies = adapter.streamAll()) {
+                Iterator<InsurancePolicy> iterator = insurancePolicies.iterator();
+                while (iterator.hasNext()) {
+                    InsurancePolicy insurancePolicy = iterator.next();
+                    assertThat(insurancePolicy.name()).isGreaterThan(previousName);
+                    previousName = insurancePolicy.name();
+                    count++;
+                    if (count % HEAP_SAMPLING_INTERVAL == 0) {
+                        maxHeapGrowth = Math.max(maxHeapGrowth, usedHeapAfterGc(memory) - heapBefore);
+                    }
+                }
+            }
+            return new long[] {count, maxHeapGrowth};
+        });
+
+        // then
+        assertThat(result[0]).isEqualTo(ROW_COUNT);
+        assertThat(result[1]).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    @Test
+    void shouldUpdateAndReturnPolicy_whenPolicyExists() {
+        // given
+        Integer id = jdbcTemplate.queryForObject(insertGeneratedPoliciesQuery(
+            "name, status, start_date, end_date, creation, last_update", """
+            'Initial policy', 'INACTIVE', DATE '2023-01-01', DATE '2023-12-31',
+            TIMESTAMPTZ '2023-10-28 10:32:00Z', TIMESTAMPTZ '2023-10-28 10:32:00Z'""") + " RETURNING id", Integer.class, 1);
+        ZonedDateTime lastUpdate = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+
+        // when
+        Optional<InsurancePolicy> result = adapter.update(new InsurancePolicy(
+            id, "Edited policy", InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, lastUpdate, null));
+
+        // then
+        assertThat(result).hasValueSatisfying(insurancePolicy -> {
+            assertThat(insurancePolicy)
+                .extracting(
+                    InsurancePolicy::id,
+                    InsurancePolicy::name,
+                    InsurancePolicy::status,
+                    InsurancePolicy::startDate,
+                    InsurancePolicy::endDate
+                )
+                .containsExactly(
+                    id,
+                    "Edited policy",
+                    InsurancePolicyStatus.ACTIVE,
+                    LocalDate.of(2024, 1, 1),
+                    LocalDate.of(2024, 12, 31)
+                );
+            // the creation is returned by the update, although it was not given
+            assertThat(insurancePolicy.creation().toInstant())
+                .isEqualTo(ZonedDateTime.of(2023, 10, 28, 10, 32, 0, 0, ZoneOffset.UTC).toInstant());
+            assertThat(insurancePolicy.lastUpdate().toInstant()).isEqualTo(lastUpdate.toInstant());
+            assertThat(insurancePolicy.version()).isEqualTo(1);
+        });
+        assertThat(adapter.getById(id)).get()
+            .extracting(InsurancePolicy::name)
+            .isEqualTo("Edited policy");
+    }
+
+    @Test
+    void shouldReturnNothing_whenUpdatedPolicyDoesNotExist() {
+        // given
+        InsurancePolicy unknownPolicy = new InsurancePolicy(
+            1234, "Edited policy", InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, ZonedDateTime.now(), null);
+
+        // when
+        Optional<InsurancePolicy> result = adapter.update(unknownPolicy);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void shouldUpdatePolicyOnlyOnce_whenUpdatedTwiceFromSameVersion() {
+        // given
+        Integer id = jdbcTemplate.queryForObject(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            'Initial policy', 'INACTIVE', DATE '2023-01-01', DATE '2023-12-31'""") + " RETURNING id", Integer.class, 1);
+
+        // when
+        Optional<InsurancePolicy> first = adapter.update(new InsurancePolicy(
+            id, "First edition", InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, ZonedDateTime.now(), 0));
+        Optional<InsurancePolicy> second = adapter.update(new InsurancePolicy(
+            id, "Second edition", InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, ZonedDateTime.now(), 0));
+
+        // then
+        assertThat(first).get().extracting(InsurancePolicy::version).isEqualTo(1);
+        assertThat(second).isEmpty();
+        assertThat(adapter.getVersionById(id)).get()
+            .extracting(InsurancePolicyVersion::version)
+            .isEqualTo(1);
+        assertThat(adapter.getById(id)).get()
+            .extracting(InsurancePolicy::name)
+            .isEqualTo("First edition");
+    }
+
+    @Test
+    void shouldIncrementListVersion_whenWriteIsCommitted() {
+        // given
+        long initialVersion = adapter.getVersion().version();
+        Integer id = jdbcTemplate.queryForObject(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            'Initial policy', 'INACTIVE', DATE '2023-01-01', DATE '2023-12-31'""") + " RETURNING id", Integer.class, 1);
+        long createdVersion = adapter.getVersion().version();
+
+        // when
+        // an edit committed with an older last update than the latest one still changes the version
+        jdbcTemplate.update("UPDATE insurance_policy.insurance_policy SET name = 'Edited policy', "
+            + "last_update = TIMESTAMPTZ '2000-01-01 00:00:00Z' WHERE id = ?", id);
+        long editedVersion = adapter.getVersion().version();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM insurance_policy.insurance_policy WHERE id = ?", id);
+            status.setRollbackOnly();
+        });
+        long rolledBackVersion = adapter.getVersion().version();
+        jdbcTemplate.update("DELETE FROM insurance_policy.insurance_policy WHERE id = ?", id);
+
+        // then
+        assertThat(createdVersion).isGreaterThan(initialVersion);
+        assertThat(editedVersion).isGreaterThan(createdVersion);
+        assertThat(rolledBackVersion).isEqualTo(editedVersion);
+        assertThat(adapter.getVersion().version()).isGreaterThan(rolledBackVersion);
+    }
+
+    @Test
+    void shouldNotBlockOtherWriters_whenWritingTransactionIsLong() throws Exception {
+        // given
+        String insertQuery = insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            'My policy', 'ACTIVE', DATE '2024-01-01', DATE '2024-12-31'""");
+        long initialVersion = adapter.getVersion().version();
+        CountDownLatch longTransactionWritten = new CountDownLatch(1);
+        CountDownLatch longTransactionReleased = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<?> longTransaction = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(insertQuery, 1);
+                longTransactionWritten.countDown();
+                awaitQuietly(longTransactionReleased);
+            }));
+            assertThat(longTransactionWritten.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            Future<?> shortTransaction = executor.submit(() -> jdbcTemplate.update(insertQuery, 1));
+
+            // then
+            shortTransaction.get(10, TimeUnit.SECONDS);
+            long shortTransactionVersion = adapter.getVersion().version();
+            longTransactionReleased.countDown();
+            longTransaction.get(10, TimeUnit.SECONDS);
+            assertThat(shortTransactionVersion).isEqualTo(initialVersion + 1);
+            assertThat(adapter.getVersion().version()).isEqualTo(initialVersion + 2);
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class InsurancePolicyProjectionAdapterTest extends AbstractDatabaseTest {
+
+    @Autowired
+    private InsurancePolicyProjectionAdapter adapter;
+
+    @Autowired
+    private InsurancePolicyPersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldReadSameValuesAsEntity_whenAllFieldsAreRequested() {
+        InsurancePolicyEntity policy = savePolicy("My policy", InsurancePolicyStatus.ACTIVE);
+
+        InsurancePolicy projection = adapter.getById(policy.getId(), EnumSet.allOf(InsurancePolicyField.class)).orElseThrow();
+
+        assertThat(projection).isEqualTo(persistenceAdapter.getById(policy.getId()).orElseThrow());
+    }
+
+    @Test
+    void shouldOnlyReadRequestedFields_whenSomeFieldsAreRequested() {
+        InsurancePolicyEntity policy = savePolicy("My policy", InsurancePolicyStatus.INACTIVE);
+
+        InsurancePolicy projection = adapter.getById(policy.getId(),
+            EnumSet.of(InsurancePolicyField.NAME, InsurancePolicyField.STATUS)).orElseThrow();
+
+        assertThat(projection).isEqualTo(new InsurancePolicy(
+            null, "My policy", InsurancePolicyStatus.INACTIVE, null, null, null, null, null));
+    }
+
+    @Test
+    void shouldReadNothing_whenPolicyDoesNotExist() {
+        assertThat(adapter.getById(666, EnumSet.of(InsurancePolicyField.NAME))).isEmpty();
+    }
+
+    @Test
+    void shouldReadAllPoliciesInNameOrder_whenAllPoliciesAreRequested() {
+        savePolicy("My policy B", InsurancePolicyStatus.ACTIVE);
+        savePolicy("My policy A", InsurancePolicyStatus.INACTIVE);
+
+        List<InsurancePolicy> projections = adapter.getAll(
+            InsurancePolicyFilter.NONE, InsurancePolicySort.DEFAULT, EnumSet.of(InsurancePolicyField.NAME));
+
+        assertThat(projections).extracting(InsurancePolicy::name).containsExactly("My policy A", "My policy B");
+    }
+
+    @Test
+    void shouldReadPagesAfterCursor_whenPageIsRequested() {
+        savePolicy("My policy C", InsurancePolicyStatus.ACTIVE);
+        InsurancePolicyEntity policyB = savePolicy("My policy B", InsurancePolicyStatus.ACTIVE);
+        savePolicy("My policy A", InsurancePolicyStatus.INACTIVE);
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.NAME);
+
+        List<InsurancePolicy> firstPage = adapter.getPage(InsurancePolicyFilter.NONE, InsurancePolicySort.DEFAULT, null, 2, fields);
+        List<InsurancePolicy> secondPage = adapter.getPage(InsurancePolicyFilter.NONE, InsurancePolicySort.DEFAULT,
+            new InsurancePolicyCursor(policyB.getName(), policyB.getId()), 2, fields);
+
+        assertThat(firstPage).extracting(InsurancePolicy::name).containsExactly("My policy A", "My policy B");
+        assertThat(secondPage).extracting(InsurancePolicy::name).containsExactly("My policy C");
+    }
+
+    @Test
+    void shouldReadMatchingPolicies_whenFilterIsProvided() {
+        savePolicy("My policy A", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+        savePolicy("My policy B", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 6, 30), LocalDate.of(2024, 12, 31));
+        savePolicy("My policy C", InsurancePolicyStatus.INACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        savePolicy("My policy D", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 7, 1), LocalDate.of(2024, 12, 31));
+        savePolicy("Other_policy", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        savePolicy("OtherXpolicy", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        InsurancePolicyFilter activeFilter = new InsurancePolicyFilter(
+            InsurancePolicyStatus.ACTIVE, null, null, null, null, "My policy", LocalDate.of(2024, 6, 30));
+        InsurancePolicyFilter prefixFilter = new InsurancePolicyFilter(null, null, null, null, null, "Other_", null);
+
+        List<InsurancePolicy> activePolicies = adapter.getAll(activeFilter, InsurancePolicySort.DEFAULT, EnumSet.of(InsurancePolicyField.NAME));
+        List<InsurancePolicy> prefixedPolicies = adapter.getAll(prefixFilter, InsurancePolicySort.DEFAULT, EnumSet.of(InsurancePolicyField.NAME));
+
+        assertThat(activePolicies).extracting(InsurancePolicy::name).containsExactly("My policy A", "My policy B");
+        assertThat(prefixedPolicies).extracting(InsurancePolicy::name).containsExactly("Other_policy");
+    }
+
+    @Test
+    void shouldReadPagesInDescendingStartDateOrder_whenSortIsProvided() {
+        InsurancePolicyEntity policyA = savePolicy("My policy A", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 12, 31));
+        InsurancePolicyEntity policyB = savePolicy("My policy B", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+        InsurancePolicyEntity policyC = savePolicy("My policy C", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 12, 31));
+        InsurancePolicySort sort = new InsurancePolicySort(InsurancePolicyField.START_DATE, true);
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.START_DATE);
+
+        List<InsurancePolicy> firstPage = adapter.getPage(InsurancePolicyFilter.NONE, sort, null, 2, fields);
+        InsurancePolicy last = firstPage.getLast();
+        List<InsurancePolicy> secondPage = adapter.getPage(InsurancePolicyFilter.NONE, sort,
+            new InsurancePolicyCursor(null, last.id(), last.startDate(), null), 2, fields);
+
+        assertThat(firstPage).extracting(InsurancePolicy::id).containsExactly(policyC.getId(), policyA.getId());
+        assertThat(secondPage).extracting(InsurancePolicy::id).containsExactly(policyB.getId());
+    }
+
+    @Test
+    void shouldReadPageAfterLastUpdate_whenSortedByLastUpdate() {
+        InsurancePolicyEntity policyA = savePolicy("My policy A", InsurancePolicyStatus.ACTIVE);
+        InsurancePolicyEntity policyB = savePolicy("My policy B", InsurancePolicyStatus.ACTIVE);
+        InsurancePolicySort sort = new InsurancePolicySort(InsurancePolicyField.LAST_UPDATE, false);
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.LAST_UPDATE);
+
+        List<InsurancePolicy> firstPage = adapter.getPage(InsurancePolicyFilter.NONE, sort, null, 1, fields);
+        InsurancePolicy last = firstPage.getLast();
+        List<InsurancePolicy> secondPage = adapter.getPage(InsurancePolicyFilter.NONE, sort,
+            new InsurancePolicyCursor(null, last.id(), null, last.lastUpdate()), 1, fields);
+
+        assertThat(firstPage).extracting(InsurancePolicy::id).containsExactly(policyA.getId());
+        assertThat(secondPage).extracting(InsurancePolicy::id).containsExactly(policyB.getId());
+    }
+
+    private InsurancePolicyEntity savePolicy(String name, InsurancePolicyStatus status) {
+        return savePolicy(name, status, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    private InsurancePolicyEntity savePolicy(String name, InsurancePolicyStatus status, LocalDate startDate, LocalDate endDate) {
+        InsurancePolicyEntity entity = new InsurancePolicyEntity();
+        entity.setName(name);
+        entity.setStatus(status);
+        entity.setStartDate(startDate);
+        entity.setEndDate(endDate);
+        return repository.save(entity);
+    }
+}
@@ -0,0 +1,182 @@
+package com.loenan.insurancepolicy.infrastructure.persistence.adapter;
+
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicy;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyCursor;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyField;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyFilter;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicySort;
+import com.loenan.insurancepolicy.domain.contract.model.InsurancePolicyStatus;
+import com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity;
+import com.loenan.insurancepolicy.infrastructure.persistence.repository.InsurancePolicyRepository;
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "insurance-policy.persistence.stream-fetch-size=2")
+@ActiveProfiles("reactive")
+class InsurancePolicyReactivePersistenceAdapterTest extends AbstractDatabaseTest {
+
+    @Autowired
+    private InsurancePolicyReactivePersistenceAdapter adapter;
+
+    @Autowired
+    private InsurancePolicyPersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private InsurancePolicyRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldReadSameValuesAsBlockingAdapter_whenAllFieldsAreRequested() {
+        InsurancePolicyEntity policy = savePolicy("My policy", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, 1));
+
+        StepVerifier.create(adapter.getById(policy.getId(), EnumSet.allOf(InsurancePolicyField.class)))
+            .assertNext(insurancePolicy -> assertThat(insurancePolicy)
+                .isEqualTo(persistenceAdapter.getById(policy.getId()).orElseThrow()))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldOnlyReadRequestedFields_whenSomeFieldsAreRequested() {
+        InsurancePolicyEntity policy = savePolicy("My policy", InsurancePolicyStatus.INACTIVE, LocalDate.of(2024, 1, 1));
+
+        StepVerifier.create(adapter.getById(policy.getId(), EnumSet.of(InsurancePolicyField.NAME, InsurancePolicyField.STATUS)))
+            .expectNext(new InsurancePolicy(null, "My policy", InsurancePolicyStatus.INACTIVE, null, null, null, null, null))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReadNothing_whenPolicyDoesNotExist() {
+        StepVerifier.create(adapter.getById(666, EnumSet.of(InsurancePolicyField.NAME)))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldStreamMatchingPoliciesOnDemand_whenAllPoliciesAreRequested() {
+        for (int i = 1; i <= 5; i++) {
+            savePolicy("My policy " + i, InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, i));
+        }
+        savePolicy("My policy 6", InsurancePolicyStatus.INACTIVE, LocalDate.of(2024, 1, 6));
+        InsurancePolicyFilter activeFilter = new InsurancePolicyFilter(InsurancePolicyStatus.ACTIVE, null, null, null, null, null, null);
+
+        // the rows are fetched two by two, as they are requested
+        StepVerifier.create(adapter.getAll(activeFilter, InsurancePolicySort.DEFAULT, EnumSet.of(InsurancePolicyField.NAME)), 1)
+            .expectNextMatches(insurancePolicy -> insurancePolicy.name().equals("My policy 1"))
+            .thenRequest(3)
+            .expectNextCount(3)
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextMatches(insurancePolicy -> insurancePolicy.name().equals("My policy 5"))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReadPagesInDescendingStartDateOrder_whenSortIsProvided() {
+        InsurancePolicyEntity policyA = savePolicy("My policy A", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 3, 1));
+        InsurancePolicyEntity policyB = savePolicy("My policy B", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, 1));
+        InsurancePolicyEntity policyC = savePolicy("My policy C", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 3, 1));
+        InsurancePolicySort sort = new InsurancePolicySort(InsurancePolicyField.START_DATE, true);
+        Set<InsurancePolicyField> fields = EnumSet.of(InsurancePolicyField.ID, InsurancePolicyField.START_DATE);
+
+        InsurancePolicy last = adapter.getPage(InsurancePolicyFilter.NONE, sort, null, 2, fields)
+            .collectList()
+            .doOnNext(page -> assertThat(page).extracting(InsurancePolicy::id).containsExactly(policyC.getId(), policyA.getId()))
+            .map(page -> page.getLast())
+            .block();
+
+        StepVerifier.create(adapter.getPage(InsurancePolicyFilter.NONE, sort,
+                new InsurancePolicyCursor(null, last.id(), last.startDate(), null), 2, fields))
+            .assertNext(insurancePolicy -> assertThat(insurancePolicy.id()).isEqualTo(policyB.getId()))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldInsertThenUpdatePolicy_whenSaved() {
+        ZonedDateTime creation = ZonedDateTime.now();
+        InsurancePolicy newPolicy = new InsurancePolicy(null, "My policy", InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), creation, creation, null);
+
+        InsurancePolicy inserted = adapter.save(newPolicy).block();
+        InsurancePolicyEntity nextPolicy = savePolicy("Next policy", InsurancePolicyStatus.ACTIVE, LocalDate.of(2024, 1, 1));
+
+        assertThat(inserted).isNotNull();
+        assertThat(inserted.id()).isNotNull().isNotEqualTo(nextPolicy.getId());
+        assertThat(persistenceAdapter.getById(inserted.id())).contains(inserted);
+
+        InsurancePolicy edited = new InsurancePolicy(inserted.id(), "Edited policy", InsurancePolicyStatus.INACTIVE,
+            inserted.startDate(), inserted.endDate(), inserted.creation(), ZonedDateTime.now(), inserted.version());
+        StepVerifier.create(adapter.save(edited))
+            .assertNext(updated -> assertThat(updated)
+                .extracting(InsurancePolicy::id, InsurancePolicy::name, InsurancePolicy::status, InsurancePolicy::version)
+                .containsExactly(inserted.id(), "Edited policy", InsurancePolicyStatus.INACTIVE, 1))
+            .verifyComplete();
+        // the second save from the same version updates nothing
+        StepVerifier.create(adapter.save(edited))
+            .verifyComplete();
+        assertThat(repository.findById(inserted.id()))
+            .isPresent()
+            .get()
+            .extracting(InsurancePolicyEntity::getName)
+            .isEqualTo("Edited policy");
+    }
+
+    @Test
+    void shouldAllocateIdsFromOneBlock_whenSeveralPoliciesAreInserted() {
+        ZonedDateTime creation = ZonedDateTime.now();
+        Long sequenceValue = jdbcTemplate.queryForObject("SELECT last_value FROM insurance_policy.insurance_policy_id_seq", Long.class);
+
+        List<Integer> ids = Flux.range(1, 3)
+            .concatMap(i -> adapter.save(new InsurancePolicy(null, "My policy " + i, InsurancePolicyStatus.ACTIVE,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), creation, creation, null)))
+            .map(InsurancePolicy::id)
+            .collectList()
+            .block();
+
+        assertThat(ids).doesNotHaveDuplicates().hasSize(3);
+        assertThat(Collections.max(ids) - Collections.min(ids)).isLessThan(InsurancePolicyEntity.ID_ALLOCATION_SIZE);
+        // at most one new block is reserved for the three inserts
+        assertThat(jdbcTemplate.queryForObject("SELECT last_value FROM insurance_policy.insurance_policy_id_seq", Long.class))
+            .isLessThanOrEqualTo(sequenceValue + InsurancePolicyEntity.ID_ALLOCATION_SIZE);
+    }
+
+    @Test
+    void shouldUpdateNothing_whenSavedPolicyDoesNotExist() {
+        ZonedDateTime now = ZonedDateTime.now();
+        InsurancePolicy unknownPolicy = new InsurancePolicy(666, "My policy", InsurancePolicyStatus.ACTIVE,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), now, now, null);
+
+        StepVerifier.create(adapter.save(unknownPolicy))
+            .verifyComplete();
+        assertThat(repository.count()).isZero();
+    }
+
+    private InsurancePolicyEntity savePolicy(String name, InsurancePolicyStatus status, LocalDate startDate) {
+        InsurancePolicyEntity entity = new InsurancePolicyEntity();
+        entity.setName(name);
+        entity.setStatus(status);
+        entity.setStartDate(startDate);
+        entity.setEndDate(startDate.plusYears(1));
+        return repository.save(entity);
+    }
+}
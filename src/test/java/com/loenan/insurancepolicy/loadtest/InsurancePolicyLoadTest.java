@@ -0,0 +1,123 @@
+package com.loenan.insurancepolicy.loadtest;
+
+import com.loenan.insurancepolicy.test.util.AbstractDatabaseTest;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static com.loenan.insurancepolicy.test.util.TestUtil.insertGeneratedPoliciesQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a mix of requests on the insurance policy API at a fixed arrival rate, and reports the latency
+ * distribution of each operation. Excluded from the default build, run it with
+ * {@code mvn test -Pbenchmark -Dtest=InsurancePolicyLoadTest}, and tune it with the {@code loadtest.*} properties:
+ * <ul>
+ *     <li>{@code loadtest.rate}: requests per second (200),</li>
+ *     <li>{@code loadtest.concurrency}: number of concurrent clients, each one sending its requests back to back on its
+ *     own connection, instead of the fixed arrival rate (none),</li>
+ *     <li>{@code loadtest.warmup} and {@code loadtest.duration}: durations of the warmup and measured phases (10s, 30s),</li>
+ *     <li>{@code loadtest.mix}: weights of the operations (GET_BY_ID=60,LIST=10,CREATE=15,EDIT=15),</li>
+ *     <li>{@code loadtest.dataset-size}: number of policies created before the test (10000),</li>
+ *     <li>{@code loadtest.list-limit}: page size of the list requests (50),</li>
+ *     <li>{@code loadtest.output}: HdrHistogram log of the measured latencies (target/loadtest/latency.hlog),</li>
+ *     <li>{@code loadtest.baseline}: HdrHistogram log of a previous run to compare with (none),</li>
+ *     <li>{@code loadtest.max-regression}: maximum accepted ratio to the baseline at each percentile, failing the test
+ *     when exceeded (none).</li>
+ * </ul>
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class InsurancePolicyLoadTest extends AbstractDatabaseTest {
+
+    private static final long SEED = 42;
+
+    @LocalServerPort
+    private Integer port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.rate:200}")
+    private int rate;
+
+    @Value("${loadtest.concurrency:0}")
+    private int concurrency;
+
+    @Value("${loadtest.warmup:10s}")
+    private Duration warmup;
+
+    @Value("${loadtest.duration:30s}")
+    private Duration duration;
+
+    @Value("${loadtest.mix:GET_BY_ID=60,LIST=10,CREATE=15,EDIT=15}")
+    private String mix;
+
+    @Value("${loadtest.dataset-size:10000}")
+    private int datasetSize;
+
+    @Value("${loadtest.list-limit:50}")
+    private int listLimit;
+
+    @Value("${loadtest.output:target/loadtest/latency.hlog}")
+    private Path output;
+
+    @Value("${loadtest.baseline:}")
+    private String baseline;
+
+    @Value("${loadtest.max-regression:0}")
+    private double maxRegression;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE insurance_policy.insurance_policy");
+        jdbcTemplate.update(insertGeneratedPoliciesQuery("name, status, start_date, end_date", """
+            'My policy ' || lpad(i::text, 7, '0'),
+            CASE WHEN i % 2 = 0 THEN 'ACTIVE' ELSE 'INACTIVE' END,
+            DATE '2024-01-01',
+            DATE '2024-12-31'"""), datasetSize);
+        jdbcTemplate.execute("VACUUM ANALYZE insurance_policy.insurance_policy");
+    }
+
+    @Test
+    void measureLatencies() throws Exception {
+        int[] ids = jdbcTemplate.queryForList("SELECT id FROM insurance_policy.insurance_policy", Integer.class)
+            .stream().mapToInt(Integer::intValue).toArray();
+        OperationMix operationMix = OperationMix.parse(mix);
+        LoadGenerator generator = new LoadGenerator(
+            "http://localhost:" + port + "/v1/insurance-policies", ids, operationMix, listLimit, SEED);
+
+        LoadResult result;
+        if (concurrency > 0) {
+            System.out.printf("Load test of %s with %d concurrent clients: %s warmup, %s measured%n", operationMix, concurrency, warmup, duration);
+            generator.runConcurrently(concurrency, warmup);
+            result = generator.runConcurrently(concurrency, duration);
+        } else {
+            System.out.printf("Load test of %s at %d requests/s: %s warmup, %s measured%n", operationMix, rate, warmup, duration);
+            generator.run(rate, warmup);
+            result = generator.run(rate, duration);
+        }
+
+        Map<LoadOperation, Histogram> baselineHistograms = baseline.isEmpty() ? Map.of() : LatencyReport.read(Path.of(baseline));
+        System.out.print(LatencyReport.format(result, baselineHistograms));
+        LatencyReport.write(result, output);
+        System.out.printf("Latencies written to %s%n", output.toAbsolutePath());
+
+        assertThat(result.totalErrors()).isZero();
+        if (maxRegression > 0 && !baseline.isEmpty()) {
+            List<String> regressions = LatencyReport.findRegressions(result, baselineHistograms, maxRegression);
+            assertThat(regressions).as("Latencies above %s times the baseline", maxRegression).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.loenan.insurancepolicy.loadtest;
+
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints the latency distributions of a load test, stores them as an HdrHistogram log (one tagged interval
+ * histogram per operation, readable with the HdrHistogram tools), and compares them with a stored baseline.
+ */
+final class LatencyReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private LatencyReport() {
+    }
+
+    static String format(LoadResult result, Map<LoadOperation, Histogram> baseline) {
+        StringBuilder report = new StringBuilder();
+        report.append("%-10s %8s %7s %9s %9s %9s %9s %9s%n".formatted(
+            "Operation", "Count", "Errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        result.histograms().forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0 && result.errors().get(operation) == 0) {
+                return;
+            }
+            report.append("%-10s %8d %7d".formatted(operation, histogram.getTotalCount(), result.errors().get(operation)));
+            for (double percentile : PERCENTILES) {
+                report.append(" %9.2f".formatted(toMillis(histogram.getValueAtPercentile(percentile))));
+            }
+            report.append(" %9.2f%n".formatted(toMillis(histogram.getMaxValue())));
+
+            Histogram baselineHistogram = baseline.get(operation);
+            if (baselineHistogram != null && baselineHistogram.getTotalCount() > 0) {
+                report.append("%-10s %8d %7s".formatted("  baseline", baselineHistogram.getTotalCount(), ""));
+                for (double percentile : PERCENTILES) {
+                    report.append(" %+8.0f%%".formatted(changePercent(histogram, baselineHistogram, percentile)));
+                }
+                report.append(" %+8.0f%%%n".formatted(
+                    (histogram.getMaxValue() * 100.0 / Math.max(baselineHistogram.getMaxValue(), 1)) - 100));
+            }
+        });
+        report.append("%d requests in %d ms: %.1f requests/s%n".formatted(
+            result.totalCount() + result.totalErrors(), result.elapsed().toMillis(), result.throughput()));
+        return report.toString();
+    }
+
+    /**
+     * @param maxRatio The maximum accepted ratio between the latency and the baseline latency, at each percentile
+     * @return The description of the percentiles exceeding the ratio
+     */
+    static List<String> findRegressions(LoadResult result, Map<LoadOperation, Histogram> baseline, double maxRatio) {
+        List<String> regressions = new ArrayList<>();
+        result.histograms().forEach((operation, histogram) -> {
+            Histogram baselineHistogram = baseline.get(operation);
+            if (baselineHistogram == null || baselineHistogram.getTotalCount() == 0 || histogram.getTotalCount() == 0) {
+                return;
+            }
+            for (double percentile : PERCENTILES) {
+                long value = histogram.getValueAtPercentile(percentile);
+                long baselineValue = baselineHistogram.getValueAtPercentile(percentile);
+                if (value > baselineValue * maxRatio) {
+                    regressions.add("%s p%s: %.2f ms instead of %.2f ms".formatted(
+                        operation, percentile, toMillis(value), toMillis(baselineValue)));
+                }
+            }
+        });
+        return regressions;
+    }
+
+    static void write(LoadResult result, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (PrintStream output = new PrintStream(Files.newOutputStream(file))) {
+            HistogramLogWriter writer = new HistogramLogWriter(output);
+            writer.outputComment("Latencies in microseconds, one histogram per operation");
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            result.histograms().values().forEach(writer::outputIntervalHistogram);
+        }
+    }
+
+    static Map<LoadOperation, Histogram> read(Path file) throws FileNotFoundException {
+        Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+        HistogramLogReader reader = new HistogramLogReader(file.toFile());
+        try {
+            EncodableHistogram histogram;
+            while ((histogram = reader.nextIntervalHistogram()) != null) {
+                histograms.put(LoadOperation.valueOf(histogram.getTag()), (Histogram) histogram);
+            }
+        } finally {
+            reader.close();
+        }
+        return histograms;
+    }
+
+    private static double changePercent(Histogram histogram, Histogram baselineHistogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) * 100.0
+            / Math.max(baselineHistogram.getValueAtPercentile(percentile), 1) - 100;
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.loenan.insurancepolicy.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed arrival rate, whatever the response times of the server.
+ * <p>
+ * Each request has an intended start time on the schedule of the rate, and its latency is measured from this
+ * intended time rather than from its actual sending: a stalled server (or client) delays the following requests,
+ * and this delay is accounted in their latencies instead of being hidden (no coordinated omission).
+ * Each request is sent from its own virtual thread, so the schedule never waits for the outstanding requests.
+ * <p>
+ * With {@link #runConcurrently(int, Duration)}, a fixed number of clients send their requests back to back instead,
+ * each one on its own connection: this closed model holds the given number of concurrent connections on the server,
+ * and the latencies are measured from the actual sending of the requests.
+ */
+class LoadGenerator {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final int[] ids;
+    private final OperationMix mix;
+    private final int listLimit;
+    private final long seed;
+
+    /**
+     * @param baseUrl   The URL of the insurance policy resource
+     * @param ids       The ids of the existing insurance policies, read and edited by the requests
+     * @param mix       The operations to send
+     * @param listLimit The page size of the list requests
+     * @param seed      The seed of the operation and id draws
+     */
+    LoadGenerator(String baseUrl, int[] ids, OperationMix mix, int listLimit, long seed) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        this.baseUrl = baseUrl;
+        this.ids = ids;
+        this.mix = mix;
+        this.listLimit = listLimit;
+        this.seed = seed;
+    }
+
+    /**
+     * Send requests at the given rate during the given duration, and wait for all their responses.
+     *
+     * @return The latency distributions, in microseconds, of the successful requests of each operation
+     */
+    LoadResult run(int requestsPerSecond, Duration duration) throws InterruptedException {
+        Map<LoadOperation, Recorder> recorders = newRecorders();
+        Map<LoadOperation, AtomicLong> errorCounts = newErrorCounts();
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long requestCount = duration.toSeconds() * requestsPerSecond;
+        long startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requestCount; i++) {
+                long intendedStartNanos = startNanos + i * intervalNanos;
+                long waitNanos = intendedStartNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                LoadOperation operation = mix.next(random);
+                HttpRequest request = operation.buildRequest(baseUrl, ids[random.nextInt(ids.length)], random.split(), listLimit);
+                executor.execute(() -> send(request, intendedStartNanos,
+                    recorders.get(operation), errorCounts.get(operation)));
+            }
+        }
+        return toResult(recorders, errorCounts, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Send requests from the given number of concurrent clients during the given duration, each client sending its
+     * next request as soon as it receives the previous response.
+     *
+     * @return The latency distributions, in microseconds, of the successful requests of each operation
+     */
+    LoadResult runConcurrently(int concurrency, Duration duration) throws InterruptedException {
+        Map<LoadOperation, Recorder> recorders = newRecorders();
+        Map<LoadOperation, AtomicLong> errorCounts = newErrorCounts();
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < concurrency; client++) {
+                SplittableRandom clientRandom = random.split();
+                executor.execute(() -> {
+                    while (System.nanoTime() < endNanos) {
+                        LoadOperation operation = mix.next(clientRandom);
+                        HttpRequest request = operation.buildRequest(
+                            baseUrl, ids[clientRandom.nextInt(ids.length)], clientRandom.split(), listLimit);
+                        send(request, System.nanoTime(), recorders.get(operation), errorCounts.get(operation));
+                    }
+                });
+            }
+        }
+        return toResult(recorders, errorCounts, System.nanoTime() - startNanos);
+    }
+
+    private static Map<LoadOperation, Recorder> newRecorders() {
+        Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            recorders.put(operation, new Recorder(SIGNIFICANT_DIGITS));
+        }
+        return recorders;
+    }
+
+    private static Map<LoadOperation, AtomicLong> newErrorCounts() {
+        Map<LoadOperation, AtomicLong> errorCounts = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            errorCounts.put(operation, new AtomicLong());
+        }
+        return errorCounts;
+    }
+
+    private static LoadResult toResult(
+        Map<LoadOperation, Recorder> recorders,
+        Map<LoadOperation, AtomicLong> errorCounts,
+        long elapsedNanos
+    ) {
+        Map<LoadOperation, Histogram> histograms = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Long> errors = new EnumMap<>(LoadOperation.class);
+        recorders.forEach((operation, recorder) -> {
+            Histogram histogram = recorder.getIntervalHistogram();
+            histogram.setTag(operation.name());
+            histograms.put(operation, histogram);
+            errors.put(operation, errorCounts.get(operation).get());
+        });
+        return new LoadResult(histograms, errors, Duration.ofNanos(elapsedNanos));
+    }
+
+    private void send(HttpRequest request, long intendedStartNanos, Recorder recorder, AtomicLong errorCount) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            long latencyNanos = System.nanoTime() - intendedStartNanos;
+            if (response.statusCode() / 100 == 2) {
+                recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            } else {
+                errorCount.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorCount.incrementAndGet();
+        } catch (Exception e) {
+            errorCount.incrementAndGet();
+        }
+    }
+}
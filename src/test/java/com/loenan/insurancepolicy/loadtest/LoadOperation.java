@@ -0,0 +1,64 @@
+package com.loenan.insurancepolicy.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * The requests sent by the load generator on the insurance policy API.
+ */
+enum LoadOperation {
+
+    GET_BY_ID {
+        @Override
+        HttpRequest.Builder request(String baseUrl, int id, SplittableRandom random, int listLimit) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET();
+        }
+    },
+    LIST {
+        @Override
+        HttpRequest.Builder request(String baseUrl, int id, SplittableRandom random, int listLimit) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "?limit=" + listLimit)).GET();
+        }
+    },
+    CREATE {
+        @Override
+        HttpRequest.Builder request(String baseUrl, int id, SplittableRandom random, int listLimit) {
+            return HttpRequest.newBuilder(URI.create(baseUrl))
+                .POST(HttpRequest.BodyPublishers.ofString(body(random)));
+        }
+    },
+    EDIT {
+        @Override
+        HttpRequest.Builder request(String baseUrl, int id, SplittableRandom random, int listLimit) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/" + id))
+                .PUT(HttpRequest.BodyPublishers.ofString(body(random)));
+        }
+    };
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String BODY = """
+        {"name":"Load test policy %d","status":"%s","startDate":"2024-01-01","endDate":"2024-12-31"}""";
+
+    /**
+     * @param baseUrl   The URL of the insurance policy resource
+     * @param id        The id of an existing insurance policy
+     * @param random    The random generator of the load generator thread
+     * @param listLimit The page size of the list requests
+     */
+    abstract HttpRequest.Builder request(String baseUrl, int id, SplittableRandom random, int listLimit);
+
+    HttpRequest buildRequest(String baseUrl, int id, SplittableRandom random, int listLimit) {
+        return request(baseUrl, id, random, listLimit)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .timeout(REQUEST_TIMEOUT)
+            .build();
+    }
+
+    private static String body(SplittableRandom random) {
+        return BODY.formatted(random.nextInt(1_000_000), random.nextBoolean() ? "ACTIVE" : "INACTIVE");
+    }
+}
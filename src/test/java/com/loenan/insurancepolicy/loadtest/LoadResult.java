@@ -0,0 +1,30 @@
+package com.loenan.insurancepolicy.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param histograms The latency distributions, in microseconds, of the successful requests of each operation
+ * @param errors     The number of failed requests (error status or no response) of each operation
+ * @param elapsed    The time taken to send all the requests and receive all the responses
+ */
+record LoadResult(
+    Map<LoadOperation, Histogram> histograms,
+    Map<LoadOperation, Long> errors,
+    Duration elapsed
+) {
+
+    long totalCount() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    double throughput() {
+        return totalCount() * 1_000_000_000.0 / Math.max(elapsed.toNanos(), 1);
+    }
+}
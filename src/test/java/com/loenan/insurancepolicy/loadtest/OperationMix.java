@@ -0,0 +1,65 @@
+package com.loenan.insurancepolicy.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The relative weights of the operations sent by the load generator, parsed from a list such as
+ * {@code GET_BY_ID=60,LIST=10,CREATE=15,EDIT=15}.
+ */
+final class OperationMix {
+
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+
+    private OperationMix(Map<LoadOperation, Integer> weights) {
+        operations = weights.keySet().toArray(LoadOperation[]::new);
+        cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Invalid operation mix: " + weights);
+        }
+    }
+
+    static OperationMix parse(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        Arrays.stream(mix.split(","))
+            .map(String::trim)
+            .filter(entry -> !entry.isEmpty())
+            .forEach(entry -> {
+                String[] parts = entry.split("=");
+                int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : -1;
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Invalid operation mix entry: " + entry);
+                }
+                weights.put(LoadOperation.valueOf(parts[0].trim()), weight);
+            });
+        return new OperationMix(weights);
+    }
+
+    LoadOperation next(SplittableRandom random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Draw out of the weights: " + draw);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < operations.length; i++) {
+            builder.append(i == 0 ? "" : ",").append(operations[i]).append('=')
+                .append(cumulativeWeights[i] - (i == 0 ? 0 : cumulativeWeights[i - 1]));
+        }
+        return builder.toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.loenan.insurancepolicy.test.util;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 
+import static com.loenan.insurancepolicy.infrastructure.persistence.model.entity.InsurancePolicyEntity.ID_ALLOCATION_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 
@@ -11,4 +12,26 @@ public class TestUtil {
         assertThat(dateTime)
             .isCloseTo(ZonedDateTime.now(), within(10, ChronoUnit.SECONDS));
     }
+
+    /**
+     * Build a query inserting generated policies, one per row number {@code i} from 1 to the bound parameter.
+     * The id column has no default: the ids are allocated by blocks of the sequence, as the application does.
+     *
+     * @param columns The inserted columns, besides the id
+     * @param values  The expressions of the inserted values, in terms of the row number {@code i}
+     */
+    public static String insertGeneratedPoliciesQuery(String columns, String values) {
+        return """
+            WITH generated AS (
+                SELECT i FROM generate_series(1, ?) AS i
+            ),
+            id_block AS (
+                SELECT block, nextval('insurance_policy.insurance_policy_id_seq') AS upper_id
+                FROM generate_series(0, (SELECT (count(*) - 1) / %1$d FROM generated)) AS block
+            )
+            INSERT INTO insurance_policy.insurance_policy (id, %2$s)
+            SELECT id_block.upper_id - %1$d + 1 + (generated.i - 1) %% %1$d, %3$s
+            FROM generated
+            JOIN id_block ON id_block.block = (generated.i - 1) / %1$d""".formatted(ID_ALLOCATION_SIZE, columns, values);
+    }
 }